@@ -0,0 +1,101 @@
+/*
+ * This file is part of Bisq.
+ *
+ * Bisq is free software: you can redistribute it and/or modify it
+ * under the terms of the GNU Affero General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or (at
+ * your option) any later version.
+ *
+ * Bisq is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE. See the GNU Affero General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with Bisq. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package bisq.asset;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Address validation of all registered assets. The addresses are the valid and invalid addresses of the asset unit
+ * tests, so the benchmark covers the same inputs as the tests. Assets without a unit test are not included.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5)
+@Measurement(iterations = 10)
+@Fork(1)
+public class AssetValidationBenchmark {
+    private final List<Asset> assets = new ArrayList<>();
+    private final List<List<String>> addressesByAsset = new ArrayList<>();
+
+    @Setup
+    public void setUp() throws ReflectiveOperationException {
+        List<Asset> registeredAssets = new AssetRegistry().stream().collect(Collectors.toList());
+        for (Asset asset : registeredAssets) {
+            AbstractAssetTest assetTest = getAssetTest(asset);
+            if (assetTest == null)
+                continue;
+
+            // Running the tests collects their addresses
+            assetTest.setup();
+            assetTest.testValidAddresses();
+            assetTest.testInvalidAddresses();
+            List<String> addresses = new ArrayList<>(assetTest.validAddresses);
+            addresses.addAll(assetTest.invalidAddresses);
+            assets.add(asset);
+            addressesByAsset.add(addresses);
+        }
+    }
+
+    @Benchmark
+    public void validateAddress(Blackhole blackhole) {
+        for (int i = 0; i < assets.size(); i++) {
+            Asset asset = assets.get(i);
+            for (String address : addressesByAsset.get(i))
+                blackhole.consume(asset.validateAddress(address));
+        }
+    }
+
+    @Benchmark
+    public void validateAll(Blackhole blackhole) {
+        for (int i = 0; i < assets.size(); i++)
+            blackhole.consume(assets.get(i).validateAll(addressesByAsset.get(i)));
+    }
+
+    // The test of an asset is named after its top level class, e.g. LitecoinTest for Litecoin.Mainnet
+    private static AbstractAssetTest getAssetTest(Asset asset) throws ReflectiveOperationException {
+        Class<?> assetClass = asset.getClass();
+        while (assetClass.getEnclosingClass() != null)
+            assetClass = assetClass.getEnclosingClass();
+        try {
+            Class<?> testClass = Class.forName(assetClass.getName() + "Test");
+            if (!AbstractAssetTest.class.isAssignableFrom(testClass))
+                return null;
+            AbstractAssetTest assetTest = (AbstractAssetTest) testClass.getConstructor().newInstance();
+            // Some tests cover only one of the networks of an asset
+            return assetTest.asset.getClass() == asset.getClass() ? assetTest : null;
+        } catch (ClassNotFoundException e) {
+            return null;
+        }
+    }
+}
@@ -0,0 +1,104 @@
+/*
+ * This file is part of Bisq.
+ *
+ * Bisq is free software: you can redistribute it and/or modify it
+ * under the terms of the GNU Affero General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or (at
+ * your option) any later version.
+ *
+ * Bisq is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE. See the GNU Affero General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with Bisq. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package bisq.core.arbitration;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import java.io.File;
+import java.io.IOException;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Encoding of the attachments of 500 disputes when the DisputeList gets persisted, e.g. after a new chat message.
+ * With the AttachmentStore the attachments were moved to the store when their message was added, so only the references
+ * are encoded. Without a store the full content is encoded each time.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5)
+@Measurement(iterations = 10)
+@Fork(1)
+public class AttachmentBenchmark {
+    private static final int NUM_DISPUTES = 500;
+    private static final int NUM_ATTACHMENTS_PER_DISPUTE = 2;
+    private static final int ATTACHMENT_SIZE = 32 * 1024;
+
+    private Path storageDir;
+    private AttachmentStore attachmentStore;
+    private List<Attachment> storedAttachments;
+    private List<Attachment> inlineAttachments;
+
+    @Setup
+    public void setUp() throws IOException {
+        storageDir = Files.createTempDirectory("AttachmentBenchmark");
+        attachmentStore = new AttachmentStore(storageDir.toFile());
+        storedAttachments = new ArrayList<>();
+        inlineAttachments = new ArrayList<>();
+        Random random = new Random(42);
+        for (int i = 0; i < NUM_DISPUTES * NUM_ATTACHMENTS_PER_DISPUTE; i++) {
+            byte[] bytes = new byte[ATTACHMENT_SIZE];
+            random.nextBytes(bytes);
+            String fileName = "screenshot-" + i + ".png";
+            Attachment attachment = new Attachment(fileName, bytes);
+            storedAttachments.add(attachment.toStoredAttachment(attachmentStore));
+            inlineAttachments.add(attachment);
+        }
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        try (Stream<Path> paths = Files.walk(storageDir)) {
+            paths.sorted(Comparator.reverseOrder())
+                    .map(Path::toFile)
+                    .forEach(File::delete);
+        }
+    }
+
+    @Benchmark
+    public void persistWithAttachmentStore(Blackhole blackhole) {
+        for (Attachment attachment : storedAttachments)
+            blackhole.consume(attachment.toPersistableProtoMessage().toByteArray());
+    }
+
+    @Benchmark
+    public void persistInline(Blackhole blackhole) {
+        for (Attachment attachment : inlineAttachments)
+            blackhole.consume(attachment.toPersistableProtoMessage().toByteArray());
+    }
+}
@@ -0,0 +1,333 @@
+/*
+ * This file is part of Bisq.
+ *
+ * Bisq is free software: you can redistribute it and/or modify it
+ * under the terms of the GNU Affero General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or (at
+ * your option) any later version.
+ *
+ * Bisq is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE. See the GNU Affero General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with Bisq. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package bisq.core.benchmark;
+
+import bisq.core.dao.blockchain.vo.BsqBlock;
+import bisq.core.dao.blockchain.vo.Tx;
+import bisq.core.dao.blockchain.vo.TxInput;
+import bisq.core.dao.blockchain.vo.TxOutput;
+import bisq.core.monetary.Price;
+import bisq.core.offer.OfferPayload;
+import bisq.core.trade.statistics.TradeStatistics2;
+
+import bisq.network.p2p.NodeAddress;
+
+import bisq.common.crypto.PubKeyRing;
+
+import org.bitcoinj.core.Sha256Hash;
+
+import com.google.gson.Gson;
+
+import com.google.common.collect.ImmutableList;
+
+import java.nio.charset.StandardCharsets;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
+
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.stream.Collectors;
+
+import javax.annotation.Nullable;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+
+/**
+ * Loads the checked-in fixtures of the benchmarks from the fixtures resource folder. The benchmarks must run without
+ * network access and without a data directory, so the domain objects are created from these files with the same
+ * constructors the application uses. Larger data sets are derived from the fixtures with a fixed seed.
+ */
+public class Fixtures {
+    private static final Gson GSON = new Gson();
+    private static final int BSQ_TX_CHAIN_LENGTH = 6;
+    // Share of the BTC txs which spend an output of another tx in the same block
+    private static final double INTRA_BLOCK_SPENDING_RATE = 0.2;
+
+
+    ///////////////////////////////////////////////////////////////////////////////////////////
+    // API
+    ///////////////////////////////////////////////////////////////////////////////////////////
+
+    public static PubKeyRing getPubKeyRing() {
+        PubKeyRingFixture fixture = load("pub-key-ring.json", PubKeyRingFixture.class);
+        return new PubKeyRing(Base64.getDecoder().decode(fixture.signaturePubKey),
+                Base64.getDecoder().decode(fixture.encryptionPubKey),
+                "");
+    }
+
+    public static OfferPayload getOfferPayload() {
+        return getOfferPayload(null);
+    }
+
+    // If offerId is set it replaces the id of the fixture, so we can create many distinct offers
+    public static OfferPayload getOfferPayload(@Nullable String offerId) {
+        OfferPayloadFixture fixture = load("offer-payload.json", OfferPayloadFixture.class);
+        return new OfferPayload(offerId != null ? offerId : fixture.id,
+                fixture.date,
+                new NodeAddress(fixture.ownerNodeAddress),
+                getPubKeyRing(),
+                OfferPayload.Direction.valueOf(fixture.direction),
+                fixture.price,
+                fixture.marketPriceMargin,
+                fixture.useMarketBasedPrice,
+                fixture.amount,
+                fixture.minAmount,
+                fixture.baseCurrencyCode,
+                fixture.counterCurrencyCode,
+                getNodeAddresses(fixture.arbitratorNodeAddresses),
+                getNodeAddresses(fixture.mediatorNodeAddresses),
+                fixture.paymentMethodId,
+                fixture.makerPaymentAccountId,
+                fixture.offerFeePaymentTxId,
+                fixture.countryCode,
+                fixture.acceptedCountryCodes,
+                fixture.bankId,
+                fixture.acceptedBankIds,
+                fixture.versionNr,
+                fixture.blockHeightAtOfferCreation,
+                fixture.txFee,
+                fixture.makerFee,
+                fixture.isCurrencyForMakerFeeBtc,
+                fixture.buyerSecurityDeposit,
+                fixture.sellerSecurityDeposit,
+                fixture.maxTradeLimit,
+                fixture.maxTradePeriod,
+                fixture.useAutoClose,
+                fixture.useReOpenAfterAutoClose,
+                fixture.lowerClosePrice,
+                fixture.upperClosePrice,
+                fixture.isPrivateOffer,
+                fixture.hashOfChallenge,
+                fixture.extraDataMap,
+                fixture.protocolVersion);
+    }
+
+    public static TradeStatistics2 getTradeStatistics(OfferPayload offerPayload) {
+        TradeStatisticsFixture fixture = load("trade-statistics.json", TradeStatisticsFixture.class);
+        return new TradeStatistics2(offerPayload.getDirection(),
+                offerPayload.getBaseCurrencyCode(),
+                offerPayload.getCounterCurrencyCode(),
+                offerPayload.getPaymentMethodId(),
+                offerPayload.getDate(),
+                offerPayload.isUseMarketBasedPrice(),
+                offerPayload.getMarketPriceMargin(),
+                offerPayload.getAmount(),
+                offerPayload.getMinAmount(),
+                offerPayload.getId(),
+                fixture.tradePrice,
+                fixture.tradeAmount,
+                fixture.tradeDate,
+                fixture.depositTxId,
+                null,
+                null);
+    }
+
+    public static List<Price> getMarketPrices() {
+        MarketPriceFixture[] fixtures = load("market-prices.json", MarketPriceFixture[].class);
+        List<Price> prices = new ArrayList<>();
+        for (MarketPriceFixture fixture : fixtures)
+            prices.add(Price.valueOf(fixture.currencyCode, fixture.price));
+        return prices;
+    }
+
+    // Block with only the BSQ genesis tx. The genesis tx id and height for the BsqBlockChain are the ones of that block.
+    public static BsqBlock getBsqGenesisBlock() {
+        GenesisBlockFixture fixture = load("bsq-genesis-block.json", GenesisBlockFixture.class);
+        ImmutableList<TxInput> inputs = ImmutableList.copyOf(fixture.inputs.stream()
+                .map(input -> new TxInput(input.txId, input.index))
+                .collect(Collectors.toList()));
+        ImmutableList.Builder<TxOutput> outputs = ImmutableList.builder();
+        for (int i = 0; i < fixture.outputs.size(); i++) {
+            OutputFixture output = fixture.outputs.get(i);
+            outputs.add(new TxOutput(i, output.value, fixture.txId, null, output.address, null, fixture.height));
+        }
+        Tx genesisTx = new Tx(fixture.txId, fixture.height, fixture.hash, fixture.time, inputs, outputs.build());
+        return new BsqBlock(fixture.height, fixture.time, fixture.hash, fixture.previousBlockHash, ImmutableList.of(genesisTx));
+    }
+
+    // Block following the genesis block. Each genesis output starts a chain of BSQ transfers, the other txs are
+    // BTC txs. Some txs of both kinds spend outputs of other txs in the block. The txs are in dependency order like
+    // in a real block.
+    public static BsqBlock getBsqBlockAfterGenesis(BsqBlock genesisBlock, int numTxs, Random random) {
+        int height = genesisBlock.getHeight() + 1;
+        String blockHash = getHash("block-" + height);
+        long time = genesisBlock.getTime() + 600;
+
+        List<LinkedList<TxOutput>> bsqTxChains = new ArrayList<>();
+        genesisBlock.getTxs().get(0).getOutputs().forEach(genesisOutput -> {
+            LinkedList<TxOutput> chain = new LinkedList<>();
+            chain.add(genesisOutput);
+            bsqTxChains.add(chain);
+        });
+        int numBsqTxs = Math.min(numTxs, bsqTxChains.size() * BSQ_TX_CHAIN_LENGTH);
+        double bsqTxRate = (double) numBsqTxs / numTxs;
+
+        List<Tx> txs = new ArrayList<>();
+        List<TxOutput> btcOutputsInBlock = new ArrayList<>();
+        int bsqTxCount = 0;
+        int chainIndex = 0;
+        for (int i = 0; i < numTxs; i++) {
+            String txId = getHash("tx-" + height + "-" + i);
+            boolean isBsqTx = bsqTxCount < numBsqTxs && (random.nextDouble() < bsqTxRate || numTxs - i <= numBsqTxs - bsqTxCount);
+            if (isBsqTx) {
+                // Spends the last output of a chain. The BSQ output gets all but a small burnt fee, the second output
+                // is a BTC output.
+                LinkedList<TxOutput> chain = bsqTxChains.get(chainIndex++ % bsqTxChains.size());
+                TxOutput spentOutput = chain.getLast();
+                TxOutput bsqOutput = new TxOutput(0, spentOutput.getValue() - 100, txId, null, null, null, height);
+                TxOutput btcOutput = new TxOutput(1, 20_000, txId, null, null, null, height);
+                txs.add(new Tx(txId, height, blockHash, time,
+                        ImmutableList.of(new TxInput(spentOutput.getTxId(), spentOutput.getIndex())),
+                        ImmutableList.of(bsqOutput, btcOutput)));
+                chain.add(bsqOutput);
+                bsqTxCount++;
+            } else {
+                TxInput firstInput;
+                if (!btcOutputsInBlock.isEmpty() && random.nextDouble() < INTRA_BLOCK_SPENDING_RATE) {
+                    TxOutput spentOutput = btcOutputsInBlock.remove(random.nextInt(btcOutputsInBlock.size()));
+                    firstInput = new TxInput(spentOutput.getTxId(), spentOutput.getIndex());
+                } else {
+                    firstInput = new TxInput(getHash("prev-tx-" + i), random.nextInt(4));
+                }
+                TxInput secondInput = new TxInput(getHash("prev-tx-" + i + "-b"), random.nextInt(4));
+                TxOutput firstOutput = new TxOutput(0, 1_000_000 + random.nextInt(100_000_000), txId, null, null, null, height);
+                TxOutput secondOutput = new TxOutput(1, 10_000 + random.nextInt(1_000_000), txId, null, null, null, height);
+                txs.add(new Tx(txId, height, blockHash, time,
+                        ImmutableList.of(firstInput, secondInput),
+                        ImmutableList.of(firstOutput, secondOutput)));
+                btcOutputsInBlock.add(firstOutput);
+                btcOutputsInBlock.add(secondOutput);
+            }
+        }
+        return new BsqBlock(height, time, blockHash, genesisBlock.getHash(), ImmutableList.copyOf(txs));
+    }
+
+    // Deterministic hash for generated tx ids and block hashes
+    public static String getHash(String seed) {
+        return Sha256Hash.of(seed.getBytes(StandardCharsets.UTF_8)).toString();
+    }
+
+
+    ///////////////////////////////////////////////////////////////////////////////////////////
+    // Private
+    ///////////////////////////////////////////////////////////////////////////////////////////
+
+    private static <T> T load(String fileName, Class<T> type) {
+        String resourceName = "/fixtures/" + fileName;
+        try (InputStream inputStream = checkNotNull(Fixtures.class.getResourceAsStream(resourceName),
+                "Missing fixture " + resourceName);
+             Reader reader = new InputStreamReader(inputStream, StandardCharsets.UTF_8)) {
+            return GSON.fromJson(reader, type);
+        } catch (IOException e) {
+            throw new RuntimeException("Could not read fixture " + resourceName, e);
+        }
+    }
+
+    private static List<NodeAddress> getNodeAddresses(List<String> fullAddresses) {
+        return fullAddresses.stream().map(NodeAddress::new).collect(Collectors.toList());
+    }
+
+
+    ///////////////////////////////////////////////////////////////////////////////////////////
+    // Fixture formats
+    ///////////////////////////////////////////////////////////////////////////////////////////
+
+    private static class PubKeyRingFixture {
+        String signaturePubKey;
+        String encryptionPubKey;
+    }
+
+    private static class OfferPayloadFixture {
+        String id;
+        long date;
+        String ownerNodeAddress;
+        String direction;
+        long price;
+        double marketPriceMargin;
+        boolean useMarketBasedPrice;
+        long amount;
+        long minAmount;
+        String baseCurrencyCode;
+        String counterCurrencyCode;
+        List<String> arbitratorNodeAddresses;
+        List<String> mediatorNodeAddresses;
+        String paymentMethodId;
+        String makerPaymentAccountId;
+        String offerFeePaymentTxId;
+        String countryCode;
+        List<String> acceptedCountryCodes;
+        String bankId;
+        List<String> acceptedBankIds;
+        String versionNr;
+        long blockHeightAtOfferCreation;
+        long txFee;
+        long makerFee;
+        boolean isCurrencyForMakerFeeBtc;
+        long buyerSecurityDeposit;
+        long sellerSecurityDeposit;
+        long maxTradeLimit;
+        long maxTradePeriod;
+        boolean useAutoClose;
+        boolean useReOpenAfterAutoClose;
+        long lowerClosePrice;
+        long upperClosePrice;
+        boolean isPrivateOffer;
+        String hashOfChallenge;
+        Map<String, String> extraDataMap;
+        int protocolVersion;
+    }
+
+    private static class TradeStatisticsFixture {
+        long tradePrice;
+        long tradeAmount;
+        long tradeDate;
+        String depositTxId;
+    }
+
+    private static class MarketPriceFixture {
+        String currencyCode;
+        long price;
+    }
+
+    private static class GenesisBlockFixture {
+        int height;
+        long time;
+        String hash;
+        String previousBlockHash;
+        String txId;
+        List<InputFixture> inputs;
+        List<OutputFixture> outputs;
+    }
+
+    private static class InputFixture {
+        String txId;
+        int index;
+    }
+
+    private static class OutputFixture {
+        long value;
+        String address;
+    }
+}
@@ -0,0 +1,119 @@
+/*
+ * This file is part of Bisq.
+ *
+ * Bisq is free software: you can redistribute it and/or modify it
+ * under the terms of the GNU Affero General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or (at
+ * your option) any later version.
+ *
+ * Bisq is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE. See the GNU Affero General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with Bisq. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package bisq.core.btc.wallet;
+
+import org.bitcoinj.core.Coin;
+import org.bitcoinj.core.Transaction;
+import org.bitcoinj.params.RegTestParams;
+import org.bitcoinj.script.ScriptBuilder;
+import org.bitcoinj.wallet.Wallet;
+
+import com.google.common.util.concurrent.FutureCallback;
+import com.google.common.util.concurrent.Futures;
+import com.google.common.util.concurrent.SettableFuture;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.jetbrains.annotations.NotNull;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import javax.annotation.Nullable;
+
+import static org.mockito.Mockito.mock;
+
+/**
+ * Throughput of the Broadcaster for 10,000 txs. With the immediate publisher each broadcast completes at once, with the
+ * delayed publisher the broadcasts complete only after all txs were handed to the Broadcaster, so most of them have to
+ * wait for a free in-flight slot.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5)
+@Measurement(iterations = 10)
+@Fork(1)
+public class BroadcasterBenchmark {
+    private static final int NUM_TXS = 10_000;
+
+    private Wallet wallet;
+    private List<Transaction> txs;
+    private FutureCallback<Transaction> callback;
+    private AtomicInteger numCompleted;
+
+    @Setup
+    public void setUp() {
+        wallet = mock(Wallet.class);
+        txs = new ArrayList<>();
+        for (int i = 0; i < NUM_TXS; i++) {
+            Transaction tx = new Transaction(RegTestParams.get());
+            tx.addOutput(Coin.valueOf(i + 1), ScriptBuilder.createOpReturnScript(new byte[]{1}));
+            // Hash is cached in the tx
+            tx.getHash();
+            txs.add(tx);
+        }
+        numCompleted = new AtomicInteger();
+        callback = new FutureCallback<Transaction>() {
+            @Override
+            public void onSuccess(@Nullable Transaction result) {
+                numCompleted.incrementAndGet();
+            }
+
+            @Override
+            public void onFailure(@NotNull Throwable t) {
+                numCompleted.incrementAndGet();
+            }
+        };
+    }
+
+    @Benchmark
+    public int immediatePublisher() {
+        Broadcaster broadcaster = new Broadcaster(Runnable::run, System::currentTimeMillis, false);
+        Broadcaster.Publisher publisher = Futures::immediateFuture;
+        txs.forEach(tx -> broadcaster.broadcastTx(wallet, publisher, tx, callback, 8));
+        return numCompleted.get();
+    }
+
+    @Benchmark
+    public int delayedPublisher() {
+        Broadcaster broadcaster = new Broadcaster(Runnable::run, System::currentTimeMillis, false);
+        List<SettableFuture<Transaction>> futures = new ArrayList<>();
+        Broadcaster.Publisher publisher = tx -> {
+            SettableFuture<Transaction> future = SettableFuture.create();
+            futures.add(future);
+            return future;
+        };
+        txs.forEach(tx -> broadcaster.broadcastTx(wallet, publisher, tx, callback, 8));
+        // Completing a broadcast publishes the next waiting one, which adds its future to the list
+        for (int i = 0; i < futures.size(); i++)
+            futures.get(i).set(txs.get(i));
+        return numCompleted.get();
+    }
+}
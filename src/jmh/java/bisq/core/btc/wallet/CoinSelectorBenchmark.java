@@ -0,0 +1,125 @@
+/*
+ * This file is part of Bisq.
+ *
+ * Bisq is free software: you can redistribute it and/or modify it
+ * under the terms of the GNU Affero General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or (at
+ * your option) any later version.
+ *
+ * Bisq is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE. See the GNU Affero General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with Bisq. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package bisq.core.btc.wallet;
+
+import bisq.core.app.BisqEnvironment;
+import bisq.core.benchmark.Fixtures;
+
+import org.bitcoinj.core.Address;
+import org.bitcoinj.core.Coin;
+import org.bitcoinj.core.Context;
+import org.bitcoinj.core.ECKey;
+import org.bitcoinj.core.NetworkParameters;
+import org.bitcoinj.core.Sha256Hash;
+import org.bitcoinj.core.Transaction;
+import org.bitcoinj.core.TransactionConfidence;
+import org.bitcoinj.core.TransactionInput;
+import org.bitcoinj.core.TransactionOutPoint;
+import org.bitcoinj.core.TransactionOutput;
+import org.bitcoinj.wallet.CoinSelection;
+
+import java.math.BigInteger;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Coin selection of the BTC wallet over the candidate outputs of a wallet. Most outputs are confirmed and belong to one
+ * of the wallet addresses, a few are pending or belong to an address which is not in the selector's address set.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5)
+@Measurement(iterations = 10)
+@Fork(1)
+public class CoinSelectorBenchmark {
+    private static final int NUM_ADDRESSES = 20;
+
+    @Param({"100", "2000"})
+    private int numOutputs;
+
+    private BtcCoinSelector coinSelector;
+    private List<TransactionOutput> candidates;
+    private Coin target;
+
+    @Setup
+    public void setUp() {
+        NetworkParameters params = BisqEnvironment.getParameters();
+        // Confidences are looked up in the context of the current thread
+        Context.propagate(new Context(params));
+
+        List<Address> addresses = new ArrayList<>();
+        for (int i = 0; i < NUM_ADDRESSES; i++)
+            addresses.add(ECKey.fromPrivate(BigInteger.valueOf(i + 1)).toAddress(params));
+        Set<Address> walletAddresses = new HashSet<>(addresses.subList(0, NUM_ADDRESSES - 2));
+        coinSelector = new BtcCoinSelector(walletAddresses, false);
+
+        Random random = new Random(42);
+        candidates = new ArrayList<>();
+        long total = 0;
+        for (int i = 0; i < numOutputs; i++) {
+            Transaction tx = new Transaction(params);
+            Sha256Hash spentTxId = Sha256Hash.wrap(Fixtures.getHash("wallet-funding-tx-" + i));
+            tx.addInput(new TransactionInput(params, tx, new byte[]{}, new TransactionOutPoint(params, 0, spentTxId)));
+            Coin value = Coin.valueOf(10_000 + random.nextInt(50_000_000));
+            tx.addOutput(value, addresses.get(random.nextInt(NUM_ADDRESSES)));
+
+            TransactionConfidence confidence = tx.getConfidence();
+            if (random.nextInt(20) == 0) {
+                confidence.setConfidenceType(TransactionConfidence.ConfidenceType.PENDING);
+                confidence.setSource(random.nextBoolean() ? TransactionConfidence.Source.SELF :
+                        TransactionConfidence.Source.NETWORK);
+            } else {
+                confidence.setConfidenceType(TransactionConfidence.ConfidenceType.BUILDING);
+                confidence.setDepthInBlocks(1 + random.nextInt(10_000));
+            }
+            candidates.add(tx.getOutput(0));
+            total += value.value;
+        }
+        // Needs about half of the outputs
+        target = Coin.valueOf(total / 2);
+    }
+
+    @Benchmark
+    public CoinSelection selectTarget() {
+        return coinSelector.select(target, candidates);
+    }
+
+    // Used when the whole balance gets spent, in that case the outputs are not sorted
+    @Benchmark
+    public CoinSelection selectAll() {
+        return coinSelector.select(NetworkParameters.MAX_MONEY, candidates);
+    }
+}
@@ -0,0 +1,114 @@
+/*
+ * This file is part of Bisq.
+ *
+ * Bisq is free software: you can redistribute it and/or modify it
+ * under the terms of the GNU Affero General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or (at
+ * your option) any later version.
+ *
+ * Bisq is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE. See the GNU Affero General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with Bisq. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package bisq.core.btc.wallet;
+
+import bisq.core.app.BisqEnvironment;
+import bisq.core.btc.exceptions.TransactionVerificationException;
+import bisq.core.crypto.SignatureVerificationService;
+
+import org.bitcoinj.core.AddressFormatException;
+import org.bitcoinj.core.Coin;
+import org.bitcoinj.core.ECKey;
+import org.bitcoinj.core.NetworkParameters;
+import org.bitcoinj.core.Transaction;
+import org.bitcoinj.crypto.DeterministicKey;
+import org.bitcoinj.crypto.HDKeyDerivation;
+import org.bitcoinj.script.ScriptBuilder;
+
+import java.math.BigInteger;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import static org.mockito.Mockito.mock;
+
+/**
+ * Signing of the payout tx by the buyer. The trade protocol steps of one trade share the cached multisig scripts. An
+ * arbitrator key which is not in the cache needs the keys decoded and the scripts built again.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5)
+@Measurement(iterations = 10)
+@Fork(1)
+public class TradeWalletServiceBenchmark {
+    private TradeWalletService tradeWalletService;
+    private DeterministicKey buyerKey;
+    private ECKey sellerKey;
+    private ECKey arbitratorKey;
+    private String buyerAddress;
+    private String sellerAddress;
+    // More keys than the cache holds, so each of them misses the cache
+    private ECKey[] uncachedArbitratorKeys;
+    private Transaction depositTx;
+    private int numPayouts;
+
+    @Setup
+    public void setUp() {
+        NetworkParameters params = BisqEnvironment.getParameters();
+        tradeWalletService = new TradeWalletService(mock(WalletsSetup.class),
+                mock(SignatureVerificationService.class),
+                mock(Broadcaster.class));
+        buyerKey = HDKeyDerivation.createMasterPrivateKey(new byte[32]);
+        sellerKey = ECKey.fromPrivate(BigInteger.valueOf(2));
+        arbitratorKey = ECKey.fromPrivate(BigInteger.valueOf(3));
+        buyerAddress = ECKey.fromPrivate(BigInteger.valueOf(4)).toAddress(params).toBase58();
+        sellerAddress = ECKey.fromPrivate(BigInteger.valueOf(5)).toAddress(params).toBase58();
+
+        uncachedArbitratorKeys = new ECKey[1000];
+        for (int i = 0; i < uncachedArbitratorKeys.length; i++)
+            uncachedArbitratorKeys[i] = ECKey.fromPrivate(BigInteger.valueOf(10 + i));
+
+        depositTx = new Transaction(params);
+        depositTx.addOutput(Coin.COIN, ScriptBuilder.createP2SHOutputScript(tradeWalletService.getMultiSigRedeemScript(
+                buyerKey.getPubKey(), sellerKey.getPubKey(), arbitratorKey.getPubKey())));
+    }
+
+    @Benchmark
+    public byte[] signWithCachedScripts() throws AddressFormatException, TransactionVerificationException {
+        return signPayout(arbitratorKey);
+    }
+
+    @Benchmark
+    public byte[] signWithNewScripts() throws AddressFormatException, TransactionVerificationException {
+        return signPayout(uncachedArbitratorKeys[numPayouts++ % uncachedArbitratorKeys.length]);
+    }
+
+    private byte[] signPayout(ECKey arbitratorKey) throws AddressFormatException, TransactionVerificationException {
+        return tradeWalletService.buyerSignsPayoutTx(depositTx,
+                Coin.valueOf(50_000_000),
+                Coin.valueOf(49_000_000),
+                buyerAddress,
+                sellerAddress,
+                buyerKey,
+                buyerKey.getPubKey(),
+                sellerKey.getPubKey(),
+                arbitratorKey.getPubKey());
+    }
+}
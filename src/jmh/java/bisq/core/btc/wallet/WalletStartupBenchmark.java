@@ -0,0 +1,108 @@
+/*
+ * This file is part of Bisq.
+ *
+ * Bisq is free software: you can redistribute it and/or modify it
+ * under the terms of the GNU Affero General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or (at
+ * your option) any later version.
+ *
+ * Bisq is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE. See the GNU Affero General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with Bisq. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package bisq.core.btc.wallet;
+
+import bisq.common.storage.FileUtil;
+
+import org.bitcoinj.core.NetworkParameters;
+import org.bitcoinj.params.RegTestParams;
+
+import java.nio.file.Files;
+
+import java.io.File;
+import java.io.IOException;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Startup of WalletConfig with existing regtest BTC and BSQ wallets and chain file, from startAsync until the service
+ * is running: loading both wallets, opening the block store and creating the block chain and peer group. The fixture
+ * wallets are created at setup by a first startup and get numKeys issued receive keys each. No peers are connected
+ * as there are no peer addresses or discovery for regtest.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5)
+@Measurement(iterations = 20)
+@Fork(1)
+public class WalletStartupBenchmark {
+    private static final String BTC_WALLET_FILE_NAME = "bisq_BTC.wallet";
+    private static final String BSQ_WALLET_FILE_NAME = "bisq_BSQ.wallet";
+    private static final String SPV_CHAIN_FILE_NAME = "bisq.spvchain";
+
+    @Param({"20", "2000"})
+    private int numKeys;
+
+    private NetworkParameters params;
+    private File directory;
+    private WalletConfig walletConfig;
+
+    @Setup
+    public void setUp() throws IOException {
+        params = RegTestParams.get();
+        directory = Files.createTempDirectory("WalletStartupBenchmark").toFile();
+
+        WalletConfig fixtureConfig = createWalletConfig();
+        fixtureConfig.startAsync().awaitRunning();
+        fixtureConfig.getBtcWallet().freshReceiveKeys(numKeys);
+        if (fixtureConfig.getBsqWallet() != null)
+            fixtureConfig.getBsqWallet().freshReceiveKeys(numKeys);
+        // Saves the wallets and closes the block store
+        fixtureConfig.stopAsync().awaitTerminated();
+    }
+
+    @TearDown(Level.Invocation)
+    public void stopWalletConfig() {
+        walletConfig.stopAsync().awaitTerminated();
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        FileUtil.deleteDirectory(directory);
+    }
+
+    @Benchmark
+    public WalletConfig startUp() {
+        walletConfig = createWalletConfig();
+        walletConfig.startAsync().awaitRunning();
+        return walletConfig;
+    }
+
+    private WalletConfig createWalletConfig() {
+        WalletConfig config = new WalletConfig(params, null, directory, null, "benchmark", 1,
+                BTC_WALLET_FILE_NAME, BSQ_WALLET_FILE_NAME, SPV_CHAIN_FILE_NAME);
+        config.setBlockingStartup(false);
+        config.setAutoStop(false);
+        return config;
+    }
+}
@@ -0,0 +1,120 @@
+/*
+ * This file is part of Bisq.
+ *
+ * Bisq is free software: you can redistribute it and/or modify it
+ * under the terms of the GNU Affero General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or (at
+ * your option) any later version.
+ *
+ * Bisq is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE. See the GNU Affero General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with Bisq. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package bisq.core.dao.node.lite;
+
+import bisq.core.benchmark.Fixtures;
+import bisq.core.dao.blockchain.BsqBlockChain;
+import bisq.core.dao.blockchain.exceptions.BlockNotConnectingException;
+import bisq.core.dao.blockchain.vo.BsqBlock;
+import bisq.core.dao.blockchain.vo.Tx;
+import bisq.core.dao.node.consensus.BsqBlockController;
+import bisq.core.dao.node.consensus.BsqTxController;
+import bisq.core.dao.node.consensus.GenesisTxController;
+import bisq.core.dao.node.consensus.GenesisTxOutputController;
+import bisq.core.dao.node.consensus.OpReturnBlindVoteController;
+import bisq.core.dao.node.consensus.OpReturnCompReqController;
+import bisq.core.dao.node.consensus.OpReturnController;
+import bisq.core.dao.node.consensus.OpReturnProposalController;
+import bisq.core.dao.node.consensus.OpReturnVoteRevealController;
+import bisq.core.dao.node.consensus.TxInputController;
+import bisq.core.dao.node.consensus.TxInputsController;
+import bisq.core.dao.node.consensus.TxOutputController;
+import bisq.core.dao.node.consensus.TxOutputsController;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Parses a block following the BSQ genesis block. Most txs of the block are plain BTC txs which spend outputs unknown
+ * to the BSQ blockchain, the others are BSQ transfers spending the genesis outputs. Parts of both depend on other txs
+ * of the same block, so the parser needs to recurse like at real blocks.
+ * <p>
+ * Parsing changes the state of the txs and of the BsqBlockChain, so each invocation parses a fresh copy of the block
+ * into a new BsqBlockChain which only contains the genesis block.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5)
+@Measurement(iterations = 10)
+@Fork(1)
+public class BsqParserBenchmark {
+    @Param({"3000"})
+    private int numTxs;
+
+    private BsqBlock genesisBlock;
+    private BsqBlock block;
+    private LiteNodeParser parser;
+    private BsqBlock blockToParse;
+
+    @Setup(Level.Trial)
+    public void setUpBlock() {
+        genesisBlock = Fixtures.getBsqGenesisBlock();
+        block = Fixtures.getBsqBlockAfterGenesis(genesisBlock, numTxs, new Random(42));
+    }
+
+    @Setup(Level.Invocation)
+    public void setUpBsqBlockChain() throws BlockNotConnectingException {
+        Tx genesisTx = genesisBlock.getTxs().get(0);
+        BsqBlockChain bsqBlockChain = new BsqBlockChain(genesisTx.getId(), genesisBlock.getHeight());
+        parser = getParser(bsqBlockChain, genesisTx.getId(), genesisBlock.getHeight());
+        parser.parseBsqBlock(BsqBlock.clone(genesisBlock, true));
+        blockToParse = BsqBlock.clone(block, true);
+    }
+
+    @Benchmark
+    public BsqBlock parseBsqBlock() throws BlockNotConnectingException {
+        parser.parseBsqBlock(blockToParse);
+        return blockToParse;
+    }
+
+
+    ///////////////////////////////////////////////////////////////////////////////////////////
+    // Private
+    ///////////////////////////////////////////////////////////////////////////////////////////
+
+    // Same object graph as the DaoModule binds for the lite node
+    private static LiteNodeParser getParser(BsqBlockChain bsqBlockChain, String genesisTxId, int genesisBlockHeight) {
+        OpReturnController opReturnController = new OpReturnController(new OpReturnProposalController(bsqBlockChain),
+                new OpReturnCompReqController(bsqBlockChain),
+                new OpReturnBlindVoteController(bsqBlockChain),
+                new OpReturnVoteRevealController(bsqBlockChain));
+        GenesisTxController genesisTxController = new GenesisTxController(bsqBlockChain,
+                bsqBlockChain,
+                new GenesisTxOutputController(bsqBlockChain, opReturnController),
+                genesisTxId,
+                genesisBlockHeight);
+        BsqTxController bsqTxController = new BsqTxController(bsqBlockChain,
+                new TxInputsController(bsqBlockChain, new TxInputController(bsqBlockChain)),
+                new TxOutputsController(new TxOutputController(bsqBlockChain, opReturnController)));
+        return new LiteNodeParser(new BsqBlockController(bsqBlockChain, bsqBlockChain), genesisTxController, bsqTxController);
+    }
+}
@@ -0,0 +1,119 @@
+/*
+ * This file is part of Bisq.
+ *
+ * Bisq is free software: you can redistribute it and/or modify it
+ * under the terms of the GNU Affero General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or (at
+ * your option) any later version.
+ *
+ * Bisq is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE. See the GNU Affero General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with Bisq. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package bisq.core.dao.vote;
+
+import bisq.core.benchmark.Fixtures;
+import bisq.core.btc.wallet.BtcWalletService;
+import bisq.core.dao.blockchain.BsqBlockChain;
+import bisq.core.dao.blockchain.vo.BsqBlock;
+import bisq.core.dao.blockchain.vo.Tx;
+
+import com.google.common.collect.ImmutableList;
+
+import javafx.beans.property.SimpleIntegerProperty;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * Classifies 100k BSQ txs by their phase and by their cycle, once with the bulk methods of the DaoPeriodService and
+ * once with a lookup per tx.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5)
+@Measurement(iterations = 10)
+@Fork(1)
+public class DaoPeriodServiceBenchmark {
+    private static final int NUM_TXS = 100_000;
+    private static final int NUM_TXS_PER_BLOCK = 10;
+
+    private DaoPeriodService daoPeriodService;
+    private List<String> txIds;
+
+    @Setup
+    public void setUp() {
+        BsqBlock genesisBlock = Fixtures.getBsqGenesisBlock();
+        int genesisBlockHeight = genesisBlock.getHeight();
+        BsqBlockChain bsqBlockChain = new BsqBlockChain(genesisBlock.getTxs().get(0).getId(), genesisBlockHeight);
+        txIds = new ArrayList<>();
+        for (int i = 0; i < NUM_TXS; i++) {
+            int height = genesisBlockHeight + 1 + i / NUM_TXS_PER_BLOCK;
+            String txId = Fixtures.getHash("bsq-tx-" + i);
+            bsqBlockChain.addTxToMap(new Tx(txId, height, Fixtures.getHash("block-" + height), 1525700000L + height * 600,
+                    ImmutableList.of(), ImmutableList.of()));
+            txIds.add(txId);
+        }
+        // Requests contain txs we don't know as well
+        for (int i = 0; i < NUM_TXS / 10; i++)
+            txIds.add(Fixtures.getHash("unknown-tx-" + i));
+        Collections.shuffle(txIds, new Random(42));
+
+        BtcWalletService btcWalletService = mock(BtcWalletService.class);
+        int chainHeight = genesisBlockHeight + NUM_TXS / NUM_TXS_PER_BLOCK + 1;
+        when(btcWalletService.getChainHeightProperty()).thenReturn(new SimpleIntegerProperty(chainHeight));
+        daoPeriodService = new DaoPeriodService(btcWalletService, bsqBlockChain, genesisBlockHeight);
+        daoPeriodService.onAllServicesInitialized();
+    }
+
+    @Benchmark
+    public Map<String, DaoPeriodService.Phase> getPhaseByTxIdMap() {
+        return daoPeriodService.getPhaseByTxIdMap(txIds);
+    }
+
+    @Benchmark
+    public Map<String, DaoPeriodService.Phase> getPhaseForTx() {
+        Map<String, DaoPeriodService.Phase> map = new HashMap<>();
+        txIds.forEach(txId -> daoPeriodService.getPhaseForTx(txId).ifPresent(phase -> map.put(txId, phase)));
+        return map;
+    }
+
+    @Benchmark
+    public Set<String> getTxIdsInPastCycle() {
+        return daoPeriodService.getTxIdsInPastCycle(txIds);
+    }
+
+    @Benchmark
+    public Set<String> isTxInPastCycle() {
+        Set<String> set = new HashSet<>();
+        txIds.stream().filter(daoPeriodService::isTxInPastCycle).forEach(set::add);
+        return set;
+    }
+}
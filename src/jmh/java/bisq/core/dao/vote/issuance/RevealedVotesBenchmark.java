@@ -0,0 +1,134 @@
+/*
+ * This file is part of Bisq.
+ *
+ * Bisq is free software: you can redistribute it and/or modify it
+ * under the terms of the GNU Affero General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or (at
+ * your option) any later version.
+ *
+ * Bisq is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE. See the GNU Affero General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with Bisq. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package bisq.core.dao.vote.issuance;
+
+import bisq.core.benchmark.Fixtures;
+import bisq.core.dao.vote.blindvote.BlindVoteConsensus;
+import bisq.core.dao.vote.issuance.consensus.IssuanceConsensus;
+import bisq.core.dao.vote.proposal.Proposal;
+import bisq.core.dao.vote.proposal.ProposalList;
+import bisq.core.dao.vote.proposal.generic.GenericProposal;
+import bisq.core.dao.vote.proposal.generic.GenericProposalPayload;
+
+import bisq.network.p2p.NodeAddress;
+
+import bisq.common.crypto.CryptoException;
+
+import com.google.protobuf.InvalidProtocolBufferException;
+
+import javax.crypto.SecretKey;
+
+import java.security.PublicKey;
+
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Decrypting and parsing the proposal lists of 2000 revealed blind votes at the vote result, sequentially and on a
+ * worker pool of the same size as the one of the IssuanceService.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5)
+@Measurement(iterations = 10)
+@Fork(1)
+public class RevealedVotesBenchmark {
+    private static final int NUM_BLIND_VOTES = 2000;
+    private static final int NUM_PROPOSALS = 20;
+    private static final int NUM_THREADS = Math.max(1, Runtime.getRuntime().availableProcessors() - 1);
+
+    private List<byte[]> encryptedProposalLists;
+    private List<SecretKey> secretKeys;
+    private ExecutorService executorService;
+
+    @Setup
+    public void setUp() throws CryptoException {
+        PublicKey ownerPubKey = Fixtures.getPubKeyRing().getSignaturePubKey();
+        List<Proposal> proposals = new ArrayList<>();
+        for (int i = 0; i < NUM_PROPOSALS; i++) {
+            proposals.add(new GenericProposal(new GenericProposalPayload(Fixtures.getHash("proposal-" + i),
+                    "name" + i,
+                    "Proposal " + i,
+                    "Description of proposal " + i,
+                    "https://bisq.network/proposal/" + i,
+                    new NodeAddress("localhost:" + (9000 + i)),
+                    ownerPubKey,
+                    new Date(1525700000000L + i))));
+        }
+        ProposalList proposalList = new ProposalList(proposals);
+
+        encryptedProposalLists = new ArrayList<>();
+        secretKeys = new ArrayList<>();
+        for (int i = 0; i < NUM_BLIND_VOTES; i++) {
+            SecretKey secretKey = BlindVoteConsensus.getSecretKey();
+            encryptedProposalLists.add(BlindVoteConsensus.getEncryptedProposalList(proposalList, secretKey));
+            secretKeys.add(secretKey);
+        }
+        executorService = Executors.newFixedThreadPool(NUM_THREADS);
+    }
+
+    @TearDown
+    public void tearDown() {
+        executorService.shutdownNow();
+    }
+
+    @Benchmark
+    public List<ProposalList> sequential() throws CryptoException, InvalidProtocolBufferException {
+        List<ProposalList> proposalLists = new ArrayList<>();
+        for (int i = 0; i < NUM_BLIND_VOTES; i++)
+            proposalLists.add(getProposalList(i));
+        return proposalLists;
+    }
+
+    @Benchmark
+    public List<ProposalList> onExecutor() throws ExecutionException, InterruptedException {
+        List<Future<ProposalList>> futures = new ArrayList<>();
+        for (int i = 0; i < NUM_BLIND_VOTES; i++) {
+            final int index = i;
+            futures.add(executorService.submit(() -> getProposalList(index)));
+        }
+        List<ProposalList> proposalLists = new ArrayList<>();
+        for (Future<ProposalList> future : futures)
+            proposalLists.add(future.get());
+        return proposalLists;
+    }
+
+    private ProposalList getProposalList(int index) throws CryptoException, InvalidProtocolBufferException {
+        byte[] decrypted = IssuanceConsensus.decryptProposalList(encryptedProposalLists.get(index), secretKeys.get(index));
+        return ProposalList.getProposalListFromBytes(decrypted);
+    }
+}
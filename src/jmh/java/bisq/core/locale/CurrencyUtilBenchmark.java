@@ -0,0 +1,95 @@
+/*
+ * This file is part of Bisq.
+ *
+ * Bisq is free software: you can redistribute it and/or modify it
+ * under the terms of the GNU Affero General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or (at
+ * your option) any later version.
+ *
+ * Bisq is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE. See the GNU Affero General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with Bisq. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package bisq.core.locale;
+
+import bisq.core.btc.BaseCurrencyNetwork;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * The CurrencyUtil calls which are made for each offer or trade when lists get filtered, sorted and displayed.
+ * The currency codes are a mix of all fiat and crypto currencies.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5)
+@Measurement(iterations = 10)
+@Fork(1)
+public class CurrencyUtilBenchmark {
+    private static final int NUM_LOOKUPS = 1000;
+
+    private List<String> currencyCodes;
+
+    @Setup
+    public void setUp() {
+        BaseCurrencyNetwork baseCurrencyNetwork = BaseCurrencyNetwork.BTC_MAINNET;
+        Res.setBaseCurrencyCode(baseCurrencyNetwork.getCurrencyCode());
+        Res.setBaseCurrencyName(baseCurrencyNetwork.getCurrencyName());
+        CurrencyUtil.setBaseCurrencyCode(baseCurrencyNetwork.getCurrencyCode());
+
+        List<String> allCurrencyCodes = new ArrayList<>();
+        CurrencyUtil.getAllSortedFiatCurrencies().forEach(currency -> allCurrencyCodes.add(currency.getCode()));
+        CurrencyUtil.getAllSortedCryptoCurrencies().forEach(currency -> allCurrencyCodes.add(currency.getCode()));
+        Random random = new Random(42);
+        currencyCodes = new ArrayList<>();
+        for (int i = 0; i < NUM_LOOKUPS; i++)
+            currencyCodes.add(allCurrencyCodes.get(random.nextInt(allCurrencyCodes.size())));
+        Collections.shuffle(currencyCodes, random);
+    }
+
+    @Benchmark
+    public void isFiatCurrency(Blackhole blackhole) {
+        for (String currencyCode : currencyCodes)
+            blackhole.consume(CurrencyUtil.isFiatCurrency(currencyCode));
+    }
+
+    @Benchmark
+    public void isCryptoCurrency(Blackhole blackhole) {
+        for (String currencyCode : currencyCodes)
+            blackhole.consume(CurrencyUtil.isCryptoCurrency(currencyCode));
+    }
+
+    @Benchmark
+    public void getNameByCode(Blackhole blackhole) {
+        for (String currencyCode : currencyCodes)
+            blackhole.consume(CurrencyUtil.getNameByCode(currencyCode));
+    }
+
+    @Benchmark
+    public void getTradeCurrency(Blackhole blackhole) {
+        for (String currencyCode : currencyCodes)
+            blackhole.consume(CurrencyUtil.getTradeCurrency(currencyCode));
+    }
+}
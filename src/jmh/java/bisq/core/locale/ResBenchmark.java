@@ -0,0 +1,74 @@
+/*
+ * This file is part of Bisq.
+ *
+ * Bisq is free software: you can redistribute it and/or modify it
+ * under the terms of the GNU Affero General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or (at
+ * your option) any later version.
+ *
+ * Bisq is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE. See the GNU Affero General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with Bisq. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package bisq.core.locale;
+
+import bisq.core.btc.BaseCurrencyNetwork;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Lookups of all strings of the displayStrings bundle, like the UI does when it builds its views.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5)
+@Measurement(iterations = 10)
+@Fork(1)
+public class ResBenchmark {
+    private List<String> keys;
+    private List<String> keysWithArguments;
+
+    @Setup
+    public void setUp() {
+        BaseCurrencyNetwork baseCurrencyNetwork = BaseCurrencyNetwork.BTC_MAINNET;
+        Res.setBaseCurrencyCode(baseCurrencyNetwork.getCurrencyCode());
+        Res.setBaseCurrencyName(baseCurrencyNetwork.getCurrencyName());
+        keys = Collections.list(Res.getResourceBundle().getKeys());
+        keysWithArguments = keys.stream()
+                .filter(key -> Res.getResourceBundle().getString(key).contains("{0}"))
+                .collect(Collectors.toList());
+    }
+
+    @Benchmark
+    public void get(Blackhole blackhole) {
+        for (String key : keys)
+            blackhole.consume(Res.get(key));
+    }
+
+    @Benchmark
+    public void getWithArguments(Blackhole blackhole) {
+        for (String key : keysWithArguments)
+            blackhole.consume(Res.get(key, "0.01", "BTC", "EUR", "12"));
+    }
+}
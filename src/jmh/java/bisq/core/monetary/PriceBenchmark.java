@@ -0,0 +1,106 @@
+/*
+ * This file is part of Bisq.
+ *
+ * Bisq is free software: you can redistribute it and/or modify it
+ * under the terms of the GNU Affero General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or (at
+ * your option) any later version.
+ *
+ * Bisq is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE. See the GNU Affero General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with Bisq. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package bisq.core.monetary;
+
+import bisq.core.benchmark.Fixtures;
+
+import org.bitcoinj.core.Coin;
+import org.bitcoinj.utils.ExchangeRate;
+import org.bitcoinj.utils.Fiat;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Amount to volume and volume to amount conversions for the fiat and altcoin market prices of the fixture. Each
+ * invocation converts a set of trade amounts between 0.001 and 1 BTC for all prices.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5)
+@Measurement(iterations = 10)
+@Fork(1)
+public class PriceBenchmark {
+    private static final int NUM_AMOUNTS = 64;
+
+    private List<Price> prices;
+    private List<Coin> amounts;
+    private List<List<Volume>> volumesByPrice;
+    private List<ExchangeRate> fiatExchangeRates;
+
+    @Setup
+    public void setUp() {
+        prices = Fixtures.getMarketPrices();
+        Random random = new Random(42);
+        amounts = new ArrayList<>();
+        for (int i = 0; i < NUM_AMOUNTS; i++)
+            amounts.add(Coin.valueOf(100_000 + random.nextInt(100_000_000)));
+
+        volumesByPrice = new ArrayList<>();
+        fiatExchangeRates = new ArrayList<>();
+        for (Price price : prices) {
+            List<Volume> volumes = new ArrayList<>();
+            amounts.forEach(amount -> volumes.add(price.getVolumeByAmount(amount)));
+            volumesByPrice.add(volumes);
+            if (price.getMonetary() instanceof Fiat)
+                fiatExchangeRates.add(new ExchangeRate((Fiat) price.getMonetary()));
+        }
+    }
+
+    @Benchmark
+    public void getVolumeByAmount(Blackhole blackhole) {
+        for (Price price : prices) {
+            for (Coin amount : amounts)
+                blackhole.consume(price.getVolumeByAmount(amount));
+        }
+    }
+
+    @Benchmark
+    public void getAmountByVolume(Blackhole blackhole) {
+        for (int i = 0; i < prices.size(); i++) {
+            Price price = prices.get(i);
+            for (Volume volume : volumesByPrice.get(i))
+                blackhole.consume(price.getAmountByVolume(volume));
+        }
+    }
+
+    // Reference for the fiat part of getVolumeByAmount with the BigInteger based bitcoinj implementation.
+    // Only the fiat prices are converted here.
+    @Benchmark
+    public void coinToFiatWithExchangeRate(Blackhole blackhole) {
+        for (ExchangeRate exchangeRate : fiatExchangeRates) {
+            for (Coin amount : amounts)
+                blackhole.consume(exchangeRate.coinToFiat(amount));
+        }
+    }
+}
@@ -0,0 +1,84 @@
+/*
+ * This file is part of Bisq.
+ *
+ * Bisq is free software: you can redistribute it and/or modify it
+ * under the terms of the GNU Affero General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or (at
+ * your option) any later version.
+ *
+ * Bisq is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE. See the GNU Affero General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with Bisq. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package bisq.core.proto;
+
+import bisq.core.benchmark.Fixtures;
+import bisq.core.offer.OfferPayload;
+import bisq.core.trade.statistics.TradeStatistics2;
+
+import io.bisq.generated.protobuffer.PB;
+
+import com.google.protobuf.InvalidProtocolBufferException;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Protobuf serialization of the payloads which are the bulk of the P2P data: offers and trade statistics.
+ * Serialization is measured from the domain object to the bytes, deserialization from the bytes to the domain object.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5)
+@Measurement(iterations = 10)
+@Fork(1)
+public class PayloadSerializationBenchmark {
+    private OfferPayload offerPayload;
+    private byte[] offerPayloadBytes;
+    private TradeStatistics2 tradeStatistics;
+    private byte[] tradeStatisticsBytes;
+
+    @Setup
+    public void setUp() {
+        offerPayload = Fixtures.getOfferPayload();
+        offerPayloadBytes = offerPayload.toProtoMessage().toByteArray();
+        tradeStatistics = Fixtures.getTradeStatistics(offerPayload);
+        tradeStatisticsBytes = tradeStatistics.toProtoMessage().toByteArray();
+    }
+
+    @Benchmark
+    public byte[] serializeOfferPayload() {
+        return offerPayload.toProtoMessage().toByteArray();
+    }
+
+    @Benchmark
+    public OfferPayload deserializeOfferPayload() throws InvalidProtocolBufferException {
+        return OfferPayload.fromProto(PB.StoragePayload.parseFrom(offerPayloadBytes).getOfferPayload());
+    }
+
+    @Benchmark
+    public byte[] serializeTradeStatistics() {
+        return tradeStatistics.toProtoMessage().toByteArray();
+    }
+
+    @Benchmark
+    public TradeStatistics2 deserializeTradeStatistics() throws InvalidProtocolBufferException {
+        return TradeStatistics2.fromProto(PB.PersistableNetworkPayload.parseFrom(tradeStatisticsBytes).getTradeStatistics2());
+    }
+}
@@ -0,0 +1,95 @@
+/*
+ * This file is part of Bisq.
+ *
+ * Bisq is free software: you can redistribute it and/or modify it
+ * under the terms of the GNU Affero General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or (at
+ * your option) any later version.
+ *
+ * Bisq is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE. See the GNU Affero General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with Bisq. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package bisq.core.proto.network;
+
+import bisq.core.benchmark.Fixtures;
+import bisq.core.dao.blockchain.vo.BsqBlock;
+import bisq.core.dao.node.messages.GetBsqBlocksResponse;
+import bisq.core.dao.node.messages.NewBsqBlockBroadcastMessage;
+
+import bisq.common.proto.network.NetworkEnvelope;
+
+import io.bisq.generated.protobuffer.PB;
+
+import com.google.protobuf.InvalidProtocolBufferException;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Replays received BSQ block messages through the CoreNetworkProtoResolver with eager and with lazy resolving.
+ * Run it with -prof gc to compare the allocations as well.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5)
+@Measurement(iterations = 10)
+@Fork(1)
+public class BsqBlockMessagesBenchmark {
+    @Param({"false", "true"})
+    private boolean lazyResolve;
+
+    private CoreNetworkProtoResolver resolver;
+    private byte[] getBsqBlocksResponseBytes;
+    private byte[] newBsqBlockBroadcastMessageBytes;
+
+    @Setup
+    public void setUp() {
+        resolver = new CoreNetworkProtoResolver(lazyResolve);
+
+        BsqBlock genesisBlock = Fixtures.getBsqGenesisBlock();
+        BsqBlock block = Fixtures.getBsqBlockAfterGenesis(genesisBlock, 3000, new Random(42));
+        List<BsqBlock> blocks = Arrays.asList(genesisBlock, block);
+        getBsqBlocksResponseBytes = new GetBsqBlocksResponse(blocks, 1).toProtoNetworkEnvelope().toByteArray();
+        newBsqBlockBroadcastMessageBytes = new NewBsqBlockBroadcastMessage(block).toProtoNetworkEnvelope().toByteArray();
+    }
+
+    // Response which gets dropped after receipt, e.g. because its request was already stopped
+    @Benchmark
+    public NetworkEnvelope receiveGetBsqBlocksResponse() throws InvalidProtocolBufferException {
+        return resolver.fromProto(PB.NetworkEnvelope.parseFrom(getBsqBlocksResponseBytes));
+    }
+
+    @Benchmark
+    public List<BsqBlock> receiveAndReadGetBsqBlocksResponse() throws InvalidProtocolBufferException {
+        GetBsqBlocksResponse response = (GetBsqBlocksResponse) resolver.fromProto(PB.NetworkEnvelope.parseFrom(getBsqBlocksResponseBytes));
+        return response.getBsqBlocks();
+    }
+
+    // A broadcast message of a block we already have is only relayed to our peers
+    @Benchmark
+    public byte[] receiveAndRelayNewBsqBlockBroadcastMessage() throws InvalidProtocolBufferException {
+        NetworkEnvelope message = resolver.fromProto(PB.NetworkEnvelope.parseFrom(newBsqBlockBroadcastMessageBytes));
+        return message.toProtoNetworkEnvelope().toByteArray();
+    }
+}
@@ -0,0 +1,97 @@
+/*
+ * This file is part of Bisq.
+ *
+ * Bisq is free software: you can redistribute it and/or modify it
+ * under the terms of the GNU Affero General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or (at
+ * your option) any later version.
+ *
+ * Bisq is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE. See the GNU Affero General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with Bisq. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package bisq.core.trade;
+
+import bisq.core.benchmark.Fixtures;
+import bisq.core.offer.Offer;
+import bisq.core.offer.OpenOffer;
+
+import bisq.common.storage.Storage;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import static org.mockito.Mockito.mock;
+
+/**
+ * Lookups of open offers by id for a burst of incoming messages, e.g. offer availability requests. Most messages
+ * refer to one of our offers, the others to offers we don't have (anymore). The index lookup is compared to the
+ * linear scan used before.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5)
+@Measurement(iterations = 10)
+@Fork(1)
+public class TradableListBenchmark {
+    private static final int NUM_MESSAGES = 1000;
+
+    @Param({"100", "10000"})
+    private int numOpenOffers;
+
+    private TradableList<OpenOffer> openOffers;
+    private List<String> offerIdsOfMessages;
+
+    @SuppressWarnings("unchecked")
+    @Setup
+    public void setUp() {
+        Storage<TradableList<OpenOffer>> storage = mock(Storage.class);
+        openOffers = new TradableList<>(storage, "OpenOffers");
+        for (int i = 0; i < numOpenOffers; i++)
+            openOffers.add(new OpenOffer(new Offer(Fixtures.getOfferPayload(getOfferId(i))), storage));
+
+        Random random = new Random(42);
+        offerIdsOfMessages = new ArrayList<>();
+        for (int i = 0; i < NUM_MESSAGES; i++) {
+            boolean isOwnOffer = random.nextInt(10) < 8;
+            offerIdsOfMessages.add(getOfferId(isOwnOffer ? random.nextInt(numOpenOffers) : numOpenOffers + i));
+        }
+    }
+
+    @Benchmark
+    public void getTradableById(Blackhole blackhole) {
+        for (String offerId : offerIdsOfMessages)
+            blackhole.consume(openOffers.getTradableById(offerId));
+    }
+
+    @Benchmark
+    public void linearScan(Blackhole blackhole) {
+        for (String offerId : offerIdsOfMessages)
+            blackhole.consume(openOffers.stream().filter(openOffer -> openOffer.getId().equals(offerId)).findAny());
+    }
+
+    private static String getOfferId(int index) {
+        return Fixtures.getHash("offer-" + index).substring(0, 8) + "-" + index;
+    }
+}
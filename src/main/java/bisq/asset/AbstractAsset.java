@@ -17,6 +17,8 @@
 
 package bisq.asset;
 
+import java.util.List;
+
 import static org.apache.commons.lang3.Validate.notBlank;
 import static org.apache.commons.lang3.Validate.notNull;
 
@@ -55,6 +57,11 @@ public abstract class AbstractAsset implements Asset {
         return addressValidator.validate(address);
     }
 
+    @Override
+    public final List<AddressValidationResult> validateAll(List<String> addresses) {
+        return addressValidator.validateAll(addresses);
+    }
+
     @Override
     public String toString() {
         return getClass().getName();
@@ -17,6 +17,9 @@
 
 package bisq.asset;
 
+import java.util.ArrayList;
+import java.util.List;
+
 /**
  * An {@link Asset} address validation function.
  *
@@ -26,4 +29,14 @@ package bisq.asset;
 public interface AddressValidator {
 
     AddressValidationResult validate(String address);
+
+    /**
+     * Validates all addresses with this validator, the results are in the same order as the addresses.
+     */
+    default List<AddressValidationResult> validateAll(List<String> addresses) {
+        List<AddressValidationResult> results = new ArrayList<>(addresses.size());
+        for (String address : addresses)
+            results.add(validate(address));
+        return results;
+    }
 }
@@ -17,6 +17,9 @@
 
 package bisq.asset;
 
+import java.util.ArrayList;
+import java.util.List;
+
 /**
  * Interface representing a given ("crypto") asset in its most abstract form, having a
  * {@link #getName() name}, e.g. "Bitcoin", a {@link #getTickerSymbol() ticker symbol},
@@ -43,4 +46,11 @@ public interface Asset {
     String getTickerSymbol();
 
     AddressValidationResult validateAddress(String address);
+
+    default List<AddressValidationResult> validateAll(List<String> addresses) {
+        List<AddressValidationResult> results = new ArrayList<>(addresses.size());
+        for (String address : addresses)
+            results.add(validateAddress(address));
+        return results;
+    }
 }
@@ -0,0 +1,82 @@
+/*
+ * This file is part of Bisq.
+ *
+ * Bisq is free software: you can redistribute it and/or modify it
+ * under the terms of the GNU Affero General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or (at
+ * your option) any later version.
+ *
+ * Bisq is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE. See the GNU Affero General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with Bisq. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package bisq.asset;
+
+import org.bitcoinj.core.Sha256Hash;
+
+import java.util.Arrays;
+
+import javax.annotation.Nullable;
+
+/**
+ * Allocation-light Base58Check primitives for validators of addresses with a fixed decoded length. Decoding uses a
+ * lookup table instead of searching the alphabet and the checksum is compared in place.
+ */
+public class Base58Check {
+
+    private static final String ALPHABET = "123456789ABCDEFGHJKLMNPQRSTUVWXYZabcdefghijkmnopqrstuvwxyz";
+    private static final byte[] INDEXES = new byte[128];
+    private static final int CHECKSUM_LENGTH = 4;
+
+    static {
+        Arrays.fill(INDEXES, (byte) -1);
+        for (int i = 0; i < ALPHABET.length(); i++)
+            INDEXES[ALPHABET.charAt(i)] = (byte) i;
+    }
+
+    private Base58Check() {
+    }
+
+    /**
+     * Decodes the input into a byte array of the given length, leading zero bytes are kept.
+     *
+     * @return the decoded bytes or null if the input contains a non Base58 character or does not fit into length bytes
+     */
+    @Nullable
+    public static byte[] decode(String input, int length) {
+        byte[] output = new byte[length];
+        for (int i = 0; i < input.length(); i++) {
+            char c = input.charAt(i);
+            int p = c < 128 ? INDEXES[c] : -1;
+            if (p == -1)
+                return null;
+            for (int j = length - 1; j >= 0; j--, p >>>= 8) {
+                p += 58 * (output[j] & 0xFF);
+                output[j] = (byte) p;
+            }
+            if (p != 0)
+                return null;
+        }
+        return output;
+    }
+
+    /**
+     * @return true if the 4 bytes after the payload are the first 4 bytes of the double SHA-256 hash of the payload
+     */
+    public static boolean hasValidChecksum(byte[] decoded, int payloadLength) {
+        if (decoded.length < payloadLength + CHECKSUM_LENGTH)
+            return false;
+
+        byte[] hash = Sha256Hash.hashTwice(decoded, 0, payloadLength);
+        for (int i = 0; i < CHECKSUM_LENGTH; i++) {
+            if (hash[i] != decoded[payloadLength + i])
+                return false;
+        }
+        return true;
+    }
+}
@@ -0,0 +1,153 @@
+/*
+ * This file is part of Bisq.
+ *
+ * Bisq is free software: you can redistribute it and/or modify it
+ * under the terms of the GNU Affero General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or (at
+ * your option) any later version.
+ *
+ * Bisq is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE. See the GNU Affero General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with Bisq. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package bisq.asset;
+
+import org.bitcoinj.core.AddressFormatException;
+
+import java.util.Arrays;
+import java.util.Locale;
+
+/**
+ * Bech32 decoding (BIP 173) for address validators. The checksum is computed over the expanded human-readable part
+ * and the data values in one pass, without building the combined value array.
+ */
+public class Bech32 {
+
+    private static final byte[] CHARSET_REV = {
+            -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, -1,
+            -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, 15, -1, 10, 17,
+            21, 20, 26, 30, 7, 5, -1, -1, -1, -1, -1, -1, -1, 29, -1, 24, 13, 25, 9, 8, 23, -1, 18, 22, 31, 27, 19,
+            -1, 1, 0, 3, 16, 11, 28, 12, 14, 6, 4, 2, -1, -1, -1, -1, -1, -1, 29, -1, 24, 13, 25, 9, 8, 23, -1, 18,
+            22, 31, 27, 19, -1, 1, 0, 3, 16, 11, 28, 12, 14, 6, 4, 2, -1, -1, -1, -1, -1
+    };
+    private static final int CHECKSUM_LENGTH = 6;
+
+    public static class Bech32Data {
+        public final String hrp;
+        public final byte[] data;
+
+        private Bech32Data(final String hrp, final byte[] data) {
+            this.hrp = hrp;
+            this.data = data;
+        }
+    }
+
+    private Bech32() {
+    }
+
+    public static Bech32Data decode(final String str) throws AddressFormatException {
+        boolean lower = false, upper = false;
+        int len = str.length();
+        if (len < 8)
+            throw new AddressFormatException("Input too short: " + len);
+        if (len > 90)
+            throw new AddressFormatException("Input too long: " + len);
+        for (int i = 0; i < len; ++i) {
+            char c = str.charAt(i);
+            if (c < 33 || c > 126) throw new AddressFormatException(invalidChar(c, i));
+            if (c >= 'a' && c <= 'z') {
+                if (upper)
+                    throw new AddressFormatException(invalidChar(c, i));
+                lower = true;
+            }
+            if (c >= 'A' && c <= 'Z') {
+                if (lower)
+                    throw new AddressFormatException(invalidChar(c, i));
+                upper = true;
+            }
+        }
+        final int pos = str.lastIndexOf('1');
+        if (pos < 1) throw new AddressFormatException("Invalid Prefix: Missing human-readable part");
+        final int dataLen = len - 1 - pos;
+        if (dataLen < CHECKSUM_LENGTH) throw new AddressFormatException("Data part too short: " + dataLen);
+        byte[] values = new byte[dataLen];
+        for (int i = 0; i < dataLen; ++i) {
+            char c = str.charAt(i + pos + 1);
+            if (CHARSET_REV[c] == -1) throw new AddressFormatException(invalidChar(c, i + pos + 1));
+            values[i] = CHARSET_REV[c];
+        }
+        // Mixed case got rejected above, so only upper case input needs to be converted
+        String hrp = str.substring(0, pos);
+        if (upper)
+            hrp = hrp.toLowerCase(Locale.ROOT);
+        if (!verifyChecksum(hrp, values)) throw new AddressFormatException("Invalid Checksum");
+        return new Bech32Data(hrp, Arrays.copyOfRange(values, 0, values.length - CHECKSUM_LENGTH));
+    }
+
+    /**
+     * Converts the bits of the input from fromBits to toBits per value, as used for the witness program.
+     */
+    public static byte[] convertBits(final byte[] in, final int inStart, final int inLen, final int fromBits,
+                                     final int toBits, final boolean pad) throws AddressFormatException {
+        int acc = 0;
+        int bits = 0;
+        final int maxv = (1 << toBits) - 1;
+        final int max_acc = (1 << (fromBits + toBits - 1)) - 1;
+        // Upper bound of the output length, trimmed at the end if it was not reached
+        byte[] out = new byte[(inLen * fromBits + toBits - 1) / toBits];
+        int outLen = 0;
+        for (int i = 0; i < inLen; i++) {
+            int value = in[i + inStart] & 0xff;
+            if ((value >>> fromBits) != 0) {
+                throw new AddressFormatException(
+                        String.format("Input value '%X' exceeds '%d' bit size", value, fromBits));
+            }
+            acc = ((acc << fromBits) | value) & max_acc;
+            bits += fromBits;
+            while (bits >= toBits) {
+                bits -= toBits;
+                out[outLen++] = (byte) ((acc >>> bits) & maxv);
+            }
+        }
+        if (pad) {
+            if (bits > 0)
+                out[outLen++] = (byte) ((acc << (toBits - bits)) & maxv);
+        } else if (bits >= fromBits || ((acc << (toBits - bits)) & maxv) != 0) {
+            throw new AddressFormatException("Could not convert bits, invalid padding");
+        }
+        return outLen == out.length ? out : Arrays.copyOf(out, outLen);
+    }
+
+    private static boolean verifyChecksum(final String hrp, final byte[] values) {
+        int len = hrp.length();
+        int c = 1;
+        for (int i = 0; i < len; ++i)
+            c = polymodStep(c, (hrp.charAt(i) & 0x7f) >>> 5);
+        c = polymodStep(c, 0);
+        for (int i = 0; i < len; ++i)
+            c = polymodStep(c, hrp.charAt(i) & 0x1f);
+        for (byte value : values)
+            c = polymodStep(c, value & 0xff);
+        return c == 1;
+    }
+
+    private static int polymodStep(int c, int value) {
+        int c0 = (c >>> 25) & 0xff;
+        c = ((c & 0x1ffffff) << 5) ^ value;
+        if ((c0 & 1) != 0) c ^= 0x3b6a57b2;
+        if ((c0 & 2) != 0) c ^= 0x26508e6d;
+        if ((c0 & 4) != 0) c ^= 0x1ea119fa;
+        if ((c0 & 8) != 0) c ^= 0x3d4233dd;
+        if ((c0 & 16) != 0) c ^= 0x2a1462b3;
+        return c;
+    }
+
+    private static String invalidChar(char c, int i) {
+        return "Invalid character '" + Character.toString(c) + "' at position " + i;
+    }
+}
@@ -17,6 +17,8 @@
 
 package bisq.asset;
 
+import java.util.regex.Pattern;
+
 /**
  * Validates an {@link Asset} address against a given regular expression.
  *
@@ -25,15 +27,16 @@ package bisq.asset;
  */
 public class RegexAddressValidator implements AddressValidator {
 
-    private final String regex;
+    // Compiled once, String.matches would compile the regex at each validation
+    private final Pattern pattern;
 
     public RegexAddressValidator(String regex) {
-        this.regex = regex;
+        this.pattern = Pattern.compile(regex);
     }
 
     @Override
     public AddressValidationResult validate(String address) {
-        if (!address.matches(regex))
+        if (!pattern.matcher(address).matches())
             return AddressValidationResult.invalidStructure();
 
         return AddressValidationResult.validAddress();
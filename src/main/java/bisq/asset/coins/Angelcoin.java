@@ -22,6 +22,8 @@ import bisq.asset.Base58BitcoinAddressValidator;
 import bisq.asset.Coin;
 import bisq.asset.NetworkParametersAdapter;
 
+import java.util.regex.Pattern;
+
 public class Angelcoin extends Coin {
 
     public Angelcoin() {
@@ -30,13 +32,15 @@ public class Angelcoin extends Coin {
 
     public static class AngelcoinAddressValidator extends Base58BitcoinAddressValidator {
 
+        private static final Pattern ADDRESS_PATTERN = Pattern.compile("^[A][a-km-zA-HJ-NP-Z1-9]{25,34}$");
+
         public AngelcoinAddressValidator() {
             super(new AngelcoinParams());
         }
 
         @Override
         public AddressValidationResult validate(String address) {
-            if (!address.matches("^[A][a-km-zA-HJ-NP-Z1-9]{25,34}$"))
+            if (!ADDRESS_PATTERN.matcher(address).matches())
                 return AddressValidationResult.invalidStructure();
 
             return super.validate(address);
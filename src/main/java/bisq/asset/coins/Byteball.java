@@ -21,16 +21,11 @@ import bisq.asset.AddressValidationResult;
 import bisq.asset.AddressValidator;
 import bisq.asset.Coin;
 
+import org.bitcoinj.core.Sha256Hash;
+
 import org.apache.commons.codec.binary.Base32;
 import org.apache.commons.codec.binary.Base64;
 
-import java.security.MessageDigest;
-import java.security.NoSuchAlgorithmException;
-
-import java.util.ArrayList;
-import java.util.Arrays;
-import java.util.List;
-
 public class Byteball extends Coin {
 
     public Byteball() {
@@ -42,24 +37,10 @@ public class Byteball extends Coin {
         private static final Base32 base32 = new Base32();
         private static final Base64 base64 = new Base64();
         private static final String PI = "14159265358979323846264338327950288419716939937510";
-        private static final String[] arrRelativeOffsets = PI.split("");
-        @SuppressWarnings("CanBeFinal")
-        private static Integer[] arrOffsets160;
-        @SuppressWarnings("CanBeFinal")
-        private static Integer[] arrOffsets288;
-
-        static {
-            try {
-                arrOffsets160 = calcOffsets(160);
-            } catch (Exception e) {
-                e.printStackTrace();
-            }
-            try {
-                arrOffsets288 = calcOffsets(288);
-            } catch (Exception e) {
-                e.printStackTrace();
-            }
-        }
+        private static final int CHECKSUM_BITS = 32;
+        // Bit positions of the checksum bits in the c-hash, computed once
+        private static final int[] arrOffsets160 = calcOffsets(160);
+        private static final int[] arrOffsets288 = calcOffsets(288);
 
         public AddressValidationResult validate(String input) {
             if (!isValidAddress(input)) {
@@ -80,19 +61,15 @@ public class Byteball extends Coin {
             return str.length() == len;
         }
 
-        private static void checkLength(int chash_length) throws Exception {
+        private static int[] calcOffsets(int chash_length) {
             if (chash_length != 160 && chash_length != 288)
-                throw new Exception("unsupported c-hash length: " + chash_length);
-        }
-
-        private static Integer[] calcOffsets(int chash_length) throws Exception {
-            checkLength(chash_length);
-            List<Integer> arrOffsets = new ArrayList<>(chash_length);
+                throw new IllegalArgumentException("unsupported c-hash length: " + chash_length);
+            int[] arrOffsets = new int[CHECKSUM_BITS];
             int offset = 0;
             int index = 0;
 
-            for (int i = 0; offset < chash_length; i++) {
-                int relative_offset = Integer.parseInt(arrRelativeOffsets[i]);
+            for (int i = 0; offset < chash_length && i < PI.length(); i++) {
+                int relative_offset = PI.charAt(i) - '0';
                 if (relative_offset == 0)
                     continue;
                 offset += relative_offset;
@@ -100,99 +77,53 @@ public class Byteball extends Coin {
                     offset += 4;
                 if (offset >= chash_length)
                     break;
-                arrOffsets.add(offset);
-                //console.log("index="+index+", offset="+offset);
+                if (index == CHECKSUM_BITS)
+                    throw new IllegalStateException("wrong number of checksum bits");
+                arrOffsets[index] = offset;
                 index++;
             }
 
-            if (index != 32)
-                throw new Exception("wrong number of checksum bits");
+            if (index != CHECKSUM_BITS)
+                throw new IllegalStateException("wrong number of checksum bits");
 
-            //noinspection ToArrayCallWithZeroLengthArrayArgument
-            return arrOffsets.toArray(new Integer[0]);
-        }
-
-        private static ByteballAddressValidator.SeparatedData separateIntoCleanDataAndChecksum(String bin)
-                throws Exception {
-
-            int len = bin.length();
-            Integer[] arrOffsets;
-            if (len == 160)
-                arrOffsets = arrOffsets160;
-            else if (len == 288)
-                arrOffsets = arrOffsets288;
-            else
-                throw new Exception("bad length");
-            StringBuilder arrFrags = new StringBuilder();
-            StringBuilder arrChecksumBits = new StringBuilder();
-            int start = 0;
-            //noinspection ForLoopReplaceableByForEach
-            for (int i = 0; i < arrOffsets.length; i++) {
-                arrFrags.append(bin.substring(start, arrOffsets[i]));
-                arrChecksumBits.append(bin.substring(arrOffsets[i], arrOffsets[i] + 1));
-                start = arrOffsets[i] + 1;
-            }
-            // add last frag
-            if (start < bin.length())
-                arrFrags.append(bin.substring(start));
-            String binCleanData = arrFrags.toString();
-            String binChecksum = arrChecksumBits.toString();
-            return new ByteballAddressValidator.SeparatedData(binCleanData, binChecksum);
-        }
-
-        private static String buffer2bin(byte[] buf) {
-            StringBuilder bytes = new StringBuilder();
-            //noinspection ForLoopReplaceableByForEach
-            for (int i = 0; i < buf.length; i++) {
-                String bin = String.format("%8s", Integer.toBinaryString(buf[i] & 0xFF)).replace(' ', '0');
-                bytes.append(bin);
-            }
-            return bytes.toString();
-        }
-
-        private static byte[] bin2buffer(String bin) {
-            int len = bin.length() / 8;
-            byte[] buf = new byte[len];
-            for (int i = 0; i < len; i++)
-                buf[i] = (byte) Integer.parseInt(bin.substring(i * 8, (i + 1) * 8), 2);
-            return buf;
+            return arrOffsets;
         }
 
+        // Splits the c-hash bits into clean data and checksum directly on the bytes
         private static boolean isChashValid(String encoded) {
             int encoded_len = encoded.length();
             if (encoded_len != 32 && encoded_len != 48) // 160/5 = 32, 288/6 = 48
                 return false;
             byte[] chash = (encoded_len == 32) ? base32.decode(encoded) : base64.decode(encoded);
-            String binChash = buffer2bin(chash);
-            ByteballAddressValidator.SeparatedData separated;
-            try {
-                separated = separateIntoCleanDataAndChecksum(binChash);
-            } catch (Exception e) {
+            int numBits = chash.length * 8;
+            int[] arrOffsets;
+            if (numBits == 160)
+                arrOffsets = arrOffsets160;
+            else if (numBits == 288)
+                arrOffsets = arrOffsets288;
+            else
                 return false;
-            }
-            byte[] clean_data = bin2buffer(separated.clean_data);
-            byte[] checksum = bin2buffer(separated.checksum);
-            return Arrays.equals(getChecksum(clean_data), checksum);
-        }
-
-        private static byte[] getChecksum(byte[] clean_data) {
 
-            try {
-                byte[] full_checksum = MessageDigest.getInstance("SHA-256").digest(clean_data);
-                return new byte[]{full_checksum[5], full_checksum[13], full_checksum[21], full_checksum[29]};
-            } catch (NoSuchAlgorithmException e) {
-                return null;
+            byte[] clean_data = new byte[(numBits - CHECKSUM_BITS) / 8];
+            byte[] checksum = new byte[CHECKSUM_BITS / 8];
+            int cleanIndex = 0;
+            int checksumIndex = 0;
+            for (int bit = 0; bit < numBits; bit++) {
+                boolean isSet = (chash[bit >>> 3] & (0x80 >>> (bit & 7))) != 0;
+                if (checksumIndex < CHECKSUM_BITS && bit == arrOffsets[checksumIndex]) {
+                    if (isSet)
+                        checksum[checksumIndex >>> 3] |= 0x80 >>> (checksumIndex & 7);
+                    checksumIndex++;
+                } else {
+                    if (isSet)
+                        clean_data[cleanIndex >>> 3] |= 0x80 >>> (cleanIndex & 7);
+                    cleanIndex++;
+                }
             }
-        }
-
-        private static class SeparatedData {
-            final String clean_data;
-            final String checksum;
 
-            public SeparatedData(String clean_data, String checksum) {
-                this.clean_data = clean_data;
-                this.checksum = checksum;
-            }
+            byte[] full_checksum = Sha256Hash.hash(clean_data);
+            return full_checksum[5] == checksum[0] && full_checksum[13] == checksum[1]
+                    && full_checksum[21] == checksum[2] && full_checksum[29] == checksum[3];
         }
     }
 }
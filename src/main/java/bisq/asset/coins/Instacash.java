@@ -25,6 +25,8 @@ import bisq.asset.NetworkParametersAdapter;
 import org.bitcoinj.core.Address;
 import org.bitcoinj.core.AddressFormatException;
 
+import java.util.regex.Pattern;
+
 public class Instacash extends Coin {
 
     public Instacash() {
@@ -34,13 +36,16 @@ public class Instacash extends Coin {
 
     public static class InstacashAddressValidator implements AddressValidator {
 
+        private static final Pattern ADDRESS_PATTERN = Pattern.compile("^[A][a-km-zA-HJ-NP-Z1-9]{25,34}$");
+        private static final InstacashParams PARAMS = new InstacashParams();
+
         @Override
         public AddressValidationResult validate(String address) {
-            if (!address.matches("^[A][a-km-zA-HJ-NP-Z1-9]{25,34}$"))
+            if (!ADDRESS_PATTERN.matcher(address).matches())
                 return AddressValidationResult.invalidStructure();
 
             try {
-                Address.fromBase58(new InstacashParams(), address);
+                Address.fromBase58(PARAMS, address);
             } catch (AddressFormatException ex) {
                 return AddressValidationResult.invalidAddress(ex);
             }
@@ -22,6 +22,8 @@ import bisq.asset.Base58BitcoinAddressValidator;
 import bisq.asset.Coin;
 import bisq.asset.NetworkParametersAdapter;
 
+import java.util.regex.Pattern;
+
 public class InternetOfPeople extends Coin {
 
     public InternetOfPeople() {
@@ -31,13 +33,15 @@ public class InternetOfPeople extends Coin {
 
     public static class InternetOfPeopleAddressValidator extends Base58BitcoinAddressValidator {
 
+        private static final Pattern ADDRESS_PATTERN = Pattern.compile("^[p][a-km-zA-HJ-NP-Z1-9]{25,34}$");
+
         public InternetOfPeopleAddressValidator() {
             super(new InternetOfPeopleParams());
         }
 
         @Override
         public AddressValidationResult validate(String address) {
-            if (!address.matches("^[p][a-km-zA-HJ-NP-Z1-9]{25,34}$"))
+            if (!ADDRESS_PATTERN.matcher(address).matches())
                 return AddressValidationResult.invalidStructure();
 
             return super.validate(address);
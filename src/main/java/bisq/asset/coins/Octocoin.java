@@ -22,6 +22,8 @@ import bisq.asset.Base58BitcoinAddressValidator;
 import bisq.asset.Coin;
 import bisq.asset.NetworkParametersAdapter;
 
+import java.util.regex.Pattern;
+
 public class Octocoin extends Coin {
 
     public Octocoin() {
@@ -31,13 +33,15 @@ public class Octocoin extends Coin {
 
     public static class OctocoinAddressValidator extends Base58BitcoinAddressValidator {
 
+        private static final Pattern ADDRESS_PATTERN = Pattern.compile("^[83][a-km-zA-HJ-NP-Z1-9]{25,34}$");
+
         public OctocoinAddressValidator() {
             super(new OctocoinParams());
         }
 
         @Override
         public AddressValidationResult validate(String address) {
-            if (!address.matches("^[83][a-km-zA-HJ-NP-Z1-9]{25,34}$"))
+            if (!ADDRESS_PATTERN.matcher(address).matches())
                 return AddressValidationResult.invalidStructure();
 
             return super.validate(address);
@@ -22,6 +22,8 @@ import bisq.asset.Base58BitcoinAddressValidator;
 import bisq.asset.Coin;
 import bisq.asset.NetworkParametersAdapter;
 
+import java.util.regex.Pattern;
+
 public class Phore extends Coin {
 
     public Phore() {
@@ -31,13 +33,15 @@ public class Phore extends Coin {
 
     public static class PhoreAddressValidator extends Base58BitcoinAddressValidator {
 
+        private static final Pattern ADDRESS_PATTERN = Pattern.compile("^[P][a-km-zA-HJ-NP-Z1-9]{25,34}$");
+
         public PhoreAddressValidator() {
             super(new PhoreParams());
         }
 
         @Override
         public AddressValidationResult validate(String address) {
-            if (!address.matches("^[P][a-km-zA-HJ-NP-Z1-9]{25,34}$"))
+            if (!ADDRESS_PATTERN.matcher(address).matches())
                 return AddressValidationResult.invalidStructure();
 
             return super.validate(address);
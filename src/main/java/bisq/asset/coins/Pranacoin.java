@@ -19,13 +19,11 @@ package bisq.asset.coins;
 
 import bisq.asset.AddressValidationResult;
 import bisq.asset.Base58BitcoinAddressValidator;
+import bisq.asset.Base58Check;
 import bisq.asset.Coin;
 import bisq.asset.NetworkParametersAdapter;
 
-import java.security.MessageDigest;
-import java.security.NoSuchAlgorithmException;
-
-import java.util.Arrays;
+import java.util.regex.Pattern;
 
 public class Pranacoin extends Coin {
 
@@ -36,7 +34,7 @@ public class Pranacoin extends Coin {
 
     public static class PranacoinAddressValidator extends Base58BitcoinAddressValidator {
 
-        private final static String ALPHABET = "123456789ABCDEFGHJKLMNPQRSTUVWXYZabcdefghijkmnopqrstuvwxyz";
+        private static final Pattern ADDRESS_PATTERN = Pattern.compile("^[P3][a-km-zA-HJ-NP-Z1-9]{25,34}$");
 
         public PranacoinAddressValidator() {
             super(new Pranacoin.PranacoinParams());
@@ -44,7 +42,7 @@ public class Pranacoin extends Coin {
 
         @Override
         public AddressValidationResult validate(String address) {
-            if (!address.matches("^[P3][a-km-zA-HJ-NP-Z1-9]{25,34}$"))
+            if (!ADDRESS_PATTERN.matcher(address).matches())
                 return AddressValidationResult.invalidStructure();
             if (!validateAddress(address))
                 return AddressValidationResult.invalidStructure();
@@ -53,40 +51,8 @@ public class Pranacoin extends Coin {
 
         public static boolean validateAddress(String addr) {
             if (addr.length() < 26 || addr.length() > 35) return false;
-            byte[] decoded = decodeBase58(addr, 58, 25);
-            if (decoded == null) return false;
-
-            byte[] hash = getSha256(decoded, 0, 21, 2);
-            return hash != null && Arrays.equals(Arrays.copyOfRange(hash, 0, 4), Arrays.copyOfRange(decoded, 21, 25));
-        }
-
-        private static byte[] decodeBase58(String input, int base, int len) {
-            byte[] output = new byte[len];
-            for (int i = 0; i < input.length(); i++) {
-                char t = input.charAt(i);
-
-                int p = ALPHABET.indexOf(t);
-                if (p == -1) return null;
-                for (int j = len - 1; j >= 0; j--, p /= 256) {
-                    p += base * (output[j] & 0xFF);
-                    output[j] = (byte) (p % 256);
-                }
-                if (p != 0) return null;
-            }
-
-            return output;
-        }
-
-        private static byte[] getSha256(byte[] data, int start, int len, int recursion) {
-            if (recursion == 0) return data;
-
-            try {
-                MessageDigest md = MessageDigest.getInstance("SHA-256");
-                md.update(Arrays.copyOfRange(data, start, start + len));
-                return getSha256(md.digest(), 0, 32, recursion - 1);
-            } catch (NoSuchAlgorithmException e) {
-                return null;
-            }
+            byte[] decoded = Base58Check.decode(addr, 25);
+            return decoded != null && Base58Check.hasValidChecksum(decoded, 21);
         }
     }
 
@@ -22,6 +22,8 @@ import bisq.asset.Base58BitcoinAddressValidator;
 import bisq.asset.Coin;
 import bisq.asset.NetworkParametersAdapter;
 
+import java.util.regex.Pattern;
+
 public class Strayacoin extends Coin {
 
     public Strayacoin() {
@@ -31,13 +33,15 @@ public class Strayacoin extends Coin {
 
     public static class StrayacoinAddressValidator extends Base58BitcoinAddressValidator {
 
+        private static final Pattern ADDRESS_PATTERN = Pattern.compile("^[S][a-zA-Z0-9]{26,34}$");
+
         public StrayacoinAddressValidator() {
             super(new StrayacoinParams());
         }
 
         @Override
         public AddressValidationResult validate(String address) {
-            if (!address.matches("^[S][a-zA-Z0-9]{26,34}$"))
+            if (!ADDRESS_PATTERN.matcher(address).matches())
                 return AddressValidationResult.invalidStructure();
 
             return super.validate(address);
@@ -20,6 +20,7 @@ package bisq.asset.coins;
 import bisq.asset.AddressValidationResult;
 import bisq.asset.AddressValidator;
 import bisq.asset.Base58BitcoinAddressValidator;
+import bisq.asset.Bech32;
 import bisq.asset.Coin;
 import bisq.asset.NetworkParametersAdapter;
 
@@ -28,11 +29,6 @@ import org.bitcoinj.core.NetworkParameters;
 import org.bitcoinj.core.VersionedChecksummedBytes;
 import org.bitcoinj.params.Networks;
 
-import java.io.ByteArrayOutputStream;
-
-import java.util.Arrays;
-import java.util.Locale;
-
 import javax.annotation.Nullable;
 
 public class WorldMobileCoin extends Coin {
@@ -118,7 +114,7 @@ public class WorldMobileCoin extends Coin {
         }
 
         byte[] getWitnessProgram() {
-            return convertBits(bytes, 1, bytes.length - 1, 5, 8, false);
+            return Bech32.convertBits(bytes, 1, bytes.length - 1, 5, 8, false);
         }
 
         static WitnessAddress fromBech32(@Nullable NetworkParameters params, String bech32)
@@ -136,131 +132,5 @@ public class WorldMobileCoin extends Coin {
                 throw new AddressFormatException("Wrong Network: " + bechData.hrp);
             }
         }
-
-        /**
-         * Helper
-         */
-        private static byte[] convertBits(final byte[] in, final int inStart, final int inLen, final int fromBits,
-                                          final int toBits, final boolean pad) throws AddressFormatException {
-            int acc = 0;
-            int bits = 0;
-            ByteArrayOutputStream out = new ByteArrayOutputStream(64);
-            final int maxv = (1 << toBits) - 1;
-            final int max_acc = (1 << (fromBits + toBits - 1)) - 1;
-            for (int i = 0; i < inLen; i++) {
-                int value = in[i + inStart] & 0xff;
-                if ((value >>> fromBits) != 0) {
-                    throw new AddressFormatException(
-                            String.format("Input value '%X' exceeds '%d' bit size", value, fromBits));
-                }
-                acc = ((acc << fromBits) | value) & max_acc;
-                bits += fromBits;
-                while (bits >= toBits) {
-                    bits -= toBits;
-                    out.write((acc >>> bits) & maxv);
-                }
-            }
-            if (pad) {
-                if (bits > 0)
-                    out.write((acc << (toBits - bits)) & maxv);
-            } else if (bits >= fromBits || ((acc << (toBits - bits)) & maxv) != 0) {
-                throw new AddressFormatException("Could not convert bits, invalid padding");
-            }
-            return out.toByteArray();
-        }
-    }
-
-    private static class Bech32 {
-        private static final byte[] CHARSET_REV = {
-                -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, -1,
-                -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, 15, -1, 10, 17,
-                21, 20, 26, 30, 7, 5, -1, -1, -1, -1, -1, -1, -1, 29, -1, 24, 13, 25, 9, 8, 23, -1, 18, 22, 31, 27, 19,
-                -1, 1, 0, 3, 16, 11, 28, 12, 14, 6, 4, 2, -1, -1, -1, -1, -1, -1, 29, -1, 24, 13, 25, 9, 8, 23, -1, 18,
-                22, 31, 27, 19, -1, 1, 0, 3, 16, 11, 28, 12, 14, 6, 4, 2, -1, -1, -1, -1, -1
-        };
-
-        static class Bech32Data {
-            final String hrp;
-            final byte[] data;
-
-            private Bech32Data(final String hrp, final byte[] data) {
-                this.hrp = hrp;
-                this.data = data;
-            }
-        }
-
-        private static int polymod(final byte[] values) {
-            int c = 1;
-            for (byte v_i : values) {
-                int c0 = (c >>> 25) & 0xff;
-                c = ((c & 0x1ffffff) << 5) ^ (v_i & 0xff);
-                if ((c0 & 1) != 0) c ^= 0x3b6a57b2;
-                if ((c0 & 2) != 0) c ^= 0x26508e6d;
-                if ((c0 & 4) != 0) c ^= 0x1ea119fa;
-                if ((c0 & 8) != 0) c ^= 0x3d4233dd;
-                if ((c0 & 16) != 0) c ^= 0x2a1462b3;
-            }
-            return c;
-        }
-
-        private static byte[] expandHrp(final String hrp) {
-            int len = hrp.length();
-            byte ret[] = new byte[len * 2 + 1];
-            for (int i = 0; i < len; ++i) {
-                int c = hrp.charAt(i) & 0x7f;
-                ret[i] = (byte) ((c >>> 5) & 0x07);
-                ret[i + len + 1] = (byte) (c & 0x1f);
-            }
-            ret[len] = 0;
-            return ret;
-        }
-
-        private static boolean verifyChecksum(final String hrp, final byte[] values) {
-            byte[] exp = expandHrp(hrp);
-            byte[] combined = new byte[exp.length + values.length];
-            System.arraycopy(exp, 0, combined, 0, exp.length);
-            System.arraycopy(values, 0, combined, exp.length, values.length);
-            return polymod(combined) == 1;
-        }
-
-        public static Bech32Data decode(final String str) throws AddressFormatException {
-            boolean lower = false, upper = false;
-            int len = str.length();
-            if (len < 8)
-                throw new AddressFormatException("Input too short: " + len);
-            if (len > 90)
-                throw new AddressFormatException("Input too long: " + len);
-            for (int i = 0; i < len; ++i) {
-                char c = str.charAt(i);
-                if (c < 33 || c > 126) throw new AddressFormatException(invalidChar(c, i));
-                if (c >= 'a' && c <= 'z') {
-                    if (upper)
-                        throw new AddressFormatException(invalidChar(c, i));
-                    lower = true;
-                }
-                if (c >= 'A' && c <= 'Z') {
-                    if (lower)
-                        throw new AddressFormatException(invalidChar(c, i));
-                    upper = true;
-                }
-            }
-            final int pos = str.lastIndexOf('1');
-            if (pos < 1) throw new AddressFormatException("Invalid Prefix: Missing human-readable part");
-            final int dataLen = len - 1 - pos;
-            if (dataLen < 6) throw new AddressFormatException("Data part too short: " + dataLen);
-            byte[] values = new byte[dataLen];
-            for (int i = 0; i < dataLen; ++i) {
-                char c = str.charAt(i + pos + 1);
-                if (CHARSET_REV[c] == -1) throw new AddressFormatException(invalidChar(c, i + pos + 1));
-                values[i] = CHARSET_REV[c];
-            }
-            String hrp = str.substring(0, pos).toLowerCase(Locale.ROOT);
-            if (!verifyChecksum(hrp, values)) throw new AddressFormatException("Invalid Checksum");
-            return new Bech32Data(hrp, Arrays.copyOfRange(values, 0, values.length - 6));
-        }
-
-        private static String invalidChar(char c, int i) {
-            return "Invalid character '" + Character.toString(c) + "' at position " + i;
-        }
     }
 }
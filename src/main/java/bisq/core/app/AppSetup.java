@@ -24,12 +24,18 @@ import bisq.common.crypto.KeyRing;
 
 import javax.inject.Inject;
 
+import java.util.Date;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
 import lombok.extern.slf4j.Slf4j;
 
 @Slf4j
 public abstract class AppSetup {
     protected final EncryptionService encryptionService;
     protected final KeyRing keyRing;
+    // Duration in ms per startup phase, in the order the phases completed. Only accessed from the UserThread.
+    private final Map<String, Long> phaseDurations = new LinkedHashMap<>();
 
     @Inject
     public AppSetup(EncryptionService encryptionService,
@@ -43,8 +49,12 @@ public abstract class AppSetup {
     }
 
     public void start() {
+        final long ts = new Date().getTime();
         SetupUtils.checkCryptoSetup(keyRing, encryptionService, () -> {
+            onPhaseCompleted("checkCryptoSetup", ts);
+            final long readPersistedTs = new Date().getTime();
             initPersistedDataHosts();
+            onPhaseCompleted("initPersistedDataHosts", readPersistedTs);
             initBasicServices();
         }, throwable -> {
             log.error(throwable.getMessage());
@@ -56,4 +66,16 @@ public abstract class AppSetup {
     abstract void initPersistedDataHosts();
 
     abstract void initBasicServices();
+
+    protected void onPhaseCompleted(String phase, long startTs) {
+        final long duration = new Date().getTime() - startTs;
+        phaseDurations.put(phase, duration);
+        log.info("Startup phase {} took {} ms", phase, duration);
+    }
+
+    protected void logStartupReport() {
+        final StringBuilder sb = new StringBuilder("Startup completed. Duration of phases:");
+        phaseDurations.forEach((phase, duration) -> sb.append("\n    ").append(phase).append(": ").append(duration).append(" ms"));
+        log.info(sb.toString());
+    }
 }
@@ -17,8 +17,11 @@
 
 package bisq.core.app;
 
+import bisq.core.filter.Filter;
 import bisq.core.filter.FilterManager;
+import bisq.core.payment.AccountAgeWitness;
 import bisq.core.payment.AccountAgeWitnessService;
+import bisq.core.trade.statistics.TradeStatistics2;
 import bisq.core.trade.statistics.TradeStatisticsManager;
 
 import bisq.network.crypto.EncryptionService;
@@ -37,6 +40,8 @@ import javafx.beans.property.BooleanProperty;
 import javafx.beans.property.SimpleBooleanProperty;
 
 import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
 
 import lombok.extern.slf4j.Slf4j;
 
@@ -69,29 +74,31 @@ public class AppSetupWithP2P extends AppSetup {
         persistedDataHosts.add(p2PService);
 
         // we apply at startup the reading of persisted data but don't want to get it triggered in the constructor
-        persistedDataHosts.stream().forEach(e -> {
-            try {
-                log.info("call readPersisted at " + e.getClass().getSimpleName());
-                e.readPersisted();
-            } catch (Throwable e1) {
-                log.error("readPersisted error", e1);
-            }
-        });
+        SetupUtils.readPersistedDataHosts(persistedDataHosts);
     }
 
     @Override
     protected void initBasicServices() {
+        final long ts = new Date().getTime();
         SetupUtils.readFromResources(p2PService.getP2PDataStorage()).addListener((observable, oldValue, newValue) -> {
-            if (newValue)
+            if (newValue) {
+                onPhaseCompleted("readFromResources", ts);
                 startInitP2PNetwork();
+            }
         });
     }
 
     private void startInitP2PNetwork() {
+        final long ts = new Date().getTime();
         p2pNetWorkReady = initP2PNetwork();
         p2pNetWorkReady.addListener((observable, oldValue, newValue) -> {
-            if (newValue)
+            if (newValue) {
+                onPhaseCompleted("initP2PNetwork", ts);
+                final long servicesTs = new Date().getTime();
                 onBasicServicesInitialized();
+                onPhaseCompleted("onBasicServicesInitialized", servicesTs);
+                logStartupReport();
+            }
         });
     }
 
@@ -176,10 +183,25 @@ public class AppSetupWithP2P extends AppSetup {
 
         p2PService.onAllServicesInitialized();
 
-        tradeStatisticsManager.onAllServicesInitialized();
+        // We iterate the P2P data maps once and pass the payloads to the services interested in them
+        final List<TradeStatistics2> tradeStatistics = new ArrayList<>();
+        final List<AccountAgeWitness> accountAgeWitnesses = new ArrayList<>();
+        p2PService.getP2PDataStorage().getPersistableNetworkPayloadList().getMap().values().forEach(payload -> {
+            if (payload instanceof TradeStatistics2)
+                tradeStatistics.add((TradeStatistics2) payload);
+            else if (payload instanceof AccountAgeWitness)
+                accountAgeWitnesses.add((AccountAgeWitness) payload);
+        });
+        final List<Filter> filters = new ArrayList<>();
+        p2PService.getP2PDataStorage().getMap().values().forEach(entry -> {
+            if (entry.getProtectedStoragePayload() instanceof Filter)
+                filters.add((Filter) entry.getProtectedStoragePayload());
+        });
+
+        tradeStatisticsManager.onAllServicesInitialized(tradeStatistics);
 
-        accountAgeWitnessService.onAllServicesInitialized();
+        accountAgeWitnessService.onAllServicesInitialized(accountAgeWitnesses);
 
-        filterManager.onAllServicesInitialized();
+        filterManager.onAllServicesInitialized(filters);
     }
 }
@@ -31,6 +31,8 @@ import bisq.common.crypto.KeyRing;
 
 import javax.inject.Inject;
 
+import java.util.Date;
+
 import lombok.extern.slf4j.Slf4j;
 
 @Slf4j
@@ -62,6 +64,8 @@ public class AppSetupWithP2PAndDAO extends AppSetupWithP2P {
     protected void onBasicServicesInitialized() {
         super.onBasicServicesInitialized();
 
+        final long ts = new Date().getTime();
         daoManager.onAllServicesInitialized(log::error);
+        onPhaseCompleted("daoManager.onAllServicesInitialized", ts);
     }
 }
@@ -208,6 +208,11 @@ public abstract class BisqExecutable {
         parser.accepts(DaoOptionKeys.GENESIS_BLOCK_HEIGHT,
                 description("Genesis transaction block height when not using the hard coded one", ""))
                 .withRequiredArg();
+        parser.accepts(DaoOptionKeys.LAZY_RESOLVE_BSQ_BLOCKS,
+                description("If set to true the BSQ blocks of received block messages are only parsed when they " +
+                        "are read. A malformed block fails when it is read instead of at receipt.", false))
+                .withRequiredArg()
+                .ofType(boolean.class);
     }
 
     public static BisqEnvironment getBisqEnvironment(OptionSet options) {
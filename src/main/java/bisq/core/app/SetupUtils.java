@@ -29,13 +29,22 @@ import bisq.common.crypto.CryptoException;
 import bisq.common.crypto.KeyRing;
 import bisq.common.crypto.SealedAndSigned;
 import bisq.common.handlers.ResultHandler;
+import bisq.common.proto.persistable.PersistedDataHost;
+import bisq.common.util.Utilities;
+
+import com.google.common.util.concurrent.Futures;
+import com.google.common.util.concurrent.ListenableFuture;
+import com.google.common.util.concurrent.ListeningExecutorService;
 
 import javafx.beans.property.BooleanProperty;
 import javafx.beans.property.SimpleBooleanProperty;
 
 import java.security.Security;
 
+import java.util.ArrayList;
 import java.util.Date;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
 import java.util.function.Consumer;
 
 import lombok.extern.slf4j.Slf4j;
@@ -102,4 +111,41 @@ public class SetupUtils {
         thread.start();
         return result;
     }
+
+    // Each PersistedDataHost only reads its own files in readPersisted, so we read them in parallel and return when
+    // all are done.
+    public static void readPersistedDataHosts(List<PersistedDataHost> persistedDataHosts) {
+        if (persistedDataHosts.size() <= 1) {
+            persistedDataHosts.forEach(SetupUtils::readPersisted);
+            return;
+        }
+
+        final int numThreads = Math.min(persistedDataHosts.size(), Runtime.getRuntime().availableProcessors());
+        ListeningExecutorService executorService = Utilities.getListeningExecutorService("readPersisted",
+                numThreads, numThreads, 60);
+        try {
+            List<ListenableFuture<?>> futures = new ArrayList<>();
+            persistedDataHosts.forEach(host -> futures.add(executorService.submit(() -> readPersisted(host))));
+            Futures.allAsList(futures).get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            log.error("readPersisted got interrupted", e);
+        } catch (ExecutionException e) {
+            log.error("readPersisted error", e.getCause());
+        } finally {
+            executorService.shutdown();
+        }
+    }
+
+    private static void readPersisted(PersistedDataHost persistedDataHost) {
+        try {
+            log.info("call readPersisted at " + persistedDataHost.getClass().getSimpleName());
+            long ts = new Date().getTime();
+            persistedDataHost.readPersisted();
+            log.info("readPersisted at {} took {} ms", persistedDataHost.getClass().getSimpleName(),
+                    (new Date().getTime() - ts));
+        } catch (Throwable t) {
+            log.error("readPersisted error", t);
+        }
+    }
 }
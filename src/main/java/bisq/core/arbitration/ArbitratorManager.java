@@ -52,13 +52,17 @@ import java.math.BigInteger;
 
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collection;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.concurrent.TimeUnit;
 import java.util.function.Function;
 import java.util.stream.Collectors;
 
+import lombok.Value;
+
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -78,9 +82,25 @@ public class ArbitratorManager {
     private static final long REPUBLISH_MILLIS = Arbitrator.TTL / 2;
     private static final long RETRY_REPUBLISH_SEC = 5;
     private static final long REPEATED_REPUBLISH_AT_STARTUP_SEC = 60;
+    // Only reached if someone floods the network with arbitrator registrations
+    private static final int MAX_CACHED_SIG_CHECKS = 1000;
 
     private final List<String> publicKeys;
 
+
+    ///////////////////////////////////////////////////////////////////////////////////////////
+    // Nested types
+    ///////////////////////////////////////////////////////////////////////////////////////////
+
+    // Key of the cached signature checks
+    @Value
+    private static class RegistrationSignature {
+        private final PublicKey storageSignaturePubKey;
+        private final byte[] registrationPubKey;
+        private final String signature;
+    }
+
+
     ///////////////////////////////////////////////////////////////////////////////////////////
     // Instance fields
     ///////////////////////////////////////////////////////////////////////////////////////////
@@ -92,6 +112,8 @@ public class ArbitratorManager {
     private final FilterManager filterManager;
     private final ObservableMap<NodeAddress, Arbitrator> arbitratorsObservableMap = FXCollections.observableHashMap();
     private List<Arbitrator> persistedAcceptedArbitrators;
+    // The inputs of the signature check of an arbitrator never change, so we verify each registration only once.
+    private final Map<RegistrationSignature, Boolean> isSigValidByRegistrationSignature = new HashMap<>();
     private Timer republishArbitratorTimer, retryRepublishArbitratorTimer;
 
 
@@ -147,14 +169,14 @@ public class ArbitratorManager {
             @Override
             public void onAdded(ProtectedStorageEntry data) {
                 if (data.getProtectedStoragePayload() instanceof Arbitrator)
-                    updateArbitratorMap();
+                    onArbitratorAdded((Arbitrator) data.getProtectedStoragePayload());
             }
 
             @Override
             public void onRemoved(ProtectedStorageEntry data) {
                 if (data.getProtectedStoragePayload() instanceof Arbitrator) {
-                    updateArbitratorMap();
                     final Arbitrator arbitrator = (Arbitrator) data.getProtectedStoragePayload();
+                    onArbitratorRemoved(arbitrator);
                     user.removeAcceptedArbitrator(arbitrator);
                     user.removeAcceptedMediator(getMediator(arbitrator));
                 }
@@ -194,65 +216,18 @@ public class ArbitratorManager {
     }
 
     public void updateArbitratorMap() {
-        Map<NodeAddress, Arbitrator> map = arbitratorService.getArbitrators();
-        arbitratorsObservableMap.clear();
-        Map<NodeAddress, Arbitrator> filtered = map.values().stream()
-                .filter(e -> {
-                    final String pubKeyAsHex = Utils.HEX.encode(e.getRegistrationPubKey());
-                    final boolean isInPublicKeyInList = isPublicKeyInList(pubKeyAsHex);
-                    if (!isInPublicKeyInList) {
-                        if (DevEnv.DEV_PRIVILEGE_PUB_KEY.equals(pubKeyAsHex))
-                            log.info("We got the DEV_PRIVILEGE_PUB_KEY in our list of publicKeys. RegistrationPubKey={}, nodeAddress={}",
-                                    Utilities.bytesAsHexString(e.getRegistrationPubKey()),
-                                    e.getNodeAddress().getFullAddress());
-                        else
-                            log.warn("We got an arbitrator which is not in our list of publicKeys. RegistrationPubKey={}, nodeAddress={}",
-                                    Utilities.bytesAsHexString(e.getRegistrationPubKey()),
-                                    e.getNodeAddress().getFullAddress());
-                    }
-                    final boolean isSigValid = verifySignature(e.getPubKeyRing().getSignaturePubKey(),
-                            e.getRegistrationPubKey(),
-                            e.getRegistrationSignature());
-                    if (!isSigValid)
-                        log.warn("Sig check for arbitrator failed. Arbitrator=", e.toString());
-
-                    return isInPublicKeyInList && isSigValid;
-                })
+        Map<NodeAddress, Arbitrator> filtered = arbitratorService.getArbitrators().values().stream()
+                .filter(this::isArbitratorValid)
                 .collect(Collectors.toMap(Arbitrator::getNodeAddress, Function.identity()));
 
-        arbitratorsObservableMap.putAll(filtered);
-        arbitratorsObservableMap.values().stream()
-                .filter(persistedAcceptedArbitrators::contains)
-                .forEach(a -> {
-                    user.addAcceptedArbitrator(a);
-                    user.addAcceptedMediator(getMediator(a)
-                    );
-                });
+        // We only apply the differences so listeners of the map don't see all arbitrators removed and added again
+        arbitratorsObservableMap.keySet().retainAll(filtered.keySet());
+        filtered.forEach((nodeAddress, arbitrator) -> {
+            if (!arbitrator.equals(arbitratorsObservableMap.get(nodeAddress)))
+                arbitratorsObservableMap.put(nodeAddress, arbitrator);
+        });
 
-        if (preferences.isAutoSelectArbitrators()) {
-            arbitratorsObservableMap.values().stream()
-                    .filter(user::hasMatchingLanguage)
-                    .forEach(a -> {
-                        user.addAcceptedArbitrator(a);
-                        user.addAcceptedMediator(getMediator(a)
-                        );
-                    });
-        } else {
-            // if we don't have any arbitrator we set all matching
-            // we use a delay as we might get our matching arbitrator a bit delayed (first we get one we did not selected
-            // then we get our selected one - we don't want to activate the first in that case)
-            UserThread.runAfter(() -> {
-                if (user.getAcceptedArbitrators().isEmpty()) {
-                    arbitratorsObservableMap.values().stream()
-                            .filter(user::hasMatchingLanguage)
-                            .forEach(a -> {
-                                user.addAcceptedArbitrator(a);
-                                user.addAcceptedMediator(getMediator(a)
-                                );
-                            });
-                }
-            }, 100, TimeUnit.MILLISECONDS);
-        }
+        updateAcceptedArbitrators(new ArrayList<>(arbitratorsObservableMap.values()));
     }
 
     // TODO we mirror arbitrator data for mediator as long we have not impl. it in the UI
@@ -327,6 +302,89 @@ public class ArbitratorManager {
     // Private
     ///////////////////////////////////////////////////////////////////////////////////////////
 
+    private void onArbitratorAdded(Arbitrator arbitrator) {
+        if (arbitratorService.isBanned(arbitrator) || !isArbitratorValid(arbitrator))
+            return;
+
+        NodeAddress nodeAddress = arbitrator.getNodeAddress();
+        if (!arbitrator.equals(arbitratorsObservableMap.get(nodeAddress))) {
+            if (arbitratorsObservableMap.containsKey(nodeAddress))
+                log.warn("arbitratorAddress already exist in arbitrator map. We replace it with the new arbitrator.");
+            arbitratorsObservableMap.put(nodeAddress, arbitrator);
+        }
+        updateAcceptedArbitrators(Collections.singletonList(arbitrator));
+    }
+
+    private void onArbitratorRemoved(Arbitrator arbitrator) {
+        NodeAddress nodeAddress = arbitrator.getNodeAddress();
+        if (!arbitrator.equals(arbitratorsObservableMap.get(nodeAddress)))
+            return;
+
+        // Another arbitrator might still be registered with the same address. We show that one then, as
+        // updateArbitratorMap would do.
+        Arbitrator other = arbitratorService.getArbitrators().get(nodeAddress);
+        if (other != null && !other.equals(arbitrator) && isArbitratorValid(other)) {
+            arbitratorsObservableMap.put(nodeAddress, other);
+            updateAcceptedArbitrators(Collections.singletonList(other));
+        } else {
+            arbitratorsObservableMap.remove(nodeAddress);
+        }
+    }
+
+    private void updateAcceptedArbitrators(Collection<Arbitrator> arbitrators) {
+        arbitrators.stream()
+                .filter(persistedAcceptedArbitrators::contains)
+                .forEach(this::addAcceptedArbitrator);
+
+        if (preferences.isAutoSelectArbitrators()) {
+            arbitrators.stream()
+                    .filter(user::hasMatchingLanguage)
+                    .forEach(this::addAcceptedArbitrator);
+        } else {
+            // if we don't have any arbitrator we set all matching
+            // we use a delay as we might get our matching arbitrator a bit delayed (first we get one we did not selected
+            // then we get our selected one - we don't want to activate the first in that case)
+            UserThread.runAfter(() -> {
+                if (user.getAcceptedArbitrators().isEmpty()) {
+                    new ArrayList<>(arbitratorsObservableMap.values()).stream()
+                            .filter(user::hasMatchingLanguage)
+                            .forEach(this::addAcceptedArbitrator);
+                }
+            }, 100, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    private void addAcceptedArbitrator(Arbitrator arbitrator) {
+        user.addAcceptedArbitrator(arbitrator);
+        user.addAcceptedMediator(getMediator(arbitrator));
+    }
+
+    private boolean isArbitratorValid(Arbitrator arbitrator) {
+        final String pubKeyAsHex = Utils.HEX.encode(arbitrator.getRegistrationPubKey());
+        final boolean isInPublicKeyInList = isPublicKeyInList(pubKeyAsHex);
+        if (!isInPublicKeyInList) {
+            if (DevEnv.DEV_PRIVILEGE_PUB_KEY.equals(pubKeyAsHex))
+                log.info("We got the DEV_PRIVILEGE_PUB_KEY in our list of publicKeys. RegistrationPubKey={}, nodeAddress={}",
+                        Utilities.bytesAsHexString(arbitrator.getRegistrationPubKey()),
+                        arbitrator.getNodeAddress().getFullAddress());
+            else
+                log.warn("We got an arbitrator which is not in our list of publicKeys. RegistrationPubKey={}, nodeAddress={}",
+                        Utilities.bytesAsHexString(arbitrator.getRegistrationPubKey()),
+                        arbitrator.getNodeAddress().getFullAddress());
+        }
+        if (isSigValidByRegistrationSignature.size() > MAX_CACHED_SIG_CHECKS)
+            isSigValidByRegistrationSignature.clear();
+        final boolean isSigValid = isSigValidByRegistrationSignature.computeIfAbsent(
+                new RegistrationSignature(arbitrator.getPubKeyRing().getSignaturePubKey(),
+                        arbitrator.getRegistrationPubKey(),
+                        arbitrator.getRegistrationSignature()),
+                key -> verifySignature(key.getStorageSignaturePubKey(), key.getRegistrationPubKey(), key.getSignature()));
+        if (!isSigValid)
+            log.warn("Sig check for arbitrator failed. Arbitrator=", arbitrator.toString());
+
+        return isInPublicKeyInList && isSigValid;
+    }
+
     private void republishArbitrator() {
         Arbitrator registeredArbitrator = user.getRegisteredArbitrator();
         if (registeredArbitrator != null) {
@@ -95,6 +95,11 @@ public class ArbitratorService {
         }
     }
 
+    public boolean isBanned(Arbitrator arbitrator) {
+        final List<String> bannedArbitrators = filterManager.getFilter() != null ? filterManager.getFilter().getArbitrators() : null;
+        return bannedArbitrators != null && bannedArbitrators.contains(arbitrator.getNodeAddress().getHostName());
+    }
+
     P2PService getP2PService() {
         return p2PService;
     }
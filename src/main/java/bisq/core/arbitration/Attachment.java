@@ -23,27 +23,167 @@ import io.bisq.generated.protobuffer.PB;
 
 import com.google.protobuf.ByteString;
 
-import lombok.Value;
+import org.bitcoinj.core.Utils;
 
-@Value
+import java.nio.charset.StandardCharsets;
+
+import java.io.UncheckedIOException;
+
+import java.util.Arrays;
+
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+
+import javax.annotation.Nullable;
+
+/**
+ * The bytes of an attachment are moved to the AttachmentStore when its message is added to the DisputeList. The
+ * stored attachment only keeps the hash of the content and loads the bytes from the store when they are requested.
+ * <p>
+ * Only the persisted DisputeList refers to the store. Network messages always carry the full content.
+ * <p>
+ * If the store has lost the content of a persisted reference the attachment is missing. It keeps the reference so it
+ * gets persisted unchanged and has an empty content.
+ */
+@Slf4j
 public final class Attachment implements NetworkPayload {
+    // Prefix of the bytes field in the persisted form if the field only holds the hash of the content in the store
+    private static final byte[] STORE_REFERENCE_PREFIX = "bisq-attachment-ref:".getBytes(StandardCharsets.UTF_8);
+    // The prefix followed by the 32 bytes of the sha256 hash
+    private static final int STORE_REFERENCE_LENGTH = STORE_REFERENCE_PREFIX.length + 32;
+
+    @Getter
     private final String fileName;
+    // Null if the content is held in the attachmentStore or is missing
+    @Nullable
     private final byte[] bytes;
+    @Getter
+    private final String hash;
+    // Null if the content is inline or is missing
+    @Nullable
+    transient private final AttachmentStore attachmentStore;
 
     public Attachment(String fileName, byte[] bytes) {
+        this(fileName, bytes, AttachmentStore.getHash(bytes), null);
+    }
+
+    private Attachment(String fileName, @Nullable byte[] bytes, String hash, @Nullable AttachmentStore attachmentStore) {
         this.fileName = fileName;
         this.bytes = bytes;
+        this.hash = hash;
+        this.attachmentStore = attachmentStore;
     }
 
+
+    ///////////////////////////////////////////////////////////////////////////////////////////
+    // PROTO BUFFER
+    ///////////////////////////////////////////////////////////////////////////////////////////
+
     @Override
     public PB.Attachment toProtoMessage() {
         return PB.Attachment.newBuilder()
                 .setFileName(fileName)
-                .setBytes(ByteString.copyFrom(bytes))
+                .setBytes(ByteString.copyFrom(getBytes()))
                 .build();
     }
 
+    // Used for the DisputeList. Attachments held in the store are persisted as reference to their hash.
+    public PB.Attachment toPersistableProtoMessage() {
+        if (bytes != null)
+            return toProtoMessage();
+
+        byte[] hashBytes = Utils.HEX.decode(hash);
+        byte[] reference = Arrays.copyOf(STORE_REFERENCE_PREFIX, STORE_REFERENCE_LENGTH);
+        System.arraycopy(hashBytes, 0, reference, STORE_REFERENCE_PREFIX.length, hashBytes.length);
+        return PB.Attachment.newBuilder()
+                .setFileName(fileName)
+                .setBytes(ByteString.copyFrom(reference))
+                .build();
+    }
+
+    // Used for network messages. The bytes are always the content, also if they look like a reference.
     public static Attachment fromProto(PB.Attachment proto) {
         return new Attachment(proto.getFileName(), proto.getBytes().toByteArray());
     }
+
+    // Used for the persisted DisputeList. A file with exactly the size and prefix of a reference would be read as
+    // reference as well, but that is not a realistic attachment.
+    public static Attachment fromPersistableProto(PB.Attachment proto, AttachmentStore attachmentStore) {
+        ByteString bytes = proto.getBytes();
+        if (bytes.size() == STORE_REFERENCE_LENGTH && bytes.startsWith(ByteString.copyFrom(STORE_REFERENCE_PREFIX))) {
+            String hash = Utils.HEX.encode(bytes.substring(STORE_REFERENCE_PREFIX.length).toByteArray());
+            if (attachmentStore.contains(hash))
+                return new Attachment(proto.getFileName(), null, hash, attachmentStore);
+
+            log.error("The content of attachment {} with hash {} is missing in the attachment store.",
+                    proto.getFileName(), hash);
+            return new Attachment(proto.getFileName(), null, hash, null);
+        }
+        return new Attachment(proto.getFileName(), bytes.toByteArray());
+    }
+
+
+    ///////////////////////////////////////////////////////////////////////////////////////////
+    // API
+    ///////////////////////////////////////////////////////////////////////////////////////////
+
+    /**
+     * Writes the content to the store if it is not held there yet.
+     *
+     * @return an attachment with the same content which only keeps the hash, or this attachment if the content could
+     * not be stored
+     */
+    public Attachment toStoredAttachment(AttachmentStore attachmentStore) {
+        if (bytes == null)
+            return this;
+
+        try {
+            attachmentStore.put(bytes);
+        } catch (UncheckedIOException e) {
+            // Already logged by the store. We keep the content inline so it gets persisted with the DisputeList.
+            return this;
+        }
+        return new Attachment(fileName, null, hash, attachmentStore);
+    }
+
+    // We don't cache the bytes loaded from the store as attachments are only shown on demand. If the content is
+    // missing or cannot be read from the store we return an empty array. The store has logged the error already.
+    public byte[] getBytes() {
+        if (bytes != null)
+            return bytes;
+
+        if (attachmentStore == null)
+            return new byte[0];
+
+        return attachmentStore.get(hash).orElseGet(() -> new byte[0]);
+    }
+
+    public boolean isInStore() {
+        return bytes == null && attachmentStore != null;
+    }
+
+    public boolean isMissing() {
+        return bytes == null && attachmentStore == null;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (!(o instanceof Attachment)) return false;
+        Attachment that = (Attachment) o;
+        return fileName.equals(that.fileName) && hash.equals(that.hash);
+    }
+
+    @Override
+    public int hashCode() {
+        return 31 * fileName.hashCode() + hash.hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return "Attachment{" +
+                "\n     fileName='" + fileName + '\'' +
+                ",\n     hash='" + hash + '\'' +
+                "\n}";
+    }
 }
@@ -0,0 +1,143 @@
+/*
+ * This file is part of Bisq.
+ *
+ * Bisq is free software: you can redistribute it and/or modify it
+ * under the terms of the GNU Affero General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or (at
+ * your option) any later version.
+ *
+ * Bisq is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE. See the GNU Affero General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with Bisq. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package bisq.core.arbitration;
+
+import bisq.common.crypto.Hash;
+import bisq.common.storage.Storage;
+
+import org.bitcoinj.core.Utils;
+
+import com.google.inject.Inject;
+
+import javax.inject.Named;
+
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+
+import java.util.Optional;
+import java.util.Set;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Content addressed store for the bytes of dispute attachments. Each blob is written once to a file named by the
+ * hex encoded sha256 hash of its content, so the DisputeList only needs to persist the hash and re-saving the
+ * list does not rewrite the attachment data.
+ */
+@Slf4j
+public class AttachmentStore {
+    private static final String DIR_NAME = "attachments";
+
+    private final File storeDir;
+
+    @Inject
+    public AttachmentStore(@Named(Storage.STORAGE_DIR) File storageDir) {
+        this.storeDir = new File(storageDir, DIR_NAME);
+    }
+
+
+    ///////////////////////////////////////////////////////////////////////////////////////////
+    // API
+    ///////////////////////////////////////////////////////////////////////////////////////////
+
+    /**
+     * Writes the bytes to the store if not already present.
+     *
+     * @return the hex encoded sha256 hash of the bytes, used as key for reading them back
+     */
+    public String put(byte[] bytes) {
+        String hash = getHash(bytes);
+        File file = getFile(hash);
+        if (!file.exists()) {
+            try {
+                if (!storeDir.exists() && !storeDir.mkdirs())
+                    throw new IOException("Could not create directory " + storeDir);
+
+                // We write to a temp file first so a partially written blob never shows up under its hash
+                File tempFile = File.createTempFile(hash, ".tmp", storeDir);
+                Files.write(tempFile.toPath(), bytes);
+                Files.move(tempFile.toPath(), file.toPath(), StandardCopyOption.REPLACE_EXISTING,
+                        StandardCopyOption.ATOMIC_MOVE);
+                log.debug("Stored attachment with hash {} and size {}", hash, bytes.length);
+            } catch (IOException e) {
+                log.error("Could not store attachment. " + e.toString());
+                throw new UncheckedIOException(e);
+            }
+        }
+        return hash;
+    }
+
+    /**
+     * @return the bytes, or an empty Optional if they are missing, cannot be read or do not match the hash
+     */
+    public Optional<byte[]> get(String hash) {
+        try {
+            byte[] bytes = Files.readAllBytes(getFile(hash).toPath());
+            if (!hash.equals(getHash(bytes))) {
+                log.error("Content of attachment does not match hash {}", hash);
+                return Optional.empty();
+            }
+            return Optional.of(bytes);
+        } catch (IOException e) {
+            log.error("Could not read attachment with hash {}. {}", hash, e.toString());
+            return Optional.empty();
+        }
+    }
+
+    public boolean contains(String hash) {
+        return getFile(hash).exists();
+    }
+
+    /**
+     * Deletes all blobs which are not in referencedHashes, as well as temp files left by an interrupted write.
+     */
+    public void removeUnreferenced(Set<String> referencedHashes) {
+        File[] files = storeDir.listFiles();
+        if (files == null)
+            return;
+
+        int numRemoved = 0;
+        for (File file : files) {
+            if (!referencedHashes.contains(file.getName())) {
+                if (file.delete())
+                    numRemoved++;
+                else
+                    log.warn("Could not delete unreferenced attachment {}", file);
+            }
+        }
+        if (numRemoved > 0)
+            log.info("Removed {} unreferenced attachments", numRemoved);
+    }
+
+    public static String getHash(byte[] bytes) {
+        return Utils.HEX.encode(Hash.getSha256Hash(bytes));
+    }
+
+
+    ///////////////////////////////////////////////////////////////////////////////////////////
+    // Private
+    ///////////////////////////////////////////////////////////////////////////////////////////
+
+    private File getFile(String hash) {
+        return new File(storeDir, hash);
+    }
+}
@@ -42,7 +42,9 @@ import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
 
 import java.util.Date;
+import java.util.List;
 import java.util.Optional;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 import lombok.EqualsAndHashCode;
@@ -180,6 +182,22 @@ public final class Dispute implements NetworkPayload {
 
     @Override
     public PB.Dispute toProtoMessage() {
+        return getDisputeBuilder(disputeCommunicationMessages.stream()
+                .map(msg -> msg.toProtoNetworkEnvelope().getDisputeCommunicationMessage())
+                .collect(Collectors.toList()))
+                .build();
+    }
+
+    // Used when persisted as part of the DisputeList. Attachments held in the attachmentStore are only referenced by
+    // their hash.
+    public PB.Dispute toPersistableProtoMessage() {
+        return getDisputeBuilder(disputeCommunicationMessages.stream()
+                .map(DisputeCommunicationMessage::toPersistableProtoMessage)
+                .collect(Collectors.toList()))
+                .build();
+    }
+
+    private PB.Dispute.Builder getDisputeBuilder(List<PB.DisputeCommunicationMessage> disputeCommunicationMessagesProto) {
         PB.Dispute.Builder builder = PB.Dispute.newBuilder()
                 .setTradeId(tradeId)
                 .setTraderId(traderId)
@@ -191,9 +209,7 @@ public final class Dispute implements NetworkPayload {
                 .setContractAsJson(contractAsJson)
                 .setArbitratorPubKeyRing(arbitratorPubKeyRing.toProtoMessage())
                 .setIsSupportTicket(isSupportTicket)
-                .addAllDisputeCommunicationMessages(disputeCommunicationMessages.stream()
-                        .map(msg -> msg.toProtoNetworkEnvelope().getDisputeCommunicationMessage())
-                        .collect(Collectors.toList()))
+                .addAllDisputeCommunicationMessages(disputeCommunicationMessagesProto)
                 .setIsClosed(isClosedProperty.get())
                 .setOpeningDate(openingDate)
                 .setId(id);
@@ -207,10 +223,24 @@ public final class Dispute implements NetworkPayload {
         Optional.ofNullable(makerContractSignature).ifPresent(builder::setMakerContractSignature);
         Optional.ofNullable(takerContractSignature).ifPresent(builder::setTakerContractSignature);
         Optional.ofNullable(disputeResultProperty.get()).ifPresent(result -> builder.setDisputeResult(disputeResultProperty.get().toProtoMessage()));
-        return builder.build();
+        return builder;
     }
 
     public static Dispute fromProto(PB.Dispute proto, CoreProtoResolver coreProtoResolver) {
+        return fromProto(proto, coreProtoResolver, DisputeCommunicationMessage::fromPayloadProto);
+    }
+
+    // Used for the persisted DisputeList, where attachments might only reference their content in the attachmentStore
+    public static Dispute fromPersistableProto(PB.Dispute proto,
+                                               CoreProtoResolver coreProtoResolver,
+                                               AttachmentStore attachmentStore) {
+        return fromProto(proto, coreProtoResolver,
+                messageProto -> DisputeCommunicationMessage.fromPersistableProto(messageProto, attachmentStore));
+    }
+
+    private static Dispute fromProto(PB.Dispute proto,
+                                     CoreProtoResolver coreProtoResolver,
+                                     Function<PB.DisputeCommunicationMessage, DisputeCommunicationMessage> messageResolver) {
         final Dispute dispute = new Dispute(proto.getTradeId(),
                 proto.getTraderId(),
                 proto.getDisputeOpenerIsBuyer(),
@@ -230,7 +260,7 @@ public final class Dispute implements NetworkPayload {
                 proto.getIsSupportTicket());
 
         dispute.disputeCommunicationMessages.addAll(proto.getDisputeCommunicationMessagesList().stream()
-                .map(DisputeCommunicationMessage::fromPayloadProto)
+                .map(messageResolver)
                 .collect(Collectors.toList()));
 
         dispute.openingDate = proto.getOpeningDate();
@@ -19,7 +19,6 @@ package bisq.core.arbitration;
 
 import bisq.core.proto.CoreProtoResolver;
 
-import bisq.common.proto.ProtoUtil;
 import bisq.common.proto.persistable.PersistableEnvelope;
 import bisq.common.proto.persistable.PersistedDataHost;
 import bisq.common.storage.Storage;
@@ -29,13 +28,21 @@ import io.bisq.generated.protobuffer.PB;
 import com.google.protobuf.Message;
 
 import javafx.collections.FXCollections;
+import javafx.collections.ListChangeListener;
 import javafx.collections.ObservableList;
 
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
 import lombok.Getter;
+import lombok.Setter;
 import lombok.ToString;
 import lombok.extern.slf4j.Slf4j;
 
@@ -51,18 +58,29 @@ import javax.annotation.Nullable;
  */
 public final class DisputeList implements PersistableEnvelope, PersistedDataHost {
     transient private final Storage<DisputeList> storage;
+    @Nullable
+    @Setter
+    transient private AttachmentStore attachmentStore;
     @Getter
     private final ObservableList<Dispute> list = FXCollections.observableArrayList();
+    // Index by tradeId. A trade has at most one dispute per trader so the value lists are tiny.
+    transient private final Map<String, List<Dispute>> disputesByTradeId = new HashMap<>();
 
     public DisputeList(Storage<DisputeList> storage) {
         this.storage = storage;
+        list.addListener((ListChangeListener<Dispute>) this::onListChanged);
     }
 
     @Override
     public void readPersisted() {
         DisputeList persisted = storage.initAndGetPersisted(this, 50);
-        if (persisted != null)
+        if (persisted != null) {
             list.addAll(persisted.getList());
+            // Blobs of removed disputes or of messages which did not get persisted are not referenced anymore. If
+            // the list could not be read we keep all blobs, so a backup of the list does not lose its attachments.
+            if (attachmentStore != null)
+                attachmentStore.removeUnreferenced(getStoredAttachmentHashes());
+        }
     }
 
     ///////////////////////////////////////////////////////////////////////////////////////////
@@ -71,23 +89,28 @@ public final class DisputeList implements PersistableEnvelope, PersistedDataHost
 
     private DisputeList(Storage<DisputeList> storage, List<Dispute> list) {
         this.storage = storage;
+        this.list.addListener((ListChangeListener<Dispute>) this::onListChanged);
         this.list.addAll(list);
     }
 
     @Override
     public Message toProtoMessage() {
+        // Attachments held in the attachmentStore are only referenced so we don't rewrite them with each change of the list
         return PB.PersistableEnvelope.newBuilder().setDisputeList(PB.DisputeList.newBuilder()
-                .addAllDispute(ProtoUtil.collectionToProto(list))).build();
+                .addAllDispute(list.stream()
+                        .map(Dispute::toPersistableProtoMessage)
+                        .collect(Collectors.toList()))).build();
     }
 
     @Nullable
     public static DisputeList fromProto(PB.DisputeList proto,
                                         CoreProtoResolver coreProtoResolver,
-                                        Storage<DisputeList> storage) {
+                                        Storage<DisputeList> storage,
+                                        AttachmentStore attachmentStore) {
         log.debug("DisputeList fromProto of {} ", proto);
 
         List<Dispute> list = proto.getDisputeList().stream()
-                .map(disputeProto -> Dispute.fromProto(disputeProto, coreProtoResolver))
+                .map(disputeProto -> Dispute.fromPersistableProto(disputeProto, coreProtoResolver, attachmentStore))
                 .collect(Collectors.toList());
         list.stream().forEach(e -> e.setStorage(storage));
         return new DisputeList(storage, list);
@@ -133,4 +156,47 @@ public final class DisputeList implements PersistableEnvelope, PersistedDataHost
     public Stream<Dispute> stream() {
         return list.stream();
     }
+
+    public Optional<Dispute> findDispute(String tradeId, int traderId) {
+        return getDisputesByTradeId(tradeId).stream()
+                .filter(e -> e.getTraderId() == traderId)
+                .findAny();
+    }
+
+    public List<Dispute> getDisputesByTradeId(String tradeId) {
+        return disputesByTradeId.getOrDefault(tradeId, Collections.emptyList());
+    }
+
+
+    ///////////////////////////////////////////////////////////////////////////////////////////
+    // Private
+    ///////////////////////////////////////////////////////////////////////////////////////////
+
+    private Set<String> getStoredAttachmentHashes() {
+        return list.stream()
+                .flatMap(dispute -> dispute.getDisputeCommunicationMessages().stream())
+                .flatMap(message -> message.getAttachments().stream())
+                .filter(Attachment::isInStore)
+                .map(Attachment::getHash)
+                .collect(Collectors.toSet());
+    }
+
+    private void onListChanged(ListChangeListener.Change<? extends Dispute> change) {
+        while (change.next()) {
+            change.getRemoved().forEach(dispute -> {
+                List<Dispute> disputes = disputesByTradeId.get(dispute.getTradeId());
+                if (disputes != null) {
+                    disputes.remove(dispute);
+                    if (disputes.isEmpty())
+                        disputesByTradeId.remove(dispute.getTradeId());
+                }
+            });
+            change.getAddedSubList().forEach(dispute -> {
+                disputesByTradeId.computeIfAbsent(dispute.getTradeId(), k -> new ArrayList<>()).add(dispute);
+                // Disputes we got from the network or persisted by an older version carry their attachments inline
+                if (attachmentStore != null)
+                    dispute.getDisputeCommunicationMessages().forEach(message -> message.moveAttachmentsToStore(attachmentStore));
+            });
+        }
+    }
 }
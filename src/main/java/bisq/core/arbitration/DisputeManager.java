@@ -98,6 +98,7 @@ public class DisputeManager implements PersistedDataHost {
     private final P2PService p2PService;
     private final KeyRing keyRing;
     private final Storage<DisputeList> disputeStorage;
+    private final AttachmentStore attachmentStore;
     private DisputeList disputes;
     private final String disputeInfo;
     private final CopyOnWriteArraySet<DecryptedMessageWithPubKey> decryptedMailboxMessageWithPubKeys = new CopyOnWriteArraySet<>();
@@ -120,6 +121,7 @@ public class DisputeManager implements PersistedDataHost {
                           ClosedTradableManager closedTradableManager,
                           OpenOfferManager openOfferManager,
                           KeyRing keyRing,
+                          AttachmentStore attachmentStore,
                           PersistenceProtoResolver persistenceProtoResolver,
                           @Named(Storage.STORAGE_DIR) File storageDir) {
         this.p2PService = p2PService;
@@ -130,6 +132,7 @@ public class DisputeManager implements PersistedDataHost {
         this.closedTradableManager = closedTradableManager;
         this.openOfferManager = openOfferManager;
         this.keyRing = keyRing;
+        this.attachmentStore = attachmentStore;
 
         disputeStorage = new Storage<>(storageDir, persistenceProtoResolver);
 
@@ -157,6 +160,7 @@ public class DisputeManager implements PersistedDataHost {
     @Override
     public void readPersisted() {
         disputes = new DisputeList(disputeStorage);
+        disputes.setAttachmentStore(attachmentStore);
         disputes.readPersisted();
         disputes.stream().forEach(dispute -> dispute.setStorage(getDisputeStorage()));
     }
@@ -276,7 +280,7 @@ public class DisputeManager implements PersistedDataHost {
                         UUID.randomUUID().toString()
                 );
                 disputeCommunicationMessage.setSystemMessage(true);
-                dispute.addDisputeMessage(disputeCommunicationMessage);
+                addDisputeMessage(dispute, disputeCommunicationMessage);
                 if (!reOpen) {
                     disputes.add(dispute);
                 }
@@ -362,7 +366,7 @@ public class DisputeManager implements PersistedDataHost {
                     UUID.randomUUID().toString()
             );
             disputeCommunicationMessage.setSystemMessage(true);
-            dispute.addDisputeMessage(disputeCommunicationMessage);
+            addDisputeMessage(dispute, disputeCommunicationMessage);
             disputes.add(dispute);
 
             // we mirrored dispute already!
@@ -419,12 +423,12 @@ public class DisputeManager implements PersistedDataHost {
         PubKeyRing receiverPubKeyRing = null;
         NodeAddress peerNodeAddress = null;
         if (isTrader(dispute)) {
-            dispute.addDisputeMessage(disputeCommunicationMessage);
+            addDisputeMessage(dispute, disputeCommunicationMessage);
             receiverPubKeyRing = dispute.getArbitratorPubKeyRing();
             peerNodeAddress = dispute.getContract().getArbitratorNodeAddress();
         } else if (isArbitrator(dispute)) {
             if (!disputeCommunicationMessage.isSystemMessage())
-                dispute.addDisputeMessage(disputeCommunicationMessage);
+                addDisputeMessage(dispute, disputeCommunicationMessage);
             receiverPubKeyRing = dispute.getTraderPubKeyRing();
             Contract contract = dispute.getContract();
             if (contract.getBuyerPubKeyRing().equals(receiverPubKeyRing))
@@ -478,7 +482,7 @@ public class DisputeManager implements PersistedDataHost {
                 UUID.randomUUID().toString()
         );
 
-        dispute.addDisputeMessage(disputeCommunicationMessage);
+        addDisputeMessage(dispute, disputeCommunicationMessage);
         disputeResult.setDisputeCommunicationMessage(disputeCommunicationMessage);
 
         NodeAddress peerNodeAddress;
@@ -605,7 +609,7 @@ public class DisputeManager implements PersistedDataHost {
 
             Dispute dispute = disputeOptional.get();
             if (!dispute.getDisputeCommunicationMessages().contains(disputeCommunicationMessage))
-                dispute.addDisputeMessage(disputeCommunicationMessage);
+                addDisputeMessage(dispute, disputeCommunicationMessage);
             else
                 log.warn("We got a disputeCommunicationMessage what we have already stored. TradeId = " + tradeId);
         } else {
@@ -633,7 +637,7 @@ public class DisputeManager implements PersistedDataHost {
 
                 DisputeCommunicationMessage disputeCommunicationMessage = disputeResult.getDisputeCommunicationMessage();
                 if (!dispute.getDisputeCommunicationMessages().contains(disputeCommunicationMessage))
-                    dispute.addDisputeMessage(disputeCommunicationMessage);
+                    addDisputeMessage(dispute, disputeCommunicationMessage);
                 else
                     log.warn("We got a dispute mail msg what we have already stored. TradeId = " + disputeCommunicationMessage.getTradeId());
 
@@ -837,7 +841,7 @@ public class DisputeManager implements PersistedDataHost {
     ///////////////////////////////////////////////////////////////////////////////////////////
 
     private Optional<Dispute> findDispute(String tradeId, int traderId) {
-        return disputes.stream().filter(e -> e.getTradeId().equals(tradeId) && e.getTraderId() == traderId).findAny();
+        return disputes.findDispute(tradeId, traderId);
     }
 
     public Optional<Dispute> findOwnDispute(String tradeId) {
@@ -845,7 +849,7 @@ public class DisputeManager implements PersistedDataHost {
     }
 
     private Stream<Dispute> getDisputeStream(String tradeId) {
-        return disputes.stream().filter(e -> e.getTradeId().equals(tradeId));
+        return disputes.getDisputesByTradeId(tradeId).stream();
     }
 
     private void cleanupRetryMap(String uid) {
@@ -856,4 +860,11 @@ public class DisputeManager implements PersistedDataHost {
         }
     }
 
+    // The attachments are moved to the store before the message gets persisted, so saving the DisputeList does not
+    // rewrite their content
+    private void addDisputeMessage(Dispute dispute, DisputeCommunicationMessage disputeCommunicationMessage) {
+        disputeCommunicationMessage.moveAttachmentsToStore(attachmentStore);
+        dispute.addDisputeMessage(disputeCommunicationMessage);
+    }
+
 }
@@ -18,6 +18,7 @@
 package bisq.core.arbitration.messages;
 
 import bisq.core.arbitration.Attachment;
+import bisq.core.arbitration.AttachmentStore;
 
 import bisq.network.p2p.NodeAddress;
 
@@ -32,6 +33,7 @@ import javafx.beans.property.SimpleBooleanProperty;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 import lombok.EqualsAndHashCode;
@@ -112,22 +114,35 @@ public final class DisputeCommunicationMessage extends DisputeMessage {
     @Override
     public PB.NetworkEnvelope toProtoNetworkEnvelope() {
         return getNetworkEnvelopeBuilder()
-                .setDisputeCommunicationMessage(PB.DisputeCommunicationMessage.newBuilder()
-                        .setTradeId(tradeId)
-                        .setTraderId(traderId)
-                        .setSenderIsTrader(senderIsTrader)
-                        .setMessage(message)
-                        .addAllAttachments(attachments.stream().map(Attachment::toProtoMessage).collect(Collectors.toList()))
-                        .setSenderNodeAddress(senderNodeAddress.toProtoMessage())
-                        .setDate(date)
-                        .setArrived(arrivedProperty.get())
-                        .setStoredInMailbox(storedInMailboxProperty.get())
-                        .setIsSystemMessage(isSystemMessage)
-                        .setUid(uid)
-                )
+                .setDisputeCommunicationMessage(getDisputeCommunicationMessageBuilder(
+                        attachments.stream().map(Attachment::toProtoMessage).collect(Collectors.toList())))
                 .build();
     }
 
+    // Used when persisted as part of the DisputeList. Attachments held in the attachmentStore are only referenced by
+    // their hash.
+    public PB.DisputeCommunicationMessage toPersistableProtoMessage() {
+        return getDisputeCommunicationMessageBuilder(attachments.stream()
+                .map(Attachment::toPersistableProtoMessage)
+                .collect(Collectors.toList()))
+                .build();
+    }
+
+    private PB.DisputeCommunicationMessage.Builder getDisputeCommunicationMessageBuilder(List<PB.Attachment> attachmentsProto) {
+        return PB.DisputeCommunicationMessage.newBuilder()
+                .setTradeId(tradeId)
+                .setTraderId(traderId)
+                .setSenderIsTrader(senderIsTrader)
+                .setMessage(message)
+                .addAllAttachments(attachmentsProto)
+                .setSenderNodeAddress(senderNodeAddress.toProtoMessage())
+                .setDate(date)
+                .setArrived(arrivedProperty.get())
+                .setStoredInMailbox(storedInMailboxProperty.get())
+                .setIsSystemMessage(isSystemMessage)
+                .setUid(uid);
+    }
+
     public static DisputeCommunicationMessage fromProto(PB.DisputeCommunicationMessage proto, int messageVersion) {
         final DisputeCommunicationMessage disputeCommunicationMessage = new DisputeCommunicationMessage(
                 proto.getTradeId(),
@@ -146,6 +161,17 @@ public final class DisputeCommunicationMessage extends DisputeMessage {
     }
 
     public static DisputeCommunicationMessage fromPayloadProto(PB.DisputeCommunicationMessage proto) {
+        return fromPayloadProto(proto, Attachment::fromProto);
+    }
+
+    // Used for the persisted DisputeList, where attachments might only reference their content in the attachmentStore
+    public static DisputeCommunicationMessage fromPersistableProto(PB.DisputeCommunicationMessage proto,
+                                                                   AttachmentStore attachmentStore) {
+        return fromPayloadProto(proto, attachmentProto -> Attachment.fromPersistableProto(attachmentProto, attachmentStore));
+    }
+
+    private static DisputeCommunicationMessage fromPayloadProto(PB.DisputeCommunicationMessage proto,
+                                                                Function<PB.Attachment, Attachment> attachmentResolver) {
         // We have the case that an envelope got wrapped into a payload.
         // We don't check the message version here as it was checked in the carrier envelope already (in connection class)
         // Payloads dont have a message version and are also used for persistence
@@ -155,7 +181,7 @@ public final class DisputeCommunicationMessage extends DisputeMessage {
                 proto.getTraderId(),
                 proto.getSenderIsTrader(),
                 proto.getMessage(),
-                new ArrayList<>(proto.getAttachmentsList().stream().map(Attachment::fromProto).collect(Collectors.toList())),
+                new ArrayList<>(proto.getAttachmentsList().stream().map(attachmentResolver).collect(Collectors.toList())),
                 NodeAddress.fromProto(proto.getSenderNodeAddress()),
                 proto.getDate(),
                 proto.getArrived(),
@@ -175,6 +201,12 @@ public final class DisputeCommunicationMessage extends DisputeMessage {
         this.attachments.addAll(attachments);
     }
 
+    // Replaces the attachments by ones which keep their content in the store. Called before the message gets
+    // persisted with its dispute.
+    public void moveAttachmentsToStore(AttachmentStore attachmentStore) {
+        attachments.replaceAll(attachment -> attachment.toStoredAttachment(attachmentStore));
+    }
+
     public void setArrived(@SuppressWarnings("SameParameterValue") boolean arrived) {
         this.arrivedProperty.set(arrived);
     }
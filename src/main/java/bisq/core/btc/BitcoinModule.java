@@ -18,11 +18,13 @@
 package bisq.core.btc;
 
 import bisq.core.app.AppOptionKeys;
+import bisq.core.btc.wallet.Broadcaster;
 import bisq.core.btc.wallet.BsqCoinSelector;
 import bisq.core.btc.wallet.BsqWalletService;
 import bisq.core.btc.wallet.BtcWalletService;
 import bisq.core.btc.wallet.TradeWalletService;
 import bisq.core.btc.wallet.WalletsSetup;
+import bisq.core.crypto.SignatureVerificationService;
 import bisq.core.provider.ProvidersRepository;
 import bisq.core.provider.fee.FeeProvider;
 import bisq.core.provider.fee.FeeService;
@@ -71,6 +73,8 @@ public class BitcoinModule extends AppModule {
         bind(BtcWalletService.class).in(Singleton.class);
         bind(BsqWalletService.class).in(Singleton.class);
         bind(TradeWalletService.class).in(Singleton.class);
+        bind(SignatureVerificationService.class).in(Singleton.class);
+        bind(Broadcaster.class).in(Singleton.class);
         bind(BsqCoinSelector.class).in(Singleton.class);
         bind(BitcoinNodes.class).in(Singleton.class);
 
@@ -31,8 +31,6 @@ import com.google.common.util.concurrent.ListenableFuture;
 import com.google.common.util.concurrent.ListeningExecutorService;
 import com.google.common.util.concurrent.SettableFuture;
 
-import java.io.IOException;
-
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -41,6 +39,8 @@ import org.jetbrains.annotations.NotNull;
 class GetTransactionRequest {
     private static final Logger log = LoggerFactory.getLogger(GetTransactionRequest.class);
     private static final ListeningExecutorService executorService = Utilities.getListeningExecutorService("GetFeeRequest", 3, 5, 10 * 60);
+    // Shared by all requests so repeated or concurrent requests for the same tx don't hit the provider again
+    private static final TxFeeLookupCache feeLookupCache = new TxFeeLookupCache(executorService);
     private Timer timer;
     private int faults;
 
@@ -53,18 +53,7 @@ class GetTransactionRequest {
     }
 
     private SettableFuture<Coin> request(String transactionId, BlockchainTxProvider provider, SettableFuture<Coin> resultFuture) {
-        ListenableFuture<Coin> future = executorService.submit(() -> {
-            Thread.currentThread().setName("requestFee-" + provider.toString());
-            try {
-                return provider.getFee(transactionId);
-            } catch (IOException e) {
-                log.debug("Fee request failed for tx {} from provider {}\n" +
-                                "That is expected if the tx was not propagated yet to the provider.\n" +
-                                "error={}",
-                        transactionId, provider, e.getMessage());
-                throw e;
-            }
-        });
+        ListenableFuture<Coin> future = feeLookupCache.getFee(transactionId, provider);
 
         Futures.addCallback(future, new FutureCallback<Coin>() {
             public void onSuccess(Coin fee) {
@@ -73,6 +62,10 @@ class GetTransactionRequest {
             }
 
             public void onFailure(@NotNull Throwable throwable) {
+                log.debug("Fee request failed for tx {} from provider {}\n" +
+                                "That is expected if the tx was not propagated yet to the provider.\n" +
+                                "error={}",
+                        transactionId, provider, throwable.getMessage());
                 if (timer == null) {
                     timer = UserThread.runAfter(() -> {
                         stopTimer();
@@ -0,0 +1,145 @@
+/*
+ * This file is part of Bisq.
+ *
+ * Bisq is free software: you can redistribute it and/or modify it
+ * under the terms of the GNU Affero General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or (at
+ * your option) any later version.
+ *
+ * Bisq is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE. See the GNU Affero General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with Bisq. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package bisq.core.btc.blockchain;
+
+import bisq.core.btc.blockchain.providers.BlockchainTxProvider;
+
+import org.bitcoinj.core.Coin;
+
+import com.google.common.annotations.VisibleForTesting;
+import com.google.common.util.concurrent.FutureCallback;
+import com.google.common.util.concurrent.Futures;
+import com.google.common.util.concurrent.ListenableFuture;
+import com.google.common.util.concurrent.ListeningExecutorService;
+import com.google.common.util.concurrent.SettableFuture;
+
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.LongSupplier;
+
+import lombok.Value;
+import lombok.extern.slf4j.Slf4j;
+
+import org.jetbrains.annotations.NotNull;
+
+import javax.annotation.Nullable;
+
+/**
+ * Shared cache for the fee lookups at the blockchain providers. A fee we received is kept for TTL_MS. Concurrent
+ * requests for the same tx at the same provider share one in-flight lookup. Failed lookups are not cached so a
+ * retry asks the provider again.
+ */
+@Slf4j
+public class TxFeeLookupCache {
+    @VisibleForTesting
+    static final long TTL_MS = 10 * 60 * 1000;
+    private static final int MAX_CACHED_FEES = 1000;
+
+    private final ListeningExecutorService executorService;
+    private final LongSupplier clock;
+    private final Map<LookupKey, SettableFuture<Coin>> inFlightLookups = new HashMap<>();
+    private final Map<LookupKey, CachedFee> cachedFees = new LinkedHashMap<LookupKey, CachedFee>(16, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<LookupKey, CachedFee> eldest) {
+            return size() > MAX_CACHED_FEES;
+        }
+    };
+
+
+    ///////////////////////////////////////////////////////////////////////////////////////////
+    // Constructor
+    ///////////////////////////////////////////////////////////////////////////////////////////
+
+    public TxFeeLookupCache(ListeningExecutorService executorService) {
+        this(executorService, System::currentTimeMillis);
+    }
+
+    @VisibleForTesting
+    TxFeeLookupCache(ListeningExecutorService executorService, LongSupplier clock) {
+        this.executorService = executorService;
+        this.clock = clock;
+    }
+
+
+    ///////////////////////////////////////////////////////////////////////////////////////////
+    // API
+    ///////////////////////////////////////////////////////////////////////////////////////////
+
+    // The returned future is shared with other callers, so cancelling it does not cancel the lookup
+    public synchronized ListenableFuture<Coin> getFee(String transactionId, BlockchainTxProvider provider) {
+        final LookupKey key = new LookupKey(provider.getClass().getName(), transactionId);
+        final CachedFee cachedFee = cachedFees.get(key);
+        if (cachedFee != null) {
+            if (clock.getAsLong() - cachedFee.getTime() < TTL_MS)
+                return Futures.immediateFuture(cachedFee.getFee());
+
+            cachedFees.remove(key);
+        }
+
+        SettableFuture<Coin> result = inFlightLookups.get(key);
+        if (result == null) {
+            result = SettableFuture.create();
+            inFlightLookups.put(key, result);
+            final ListenableFuture<Coin> lookup = executorService.submit(() -> {
+                Thread.currentThread().setName("requestFee-" + provider.toString());
+                return provider.getFee(transactionId);
+            });
+            final SettableFuture<Coin> finalResult = result;
+            // We update the cache before we complete the result, so a caller who got the result sees the cache
+            // updated and does not get the completed in-flight lookup again.
+            Futures.addCallback(lookup, new FutureCallback<Coin>() {
+                public void onSuccess(Coin fee) {
+                    onLookupCompleted(key, fee);
+                    finalResult.set(fee);
+                }
+
+                public void onFailure(@NotNull Throwable throwable) {
+                    onLookupCompleted(key, null);
+                    finalResult.setException(throwable);
+                }
+            });
+        } else {
+            log.debug("Lookup for tx {} at provider {} is in flight already. We wait for its result.", transactionId, provider);
+        }
+        return Futures.nonCancellationPropagating(result);
+    }
+
+
+    ///////////////////////////////////////////////////////////////////////////////////////////
+    // Private
+    ///////////////////////////////////////////////////////////////////////////////////////////
+
+    private synchronized void onLookupCompleted(LookupKey key, @Nullable Coin fee) {
+        inFlightLookups.remove(key);
+        if (fee != null)
+            cachedFees.put(key, new CachedFee(fee, clock.getAsLong()));
+    }
+
+    @Value
+    private static class LookupKey {
+        private final String providerName;
+        private final String transactionId;
+    }
+
+    @Value
+    private static class CachedFee {
+        private final Coin fee;
+        private final long time;
+    }
+}
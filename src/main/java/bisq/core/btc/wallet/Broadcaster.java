@@ -21,14 +21,26 @@ import bisq.common.Timer;
 import bisq.common.UserThread;
 
 import org.bitcoinj.core.PeerGroup;
+import org.bitcoinj.core.Sha256Hash;
 import org.bitcoinj.core.Transaction;
 import org.bitcoinj.wallet.Wallet;
 
+import javax.inject.Inject;
+
 import com.google.common.util.concurrent.FutureCallback;
 import com.google.common.util.concurrent.Futures;
+import com.google.common.util.concurrent.ListenableFuture;
 
-import java.util.HashSet;
-import java.util.Set;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongSupplier;
 
 import lombok.extern.slf4j.Slf4j;
 
@@ -36,69 +48,262 @@ import org.jetbrains.annotations.NotNull;
 
 import javax.annotation.Nullable;
 
+/**
+ * Broadcasts txs to the bitcoin network and calls the callback once the broadcast is completed or timed out.
+ * <p>
+ * Broadcasts of a tx which is already pending are coalesced: the tx is published only once and all callbacks get
+ * called with its result. At most MAX_IN_FLIGHT broadcasts are published at the same time, further ones wait until
+ * a slot gets free.
+ * <p>
+ * The timeouts of all broadcasts are kept in one timeout wheel which is driven by a single UserThread timer while
+ * broadcasts are in flight. If the timeout is reached we optimistically assume that the broadcast succeeded.
+ * Results of the publisher are handled and callbacks are called on the UserThread. Broadcasts are expected to be
+ * requested from the UserThread as well.
+ */
 @Slf4j
 public class Broadcaster {
     private static final int DEFAULT_BROADCAST_TIMEOUT = 8;
-    private static Set<String> broadcastTimerSet = new HashSet<>();
+    private static final int MAX_IN_FLIGHT = 50;
+    private static final long TICK_MILLIS = 250;
+    // Timeouts longer than NUM_WHEEL_SLOTS * TICK_MILLIS stay for more than one round in the wheel
+    private static final int NUM_WHEEL_SLOTS = 64;
+
+    // Publishes the tx to the network. PeerGroup in production.
+    interface Publisher {
+        ListenableFuture<Transaction> publish(Transaction tx);
+    }
+
+    private static class PendingBroadcast {
+        private final Sha256Hash txId;
+        private final Transaction tx;
+        private final Wallet wallet;
+        private final Publisher publisher;
+        private final int timeoutInSec;
+        private final List<FutureCallback<Transaction>> callbacks = new ArrayList<>();
+        private long deadlineTick;
+        private boolean timedOut;
+
+        private PendingBroadcast(Transaction tx, Wallet wallet, Publisher publisher, int timeoutInSec) {
+            this.txId = tx.getHash();
+            this.tx = tx;
+            this.wallet = wallet;
+            this.publisher = publisher;
+            this.timeoutInSec = timeoutInSec;
+        }
+    }
+
+    // UserThread::execute in production
+    private final Executor userThreadExecutor;
+    private final LongSupplier clock;
+    // Only false in tests where onTick is called directly
+    private final boolean useTimer;
+
+    // Waiting and in flight broadcasts
+    private final Map<Sha256Hash, PendingBroadcast> pendingBroadcastByTxId = new HashMap<>();
+    private final Deque<PendingBroadcast> waitingBroadcasts = new ArrayDeque<>();
+    private final List<List<PendingBroadcast>> timeoutWheel = new ArrayList<>(NUM_WHEEL_SLOTS);
+    private int numInFlight;
+    private long lastTick;
+    @Nullable
+    private Timer tickTimer;
+
+
+    ///////////////////////////////////////////////////////////////////////////////////////////
+    // Constructor
+    ///////////////////////////////////////////////////////////////////////////////////////////
+
+    @Inject
+    public Broadcaster() {
+        this(UserThread::execute, System::currentTimeMillis, true);
+    }
+
+    Broadcaster(Executor userThreadExecutor, LongSupplier clock, boolean useTimer) {
+        this.userThreadExecutor = userThreadExecutor;
+        this.clock = clock;
+        this.useTimer = useTimer;
 
-    public static void broadcastTx(Wallet wallet, PeerGroup peerGroup, Transaction tx, FutureCallback<Transaction> callback) {
+        for (int i = 0; i < NUM_WHEEL_SLOTS; i++)
+            timeoutWheel.add(new ArrayList<>());
+        lastTick = getCurrentTick();
+    }
+
+
+    ///////////////////////////////////////////////////////////////////////////////////////////
+    // API
+    ///////////////////////////////////////////////////////////////////////////////////////////
+
+    public void broadcastTx(Wallet wallet, PeerGroup peerGroup, Transaction tx, FutureCallback<Transaction> callback) {
         broadcastTx(wallet, peerGroup, tx, callback, DEFAULT_BROADCAST_TIMEOUT);
     }
 
-    public static void broadcastTx(Wallet wallet, PeerGroup peerGroup, Transaction tx, FutureCallback<Transaction> callback, int timeoutInSec) {
-        final Timer timeoutTimer;
-        if (!broadcastTimerSet.contains(tx.getHashAsString())) {
-            timeoutTimer = UserThread.runAfter(() -> {
-                log.warn("Broadcast of tx {} not completed after {} sec. We optimistically assume that the tx broadcast succeeded and " +
-                        "call onSuccess on the callback handler.", tx.getHashAsString(), timeoutInSec);
+    public void broadcastTx(Wallet wallet, PeerGroup peerGroup, Transaction tx, FutureCallback<Transaction> callback, int timeoutInSec) {
+        broadcastTx(wallet, transaction -> peerGroup.broadcastTransaction(transaction).future(), tx, callback, timeoutInSec);
+    }
 
-                wallet.maybeCommitTx(tx);
+    void broadcastTx(Wallet wallet, Publisher publisher, Transaction tx, FutureCallback<Transaction> callback, int timeoutInSec) {
+        List<PendingBroadcast> broadcastsToPublish;
+        synchronized (this) {
+            PendingBroadcast pendingBroadcast = pendingBroadcastByTxId.get(tx.getHash());
+            if (pendingBroadcast != null) {
+                log.info("Broadcast of tx {} is already pending. We add the callback to the pending broadcast.",
+                        pendingBroadcast.txId);
+                pendingBroadcast.callbacks.add(callback);
+                return;
+            }
 
-                callback.onSuccess(tx);
+            pendingBroadcast = new PendingBroadcast(tx, wallet, publisher, timeoutInSec);
+            pendingBroadcast.callbacks.add(callback);
+            pendingBroadcastByTxId.put(pendingBroadcast.txId, pendingBroadcast);
+            waitingBroadcasts.add(pendingBroadcast);
+            if (numInFlight >= MAX_IN_FLIGHT)
+                log.info("We have {} broadcasts in flight. Broadcast of tx {} has to wait.", numInFlight, pendingBroadcast.txId);
 
-                broadcastTimerSet.remove(tx.getHashAsString());
-            }, timeoutInSec);
-            broadcastTimerSet.add(tx.getHashAsString());
-        } else {
-            timeoutTimer = null;
+            broadcastsToPublish = pollWaitingBroadcasts();
+        }
+        broadcastsToPublish.forEach(this::publish);
+    }
+
+    public synchronized int getNumInFlight() {
+        return numInFlight;
+    }
+
+    public synchronized int getNumWaiting() {
+        return waitingBroadcasts.size();
+    }
+
+
+    ///////////////////////////////////////////////////////////////////////////////////////////
+    // Package scope
+    ///////////////////////////////////////////////////////////////////////////////////////////
+
+    // Processes all slots of the wheel since the last tick and times out the broadcasts which reached their deadline
+    void onTick() {
+        List<PendingBroadcast> timedOutBroadcasts = new ArrayList<>();
+        List<PendingBroadcast> broadcastsToPublish;
+        synchronized (this) {
+            long currentTick = getCurrentTick();
+            // If we missed more ticks than the wheel has slots we need to visit each slot only once
+            long fromTick = Math.max(lastTick + 1, currentTick - NUM_WHEEL_SLOTS + 1);
+            for (long tick = fromTick; tick <= currentTick; tick++) {
+                Iterator<PendingBroadcast> iterator = getSlot(tick).iterator();
+                while (iterator.hasNext()) {
+                    PendingBroadcast pendingBroadcast = iterator.next();
+                    if (pendingBroadcast.deadlineTick <= currentTick) {
+                        iterator.remove();
+                        pendingBroadcast.timedOut = true;
+                        pendingBroadcastByTxId.remove(pendingBroadcast.txId);
+                        numInFlight--;
+                        timedOutBroadcasts.add(pendingBroadcast);
+                    }
+                }
+            }
+            lastTick = currentTick;
+            broadcastsToPublish = pollWaitingBroadcasts();
+            maybeStopTickTimer();
         }
+        broadcastsToPublish.forEach(this::publish);
+
+        timedOutBroadcasts.forEach(pendingBroadcast -> userThreadExecutor.execute(() -> {
+            log.warn("Broadcast of tx {} not completed after {} sec. We optimistically assume that the tx broadcast succeeded and " +
+                    "call onSuccess on the callback handler.", pendingBroadcast.txId, pendingBroadcast.timeoutInSec);
+
+            pendingBroadcast.wallet.maybeCommitTx(pendingBroadcast.tx);
+
+            pendingBroadcast.callbacks.forEach(callback -> callback.onSuccess(pendingBroadcast.tx));
+        }));
+    }
+
 
-        Futures.addCallback(peerGroup.broadcastTransaction(tx).future(), new FutureCallback<Transaction>() {
+    ///////////////////////////////////////////////////////////////////////////////////////////
+    // Private
+    ///////////////////////////////////////////////////////////////////////////////////////////
+
+    private void publish(PendingBroadcast pendingBroadcast) {
+        ListenableFuture<Transaction> future;
+        try {
+            future = pendingBroadcast.publisher.publish(pendingBroadcast.tx);
+        } catch (Throwable t) {
+            userThreadExecutor.execute(() -> onBroadcastCompleted(pendingBroadcast, null, t));
+            return;
+        }
+
+        // The future completes on a bitcoinj thread. We handle the result on the UserThread as we start and stop the
+        // tick timer there. At regtest we get called immediately back but we want to make sure that the handler is
+        // not called before the caller is finished, which is also given by that.
+        Futures.addCallback(future, new FutureCallback<Transaction>() {
             @Override
             public void onSuccess(@Nullable Transaction result) {
-                // At regtest we get called immediately back but we want to make sure that the handler is not called
-                // before the caller is finished.
-                UserThread.execute(() -> {
-                    if (broadcastTimerSet.contains(tx.getHashAsString())) {
-                        // If the timeout has not been called we call the callback.onSuccess
-                        stopAndRemoveTimer(timeoutTimer, tx);
-
-                        if (result != null)
-                            wallet.maybeCommitTx(result);
-
-                        callback.onSuccess(tx);
-                    } else {
-                        // Timeout was triggered, nothing to do anymore.
-                        log.info("onSuccess for tx {} was already called from timeout handler. ", tx.getHashAsString());
-                    }
-                });
+                userThreadExecutor.execute(() -> onBroadcastCompleted(pendingBroadcast, result, null));
             }
 
             @Override
             public void onFailure(@NotNull Throwable t) {
-                UserThread.execute(() -> {
-                    stopAndRemoveTimer(timeoutTimer, tx);
-
-                    callback.onFailure(t);
-                });
+                userThreadExecutor.execute(() -> onBroadcastCompleted(pendingBroadcast, null, t));
             }
         });
     }
 
-    private static void stopAndRemoveTimer(@Nullable Timer timer, Transaction tx) {
-        if (timer != null)
-            timer.stop();
+    // Called on the UserThread
+    private void onBroadcastCompleted(PendingBroadcast pendingBroadcast, @Nullable Transaction result, @Nullable Throwable throwable) {
+        boolean timedOut;
+        List<PendingBroadcast> broadcastsToPublish;
+        synchronized (this) {
+            timedOut = pendingBroadcast.timedOut;
+            if (!timedOut) {
+                pendingBroadcastByTxId.remove(pendingBroadcast.txId);
+                getSlot(pendingBroadcast.deadlineTick).remove(pendingBroadcast);
+                numInFlight--;
+            }
+            broadcastsToPublish = pollWaitingBroadcasts();
+            maybeStopTickTimer();
+        }
+        broadcastsToPublish.forEach(this::publish);
+
+        if (throwable != null) {
+            pendingBroadcast.callbacks.forEach(callback -> callback.onFailure(throwable));
+        } else if (!timedOut) {
+            if (result != null)
+                pendingBroadcast.wallet.maybeCommitTx(result);
+
+            pendingBroadcast.callbacks.forEach(callback -> callback.onSuccess(pendingBroadcast.tx));
+        } else {
+            // Timeout was triggered, nothing to do anymore.
+            log.info("onSuccess for tx {} was already called from timeout handler. ", pendingBroadcast.txId);
+        }
+    }
+
+    // Moves waiting broadcasts in flight as long as we have free slots. Must be called while holding the lock.
+    private List<PendingBroadcast> pollWaitingBroadcasts() {
+        List<PendingBroadcast> broadcastsToPublish = new ArrayList<>();
+        while (numInFlight < MAX_IN_FLIGHT && !waitingBroadcasts.isEmpty()) {
+            PendingBroadcast pendingBroadcast = waitingBroadcasts.poll();
+            // We round up so a broadcast never times out before its timeout
+            long timeoutMillis = TimeUnit.SECONDS.toMillis(pendingBroadcast.timeoutInSec);
+            long deadlineTick = (clock.getAsLong() + timeoutMillis + TICK_MILLIS - 1) / TICK_MILLIS;
+            pendingBroadcast.deadlineTick = Math.max(deadlineTick, lastTick + 1);
+            getSlot(pendingBroadcast.deadlineTick).add(pendingBroadcast);
+            numInFlight++;
+            broadcastsToPublish.add(pendingBroadcast);
+        }
+
+        if (numInFlight > 0 && useTimer && tickTimer == null)
+            tickTimer = UserThread.runPeriodically(this::onTick, TICK_MILLIS, TimeUnit.MILLISECONDS);
+
+        return broadcastsToPublish;
+    }
+
+    private void maybeStopTickTimer() {
+        if (numInFlight == 0 && tickTimer != null) {
+            tickTimer.stop();
+            tickTimer = null;
+        }
+    }
+
+    private List<PendingBroadcast> getSlot(long tick) {
+        return timeoutWheel.get((int) (tick % NUM_WHEEL_SLOTS));
+    }
 
-        broadcastTimerSet.remove(tx.getHashAsString());
+    private long getCurrentTick() {
+        return clock.getAsLong() / TICK_MILLIS;
     }
 }
@@ -95,10 +95,12 @@ public class BsqWalletService extends WalletService implements BsqBlockChain.Lis
                             BsqCoinSelector bsqCoinSelector,
                             ReadableBsqBlockChain readableBsqBlockChain,
                             Preferences preferences,
-                            FeeService feeService) {
+                            FeeService feeService,
+                            Broadcaster broadcaster) {
         super(walletsSetup,
                 preferences,
-                feeService);
+                feeService,
+                broadcaster);
 
         this.bsqCoinSelector = bsqCoinSelector;
         this.readableBsqBlockChain = readableBsqBlockChain;
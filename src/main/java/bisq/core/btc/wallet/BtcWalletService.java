@@ -84,10 +84,12 @@ public class BtcWalletService extends WalletService {
     public BtcWalletService(WalletsSetup walletsSetup,
                             AddressEntryList addressEntryList,
                             Preferences preferences,
-                            FeeService feeService) {
+                            FeeService feeService,
+                            Broadcaster broadcaster) {
         super(walletsSetup,
                 preferences,
-                feeService);
+                feeService,
+                broadcaster);
 
         this.addressEntryList = addressEntryList;
 
@@ -25,6 +25,7 @@ import bisq.core.btc.data.RawTransactionInput;
 import bisq.core.btc.exceptions.SigningException;
 import bisq.core.btc.exceptions.TransactionVerificationException;
 import bisq.core.btc.exceptions.WalletException;
+import bisq.core.crypto.SignatureVerificationService;
 import bisq.core.locale.Res;
 
 import bisq.common.app.Log;
@@ -53,15 +54,21 @@ import org.bitcoinj.wallet.Wallet;
 
 import javax.inject.Inject;
 
+import com.google.common.annotations.VisibleForTesting;
 import com.google.common.collect.ImmutableList;
 import com.google.common.util.concurrent.FutureCallback;
 
 import org.spongycastle.crypto.params.KeyParameter;
 
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.stream.Collectors;
 
+import lombok.Value;
+
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -114,8 +121,12 @@ import static com.google.common.base.Preconditions.checkNotNull;
  */
 public class TradeWalletService {
     private static final Logger log = LoggerFactory.getLogger(TradeWalletService.class);
+    // We only need the scripts of the currently open trades
+    private static final int MAX_CACHED_ENTRIES = 100;
 
     private final WalletsSetup walletsSetup;
+    private final SignatureVerificationService signatureVerificationService;
+    private final Broadcaster broadcaster;
     private final NetworkParameters params;
 
     @Nullable
@@ -125,14 +136,22 @@ public class TradeWalletService {
     @Nullable
     private KeyParameter aesKey;
 
+    // Each step of the trade protocol needs the scripts of the same 3 pub keys. We cache them so we don't decode the
+    // keys and build the scripts again at each step.
+    private final Map<MultiSigPubKeys, MultiSigScripts> multiSigScriptsByPubKeys = newBoundedCache(MAX_CACHED_ENTRIES);
+
 
     ///////////////////////////////////////////////////////////////////////////////////////////
     // Constructor, initialization
     ///////////////////////////////////////////////////////////////////////////////////////////
 
     @Inject
-    public TradeWalletService(WalletsSetup walletsSetup) {
+    public TradeWalletService(WalletsSetup walletsSetup,
+                              SignatureVerificationService signatureVerificationService,
+                              Broadcaster broadcaster) {
         this.walletsSetup = walletsSetup;
+        this.signatureVerificationService = signatureVerificationService;
+        this.broadcaster = broadcaster;
         this.params = BisqEnvironment.getParameters();
         walletsSetup.addSetupCompletedHandler(() -> {
             walletConfig = walletsSetup.getWalletConfig();
@@ -449,23 +468,25 @@ public class TradeWalletService {
      * @param buyerPubKey               The public key of the buyer.
      * @param sellerPubKey              The public key of the seller.
      * @param arbitratorPubKey          The public key of the arbitrator.
-     * @return A data container holding the serialized transaction and the maker raw inputs
+     * @param callback                  Called on the UserThread with a data container holding the serialized
+     *                                  transaction and the maker raw inputs once the signatures are verified.
      * @throws SigningException
      * @throws TransactionVerificationException
      * @throws WalletException
      */
-    public PreparedDepositTxAndMakerInputs makerCreatesAndSignsDepositTx(boolean makerIsBuyer,
-                                                                         byte[] contractHash,
-                                                                         Coin makerInputAmount,
-                                                                         Coin msOutputAmount,
-                                                                         List<RawTransactionInput> takerRawTransactionInputs,
-                                                                         long takerChangeOutputValue,
-                                                                         @Nullable String takerChangeAddressString,
-                                                                         Address makerAddress,
-                                                                         Address makerChangeAddress,
-                                                                         byte[] buyerPubKey,
-                                                                         byte[] sellerPubKey,
-                                                                         byte[] arbitratorPubKey)
+    public void makerCreatesAndSignsDepositTx(boolean makerIsBuyer,
+                                              byte[] contractHash,
+                                              Coin makerInputAmount,
+                                              Coin msOutputAmount,
+                                              List<RawTransactionInput> takerRawTransactionInputs,
+                                              long takerChangeOutputValue,
+                                              @Nullable String takerChangeAddressString,
+                                              Address makerAddress,
+                                              Address makerChangeAddress,
+                                              byte[] buyerPubKey,
+                                              byte[] sellerPubKey,
+                                              byte[] arbitratorPubKey,
+                                              FutureCallback<PreparedDepositTxAndMakerInputs> callback)
             throws SigningException, TransactionVerificationException, WalletException, AddressFormatException {
         log.debug("makerCreatesAndSignsDepositTx called");
         log.debug("makerIsBuyer " + makerIsBuyer);
@@ -573,14 +594,20 @@ public class TradeWalletService {
         for (int i = start; i < end; i++) {
             TransactionInput input = preparedDepositTx.getInput(i);
             signInput(preparedDepositTx, input, i);
-            WalletService.checkScriptSig(preparedDepositTx, input, i);
         }
+        // The sighash does not cover the scriptSigs of other inputs, so we can check all signatures in parallel
+        // once all inputs are signed.
+        signatureVerificationService.checkScriptSignatures(preparedDepositTx, start, end, () -> {
+            try {
+                WalletService.printTx("prepared depositTx", preparedDepositTx);
 
-        WalletService.printTx("prepared depositTx", preparedDepositTx);
-
-        WalletService.verifyTransaction(preparedDepositTx);
+                WalletService.verifyTransaction(preparedDepositTx);
 
-        return new PreparedDepositTxAndMakerInputs(makerRawTransactionInputs, preparedDepositTx.bitcoinSerialize());
+                callback.onSuccess(new PreparedDepositTxAndMakerInputs(makerRawTransactionInputs, preparedDepositTx.bitcoinSerialize()));
+            } catch (Throwable t) {
+                callback.onFailure(t);
+            }
+        }, callback::onFailure);
     }
 
     /**
@@ -594,7 +621,8 @@ public class TradeWalletService {
      * @param buyerPubKey               The public key of the buyer.
      * @param sellerPubKey              The public key of the seller.
      * @param arbitratorPubKey          The public key of the arbitrator.
-     * @param callback                  Callback when transaction is broadcasted.
+     * @param callback                  Callback when transaction is broadcasted or the verification of our
+     *                                  signatures failed. Called on the UserThread if the verification failed.
      * @throws SigningException
      * @throws TransactionVerificationException
      * @throws WalletException
@@ -672,15 +700,19 @@ public class TradeWalletService {
         for (int i = start; i < end; i++) {
             TransactionInput input = depositTx.getInput(i);
             signInput(depositTx, input, i);
-            WalletService.checkScriptSig(depositTx, input, i);
         }
+        signatureVerificationService.checkScriptSignatures(depositTx, start, end, () -> {
+            try {
+                WalletService.printTx("depositTx", depositTx);
 
-        WalletService.printTx("depositTx", depositTx);
-
-        WalletService.verifyTransaction(depositTx);
-        WalletService.checkWalletConsistency(wallet);
+                WalletService.verifyTransaction(depositTx);
+                WalletService.checkWalletConsistency(wallet);
 
-        broadcastTx(depositTx, callback);
+                broadcastTx(depositTx, callback);
+            } catch (Throwable t) {
+                callback.onFailure(t);
+            }
+        }, callback::onFailure);
 
         return depositTx;
     }
@@ -719,9 +751,9 @@ public class TradeWalletService {
         log.trace("buyerPayoutAddressString " + buyerPayoutAddressString);
         log.trace("sellerPayoutAddressString " + sellerPayoutAddressString);
         log.trace("multiSigKeyPair (not displayed for security reasons)");
-        log.info("buyerPubKey HEX=" + ECKey.fromPublicOnly(buyerPubKey).getPublicKeyAsHex());
-        log.info("sellerPubKey HEX=" + ECKey.fromPublicOnly(sellerPubKey).getPublicKeyAsHex());
-        log.info("arbitratorPubKey HEX=" + ECKey.fromPublicOnly(arbitratorPubKey).getPublicKeyAsHex());
+        log.info("buyerPubKey HEX=" + Utils.HEX.encode(buyerPubKey));
+        log.info("sellerPubKey HEX=" + Utils.HEX.encode(sellerPubKey));
+        log.info("arbitratorPubKey HEX=" + Utils.HEX.encode(arbitratorPubKey));
         Transaction preparedPayoutTx = createPayoutTx(depositTx,
                 buyerPayoutAmount,
                 sellerPayoutAmount,
@@ -1073,12 +1105,12 @@ public class TradeWalletService {
 
     public void broadcastTx(Transaction tx, FutureCallback<Transaction> callback) {
         checkNotNull(walletConfig);
-        Broadcaster.broadcastTx(wallet, walletConfig.peerGroup(), tx, callback);
+        broadcaster.broadcastTx(wallet, walletConfig.peerGroup(), tx, callback);
     }
 
     public void broadcastTx(Transaction tx, FutureCallback<Transaction> callback, int timeoutInSec) {
         checkNotNull(walletConfig);
-        Broadcaster.broadcastTx(wallet, walletConfig.peerGroup(), tx, callback, timeoutInSec);
+        broadcaster.broadcastTx(wallet, walletConfig.peerGroup(), tx, callback, timeoutInSec);
     }
 
 
@@ -1181,17 +1213,35 @@ public class TradeWalletService {
     // Furthermore the executed list is reversed to the provided.
     // Best practice is to provide the list sorted by the least probable successful candidates first (arbitrator is first -> will be last in execution loop, so
     // avoiding unneeded expensive ECKey.verify calls)
-    private Script getMultiSigRedeemScript(byte[] buyerPubKey, byte[] sellerPubKey, byte[] arbitratorPubKey) {
-        ECKey buyerKey = ECKey.fromPublicOnly(buyerPubKey);
-        ECKey sellerKey = ECKey.fromPublicOnly(sellerPubKey);
-        ECKey arbitratorKey = ECKey.fromPublicOnly(arbitratorPubKey);
-        // Take care of sorting! Need to reverse to the order we use normally (buyer, seller, arbitrator)
-        List<ECKey> keys = ImmutableList.of(arbitratorKey, sellerKey, buyerKey);
-        return ScriptBuilder.createMultiSigOutputScript(2, keys);
+    @VisibleForTesting
+    Script getMultiSigRedeemScript(byte[] buyerPubKey, byte[] sellerPubKey, byte[] arbitratorPubKey) {
+        return getMultiSigScripts(buyerPubKey, sellerPubKey, arbitratorPubKey).getRedeemScript();
     }
 
     private Script getP2SHMultiSigOutputScript(byte[] buyerPubKey, byte[] sellerPubKey, byte[] arbitratorPubKey) {
-        return ScriptBuilder.createP2SHOutputScript(getMultiSigRedeemScript(buyerPubKey, sellerPubKey, arbitratorPubKey));
+        return getMultiSigScripts(buyerPubKey, sellerPubKey, arbitratorPubKey).getP2SHOutputScript();
+    }
+
+    // Scripts are immutable so we can share them between the protocol steps
+    private MultiSigScripts getMultiSigScripts(byte[] buyerPubKey, byte[] sellerPubKey, byte[] arbitratorPubKey) {
+        return multiSigScriptsByPubKeys.computeIfAbsent(new MultiSigPubKeys(buyerPubKey, sellerPubKey, arbitratorPubKey), pubKeys -> {
+            ECKey buyerKey = ECKey.fromPublicOnly(buyerPubKey);
+            ECKey sellerKey = ECKey.fromPublicOnly(sellerPubKey);
+            ECKey arbitratorKey = ECKey.fromPublicOnly(arbitratorPubKey);
+            // Take care of sorting! Need to reverse to the order we use normally (buyer, seller, arbitrator)
+            List<ECKey> keys = ImmutableList.of(arbitratorKey, sellerKey, buyerKey);
+            Script redeemScript = ScriptBuilder.createMultiSigOutputScript(2, keys);
+            return new MultiSigScripts(redeemScript, ScriptBuilder.createP2SHOutputScript(redeemScript));
+        });
+    }
+
+    private static <K, V> Map<K, V> newBoundedCache(int maxEntries) {
+        return Collections.synchronizedMap(new LinkedHashMap<K, V>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<K, V> eldest) {
+                return size() > maxEntries;
+            }
+        });
     }
 
     private Transaction createPayoutTx(Transaction depositTx,
@@ -1254,4 +1304,23 @@ public class TradeWalletService {
             throw new WalletException(t);
         }
     }
+
+
+    ///////////////////////////////////////////////////////////////////////////////////////////
+    // Cache entries
+    ///////////////////////////////////////////////////////////////////////////////////////////
+
+    // Lombok uses Arrays.equals and Arrays.hashCode for the array fields
+    @Value
+    private static class MultiSigPubKeys {
+        private final byte[] buyerPubKey;
+        private final byte[] sellerPubKey;
+        private final byte[] arbitratorPubKey;
+    }
+
+    @Value
+    private static class MultiSigScripts {
+        private final Script redeemScript;
+        private final Script p2SHOutputScript;
+    }
 }
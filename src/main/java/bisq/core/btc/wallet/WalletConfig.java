@@ -21,6 +21,7 @@ import bisq.core.app.BisqEnvironment;
 import bisq.core.btc.ProxySocketFactory;
 
 import bisq.common.app.Version;
+import bisq.common.util.Utilities;
 
 import org.bitcoinj.core.BlockChain;
 import org.bitcoinj.core.CheckpointManager;
@@ -28,6 +29,7 @@ import org.bitcoinj.core.Context;
 import org.bitcoinj.core.NetworkParameters;
 import org.bitcoinj.core.PeerAddress;
 import org.bitcoinj.core.PeerGroup;
+import org.bitcoinj.core.StoredBlock;
 import org.bitcoinj.core.Utils;
 import org.bitcoinj.core.listeners.DownloadProgressTracker;
 import org.bitcoinj.core.listeners.PeerDataEventListener;
@@ -54,6 +56,8 @@ import com.google.common.collect.ImmutableList;
 import com.google.common.util.concurrent.AbstractIdleService;
 import com.google.common.util.concurrent.FutureCallback;
 import com.google.common.util.concurrent.Futures;
+import com.google.common.util.concurrent.ListenableFuture;
+import com.google.common.util.concurrent.ListeningExecutorService;
 
 import java.net.InetAddress;
 import java.net.InetSocketAddress;
@@ -62,13 +66,18 @@ import java.net.UnknownHostException;
 
 import java.nio.channels.FileLock;
 
+import java.io.BufferedInputStream;
 import java.io.File;
 import java.io.FileInputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.RandomAccessFile;
 
+import java.util.Date;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
 import java.util.concurrent.TimeUnit;
 
 import lombok.Getter;
@@ -89,6 +98,10 @@ import static com.google.common.base.Preconditions.checkState;
 public class WalletConfig extends AbstractIdleService {
     private static final int TIMEOUT = 120 * 1000;  // connectTimeoutMillis. 60 sec used in bitcoinj, but for Tor we allow more.
 
+    // Parsed checkpoints by resource path. We parse the checkpoints file only once per JVM, also if the wallet
+    // gets restarted for a restore from seed.
+    private static final Map<String, CheckpointManager> CHECKPOINT_MANAGER_BY_PATH = new HashMap<>();
+
     ///////////////////////////////////////////////////////////////////////////////////////////
     // WalletFactory
     ///////////////////////////////////////////////////////////////////////////////////////////
@@ -132,7 +145,8 @@ public class WalletConfig extends AbstractIdleService {
     private PeerAddress[] peerAddresses;
     private PeerDataEventListener downloadListener;
     private boolean autoStop = true;
-    private InputStream checkpoints;
+    @Nullable
+    private String checkpointsPath;
     private boolean blockingStartup = true;
     @Getter
     @Setter
@@ -204,14 +218,7 @@ public class WalletConfig extends AbstractIdleService {
         } else if (params.equals(TestNet3Params.get())) {
             path = "/wallet/checkpoints.testnet";
         }
-        if (path != null) {
-            try {
-                setCheckpoints(getClass().getResourceAsStream(path));
-            } catch (Exception e) {
-                e.printStackTrace();
-                log.error(e.toString());
-            }
-        }
+        checkpointsPath = path;
     }
 
     private PeerGroup createPeerGroup() {
@@ -272,13 +279,40 @@ public class WalletConfig extends AbstractIdleService {
     }
 
     /**
-     * If set, the file is expected to contain a checkpoints file calculated with BuildCheckpoints. It makes initial
-     * block sync faster for new users - please refer to the documentation on the bitcoinj website for further details.
+     * The checkpoints file is calculated with BuildCheckpoints. It makes initial block sync faster for new users -
+     * please refer to the documentation on the bitcoinj website for further details.
+     * Returns null if we have no checkpoints for our network or if they could not be read.
      */
-    private void setCheckpoints(InputStream checkpoints) {
-        if (this.checkpoints != null)
-            Utils.closeUnchecked(this.checkpoints);
-        this.checkpoints = checkNotNull(checkpoints);
+    @Nullable
+    private CheckpointManager getCheckpointManager() {
+        if (checkpointsPath == null)
+            return null;
+
+        synchronized (CHECKPOINT_MANAGER_BY_PATH) {
+            CheckpointManager checkpointManager = CHECKPOINT_MANAGER_BY_PATH.get(checkpointsPath);
+            if (checkpointManager == null) {
+                try (InputStream inputStream = getClass().getResourceAsStream(checkpointsPath)) {
+                    checkpointManager = new CheckpointManager(params, new BufferedInputStream(checkNotNull(inputStream)));
+                    CHECKPOINT_MANAGER_BY_PATH.put(checkpointsPath, checkpointManager);
+                } catch (Exception e) {
+                    e.printStackTrace();
+                    log.error(e.toString());
+                }
+            }
+            return checkpointManager;
+        }
+    }
+
+    // Same as CheckpointManager.checkpoint but with the already parsed checkpoints
+    private void applyCheckpoint(CheckpointManager checkpointManager, long time) throws BlockStoreException {
+        // We use a checkpoint a week before the time to allow for clock drift
+        time -= 60 * 60 * 24 * 7;
+        checkArgument(time > 0);
+        log.info("Attempting to initialize a new block store with a checkpoint for time {} ({})",
+                time, Utils.dateTimeFormat(time * 1000));
+        StoredBlock checkpoint = checkpointManager.getCheckpointBefore(time);
+        vStore.put(checkpoint);
+        vStore.setChainHead(checkpoint);
     }
 
     /**
@@ -375,62 +409,79 @@ public class WalletConfig extends AbstractIdleService {
         try {
             File chainFile = new File(directory, spvChainFileName);
             boolean chainFileExists = chainFile.exists();
-
-            // BTC wallet
             vBtcWalletFile = new File(directory, btcWalletFileName);
             boolean shouldReplayWallet = (vBtcWalletFile.exists() && !chainFileExists) || seed != null;
-            BisqKeyChainGroup keyChainGroup;
-            if (seed != null)
-                keyChainGroup = new BisqKeyChainGroup(params, new BtcDeterministicKeyChain(seed), true);
-            else
-                keyChainGroup = new BisqKeyChainGroup(params, true);
-            vBtcWallet = createOrLoadWallet(vBtcWalletFile, shouldReplayWallet, keyChainGroup, false, seed);
+            if (BisqEnvironment.isBaseCurrencySupportingBsq())
+                vBsqWalletFile = new File(directory, bsqWalletFileName);
 
-            vBtcWallet.allowSpendingUnconfirmedTransactions();
+            long ts = new Date().getTime();
+            ListeningExecutorService executorService = Utilities.getListeningExecutorService("WalletConfig", 2, 2, 60);
+            ListenableFuture<BlockStore> storeFuture = null;
+            ListenableFuture<Wallet> bsqWalletFuture = null;
+            try {
+                // The block store does not depend on the wallets so we open it while the wallets get loaded.
+                // SPVBlockStore memory maps the chain file and checks its header when opened. At a restore we
+                // delete the chain file before it gets opened, so it is opened and validated only once.
+                storeFuture = executorService.submit(() -> {
+                    Context.propagate(context);
+                    if (seed != null && chainFileExists) {
+                        log.info("Deleting the chain file in preparation from restore.");
+                        if (!chainFile.delete())
+                            throw new IOException("Failed to delete chain file in preparation for restore.");
+                    }
+                    return provideBlockStore(chainFile);
+                });
 
-            if (seed != null)
-                keyChainGroup = new BisqKeyChainGroup(params, new BisqDeterministicKeyChain(seed), false);
-            else
-                keyChainGroup = new BisqKeyChainGroup(params, new BisqDeterministicKeyChain(vBtcWallet.getKeyChainSeed()), false);
+                // The BSQ wallet only depends on the BTC wallet if we need to create it from the BTC wallet's seed.
+                // Otherwise we load both wallet files in parallel.
+                if (vBsqWalletFile != null && (seed != null || vBsqWalletFile.exists())) {
+                    bsqWalletFuture = executorService.submit(() -> {
+                        Context.propagate(context);
+                        BisqKeyChainGroup keyChainGroup = seed != null ?
+                                new BisqKeyChainGroup(params, new BisqDeterministicKeyChain(seed), false) :
+                                new BisqKeyChainGroup(params, false);
+                        return createOrLoadWallet(vBsqWalletFile, shouldReplayWallet, keyChainGroup, true, seed);
+                    });
+                }
 
-            // BSQ wallet
-            if (BisqEnvironment.isBaseCurrencySupportingBsq()) {
-                vBsqWalletFile = new File(directory, bsqWalletFileName);
-                vBsqWallet = createOrLoadWallet(vBsqWalletFile, shouldReplayWallet, keyChainGroup, true, seed);
+                // BTC wallet
+                BisqKeyChainGroup keyChainGroup;
+                if (seed != null)
+                    keyChainGroup = new BisqKeyChainGroup(params, new BtcDeterministicKeyChain(seed), true);
+                else
+                    keyChainGroup = new BisqKeyChainGroup(params, true);
+                vBtcWallet = createOrLoadWallet(vBtcWalletFile, shouldReplayWallet, keyChainGroup, false, seed);
+
+                vBtcWallet.allowSpendingUnconfirmedTransactions();
+
+                // BSQ wallet
+                if (bsqWalletFuture != null) {
+                    vBsqWallet = getResult(bsqWalletFuture);
+                } else if (vBsqWalletFile != null) {
+                    keyChainGroup = new BisqKeyChainGroup(params, new BisqDeterministicKeyChain(vBtcWallet.getKeyChainSeed()), false);
+                    vBsqWallet = createOrLoadWallet(vBsqWalletFile, shouldReplayWallet, keyChainGroup, true, seed);
+                }
+
+                // Initiate Bitcoin network objects (block store, blockchain and peer group)
+                vStore = getResult(storeFuture);
+            } catch (Throwable t) {
+                releaseAfterFailedLoad(storeFuture, bsqWalletFuture);
+                throw t;
+            } finally {
+                executorService.shutdown();
             }
+            log.info("Loading wallets and block store took {} ms", new Date().getTime() - ts);
 
-            // Initiate Bitcoin network objects (block store, blockchain and peer group)
-            vStore = provideBlockStore(chainFile);
             if (!chainFileExists || seed != null) {
-                if (checkpoints != null) {
+                CheckpointManager checkpointManager = getCheckpointManager();
+                if (checkpointManager != null) {
                     // Initialize the chain file with a checkpoint to speed up first-run sync.
-                    long time;
-
-                    if (seed != null) {
-                        // we created both wallets at the same time
-                        time = seed.getCreationTimeSeconds();
-                        if (chainFileExists) {
-                            log.info("Deleting the chain file in preparation from restore.");
-                            vStore.close();
-                            if (!chainFile.delete())
-                                throw new IOException("Failed to delete chain file in preparation for restore.");
-                            vStore = new SPVBlockStore(params, chainFile);
-                        }
-                    } else {
-                        time = vBtcWallet.getEarliestKeyCreationTime();
-                    }
-
-
+                    // If we restore from seed we created both wallets at the same time.
+                    long time = seed != null ? seed.getCreationTimeSeconds() : vBtcWallet.getEarliestKeyCreationTime();
                     if (time > 0)
-                        CheckpointManager.checkpoint(params, checkpoints, vStore, time);
+                        applyCheckpoint(checkpointManager, time);
                     else
                         log.warn("Creating a new uncheckpointed block store due to a wallet with a creation time of zero: this will result in a very slow chain sync");
-                } else if (chainFileExists) {
-                    log.info("Deleting the chain file in preparation from restore.");
-                    vStore.close();
-                    if (!chainFile.delete())
-                        throw new IOException("Failed to delete chain file in preparation for restore.");
-                    vStore = new SPVBlockStore(params, chainFile);
                 }
             }
             vChain = new BlockChain(params, vStore);
@@ -504,6 +555,44 @@ public class WalletConfig extends AbstractIdleService {
         }
     }
 
+    // If loading failed we wait for the tasks which are still running and release what they have opened. The block
+    // store holds a file lock and a memory mapping of the chain file, the wallets might have started their autosave.
+    private void releaseAfterFailedLoad(@Nullable ListenableFuture<BlockStore> storeFuture,
+                                        @Nullable ListenableFuture<Wallet> bsqWalletFuture) {
+        if (storeFuture != null) {
+            try {
+                getResult(storeFuture).close();
+            } catch (Throwable t) {
+                log.debug("No block store to close after failed startup. " + t.toString());
+            }
+        }
+        if (bsqWalletFuture != null) {
+            try {
+                Wallet bsqWallet = getResult(bsqWalletFuture);
+                if (useAutoSave)
+                    bsqWallet.shutdownAutosaveAndWait();
+            } catch (Throwable t) {
+                log.debug("No BSQ wallet to release after failed startup. " + t.toString());
+            }
+        }
+        if (vBtcWallet != null && useAutoSave)
+            vBtcWallet.shutdownAutosaveAndWait();
+        vStore = null;
+        vBtcWallet = null;
+        vBsqWallet = null;
+    }
+
+    private static <T> T getResult(ListenableFuture<T> future) throws Exception {
+        try {
+            return future.get();
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof Exception)
+                throw (Exception) cause;
+            throw e;
+        }
+    }
+
     private Wallet createOrLoadWallet(File walletFile, boolean shouldReplayWallet,
                                       BisqKeyChainGroup keyChainGroup, boolean isBsqWallet, DeterministicSeed restoreFromSeed)
             throws Exception {
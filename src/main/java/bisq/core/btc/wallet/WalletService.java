@@ -95,6 +95,7 @@ public abstract class WalletService {
     protected final WalletsSetup walletsSetup;
     protected final Preferences preferences;
     protected final FeeService feeService;
+    private final Broadcaster broadcaster;
     protected final NetworkParameters params;
     @SuppressWarnings("deprecation")
     protected final WalletEventListener walletEventListener = new BisqWalletListener();
@@ -114,10 +115,12 @@ public abstract class WalletService {
     @Inject
     WalletService(WalletsSetup walletsSetup,
                   Preferences preferences,
-                  FeeService feeService) {
+                  FeeService feeService,
+                  Broadcaster broadcaster) {
         this.walletsSetup = walletsSetup;
         this.preferences = preferences;
         this.feeService = feeService;
+        this.broadcaster = broadcaster;
 
         params = walletsSetup.getParams();
     }
@@ -323,11 +326,11 @@ public abstract class WalletService {
     ///////////////////////////////////////////////////////////////////////////////////////////
 
     public void broadcastTx(Transaction tx, FutureCallback<Transaction> callback) {
-        Broadcaster.broadcastTx(wallet, walletsSetup.getPeerGroup(), tx, callback);
+        broadcaster.broadcastTx(wallet, walletsSetup.getPeerGroup(), tx, callback);
     }
 
     public void broadcastTx(Transaction tx, FutureCallback<Transaction> callback, int timeoutInSec) {
-        Broadcaster.broadcastTx(wallet, walletsSetup.getPeerGroup(), tx, callback, timeoutInSec);
+        broadcaster.broadcastTx(wallet, walletsSetup.getPeerGroup(), tx, callback, timeoutInSec);
     }
 
 
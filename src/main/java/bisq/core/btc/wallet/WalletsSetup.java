@@ -24,6 +24,7 @@ import bisq.core.btc.BitcoinNodes;
 import bisq.core.btc.BitcoinNodes.BtcNode;
 import bisq.core.btc.BtcOptionKeys;
 import bisq.core.btc.RegTestHost;
+import bisq.core.crypto.SignatureVerificationService;
 import bisq.core.user.Preferences;
 
 import bisq.network.Socks5MultiDiscovery;
@@ -114,6 +115,7 @@ public class WalletsSetup {
     private final Socks5ProxyProvider socks5ProxyProvider;
     private final BisqEnvironment bisqEnvironment;
     private final BitcoinNodes bitcoinNodes;
+    private final SignatureVerificationService signatureVerificationService;
     private final String btcWalletFileName;
     private final int numConnectionForBtc;
     private final String userAgent;
@@ -139,6 +141,7 @@ public class WalletsSetup {
                         Socks5ProxyProvider socks5ProxyProvider,
                         BisqEnvironment bisqEnvironment,
                         BitcoinNodes bitcoinNodes,
+                        SignatureVerificationService signatureVerificationService,
                         @Named(BtcOptionKeys.USER_AGENT) String userAgent,
                         @Named(BtcOptionKeys.WALLET_DIR) File appDir,
                         @Named(BtcOptionKeys.USE_ALL_PROVIDED_NODES) String useAllProvidedNodes,
@@ -150,6 +153,7 @@ public class WalletsSetup {
         this.socks5ProxyProvider = socks5ProxyProvider;
         this.bisqEnvironment = bisqEnvironment;
         this.bitcoinNodes = bitcoinNodes;
+        this.signatureVerificationService = signatureVerificationService;
         this.numConnectionForBtc = numConnectionForBtc != null ? Integer.parseInt(numConnectionForBtc) : DEFAULT_CONNECTIONS;
         this.useAllProvidedNodes = "true".equals(useAllProvidedNodes);
         this.userAgent = userAgent;
@@ -266,6 +270,8 @@ public class WalletsSetup {
     }
 
     public void shutDown() {
+        // The wallets are shut down after the trade and dispute handling, so no more signatures get verified
+        signatureVerificationService.shutDown();
         if (walletConfig != null) {
             try {
                 walletConfig.stopAsync();
@@ -0,0 +1,160 @@
+/*
+ * This file is part of Bisq.
+ *
+ * Bisq is free software: you can redistribute it and/or modify it
+ * under the terms of the GNU Affero General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or (at
+ * your option) any later version.
+ *
+ * Bisq is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE. See the GNU Affero General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with Bisq. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package bisq.core.crypto;
+
+import bisq.core.btc.wallet.WalletService;
+
+import bisq.common.UserThread;
+import bisq.common.crypto.Sig;
+import bisq.common.handlers.ErrorMessageHandler;
+import bisq.common.handlers.ResultHandler;
+import bisq.common.util.Utilities;
+
+import org.bitcoinj.core.Transaction;
+
+import com.google.common.util.concurrent.FutureCallback;
+import com.google.common.util.concurrent.Futures;
+import com.google.common.util.concurrent.ListenableFuture;
+import com.google.common.util.concurrent.ListeningExecutorService;
+
+import java.security.PublicKey;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.function.Consumer;
+
+import lombok.extern.slf4j.Slf4j;
+
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Runs ECDSA and script signature checks on a bounded worker pool so they don't block the UserThread.
+ * Result and error handlers of the async methods are always called on the UserThread, so a protocol task can
+ * call complete() or failed() from them and the task runner continues as if the check would have been done inline.
+ */
+@Slf4j
+public class SignatureVerificationService {
+    private static final int NUM_THREADS = Math.max(1, Math.min(4, Runtime.getRuntime().availableProcessors() - 1));
+
+    private final ListeningExecutorService executorService =
+            Utilities.getListeningExecutorService("SignatureVerification", NUM_THREADS, NUM_THREADS, 60);
+
+
+    ///////////////////////////////////////////////////////////////////////////////////////////
+    // API
+    ///////////////////////////////////////////////////////////////////////////////////////////
+
+    public void verifySignature(PublicKey publicKey,
+                                String message,
+                                String signature,
+                                ResultHandler resultHandler,
+                                ErrorMessageHandler errorMessageHandler) {
+        execute(() -> Sig.verify(publicKey, message, signature),
+                result -> handleSignatureResult(result, resultHandler, errorMessageHandler),
+                throwable -> errorMessageHandler.handleErrorMessage(throwable.getMessage()));
+    }
+
+    public void verifySignature(PublicKey publicKey,
+                                byte[] data,
+                                byte[] signature,
+                                ResultHandler resultHandler,
+                                ErrorMessageHandler errorMessageHandler) {
+        execute(() -> Sig.verify(publicKey, data, signature),
+                result -> handleSignatureResult(result, resultHandler, errorMessageHandler),
+                throwable -> errorMessageHandler.handleErrorMessage(throwable.getMessage()));
+    }
+
+    /**
+     * Checks the script signatures of all inputs of the tx in parallel.
+     */
+    public void checkAllScriptSignaturesForTx(Transaction transaction,
+                                              ResultHandler resultHandler,
+                                              ErrorMessageHandler errorMessageHandler) {
+        checkScriptSignatures(transaction, 0, transaction.getInputs().size(), resultHandler,
+                throwable -> errorMessageHandler.handleErrorMessage(throwable.getMessage()));
+    }
+
+    /**
+     * Checks the script signatures of the inputs from startIndex (inclusive) to endIndex (exclusive) in parallel.
+     * The tx must not be changed until one of the handlers got called. The fault handler gets the
+     * TransactionVerificationException of the first failed input.
+     */
+    public void checkScriptSignatures(Transaction transaction,
+                                      int startIndex,
+                                      int endIndex,
+                                      ResultHandler resultHandler,
+                                      Consumer<Throwable> faultHandler) {
+        Futures.addCallback(submitScriptSigChecks(transaction, startIndex, endIndex), new FutureCallback<List<Void>>() {
+            public void onSuccess(List<Void> result) {
+                UserThread.execute(resultHandler::handleResult);
+            }
+
+            public void onFailure(@NotNull Throwable throwable) {
+                UserThread.execute(() -> faultHandler.accept(throwable));
+            }
+        });
+    }
+
+    /**
+     * Runs the task on the worker pool and calls the handlers on the UserThread.
+     */
+    public <T> void execute(Callable<T> task, Consumer<T> resultHandler, Consumer<Throwable> faultHandler) {
+        Futures.addCallback(executorService.submit(task), new FutureCallback<T>() {
+            public void onSuccess(T result) {
+                UserThread.execute(() -> resultHandler.accept(result));
+            }
+
+            public void onFailure(@NotNull Throwable throwable) {
+                log.warn("Verification failed with an exception. " + throwable.toString());
+                UserThread.execute(() -> faultHandler.accept(throwable));
+            }
+        });
+    }
+
+    // Called by WalletsSetup at shutdown as the wallets are shut down after the trade and dispute handling
+    public void shutDown() {
+        executorService.shutdownNow();
+    }
+
+
+    ///////////////////////////////////////////////////////////////////////////////////////////
+    // Private
+    ///////////////////////////////////////////////////////////////////////////////////////////
+
+    private ListenableFuture<List<Void>> submitScriptSigChecks(Transaction transaction, int startIndex, int endIndex) {
+        List<ListenableFuture<Void>> futures = new ArrayList<>();
+        for (int i = startIndex; i < endIndex; i++) {
+            final int index = i;
+            futures.add(executorService.submit(() -> {
+                WalletService.checkScriptSig(transaction, transaction.getInput(index), index);
+                return null;
+            }));
+        }
+        return Futures.allAsList(futures);
+    }
+
+    private static void handleSignatureResult(boolean result,
+                                              ResultHandler resultHandler,
+                                              ErrorMessageHandler errorMessageHandler) {
+        if (result)
+            resultHandler.handleResult();
+        else
+            errorMessageHandler.handleErrorMessage("Signature is not valid");
+    }
+}
@@ -30,4 +30,5 @@ public class DaoOptionKeys {
     public static final String FULL_DAO_NODE = "fullDaoNode";
     public static final String GENESIS_TX_ID = "genesisTxId";
     public static final String GENESIS_BLOCK_HEIGHT = "genesisBlockHeight";
+    public static final String LAZY_RESOLVE_BSQ_BLOCKS = "lazyResolveBsqBlocks";
 }
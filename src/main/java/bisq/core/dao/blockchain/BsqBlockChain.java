@@ -112,6 +112,13 @@ public class BsqBlockChain implements PersistableEnvelope, WritableBsqBlockChain
     private final LinkedList<BsqBlock> bsqBlocks;
     private final Map<String, Tx> txMap;
     private final Map<TxIdIndexTuple, TxOutput> unspentTxOutputsMap;
+    // Derived from the keys of unspentTxOutputsMap, not persisted. Replaced by a new instance at a rebuild and read
+    // without the lock.
+    transient private volatile UnspentTxOutputFilter unspentTxOutputFilter;
+    // Indexes derived from txMap, not persisted
+    // Key of a BSQ output to the txId of the BSQ tx which spends it
+    transient private final Map<TxIdIndexTuple, String> spendingTxIdByTxOutputKey = new HashMap<>();
+    transient private final Set<String> voteRevealTxIds = new HashSet<>();
 
     // not impl in PB yet
     private final Set<Tuple2<Long, Integer>> proposalFees;
@@ -142,6 +149,7 @@ public class BsqBlockChain implements PersistableEnvelope, WritableBsqBlockChain
         bsqBlocks = new LinkedList<>();
         txMap = new HashMap<>();
         unspentTxOutputsMap = new HashMap<>();
+        unspentTxOutputFilter = new UnspentTxOutputFilter();
         proposalFees = new HashSet<>();
         blindVoteFees = new HashSet<>();
 
@@ -168,6 +176,8 @@ public class BsqBlockChain implements PersistableEnvelope, WritableBsqBlockChain
         this.chainHeadHeight = chainHeadHeight;
         this.genesisTx = genesisTx;
 
+        unspentTxOutputFilter = new UnspentTxOutputFilter(unspentTxOutputsMap.keySet());
+        rebuildTxIndexes();
         lock = new FunctionalReadWriteLock(true);
 
         // TODO not impl yet in PB
@@ -260,9 +270,11 @@ public class BsqBlockChain implements PersistableEnvelope, WritableBsqBlockChain
 
             txMap.clear();
             txMap.putAll(snapshot.txMap);
+            rebuildTxIndexes();
 
             unspentTxOutputsMap.clear();
             unspentTxOutputsMap.putAll(snapshot.unspentTxOutputsMap);
+            unspentTxOutputFilter = new UnspentTxOutputFilter(unspentTxOutputsMap.keySet());
 
             chainHeadHeight = snapshot.chainHeadHeight;
             genesisTx = snapshot.genesisTx;
@@ -296,7 +308,26 @@ public class BsqBlockChain implements PersistableEnvelope, WritableBsqBlockChain
 
     @Override
     public void addTxToMap(Tx tx) {
-        lock.write(() -> txMap.put(tx.getId(), tx));
+        lock.write(() -> {
+            txMap.put(tx.getId(), tx);
+            addToTxIndexes(tx);
+        });
+    }
+
+    private void rebuildTxIndexes() {
+        spendingTxIdByTxOutputKey.clear();
+        voteRevealTxIds.clear();
+        txMap.values().forEach(this::addToTxIndexes);
+    }
+
+    private void addToTxIndexes(Tx tx) {
+        // Inputs of a BSQ tx which have been connected to a BSQ output by the parser
+        tx.getInputs().stream()
+                .filter(txInput -> txInput.getConnectedTxOutput() != null)
+                .forEach(txInput -> spendingTxIdByTxOutputKey.put(txInput.getTxIdIndexTuple(), tx.getId()));
+
+        if (tx.getOutputs().stream().anyMatch(txOutput -> txOutput.getTxOutputType() == TxOutputType.VOTE_REVEAL_OP_RETURN_OUTPUT))
+            voteRevealTxIds.add(tx.getId());
     }
 
 
@@ -309,12 +340,24 @@ public class BsqBlockChain implements PersistableEnvelope, WritableBsqBlockChain
         lock.write(() -> {
             checkArgument(txOutput.isVerified(), "txOutput must be verified at addUnspentTxOutput");
             unspentTxOutputsMap.put(txOutput.getTxIdIndexTuple(), txOutput);
+            unspentTxOutputFilter.add(txOutput.getTxId(), txOutput.getIndex());
+            maybeRebuildUnspentTxOutputFilter();
         });
     }
 
     @Override
     public void removeUnspentTxOutput(TxOutput txOutput) {
-        lock.write(() -> unspentTxOutputsMap.remove(txOutput.getTxIdIndexTuple()));
+        lock.write(() -> {
+            if (unspentTxOutputsMap.remove(txOutput.getTxIdIndexTuple()) != null) {
+                unspentTxOutputFilter.onRemoved();
+                maybeRebuildUnspentTxOutputFilter();
+            }
+        });
+    }
+
+    private void maybeRebuildUnspentTxOutputFilter() {
+        if (unspentTxOutputFilter.isRebuildRequired())
+            unspentTxOutputFilter = new UnspentTxOutputFilter(unspentTxOutputsMap.keySet());
     }
 
     @Override
@@ -523,13 +566,29 @@ public class BsqBlockChain implements PersistableEnvelope, WritableBsqBlockChain
         return lock.read(() -> getUnspentAndMatureTxOutput(new TxIdIndexTuple(txId, index)));
     }
 
+    // Fast check used by the parser to skip txs which cannot have any BSQ input. If false is returned the output is
+    // definitely not an unspent BSQ output, if true is returned it might be one.
+    // We don't use the lock here as it would cost more than the lookup itself. A rebuild, also the one at
+    // applySnapshot on the UserThread, publishes a complete new filter, so we never see a partly built one.
+    @Override
+    public boolean mightBeUnspentTxOutput(String txId, int index) {
+        return unspentTxOutputFilter.mightContain(txId, index);
+    }
+
     @Override
     public Set<TxOutput> getVoteRevealTxOutputs() {
-        return lock.read(() -> getAllTxOutputs().stream()
+        return lock.read(() -> voteRevealTxIds.stream()
+                .map(txMap::get)
+                .flatMap(tx -> tx.getOutputs().stream())
                 .filter(e -> e.getTxOutputType() == TxOutputType.VOTE_REVEAL_OP_RETURN_OUTPUT)
                 .collect(Collectors.toSet()));
     }
 
+    @Override
+    public Optional<String> getSpendingTxId(TxIdIndexTuple txIdIndexTuple) {
+        return lock.read(() -> Optional.ofNullable(spendingTxIdByTxOutputKey.get(txIdIndexTuple)));
+    }
+
     // We don't use getVerifiedTxOutputs as out output is not a valid BSQ output before the issuance.
     // We marked it only as candidate for issuance and after voting result is applied it might change it's state.
     //TODO we should add unspent check (need to be set in parser)
@@ -541,11 +600,8 @@ public class BsqBlockChain implements PersistableEnvelope, WritableBsqBlockChain
     }
 
     private Optional<TxOutput> getUnspentTxOutput(TxIdIndexTuple txIdIndexTuple) {
-        return lock.read(() -> unspentTxOutputsMap.entrySet().stream()
-                .filter(e -> e.getKey().equals(txIdIndexTuple))
-                .map(Map.Entry::getValue)
+        return lock.read(() -> Optional.ofNullable(unspentTxOutputsMap.get(txIdIndexTuple))
                 .filter(TxOutput::isVerified) //TODO is it needed?
-                .findAny()
         );
     }
 
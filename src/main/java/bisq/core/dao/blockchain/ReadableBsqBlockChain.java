@@ -58,12 +58,16 @@ public interface ReadableBsqBlockChain {
 
     Set<TxOutput> getVoteRevealTxOutputs();
 
+    Optional<String> getSpendingTxId(TxIdIndexTuple txIdIndexTuple);
+
     Set<TxOutput> getCompReqIssuanceTxOutputs();
 
     Optional<TxOutput> getUnspentAndMatureTxOutput(TxIdIndexTuple txIdIndexTuple);
 
     Optional<TxOutput> getUnspentAndMatureTxOutput(String txId, int index);
 
+    boolean mightBeUnspentTxOutput(String txId, int index);
+
     boolean isTxOutputSpendable(String txId, int index);
 
     Set<TxOutput> getUnspentTxOutputs();
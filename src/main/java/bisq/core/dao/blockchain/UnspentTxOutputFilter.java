@@ -0,0 +1,134 @@
+/*
+ * This file is part of Bisq.
+ *
+ * Bisq is free software: you can redistribute it and/or modify it
+ * under the terms of the GNU Affero General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or (at
+ * your option) any later version.
+ *
+ * Bisq is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE. See the GNU Affero General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with Bisq. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package bisq.core.dao.blockchain;
+
+import bisq.core.dao.blockchain.vo.util.TxIdIndexTuple;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Blocked bloom filter over the txId and index of the unspent BSQ tx outputs. All bits of one key are in the same
+ * 512 bit block (one cache line), so a lookup touches only one block.
+ * <p>
+ * If mightContain returns false the output is definitely not a BSQ utxo. If it returns true it might be one and the
+ * caller needs to do the exact lookup in the utxo map.
+ * <p>
+ * A bloom filter does not support removal. Spent outputs stay in the filter and only cause false positives until
+ * the filter gets rebuilt from the utxo map. isRebuildRequired tells when that should happen.
+ * <p>
+ * The size of a filter is fixed. A rebuild creates a new filter which the owner publishes once it is complete, so
+ * mightContain can be called from any thread without a lock. add and onRemoved must not be called concurrently.
+ */
+class UnspentTxOutputFilter {
+    private static final int BITS_PER_KEY = 16;
+    private static final int NUM_HASH_FUNCTIONS = 6;
+    private static final int BITS_PER_BLOCK = 512;
+    private static final int WORDS_PER_BLOCK = BITS_PER_BLOCK / Long.SIZE;
+    private static final int MIN_NUM_BLOCKS = 128;
+    // We don't rebuild for a few removals even if the filter is small
+    private static final int MIN_REMOVALS_FOR_REBUILD = 10_000;
+
+    // Bits set by add are visible to mightContain on other threads
+    private final AtomicLongArray words;
+    private final int blockMask;
+    private final int capacity;
+    private int numKeys;
+    private int numRemoved;
+
+
+    ///////////////////////////////////////////////////////////////////////////////////////////
+    // Constructor
+    ///////////////////////////////////////////////////////////////////////////////////////////
+
+    UnspentTxOutputFilter() {
+        this(Collections.emptyList());
+    }
+
+    UnspentTxOutputFilter(Collection<TxIdIndexTuple> keys) {
+        // We reserve space for twice the current size so we don't need to rebuild soon after
+        long requiredBits = Math.max(keys.size(), 1) * 2L * BITS_PER_KEY;
+        int numBlocks = MIN_NUM_BLOCKS;
+        while ((long) numBlocks * BITS_PER_BLOCK < requiredBits)
+            numBlocks <<= 1;
+
+        words = new AtomicLongArray(numBlocks * WORDS_PER_BLOCK);
+        blockMask = numBlocks - 1;
+        capacity = numBlocks * (BITS_PER_BLOCK / BITS_PER_KEY);
+        keys.forEach(key -> add(key.getTxId(), key.getIndex()));
+    }
+
+
+    ///////////////////////////////////////////////////////////////////////////////////////////
+    // API
+    ///////////////////////////////////////////////////////////////////////////////////////////
+
+    void add(String txId, int index) {
+        long hash = hash(txId, index);
+        int offset = ((int) hash & blockMask) * WORDS_PER_BLOCK;
+        long bitHash = mix(hash);
+        for (int i = 0; i < NUM_HASH_FUNCTIONS; i++) {
+            int bit = (int) (bitHash >>> (i * 9)) & (BITS_PER_BLOCK - 1);
+            words.accumulateAndGet(offset + (bit >>> 6), 1L << bit, (a, b) -> a | b);
+        }
+        numKeys++;
+    }
+
+    void onRemoved() {
+        numRemoved++;
+    }
+
+    boolean mightContain(String txId, int index) {
+        long hash = hash(txId, index);
+        int offset = ((int) hash & blockMask) * WORDS_PER_BLOCK;
+        long bitHash = mix(hash);
+        for (int i = 0; i < NUM_HASH_FUNCTIONS; i++) {
+            int bit = (int) (bitHash >>> (i * 9)) & (BITS_PER_BLOCK - 1);
+            if ((words.get(offset + (bit >>> 6)) & (1L << bit)) == 0)
+                return false;
+        }
+        return true;
+    }
+
+    // Either the filter got too full, or too many of its keys are spent outputs. The owner then replaces it with a
+    // new filter.
+    boolean isRebuildRequired() {
+        return numKeys > capacity || numRemoved > Math.max(MIN_REMOVALS_FOR_REBUILD, numKeys / 2);
+    }
+
+
+    ///////////////////////////////////////////////////////////////////////////////////////////
+    // Private
+    ///////////////////////////////////////////////////////////////////////////////////////////
+
+    // String caches its hashCode so we don't iterate the txId again for each of its outputs
+    private static long hash(String txId, int index) {
+        return mix(((long) txId.hashCode() << 32) | (index & 0xFFFFFFFFL));
+    }
+
+    // Finalizer of MurmurHash3
+    private static long mix(long h) {
+        h ^= h >>> 33;
+        h *= 0xff51afd7ed558ccdL;
+        h ^= h >>> 33;
+        h *= 0xc4ceb9fe1a85ec53L;
+        h ^= h >>> 33;
+        return h;
+    }
+}
@@ -125,7 +125,7 @@ public abstract class BsqParser {
 
         // we check if we have any valid BSQ from that tx set
         bsqTxsInBlock.addAll(txsWithoutInputsFromSameBlock.stream()
-                .filter(tx -> bsqTxController.isBsqTx(blockHeight, tx))
+                .filter(tx -> bsqTxController.mightBeBsqTx(tx) && bsqTxController.isBsqTx(blockHeight, tx))
                 .collect(Collectors.toList()));
 
         log.debug("Parsing of all txsWithoutInputsFromSameBlock is done.");
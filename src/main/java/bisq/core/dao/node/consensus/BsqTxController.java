@@ -57,6 +57,12 @@ public class BsqTxController {
         this.txOutputsController = txOutputsController;
     }
 
+    // Cheap pre-check without any allocation. Most txs in a block are not related to BSQ and if none of the inputs
+    // can be connected to a BSQ utxo we don't need to run isBsqTx. False positives are resolved by isBsqTx.
+    public boolean mightBeBsqTx(Tx tx) {
+        return txInputsController.mightHaveBsqInputs(tx);
+    }
+
     // Apply state changes to tx, inputs and outputs
     // return true if any input contained BSQ
     // Any tx with BSQ input is a BSQ tx (except genesis tx but that is not handled in
@@ -40,6 +40,12 @@ public class TxInputController {
         this.readableBsqBlockChain = readableBsqBlockChain;
     }
 
+    // If false the input is definitely not connected to a BSQ output
+    boolean mightBeConnectedToBsqTxOutput(TxInput txInput) {
+        return readableBsqBlockChain.mightBeUnspentTxOutput(txInput.getConnectedTxOutputTxId(),
+                txInput.getConnectedTxOutputIndex());
+    }
+
     void processInput(TxInput txInput, int blockHeight, String txId, int inputIndex, Model model,
                       WritableBsqBlockChain writableBsqBlockChain) {
         readableBsqBlockChain.getUnspentAndMatureTxOutput(txInput.getTxIdIndexTuple()).ifPresent(connectedTxOutput -> {
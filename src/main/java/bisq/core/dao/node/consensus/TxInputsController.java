@@ -39,6 +39,14 @@ public class TxInputsController {
         this.txInputController = txInputController;
     }
 
+    boolean mightHaveBsqInputs(Tx tx) {
+        for (TxInput input : tx.getInputs()) {
+            if (txInputController.mightBeConnectedToBsqTxOutput(input))
+                return true;
+        }
+        return false;
+    }
+
     void iterateInputs(Tx tx, int blockHeight, Model model) {
         for (int inputIndex = 0; inputIndex < tx.getInputs().size(); inputIndex++) {
             TxInput input = tx.getInputs().get(inputIndex);
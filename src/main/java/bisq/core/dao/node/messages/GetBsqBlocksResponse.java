@@ -18,6 +18,7 @@
 package bisq.core.dao.node.messages;
 
 import bisq.core.dao.blockchain.vo.BsqBlock;
+import bisq.core.proto.network.LazyProtoValue;
 
 import bisq.network.p2p.DirectMessage;
 import bisq.network.p2p.ExtendedDataSizePermission;
@@ -35,13 +36,15 @@ import lombok.EqualsAndHashCode;
 import lombok.Getter;
 
 @EqualsAndHashCode(callSuper = true)
-@Getter
 public final class GetBsqBlocksResponse extends NetworkEnvelope implements DirectMessage, ExtendedDataSizePermission {
-    private final List<BsqBlock> bsqBlocks;
+    // Blocks received from the network are only converted at first access, so a response we drop (wrong nonce or
+    // stopped request) does not cost the conversion of all its blocks.
+    private final LazyProtoValue<PB.GetBsqBlocksResponse, List<BsqBlock>> bsqBlocks;
+    @Getter
     private final int requestNonce;
 
     public GetBsqBlocksResponse(List<BsqBlock> bsqBlocks, int requestNonce) {
-        this(bsqBlocks, requestNonce, Version.getP2PMessageVersion());
+        this(LazyProtoValue.resolved(bsqBlocks), requestNonce, Version.getP2PMessageVersion());
     }
 
 
@@ -49,7 +52,9 @@ public final class GetBsqBlocksResponse extends NetworkEnvelope implements Direc
     // PROTO BUFFER
     ///////////////////////////////////////////////////////////////////////////////////////////
 
-    private GetBsqBlocksResponse(List<BsqBlock> bsqBlocks, int requestNonce, int messageVersion) {
+    private GetBsqBlocksResponse(LazyProtoValue<PB.GetBsqBlocksResponse, List<BsqBlock>> bsqBlocks,
+                                 int requestNonce,
+                                 int messageVersion) {
         super(messageVersion);
         this.bsqBlocks = bsqBlocks;
         this.requestNonce = requestNonce;
@@ -57,22 +62,41 @@ public final class GetBsqBlocksResponse extends NetworkEnvelope implements Direc
 
     @Override
     public PB.NetworkEnvelope toProtoNetworkEnvelope() {
+        final PB.GetBsqBlocksResponse unresolvedProto = bsqBlocks.getUnresolvedProto();
+        if (unresolvedProto != null)
+            return getNetworkEnvelopeBuilder().setGetBsqBlocksResponse(unresolvedProto).build();
+
         return getNetworkEnvelopeBuilder()
                 .setGetBsqBlocksResponse(PB.GetBsqBlocksResponse.newBuilder()
-                        .addAllBsqBlocks(bsqBlocks.stream()
+                        .addAllBsqBlocks(getBsqBlocks().stream()
                                 .map(BsqBlock::toProtoMessage)
                                 .collect(Collectors.toList()))
                         .setRequestNonce(requestNonce))
                 .build();
     }
 
-    public static NetworkEnvelope fromProto(PB.GetBsqBlocksResponse proto, int messageVersion) {
-        return new GetBsqBlocksResponse(proto.getBsqBlocksList().isEmpty() ?
+    public static NetworkEnvelope fromProto(PB.GetBsqBlocksResponse proto, int messageVersion, boolean lazyResolve) {
+        return new GetBsqBlocksResponse(lazyResolve ?
+                LazyProtoValue.unresolved(proto, GetBsqBlocksResponse::getBsqBlocksFromProto) :
+                LazyProtoValue.resolved(getBsqBlocksFromProto(proto)),
+                proto.getRequestNonce(),
+                messageVersion);
+    }
+
+    private static List<BsqBlock> getBsqBlocksFromProto(PB.GetBsqBlocksResponse proto) {
+        return proto.getBsqBlocksList().isEmpty() ?
                 new ArrayList<>() :
                 proto.getBsqBlocksList().stream()
                         .map(BsqBlock::fromProto)
-                        .collect(Collectors.toList()),
-                proto.getRequestNonce(),
-                messageVersion);
+                        .collect(Collectors.toList());
+    }
+
+
+    ///////////////////////////////////////////////////////////////////////////////////////////
+    // Getters
+    ///////////////////////////////////////////////////////////////////////////////////////////
+
+    public List<BsqBlock> getBsqBlocks() {
+        return bsqBlocks.get();
     }
 }
@@ -18,6 +18,7 @@
 package bisq.core.dao.node.messages;
 
 import bisq.core.dao.blockchain.vo.BsqBlock;
+import bisq.core.proto.network.LazyProtoValue;
 
 import bisq.network.p2p.storage.messages.BroadcastMessage;
 
@@ -27,15 +28,14 @@ import bisq.common.proto.network.NetworkEnvelope;
 import io.bisq.generated.protobuffer.PB;
 
 import lombok.EqualsAndHashCode;
-import lombok.Getter;
 
 @EqualsAndHashCode(callSuper = true)
-@Getter
 public final class NewBsqBlockBroadcastMessage extends BroadcastMessage {
-    private final BsqBlock bsqBlock;
+    // Converted at first access as we drop blocks we have already received from other peers
+    private final LazyProtoValue<PB.BsqBlock, BsqBlock> bsqBlock;
 
     public NewBsqBlockBroadcastMessage(BsqBlock bsqBlock) {
-        this(bsqBlock, Version.getP2PMessageVersion());
+        this(LazyProtoValue.resolved(bsqBlock), Version.getP2PMessageVersion());
     }
 
 
@@ -43,21 +43,33 @@ public final class NewBsqBlockBroadcastMessage extends BroadcastMessage {
     // PROTO BUFFER
     ///////////////////////////////////////////////////////////////////////////////////////////
 
-    private NewBsqBlockBroadcastMessage(BsqBlock bsqBlock, int messageVersion) {
+    private NewBsqBlockBroadcastMessage(LazyProtoValue<PB.BsqBlock, BsqBlock> bsqBlock, int messageVersion) {
         super(messageVersion);
         this.bsqBlock = bsqBlock;
     }
 
     @Override
     public PB.NetworkEnvelope toProtoNetworkEnvelope() {
+        final PB.BsqBlock unresolvedProto = bsqBlock.getUnresolvedProto();
         return getNetworkEnvelopeBuilder()
                 .setNewBsqBlockBroadcastMessage(PB.NewBsqBlockBroadcastMessage.newBuilder()
-                        .setBsqBlock(bsqBlock.toProtoMessage()))
+                        .setBsqBlock(unresolvedProto != null ? unresolvedProto : getBsqBlock().toProtoMessage()))
                 .build();
     }
 
-    public static NetworkEnvelope fromProto(PB.NewBsqBlockBroadcastMessage proto, int messageVersion) {
-        return new NewBsqBlockBroadcastMessage(BsqBlock.fromProto(proto.getBsqBlock()),
+    public static NetworkEnvelope fromProto(PB.NewBsqBlockBroadcastMessage proto, int messageVersion, boolean lazyResolve) {
+        return new NewBsqBlockBroadcastMessage(lazyResolve ?
+                LazyProtoValue.unresolved(proto.getBsqBlock(), BsqBlock::fromProto) :
+                LazyProtoValue.resolved(BsqBlock.fromProto(proto.getBsqBlock())),
                 messageVersion);
     }
+
+
+    ///////////////////////////////////////////////////////////////////////////////////////////
+    // Getters
+    ///////////////////////////////////////////////////////////////////////////////////////////
+
+    public BsqBlock getBsqBlock() {
+        return bsqBlock.get();
+    }
 }
@@ -33,6 +33,14 @@ import com.google.common.annotations.VisibleForTesting;
 import javafx.beans.property.ObjectProperty;
 import javafx.beans.property.SimpleObjectProperty;
 
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Collectors;
+
 import lombok.Getter;
 import lombok.extern.slf4j.Slf4j;
 
@@ -82,6 +90,35 @@ public class DaoPeriodService {
     }
 
 
+    ///////////////////////////////////////////////////////////////////////////////////////////
+    // Static
+    ///////////////////////////////////////////////////////////////////////////////////////////
+
+    // All cycles have the same phases, so the cycle table is the offset of each phase start within a cycle and the
+    // phase of each block within a cycle. The cycle start of a height is derived from the genesis height.
+    private static final int NUM_BLOCKS_OF_CYCLE;
+    // Index is the ordinal of the phase
+    private static final int[] BLOCKS_OF_PHASE_START;
+    private static final Phase[] PHASE_BY_BLOCK_IN_CYCLE;
+
+    static {
+        final Phase[] phases = Phase.values();
+        BLOCKS_OF_PHASE_START = new int[phases.length];
+        int blocks = 0;
+        for (Phase phase : phases) {
+            BLOCKS_OF_PHASE_START[phase.ordinal()] = blocks;
+            blocks += phase.getDurationInBlocks();
+        }
+        NUM_BLOCKS_OF_CYCLE = blocks;
+
+        PHASE_BY_BLOCK_IN_CYCLE = new Phase[NUM_BLOCKS_OF_CYCLE];
+        for (Phase phase : phases) {
+            final int start = BLOCKS_OF_PHASE_START[phase.ordinal()];
+            Arrays.fill(PHASE_BY_BLOCK_IN_CYCLE, start, start + phase.getDurationInBlocks(), phase);
+        }
+    }
+
+
     ///////////////////////////////////////////////////////////////////////////////////////////
     // Fields
     ///////////////////////////////////////////////////////////////////////////////////////////
@@ -147,6 +184,35 @@ public class DaoPeriodService {
                 getNumBlocksOfCycle());
     }
 
+    // Optional.empty() if the tx is not a BSQ tx
+    public Optional<Phase> getPhaseForTx(String txId) {
+        return readableBsqBlockChain.getTx(txId).map(tx -> getPhaseForHeight(tx.getBlockHeight()));
+    }
+
+    // Classifies many txs at once. Txs which are not found are not contained in the result.
+    public Map<String, Phase> getPhaseByTxIdMap(Collection<String> txIds) {
+        final Map<String, Tx> txMap = readableBsqBlockChain.getTxMap();
+        final Map<String, Phase> map = new HashMap<>();
+        txIds.forEach(txId -> {
+            final Tx tx = txMap.get(txId);
+            if (tx != null)
+                map.put(txId, getPhaseForHeight(tx.getBlockHeight()));
+        });
+        return map;
+    }
+
+    // Bulk version of isTxInPastCycle
+    public Set<String> getTxIdsInPastCycle(Collection<String> txIds) {
+        final Map<String, Tx> txMap = readableBsqBlockChain.getTxMap();
+        final int numBlocksOfCycle = getNumBlocksOfCycle();
+        return txIds.stream()
+                .filter(txId -> {
+                    final Tx tx = txMap.get(txId);
+                    return tx != null && isTxInPastCycle(tx.getBlockHeight(), chainHeight, genesisBlockHeight, numBlocksOfCycle);
+                })
+                .collect(Collectors.toSet());
+    }
+
     public int getNumOfStartedCycles(int chainHeight) {
         return getNumOfStartedCycles(chainHeight,
                 genesisBlockHeight,
@@ -198,52 +264,12 @@ public class DaoPeriodService {
 
     @VisibleForTesting
     Phase calculatePhase(int blocksInNewPhase) {
-        log.info("blocksInNewPhase={}", blocksInNewPhase);
-        if (blocksInNewPhase < Phase.PROPOSAL.getDurationInBlocks())
+        if (blocksInNewPhase < 0) {
+            // Heights before genesis
             return Phase.PROPOSAL;
-        else if (blocksInNewPhase < Phase.PROPOSAL.getDurationInBlocks() +
-                Phase.BREAK1.getDurationInBlocks())
-            return Phase.BREAK1;
-        else if (blocksInNewPhase < Phase.PROPOSAL.getDurationInBlocks() +
-                Phase.BREAK1.getDurationInBlocks() +
-                Phase.BLIND_VOTE.getDurationInBlocks())
-            return Phase.BLIND_VOTE;
-        else if (blocksInNewPhase < Phase.PROPOSAL.getDurationInBlocks() +
-                Phase.BREAK1.getDurationInBlocks() +
-                Phase.BLIND_VOTE.getDurationInBlocks() +
-                Phase.BREAK2.getDurationInBlocks())
-            return Phase.BREAK2;
-        else if (blocksInNewPhase < Phase.PROPOSAL.getDurationInBlocks() +
-                Phase.BREAK1.getDurationInBlocks() +
-                Phase.BLIND_VOTE.getDurationInBlocks() +
-                Phase.BREAK2.getDurationInBlocks() +
-                Phase.VOTE_REVEAL.getDurationInBlocks())
-            return Phase.VOTE_REVEAL;
-        else if (blocksInNewPhase < Phase.PROPOSAL.getDurationInBlocks() +
-                Phase.BREAK1.getDurationInBlocks() +
-                Phase.BLIND_VOTE.getDurationInBlocks() +
-                Phase.BREAK2.getDurationInBlocks() +
-                Phase.VOTE_REVEAL.getDurationInBlocks() +
-                Phase.BREAK3.getDurationInBlocks())
-            return Phase.BREAK3;
-        else if (blocksInNewPhase < Phase.PROPOSAL.getDurationInBlocks() +
-                Phase.BREAK1.getDurationInBlocks() +
-                Phase.BLIND_VOTE.getDurationInBlocks() +
-                Phase.BREAK2.getDurationInBlocks() +
-                Phase.VOTE_REVEAL.getDurationInBlocks() +
-                Phase.BREAK3.getDurationInBlocks() +
-                Phase.ISSUANCE.getDurationInBlocks())
-            return Phase.ISSUANCE;
-        else if (blocksInNewPhase < Phase.PROPOSAL.getDurationInBlocks() +
-                Phase.BREAK1.getDurationInBlocks() +
-                Phase.BLIND_VOTE.getDurationInBlocks() +
-                Phase.BREAK2.getDurationInBlocks() +
-                Phase.VOTE_REVEAL.getDurationInBlocks() +
-                Phase.BREAK3.getDurationInBlocks() +
-                Phase.ISSUANCE.getDurationInBlocks() +
-                Phase.BREAK4.getDurationInBlocks())
-            return Phase.BREAK4;
-        else {
+        } else if (blocksInNewPhase < NUM_BLOCKS_OF_CYCLE) {
+            return PHASE_BY_BLOCK_IN_CYCLE[blocksInNewPhase];
+        } else {
             log.error("blocksInNewPhase is not covered by phase checks. blocksInNewPhase={}", blocksInNewPhase);
             if (DevEnv.isDevMode())
                 throw new RuntimeException("blocksInNewPhase is not covered by phase checks. blocksInNewPhase=" + blocksInNewPhase);
@@ -317,23 +343,11 @@ public class DaoPeriodService {
 
     @VisibleForTesting
     int getNumBlocksOfPhaseStart(Phase phase) {
-        int blocks = 0;
-        for (int i = 0; i < Phase.values().length; i++) {
-            final Phase currentPhase = Phase.values()[i];
-            if (currentPhase == phase)
-                break;
-
-            blocks += currentPhase.getDurationInBlocks();
-        }
-        return blocks;
+        return BLOCKS_OF_PHASE_START[phase.ordinal()];
     }
 
     @VisibleForTesting
     int getNumBlocksOfCycle() {
-        int blocks = 0;
-        for (int i = 0; i < Phase.values().length; i++) {
-            blocks += Phase.values()[i].getDurationInBlocks();
-        }
-        return blocks;
+        return NUM_BLOCKS_OF_CYCLE;
     }
 }
@@ -0,0 +1,175 @@
+/*
+ * This file is part of Bisq.
+ *
+ * Bisq is free software: you can redistribute it and/or modify it
+ * under the terms of the GNU Affero General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or (at
+ * your option) any later version.
+ *
+ * Bisq is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE. See the GNU Affero General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with Bisq. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package bisq.core.dao.vote;
+
+import bisq.common.Timer;
+import bisq.common.UserThread;
+import bisq.common.crypto.Hash;
+import bisq.common.proto.persistable.PersistableEnvelope;
+import bisq.common.storage.Storage;
+import bisq.common.util.Utilities;
+
+import com.google.protobuf.Message;
+
+import com.google.common.util.concurrent.SettableFuture;
+
+import java.util.Arrays;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+import lombok.extern.slf4j.Slf4j;
+
+import javax.annotation.Nullable;
+
+/**
+ * Write-behind persistence for the DAO lists. Change requests within DELAY_MS are coalesced into one write. At the
+ * write we encode a snapshot of the list to its proto message on the UserThread, as the elements of the list are
+ * mutable. A background thread hashes the encoded content and only hands it to the storage if the hash differs from
+ * the last written one. The storage gets a copy decoded from the proto message, so nobody else has access to it.
+ * <p>
+ * The snapshot supplier must return a list which does not change after it was created. The elements might be shared
+ * with the live list. requestPersist, flush and flushAndWait must be called from the UserThread.
+ */
+@Slf4j
+public class WriteBehindPersistence<T extends PersistableEnvelope> {
+    private static final long DELAY_MS = 1000;
+    private static final long FLUSH_TIMEOUT_SEC = 5;
+    // Shared by all DAO lists
+    private static final Executor HASHING_EXECUTOR = Utilities.getListeningSingleThreadExecutor("WriteBehindPersistence");
+
+    private final Storage<T> storage;
+    private final Supplier<T> snapshotSupplier;
+    private final Function<Message, T> copyResolver;
+    private final Executor executor;
+    // Only false in tests where flush is called directly
+    private final boolean useTimer;
+    @Nullable
+    private Timer timer;
+    private boolean dirty;
+    // Completed when the last flush has handed its snapshot to the storage
+    @Nullable
+    private SettableFuture<Void> pendingWrite;
+    // Only accessed from the executor
+    @Nullable
+    private byte[] lastHash;
+
+
+    ///////////////////////////////////////////////////////////////////////////////////////////
+    // Constructor
+    ///////////////////////////////////////////////////////////////////////////////////////////
+
+    /**
+     * @param copyResolver creates the list from the proto message returned by its toProtoMessage
+     */
+    public WriteBehindPersistence(Storage<T> storage, Supplier<T> snapshotSupplier, Function<Message, T> copyResolver) {
+        this(storage, snapshotSupplier, copyResolver, HASHING_EXECUTOR, true);
+    }
+
+    WriteBehindPersistence(Storage<T> storage,
+                           Supplier<T> snapshotSupplier,
+                           Function<Message, T> copyResolver,
+                           Executor executor,
+                           boolean useTimer) {
+        this.storage = storage;
+        this.snapshotSupplier = snapshotSupplier;
+        this.copyResolver = copyResolver;
+        this.executor = executor;
+        this.useTimer = useTimer;
+    }
+
+
+    ///////////////////////////////////////////////////////////////////////////////////////////
+    // API
+    ///////////////////////////////////////////////////////////////////////////////////////////
+
+    // We set the hash of the content we read from disk so we don't write it again unchanged
+    public void setPersisted(T persisted) {
+        final Message proto = persisted.toProtoMessage();
+        executor.execute(() -> {
+            try {
+                lastHash = getHash(proto);
+            } catch (Throwable t) {
+                log.error("Hashing persisted data failed. " + t.toString());
+            }
+        });
+    }
+
+    public void requestPersist() {
+        dirty = true;
+        if (timer == null && useTimer)
+            timer = UserThread.runAfter(this::flush, DELAY_MS, TimeUnit.MILLISECONDS);
+    }
+
+    // Writes pending changes without waiting for the end of the delay
+    public void flush() {
+        if (timer != null) {
+            timer.stop();
+            timer = null;
+        }
+        if (!dirty)
+            return;
+
+        dirty = false;
+        // The proto message is immutable, so it is safe to hand it to the executor
+        final Message proto = snapshotSupplier.get().toProtoMessage();
+        final SettableFuture<Void> write = SettableFuture.create();
+        pendingWrite = write;
+        executor.execute(() -> {
+            try {
+                final byte[] hash = getHash(proto);
+                if (!Arrays.equals(hash, lastHash)) {
+                    lastHash = hash;
+                    storage.queueUpForSave(copyResolver.apply(proto), 1);
+                } else {
+                    log.debug("Content has not changed, we skip the write.");
+                }
+            } catch (Throwable t) {
+                log.error("Persisting data failed. " + t.toString());
+            } finally {
+                write.set(null);
+            }
+        });
+    }
+
+    // Used at shutdown. Writes pending changes and blocks until they are handed to the storage, which completes its
+    // queued writes at shutdown.
+    public void flushAndWait() {
+        flush();
+        if (pendingWrite != null) {
+            try {
+                pendingWrite.get(FLUSH_TIMEOUT_SEC, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                log.warn("Interrupted while waiting for the pending write.");
+            } catch (Throwable t) {
+                log.error("Waiting for the pending write failed. " + t.toString());
+            }
+        }
+    }
+
+
+    ///////////////////////////////////////////////////////////////////////////////////////////
+    // Private
+    ///////////////////////////////////////////////////////////////////////////////////////////
+
+    private static byte[] getHash(Message proto) {
+        return Hash.getSha256Hash(proto.toByteArray());
+    }
+}
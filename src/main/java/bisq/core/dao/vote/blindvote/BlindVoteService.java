@@ -27,13 +27,13 @@ import bisq.core.dao.blockchain.ReadableBsqBlockChain;
 import bisq.core.dao.vote.DaoPeriodService;
 import bisq.core.dao.vote.MyVote;
 import bisq.core.dao.vote.MyVoteList;
+import bisq.core.dao.vote.WriteBehindPersistence;
 import bisq.core.dao.vote.proposal.Proposal;
 import bisq.core.dao.vote.proposal.ProposalList;
 import bisq.core.dao.vote.proposal.ProposalService;
+import bisq.core.network.p2p.P2PPayloadRouter;
 
 import bisq.network.p2p.P2PService;
-import bisq.network.p2p.storage.HashMapChangedListener;
-import bisq.network.p2p.storage.payload.ProtectedStorageEntry;
 import bisq.network.p2p.storage.payload.ProtectedStoragePayload;
 
 import bisq.common.UserThread;
@@ -44,6 +44,8 @@ import bisq.common.crypto.KeyRing;
 import bisq.common.proto.persistable.PersistedDataHost;
 import bisq.common.storage.Storage;
 
+import io.bisq.generated.protobuffer.PB;
+
 import com.google.protobuf.InvalidProtocolBufferException;
 
 import org.bitcoinj.core.Coin;
@@ -67,6 +69,7 @@ import java.security.PublicKey;
 
 import java.io.IOException;
 
+import java.util.ArrayList;
 import java.util.List;
 import java.util.stream.Collectors;
 
@@ -81,7 +84,7 @@ import javax.annotation.Nullable;
  * Creates and published blind votes and manages the vote lists.
  */
 @Slf4j
-public class BlindVoteService implements PersistedDataHost, HashMapChangedListener {
+public class BlindVoteService implements PersistedDataHost, P2PPayloadRouter.ProtectedStoragePayloadListener<BlindVote> {
     private final ProposalService proposalService;
     private final ReadableBsqBlockChain readableBsqBlockChain;
     private final DaoPeriodService daoPeriodService;
@@ -89,9 +92,12 @@ public class BlindVoteService implements PersistedDataHost, HashMapChangedListen
     private final BtcWalletService btcWalletService;
     private final WalletsManager walletsManager;
     private final P2PService p2PService;
+    private final P2PPayloadRouter p2PPayloadRouter;
     private final PublicKey signaturePubKey;
     private final Storage<MyVoteList> myVoteListStorage;
     private final Storage<BlindVoteList> blindVoteListStorage;
+    private final WriteBehindPersistence<MyVoteList> myVoteListPersistence;
+    private final WriteBehindPersistence<BlindVoteList> blindVoteListPersistence;
 
     @Getter
     private final ObservableList<MyVote> myVotesList = FXCollections.observableArrayList();
@@ -114,6 +120,7 @@ public class BlindVoteService implements PersistedDataHost, HashMapChangedListen
                             BtcWalletService btcWalletService,
                             WalletsManager walletsManager,
                             P2PService p2PService,
+                            P2PPayloadRouter p2PPayloadRouter,
                             KeyRing keyRing,
                             Storage<MyVoteList> myVoteListStorage,
                             Storage<BlindVoteList> blindVoteListStorage) {
@@ -124,10 +131,17 @@ public class BlindVoteService implements PersistedDataHost, HashMapChangedListen
         this.btcWalletService = btcWalletService;
         this.walletsManager = walletsManager;
         this.p2PService = p2PService;
+        this.p2PPayloadRouter = p2PPayloadRouter;
 
         signaturePubKey = keyRing.getPubKeyRing().getSignaturePubKey();
         this.myVoteListStorage = myVoteListStorage;
         this.blindVoteListStorage = blindVoteListStorage;
+        myVoteListPersistence = new WriteBehindPersistence<>(myVoteListStorage,
+                () -> new MyVoteList(new ArrayList<>(myVotesList)),
+                proto -> (MyVoteList) MyVoteList.fromProto(((PB.PersistableEnvelope) proto).getMyVoteList()));
+        blindVoteListPersistence = new WriteBehindPersistence<>(blindVoteListStorage,
+                () -> new BlindVoteList(new ArrayList<>(blindVoteList)),
+                proto -> (BlindVoteList) BlindVoteList.fromProto(((PB.PersistableEnvelope) proto).getBlindVoteList()));
 
         blindVoteSortedList.sort(BlindVoteConsensus.getBlindVoteListComparator());
     }
@@ -144,12 +158,14 @@ public class BlindVoteService implements PersistedDataHost, HashMapChangedListen
             if (persistedMyVotes != null) {
                 this.myVotesList.clear();
                 this.myVotesList.addAll(persistedMyVotes.getList());
+                myVoteListPersistence.setPersisted(persistedMyVotes);
             }
 
             BlindVoteList persistedBlindVotes = blindVoteListStorage.initAndGetPersistedWithFileName("BlindVoteList", 100);
             if (persistedBlindVotes != null) {
                 this.blindVoteList.clear();
                 this.blindVoteList.addAll(persistedBlindVotes.getList());
+                blindVoteListPersistence.setPersisted(persistedBlindVotes);
             }
         }
     }
@@ -160,8 +176,12 @@ public class BlindVoteService implements PersistedDataHost, HashMapChangedListen
     ///////////////////////////////////////////////////////////////////////////////////////////
 
     public void onAllServicesInitialized() {
-        p2PService.addHashSetChangedListener(this);
-        p2PService.getDataMap().values().forEach(this::onAdded);
+        p2PPayloadRouter.addProtectedStoragePayloadListener(BlindVote.class, this);
+        p2PService.getDataMap().values().forEach(protectedStorageEntry -> {
+            final ProtectedStoragePayload protectedStoragePayload = protectedStorageEntry.getProtectedStoragePayload();
+            if (protectedStoragePayload instanceof BlindVote)
+                addBlindVote((BlindVote) protectedStoragePayload);
+        });
 
         // Republish own active blindVotes once we are well connected
         numConnectedPeersListener = (observable, oldValue, newValue) -> {
@@ -171,9 +191,9 @@ public class BlindVoteService implements PersistedDataHost, HashMapChangedListen
         publishMyBlindVotesIfWellConnected();
     }
 
-    @SuppressWarnings("EmptyMethod")
     public void shutDown() {
-        // TODO keep for later, maybe we get resources to clean up later
+        myVoteListPersistence.flushAndWait();
+        blindVoteListPersistence.flushAndWait();
     }
 
     public void publishBlindVote(Coin stake, FutureCallback<Transaction> callback)
@@ -208,7 +228,7 @@ public class BlindVoteService implements PersistedDataHost, HashMapChangedListen
         BlindVote blindVote = new BlindVote(encryptedProposals, blindVoteTx.getHashAsString(), stake.value, signaturePubKey);
         if (!blindVoteList.contains(blindVote)) {
             blindVoteList.add(blindVote);
-            blindVoteListStorage.queueUpForSave(new BlindVoteList(blindVoteList), 100);
+            blindVoteListPersistence.requestPersist();
         } else {
             log.warn("We have that blindVote already in our list. blindVote={}", blindVote);
         }
@@ -219,7 +239,7 @@ public class BlindVoteService implements PersistedDataHost, HashMapChangedListen
 
         MyVote myVote = new MyVote(proposalList, Encryption.getSecretKeyBytes(secretKey), blindVote);
         myVotesList.add(myVote);
-        myVoteListStorage.queueUpForSave(new MyVoteList(myVotesList), 100);
+        myVoteListPersistence.requestPersist();
     }
 
     public List<BlindVote> getBlindVoteListForCurrentCycle() {
@@ -229,26 +249,22 @@ public class BlindVoteService implements PersistedDataHost, HashMapChangedListen
     }
 
     public void persistMyVoteListStorage() {
-        myVoteListStorage.queueUpForSave();
+        myVoteListPersistence.requestPersist();
     }
 
 
     ///////////////////////////////////////////////////////////////////////////////////////////
-    // HashMapChangedListener
+    // ProtectedStoragePayloadListener
     ///////////////////////////////////////////////////////////////////////////////////////////
 
     @Override
-    public void onAdded(ProtectedStorageEntry protectedStorageEntry) {
-        final ProtectedStoragePayload protectedStoragePayload = protectedStorageEntry.getProtectedStoragePayload();
-        if (protectedStoragePayload instanceof BlindVote) {
-            addBlindVote((BlindVote) protectedStoragePayload);
-        }
+    public void onAdded(BlindVote blindVote) {
+        addBlindVote(blindVote);
     }
 
     @Override
-    public void onRemoved(ProtectedStorageEntry protectedStorageEntry) {
-        if (protectedStorageEntry.getProtectedStoragePayload() instanceof BlindVote)
-            throw new UnsupportedOperationException("Removal of blind vote data is not supported");
+    public void onRemoved(BlindVote blindVote) {
+        throw new UnsupportedOperationException("Removal of blind vote data is not supported");
     }
 
 
@@ -259,7 +275,7 @@ public class BlindVoteService implements PersistedDataHost, HashMapChangedListen
     private void addBlindVote(BlindVote blindVote) {
         if (!blindVoteList.contains(blindVote)) {
             blindVoteList.add(blindVote);
-            blindVoteListStorage.queueUpForSave(new BlindVoteList(blindVoteList), 100);
+            blindVoteListPersistence.requestPersist();
         } else {
             log.debug("We have that item in our list already");
         }
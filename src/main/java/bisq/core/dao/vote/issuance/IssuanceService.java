@@ -41,6 +41,10 @@ import bisq.common.util.Utilities;
 
 import com.google.protobuf.InvalidProtocolBufferException;
 
+import com.google.common.util.concurrent.Futures;
+import com.google.common.util.concurrent.ListenableFuture;
+import com.google.common.util.concurrent.ListeningExecutorService;
+
 import javax.inject.Inject;
 
 import javafx.collections.FXCollections;
@@ -51,11 +55,13 @@ import javax.crypto.SecretKey;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.ExecutionException;
 import java.util.stream.Collectors;
 
 import lombok.Getter;
@@ -68,6 +74,8 @@ import javax.annotation.Nullable;
 
 @Slf4j
 public class IssuanceService implements BsqBlockChain.Listener {
+    private static final int NUM_THREADS = Math.max(1, Runtime.getRuntime().availableProcessors() - 1);
+
     private final BlindVoteService blindVoteService;
     private final ReadableBsqBlockChain readableBsqBlockChain;
     private final WritableBsqBlockChain writableBsqBlockChain;
@@ -75,6 +83,14 @@ public class IssuanceService implements BsqBlockChain.Listener {
     @Getter
     private final ObservableList<IssuanceException> issuanceExceptions = FXCollections.observableArrayList();
     private BsqBlockChain.Listener bsqBlockChainListener;
+    // Decryption and parsing of the blind votes is done in parallel
+    private final ListeningExecutorService executorService =
+            Utilities.getListeningExecutorService("IssuanceService", NUM_THREADS, NUM_THREADS, 60);
+    // Start height of the cycle for which we have applied the vote result already and the height of the block at
+    // which we applied it. If a reorg or a snapshot rolls the chain back to that height the issuance is not part of
+    // the chain anymore and we need to apply it again.
+    private int cycleOfAppliedVoteResult = -1;
+    private int heightOfAppliedVoteResult = -1;
 
 
     ///////////////////////////////////////////////////////////////////////////////////////////
@@ -102,14 +118,27 @@ public class IssuanceService implements BsqBlockChain.Listener {
     }
 
     public void shutDown() {
+        executorService.shutdownNow();
     }
 
     @Override
     public void onBlockAdded(BsqBlock bsqBlock) {
-        if (daoPeriodService.getPhaseForHeight(bsqBlock.getHeight()) == DaoPeriodService.Phase.ISSUANCE) {
-            // A phase change is triggered by a new block but we need to wait for the parser to complete
-            //TODO use handler only triggered at end of parsing. -> Refactor bsqBlockChain and BsqNode handlers
-            applyVoteResult();
+        final int height = bsqBlock.getHeight();
+        // Blocks get added again after a reorg or after a snapshot was applied
+        if (height <= heightOfAppliedVoteResult) {
+            log.info("Chain got rolled back to height {}. We reset the applied vote result.", height);
+            resetVoteResult();
+        }
+
+        if (daoPeriodService.getPhaseForHeight(height) == DaoPeriodService.Phase.ISSUANCE) {
+            // The vote result of a cycle does not change once the vote reveal phase is over, so we only compute and
+            // apply it once per cycle.
+            final int cycle = daoPeriodService.getAbsoluteStartBlockOfPhase(height, DaoPeriodService.Phase.PROPOSAL);
+            if (cycle != cycleOfAppliedVoteResult) {
+                // A phase change is triggered by a new block but we need to wait for the parser to complete
+                //TODO use handler only triggered at end of parsing. -> Refactor bsqBlockChain and BsqNode handlers
+                applyVoteResult(cycle, height);
+            }
         }
     }
 
@@ -118,7 +147,13 @@ public class IssuanceService implements BsqBlockChain.Listener {
     // Private
     ///////////////////////////////////////////////////////////////////////////////////////////
 
-    private void applyVoteResult() {
+    private void resetVoteResult() {
+        cycleOfAppliedVoteResult = -1;
+        heightOfAppliedVoteResult = -1;
+    }
+
+    // If we could not calculate the result the cycle is not marked as applied, so we try again at the next block
+    private void applyVoteResult(int cycle, int height) {
         // We make a map with txIds of VoteReveal TxOutputs as key and the opReturn data as value (containing secret key
         // and hash of proposal list)
         Map<String, byte[]> opReturnByVoteRevealTxIdMap = getOpReturnByTxIdMap();
@@ -138,28 +173,42 @@ public class IssuanceService implements BsqBlockChain.Listener {
             // this is used to connect those transactions.
             Set<BlindVoteWithRevealTxId> blindVoteWithRevealTxIdSet = getBlindVoteWithRevealTxIdSet();
 
-            // We have now all data prepared required to get the decrypted vote data so we can calculate the result
-            Set<RevealedVote> revealedVotes = getRevealedVotes(blindVoteWithRevealTxIdSet, secretKeysByTxIdMap);
-
-            byte[] majorityVoteListHash = getMajorityVoteListHashByTxIdMap(txIdListMap);
-            if (majorityVoteListHash != null) {
-                if (isBlindVoteListMatchingMajority(majorityVoteListHash)) {
-                    Map<ProposalPayload, Long> stakeByProposalPayloadMap = getResultStakeByProposalPayloadMap(revealedVotes);
-                    IssuanceConsensus.applyVoteResult(stakeByProposalPayloadMap, readableBsqBlockChain, writableBsqBlockChain);
-                } else {
-                    log.warn("Our list of received blind votes do not match the list from the majority of voters.");
-                    // TODO request missing blind votes
-                }
+            // We have now all data prepared required to get the decrypted vote data so we can calculate the result.
+            // The decryption runs in parallel but we wait for it, so the result is applied at the block which
+            // triggered it and before the next block gets added.
+            Optional<Set<RevealedVote>> revealedVotes = getRevealedVotes(blindVoteWithRevealTxIdSet, secretKeysByTxIdMap);
+            if (revealedVotes.isPresent() && applyVoteResult(revealedVotes.get(), txIdListMap))
+                setVoteResultApplied(cycle, height);
+        } else {
+            log.debug("There have not been any votes in that cycle.");
+            setVoteResultApplied(cycle, height);
+        }
+    }
+
+    private boolean applyVoteResult(Set<RevealedVote> revealedVotes, Map<byte[], List<String>> txIdListMap) {
+        byte[] majorityVoteListHash = getMajorityVoteListHashByTxIdMap(txIdListMap);
+        if (majorityVoteListHash != null) {
+            if (isBlindVoteListMatchingMajority(majorityVoteListHash)) {
+                Map<ProposalPayload, Long> stakeByProposalPayloadMap = getResultStakeByProposalPayloadMap(revealedVotes);
+                IssuanceConsensus.applyVoteResult(stakeByProposalPayloadMap, readableBsqBlockChain, writableBsqBlockChain);
+                return true;
             } else {
-                //TODO throw exception as it is likely not a valid option
-                log.warn("majorityVoteListHash is null");
+                log.warn("Our list of received blind votes do not match the list from the majority of voters.");
+                // TODO request missing blind votes
+                return false;
             }
-
         } else {
-            log.debug("There have not been any votes in that cycle.");
+            //TODO throw exception as it is likely not a valid option
+            log.warn("majorityVoteListHash is null");
+            return false;
         }
     }
 
+    private void setVoteResultApplied(int cycle, int height) {
+        cycleOfAppliedVoteResult = cycle;
+        heightOfAppliedVoteResult = height;
+    }
+
     private Map<String, byte[]> getOpReturnByTxIdMap() {
         Map<String, byte[]> opReturnHashesByTxIdMap = new HashMap<>();
         // We want all voteRevealTxOutputs which are in current cycle we are processing.
@@ -208,55 +257,87 @@ public class IssuanceService implements BsqBlockChain.Listener {
     }
 
     // Finds txId of voteReveal tx which has its first input connected to the blind vote tx's first output for
-    // transferring the stake.
+    // transferring the stake. We use the spending tx index of the blockchain instead of iterating all txs.
     private Optional<String> getRevealTxIdForBlindVoteTx(String blindVoteTxId) {
-        Optional<String> optionalBlindVoteStakeTxOutputId = readableBsqBlockChain.getTx(blindVoteTxId)
+        Optional<TxOutput> optionalBlindVoteStakeTxOutput = readableBsqBlockChain.getTx(blindVoteTxId)
                 .map(Tx::getOutputs)
                 .filter(outputs -> !outputs.isEmpty())
-                .map(outputs -> outputs.get(0))
-                .map(TxOutput::getId);
+                .map(outputs -> outputs.get(0));
 
-        if (optionalBlindVoteStakeTxOutputId.isPresent()) {
-            String blindVoteStakeTxOutputId = optionalBlindVoteStakeTxOutputId.get();
-            return readableBsqBlockChain.getTxMap().values().stream()
+        if (optionalBlindVoteStakeTxOutput.isPresent()) {
+            TxOutput blindVoteStakeTxOutput = optionalBlindVoteStakeTxOutput.get();
+            return readableBsqBlockChain.getSpendingTxId(blindVoteStakeTxOutput.getTxIdIndexTuple())
+                    .flatMap(readableBsqBlockChain::getTx)
                     .filter(tx -> tx.getTxType() == TxType.VOTE_REVEAL)
-                    .map(tx -> {
+                    .filter(tx -> {
                         if (!tx.getInputs().isEmpty()) {
                             TxOutput connectedTxOutput = tx.getInputs().get(0).getConnectedTxOutput();
-                            if (connectedTxOutput != null) {
-                                if (connectedTxOutput.getId().equals(blindVoteStakeTxOutputId))
-                                    return tx.getId();
-                            }
+                            return connectedTxOutput != null &&
+                                    connectedTxOutput.getId().equals(blindVoteStakeTxOutput.getId());
                         }
-                        return null;
+                        return false;
                     })
-                    .filter(Objects::nonNull)
-                    .findAny();
+                    .map(Tx::getId);
         } else {
             return Optional.empty();
         }
     }
 
-    private Set<RevealedVote> getRevealedVotes(Set<BlindVoteWithRevealTxId> blindVoteWithRevealTxIdSet,
-                                               Map<String, SecretKey> secretKeysByTxIdMap) {
-        return blindVoteWithRevealTxIdSet.stream()
-                .map(blindVoteWithRevealTxId -> {
-                    final BlindVote blindVote = blindVoteWithRevealTxId.getBlindVote();
-                    final byte[] encryptedProposalList = blindVote.getEncryptedProposalList();
-                    final SecretKey secretKey = secretKeysByTxIdMap.get(blindVoteWithRevealTxId.getRevealTxId());
-                    try {
-                        final byte[] decrypted = IssuanceConsensus.decryptProposalList(encryptedProposalList, secretKey);
-                        ProposalList proposalList = ProposalList.getProposalListFromBytes(decrypted);
-                        return new RevealedVote(proposalList, blindVote);
-                    } catch (CryptoException | InvalidProtocolBufferException e) {
-                        log.error(e.toString());
-                        e.printStackTrace();
-                        issuanceExceptions.add(new IssuanceException("Error at getRevealedVotes", e, blindVote));
-                        return null;
-                    }
-                })
-                .filter(Objects::nonNull)
-                .collect(Collectors.toSet());
+    // Decrypting and parsing the proposal lists is the expensive part, so we do it on the executor and wait for all
+    // of them. Returns an empty Optional if the decryption got interrupted, e.g. because we shut down.
+    private Optional<Set<RevealedVote>> getRevealedVotes(Set<BlindVoteWithRevealTxId> blindVoteWithRevealTxIdSet,
+                                                         Map<String, SecretKey> secretKeysByTxIdMap) {
+        List<BlindVoteWithRevealTxId> blindVoteWithRevealTxIdList = new ArrayList<>(blindVoteWithRevealTxIdSet);
+        List<ListenableFuture<RevealedVote>> futures = blindVoteWithRevealTxIdList.stream()
+                .map(blindVoteWithRevealTxId -> executorService.submit(() -> getRevealedVote(blindVoteWithRevealTxId,
+                        secretKeysByTxIdMap.get(blindVoteWithRevealTxId.getRevealTxId()))))
+                .collect(Collectors.toList());
+
+        // A failed decryption does not fail the result, its blind vote is not counted
+        List<RevealedVote> result;
+        try {
+            result = Futures.successfulAsList(futures).get();
+        } catch (InterruptedException | ExecutionException e) {
+            futures.forEach(future -> future.cancel(true));
+            log.error("Decrypting the blind votes failed. " + e.toString());
+            if (e instanceof InterruptedException)
+                Thread.currentThread().interrupt();
+            return Optional.empty();
+        }
+
+        Set<RevealedVote> revealedVotes = new HashSet<>();
+        for (int i = 0; i < futures.size(); i++) {
+            if (result.get(i) != null) {
+                revealedVotes.add(result.get(i));
+            } else {
+                addIssuanceException(futures.get(i), blindVoteWithRevealTxIdList.get(i).getBlindVote());
+            }
+        }
+        return Optional.of(revealedVotes);
+    }
+
+    // The future is done already, so get does not block
+    private void addIssuanceException(ListenableFuture<RevealedVote> future, BlindVote blindVote) {
+        try {
+            future.get();
+        } catch (ExecutionException e) {
+            final Throwable cause = e.getCause();
+            log.error(cause.toString());
+            cause.printStackTrace();
+            issuanceExceptions.add(new IssuanceException("Error at getRevealedVotes",
+                    cause instanceof Exception ? (Exception) cause : e, blindVote));
+        } catch (Exception e) {
+            issuanceExceptions.add(new IssuanceException("Error at getRevealedVotes", e, blindVote));
+        }
+    }
+
+    private static RevealedVote getRevealedVote(BlindVoteWithRevealTxId blindVoteWithRevealTxId, SecretKey secretKey)
+            throws CryptoException, InvalidProtocolBufferException {
+        final BlindVote blindVote = blindVoteWithRevealTxId.getBlindVote();
+        final byte[] encryptedProposalList = blindVote.getEncryptedProposalList();
+        final byte[] decrypted = IssuanceConsensus.decryptProposalList(encryptedProposalList, secretKey);
+        ProposalList proposalList = ProposalList.getProposalListFromBytes(decrypted);
+        return new RevealedVote(proposalList, blindVote);
     }
 
     @Nullable
@@ -313,7 +394,7 @@ public class IssuanceService implements BsqBlockChain.Listener {
     ///////////////////////////////////////////////////////////////////////////////////////////
 
     @Value
-    private class BlindVoteWithRevealTxId {
+    private static class BlindVoteWithRevealTxId {
         private final BlindVote blindVote;
         private final String revealTxId;
 
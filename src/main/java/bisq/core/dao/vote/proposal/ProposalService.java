@@ -24,11 +24,12 @@ import bisq.core.dao.blockchain.BsqBlockChain;
 import bisq.core.dao.blockchain.ReadableBsqBlockChain;
 import bisq.core.dao.blockchain.vo.BsqBlock;
 import bisq.core.dao.vote.DaoPeriodService;
+import bisq.core.dao.vote.WriteBehindPersistence;
 import bisq.core.dao.vote.proposal.compensation.CompensationRequest;
 import bisq.core.dao.vote.proposal.generic.GenericProposal;
+import bisq.core.network.p2p.P2PPayloadRouter;
 
 import bisq.network.p2p.P2PService;
-import bisq.network.p2p.storage.HashMapChangedListener;
 import bisq.network.p2p.storage.payload.ProtectedStorageEntry;
 import bisq.network.p2p.storage.payload.ProtectedStoragePayload;
 
@@ -38,6 +39,8 @@ import bisq.common.crypto.KeyRing;
 import bisq.common.proto.persistable.PersistedDataHost;
 import bisq.common.storage.Storage;
 
+import io.bisq.generated.protobuffer.PB;
+
 import org.bitcoinj.core.Transaction;
 
 import com.google.inject.Inject;
@@ -52,7 +55,11 @@ import javafx.collections.transformation.FilteredList;
 
 import java.security.PublicKey;
 
+import java.util.ArrayList;
 import java.util.Optional;
+import java.util.Set;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
 
 import lombok.Getter;
 import lombok.extern.slf4j.Slf4j;
@@ -67,13 +74,16 @@ import static com.google.common.base.Preconditions.checkNotNull;
  * Manages proposal collections.
  */
 @Slf4j
-public class ProposalService implements PersistedDataHost, BsqBlockChain.Listener, HashMapChangedListener {
+public class ProposalService implements PersistedDataHost, BsqBlockChain.Listener,
+        P2PPayloadRouter.ProtectedStoragePayloadListener<ProposalPayload> {
     private final P2PService p2PService;
+    private final P2PPayloadRouter p2PPayloadRouter;
     private final BsqWalletService bsqWalletService;
     private final WalletsManager walletsManager;
     private final DaoPeriodService daoPeriodService;
     private final ReadableBsqBlockChain readableBsqBlockChain;
     private final Storage<ProposalList> proposalListStorage;
+    private final WriteBehindPersistence<ProposalList> proposalListPersistence;
     private final PublicKey signaturePubKey;
     @Getter
     private final ObservableList<Proposal> allProposals = FXCollections.observableArrayList();
@@ -90,6 +100,7 @@ public class ProposalService implements PersistedDataHost, BsqBlockChain.Listene
 
     @Inject
     public ProposalService(P2PService p2PService,
+                           P2PPayloadRouter p2PPayloadRouter,
                            BsqWalletService bsqWalletService,
                            WalletsManager walletsManager,
                            DaoPeriodService daoPeriodService,
@@ -97,11 +108,15 @@ public class ProposalService implements PersistedDataHost, BsqBlockChain.Listene
                            KeyRing keyRing,
                            Storage<ProposalList> proposalListStorage) {
         this.p2PService = p2PService;
+        this.p2PPayloadRouter = p2PPayloadRouter;
         this.bsqWalletService = bsqWalletService;
         this.walletsManager = walletsManager;
         this.daoPeriodService = daoPeriodService;
         this.readableBsqBlockChain = readableBsqBlockChain;
         this.proposalListStorage = proposalListStorage;
+        proposalListPersistence = new WriteBehindPersistence<>(proposalListStorage,
+                () -> new ProposalList(new ArrayList<>(allProposals)),
+                proto -> ProposalList.fromProto(((PB.PersistableEnvelope) proto).getProposalList()));
 
         signaturePubKey = keyRing.getPubKeyRing().getSignaturePubKey();
         readableBsqBlockChain.addListener(this);
@@ -119,35 +134,33 @@ public class ProposalService implements PersistedDataHost, BsqBlockChain.Listene
             if (persisted != null) {
                 this.allProposals.clear();
                 this.allProposals.addAll(persisted.getList());
+                proposalListPersistence.setPersisted(persisted);
             }
         }
     }
 
 
     ///////////////////////////////////////////////////////////////////////////////////////////
-    // HashMapChangedListener
+    // ProtectedStoragePayloadListener
     ///////////////////////////////////////////////////////////////////////////////////////////
 
     @Override
-    public void onAdded(ProtectedStorageEntry data) {
-        onProtectedStorageEntry(data, true);
+    public void onAdded(ProposalPayload proposalPayload) {
+        addProposal(proposalPayload, true);
     }
 
     @Override
-    public void onRemoved(ProtectedStorageEntry data) {
-        final ProtectedStoragePayload protectedStoragePayload = data.getProtectedStoragePayload();
-        if (protectedStoragePayload instanceof ProposalPayload) {
-            findProposal((ProposalPayload) protectedStoragePayload).ifPresent(proposal -> {
-                if (isInPhaseOrUnconfirmed(proposal.getProposalPayload())) {
-                    removeProposalFromList(proposal);
-                } else {
-                    final String msg = "onRemoved called of a Proposal which is outside of the Request phase is invalid and we ignore it.";
-                    log.warn(msg);
-                    if (DevEnv.isDevMode())
-                        throw new RuntimeException(msg);
-                }
-            });
-        }
+    public void onRemoved(ProposalPayload proposalPayload) {
+        findProposal(proposalPayload).ifPresent(proposal -> {
+            if (isInPhaseOrUnconfirmed(proposal.getProposalPayload())) {
+                removeProposalFromList(proposal);
+            } else {
+                final String msg = "onRemoved called of a Proposal which is outside of the Request phase is invalid and we ignore it.";
+                log.warn(msg);
+                if (DevEnv.isDevMode())
+                    throw new RuntimeException(msg);
+            }
+        });
     }
 
 
@@ -168,7 +181,7 @@ public class ProposalService implements PersistedDataHost, BsqBlockChain.Listene
     ///////////////////////////////////////////////////////////////////////////////////////////
 
     public void onAllServicesInitialized() {
-        p2PService.addHashSetChangedListener(this);
+        p2PPayloadRouter.addProtectedStoragePayloadListener(ProposalPayload.class, this);
         p2PService.getP2PDataStorage().getMap().values().forEach(e -> onProtectedStorageEntry(e, false));
 
         // Republish own active proposals once we are well connected
@@ -187,6 +200,7 @@ public class ProposalService implements PersistedDataHost, BsqBlockChain.Listene
     }
 
     public void shutDown() {
+        proposalListPersistence.flushAndWait();
     }
 
     public void publishProposal(Proposal proposal, FutureCallback<Transaction> callback) {
@@ -250,7 +264,7 @@ public class ProposalService implements PersistedDataHost, BsqBlockChain.Listene
     }
 
     public void persist() {
-        proposalListStorage.queueUpForSave(new ProposalList(allProposals), 100);
+        proposalListPersistence.requestPersist();
     }
 
     public boolean isMine(Proposal proposal) {
@@ -333,8 +347,15 @@ public class ProposalService implements PersistedDataHost, BsqBlockChain.Listene
     }
 
     private void updatePredicates() {
-        activeProposals.setPredicate(proposal -> !daoPeriodService.isTxInPastCycle(proposal.getTxId()));
-        closedProposals.setPredicate(proposal -> daoPeriodService.isTxInPastCycle(proposal.getTxId()));
+        // We classify all proposals at once instead of looking up each tx twice in the predicates. Proposals added
+        // later are classified when the predicate gets applied to them.
+        final Set<String> txIds = allProposals.stream().map(Proposal::getTxId).collect(Collectors.toSet());
+        final Set<String> txIdsInPastCycle = daoPeriodService.getTxIdsInPastCycle(txIds);
+        final Predicate<Proposal> isInPastCycle = proposal -> txIds.contains(proposal.getTxId()) ?
+                txIdsInPastCycle.contains(proposal.getTxId()) :
+                daoPeriodService.isTxInPastCycle(proposal.getTxId());
+        activeProposals.setPredicate(isInPastCycle.negate());
+        closedProposals.setPredicate(isInPastCycle);
     }
 
     private boolean contains(ProposalPayload proposalPayload) {
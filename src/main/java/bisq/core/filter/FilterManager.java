@@ -20,6 +20,7 @@ package bisq.core.filter;
 import bisq.core.app.AppOptionKeys;
 import bisq.core.app.BisqEnvironment;
 import bisq.core.btc.BitcoinNodes;
+import bisq.core.network.p2p.P2PPayloadRouter;
 import bisq.core.payment.payload.PaymentAccountPayload;
 import bisq.core.payment.payload.PaymentMethod;
 import bisq.core.provider.ProvidersRepository;
@@ -29,8 +30,6 @@ import bisq.core.user.User;
 import bisq.network.p2p.NodeAddress;
 import bisq.network.p2p.P2PService;
 import bisq.network.p2p.P2PServiceListener;
-import bisq.network.p2p.storage.HashMapChangedListener;
-import bisq.network.p2p.storage.payload.ProtectedStorageEntry;
 import bisq.network.p2p.storage.payload.ProtectedStoragePayload;
 
 import bisq.common.UserThread;
@@ -53,6 +52,7 @@ import java.security.SignatureException;
 import java.math.BigInteger;
 
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.stream.Collectors;
@@ -83,6 +83,7 @@ public class FilterManager {
     }
 
     private final P2PService p2PService;
+    private final P2PPayloadRouter p2PPayloadRouter;
     private final KeyRing keyRing;
     private final User user;
     private final Preferences preferences;
@@ -102,6 +103,7 @@ public class FilterManager {
 
     @Inject
     public FilterManager(P2PService p2PService,
+                         P2PPayloadRouter p2PPayloadRouter,
                          KeyRing keyRing,
                          User user,
                          Preferences preferences,
@@ -110,6 +112,7 @@ public class FilterManager {
                          @Named(AppOptionKeys.IGNORE_DEV_MSG_KEY) boolean ignoreDevMsg,
                          @Named(AppOptionKeys.USE_DEV_PRIVILEGE_KEYS) boolean useDevPrivilegeKeys) {
         this.p2PService = p2PService;
+        this.p2PPayloadRouter = p2PPayloadRouter;
         this.keyRing = keyRing;
         this.user = user;
         this.preferences = preferences;
@@ -122,31 +125,32 @@ public class FilterManager {
     }
 
     public void onAllServicesInitialized() {
+        final List<Filter> persistedFilters = new ArrayList<>();
         if (!ignoreDevMsg) {
-
-            final List<ProtectedStorageEntry> list = new ArrayList<>(p2PService.getP2PDataStorage().getMap().values());
-            list.forEach(e -> {
+            p2PService.getP2PDataStorage().getMap().values().forEach(e -> {
                 final ProtectedStoragePayload protectedStoragePayload = e.getProtectedStoragePayload();
                 if (protectedStoragePayload instanceof Filter)
-                    addFilter((Filter) protectedStoragePayload);
+                    persistedFilters.add((Filter) protectedStoragePayload);
             });
+        }
+        onAllServicesInitialized(persistedFilters);
+    }
 
-            p2PService.addHashSetChangedListener(new HashMapChangedListener() {
+    // The persistedFilters are the Filter payloads of the protected storage map at startup, collected by the caller.
+    public void onAllServicesInitialized(Collection<Filter> persistedFilters) {
+        if (!ignoreDevMsg) {
+            persistedFilters.forEach(this::addFilter);
+
+            p2PPayloadRouter.addProtectedStoragePayloadListener(Filter.class, new P2PPayloadRouter.ProtectedStoragePayloadListener<Filter>() {
                 @Override
-                public void onAdded(ProtectedStorageEntry data) {
-                    if (data.getProtectedStoragePayload() instanceof Filter) {
-                        Filter filter = (Filter) data.getProtectedStoragePayload();
-                        addFilter(filter);
-                    }
+                public void onAdded(Filter filter) {
+                    addFilter(filter);
                 }
 
                 @Override
-                public void onRemoved(ProtectedStorageEntry data) {
-                    if (data.getProtectedStoragePayload() instanceof Filter) {
-                        Filter filter = (Filter) data.getProtectedStoragePayload();
-                        if (verifySignature(filter))
-                            resetFilters();
-                    }
+                public void onRemoved(Filter filter) {
+                    if (verifySignature(filter))
+                        resetFilters();
                 }
             });
         }
@@ -17,10 +17,9 @@
 
 package bisq.core.locale;
 
-import com.google.common.collect.Collections2;
-import com.google.common.collect.Lists;
-
 import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
@@ -28,27 +27,72 @@ import java.util.Locale;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.stream.Collectors;
 
 import lombok.extern.slf4j.Slf4j;
 
+import javax.annotation.Nullable;
+
 @Slf4j
 public class CountryUtil {
-    public static List<Country> getAllSepaEuroCountries() {
-        List<Country> list = new ArrayList<>();
-        String[] codes = {"AT", "BE", "CY", "DE", "EE", "FI", "FR", "GR", "IE",
-                "IT", "LV", "LT", "LU", "MC", "MT", "NL", "PT", "SK", "SI", "ES"};
-        populateCountryListByCodes(list, codes);
-        list.sort((a, b) -> a.name.compareTo(b.name));
+    private static final String[] SEPA_EURO_COUNTRY_CODES = {"AT", "BE", "CY", "DE", "EE", "FI", "FR", "GR", "IE",
+            "IT", "LV", "LT", "LU", "MC", "MT", "NL", "PT", "SK", "SI", "ES"};
+    private static final String[] SEPA_NON_EURO_COUNTRY_CODES = {"BG", "HR", "CZ", "DK", "GB", "HU", "PL", "RO",
+            "SE", "IS", "NO", "LI", "CH"};
+    // Bit index is derived from the 2 letter country code, see getBitIndex
+    private static final BitSet SEPA_EURO_COUNTRIES = getBitSet(SEPA_EURO_COUNTRY_CODES);
+    private static final BitSet SEPA_NON_EURO_COUNTRIES = getBitSet(SEPA_NON_EURO_COUNTRY_CODES);
+
+    // Country names depend on the language, so the model gets rebuilt if the language changes
+    @Nullable
+    private static volatile CountryModel countryModel;
+
+    private static class CountryModel {
+        private final Locale locale;
+        private final Locale displayLocale;
+        private final List<Country> allCountries;
+        private final Map<String, Country> countryByCode = new HashMap<>();
+        private final Map<Region, List<Country>> countriesByRegion = new HashMap<>();
+        private final List<Country> sepaEuroCountries;
+        private final List<Country> sepaNonEuroCountries;
+        private final Map<String, String> nameByCode = new ConcurrentHashMap<>();
+
+        private CountryModel(Locale locale, Locale displayLocale) {
+            this.locale = locale;
+            this.displayLocale = displayLocale;
+            allCountries = Collections.unmodifiableList(createAllCountries());
+            allCountries.forEach(country -> {
+                countryByCode.putIfAbsent(country.code, country);
+                countriesByRegion.computeIfAbsent(country.region, region -> new ArrayList<>()).add(country);
+            });
+            sepaEuroCountries = Collections.unmodifiableList(createCountryListByCodes(SEPA_EURO_COUNTRY_CODES));
+            sepaNonEuroCountries = Collections.unmodifiableList(createCountryListByCodes(SEPA_NON_EURO_COUNTRY_CODES));
+        }
 
-        return list;
+        private boolean isValid(Locale locale, Locale displayLocale) {
+            return this.locale.equals(locale) && this.displayLocale.equals(displayLocale);
+        }
+    }
+
+    public static List<Country> getAllSepaEuroCountries() {
+        return new ArrayList<>(getCountryModel().sepaEuroCountries);
     }
 
     public static List<Country> getAllSepaInstantEuroCountries() {
         return getAllSepaEuroCountries();
     }
 
-    private static void populateCountryListByCodes(List<Country> list, String[] codes) {
+    public static boolean isSepaEuroCountry(String countryCode) {
+        return isInBitSet(SEPA_EURO_COUNTRIES, countryCode);
+    }
+
+    public static boolean isSepaCountry(String countryCode) {
+        return isInBitSet(SEPA_EURO_COUNTRIES, countryCode) || isInBitSet(SEPA_NON_EURO_COUNTRIES, countryCode);
+    }
+
+    private static List<Country> createCountryListByCodes(String[] codes) {
+        List<Country> list = new ArrayList<>();
         for (String code : codes) {
             Locale locale = new Locale(LanguageUtil.getDefaultLanguage(), code, "");
             final String countryCode = locale.getCountry();
@@ -56,15 +100,26 @@ public class CountryUtil {
             final Region region = new Region(regionCode, getRegionName(regionCode));
             Country country = new Country(countryCode, locale.getDisplayCountry(), region);
             if (countryCode.equals("XK"))
-                country = new Country(countryCode, getNameByCode(countryCode), region);
+                country = new Country(countryCode, createNameByCode(countryCode), region);
             list.add(country);
         }
+        list.sort((a, b) -> a.name.compareTo(b.name));
+        return list;
     }
 
     public static boolean containsAllSepaEuroCountries(List<String> countryCodesToCompare) {
         countryCodesToCompare.sort(String::compareTo);
-        List<String> countryCodesBase = getAllSepaEuroCountries().stream().map(c -> c.code).collect(Collectors.toList());
-        return countryCodesToCompare.toString().equals(countryCodesBase.toString());
+        // Same result as comparing the sorted lists: all codes are SEPA euro countries and each one is used once
+        if (countryCodesToCompare.size() != SEPA_EURO_COUNTRY_CODES.length)
+            return false;
+
+        BitSet found = new BitSet();
+        for (String countryCode : countryCodesToCompare) {
+            if (!isSepaEuroCountry(countryCode))
+                return false;
+            found.set(getBitIndex(countryCode));
+        }
+        return found.cardinality() == SEPA_EURO_COUNTRY_CODES.length;
     }
 
     public static boolean containsAllSepaInstantEuroCountries(List<String> countryCodesToCompare) {
@@ -72,12 +127,7 @@ public class CountryUtil {
     }
 
     public static List<Country> getAllSepaNonEuroCountries() {
-        List<Country> list = new ArrayList<>();
-        String[] codes = {"BG", "HR", "CZ", "DK", "GB", "HU", "PL", "RO",
-                "SE", "IS", "NO", "LI", "CH"};
-        populateCountryListByCodes(list, codes);
-        list.sort((a, b) -> a.name.compareTo(b.name));
-        return list;
+        return new ArrayList<>(getCountryModel().sepaNonEuroCountries);
     }
 
     public static List<Country> getAllSepaInstantNonEuroCountries() {
@@ -85,9 +135,10 @@ public class CountryUtil {
     }
 
     public static List<Country> getAllSepaCountries() {
+        final CountryModel model = getCountryModel();
         List<Country> list = new ArrayList<>();
-        list.addAll(getAllSepaEuroCountries());
-        list.addAll(getAllSepaNonEuroCountries());
+        list.addAll(model.sepaEuroCountries);
+        list.addAll(model.sepaNonEuroCountries);
         return list;
     }
 
@@ -110,10 +161,14 @@ public class CountryUtil {
     }
 
     public static Optional<Country> findCountryByCode(String countryCode) {
-        return getAllCountries().stream().filter(e -> e.code.equals(countryCode)).findAny();
+        return Optional.ofNullable(getCountryModel().countryByCode.get(countryCode));
     }
 
     public static String getNameByCode(String countryCode) {
+        return getCountryModel().nameByCode.computeIfAbsent(countryCode, CountryUtil::createNameByCode);
+    }
+
+    private static String createNameByCode(String countryCode) {
         if (countryCode.equals("XK"))
             return "Republic of Kosovo";
         else
@@ -159,11 +214,28 @@ public class CountryUtil {
     }
 
     public static List<Country> getAllCountriesForRegion(Region selectedRegion) {
-        return Lists.newArrayList(Collections2.filter(getAllCountries(), country ->
-                selectedRegion != null && country != null && selectedRegion.equals(country.region)));
+        if (selectedRegion == null)
+            return new ArrayList<>();
+
+        return new ArrayList<>(getCountryModel().countriesByRegion.getOrDefault(selectedRegion, Collections.emptyList()));
     }
 
     public static List<Country> getAllCountries() {
+        return new ArrayList<>(getCountryModel().allCountries);
+    }
+
+    private static CountryModel getCountryModel() {
+        final Locale locale = getLocale();
+        final Locale displayLocale = Locale.getDefault(Locale.Category.DISPLAY);
+        CountryModel model = countryModel;
+        if (model == null || !model.isValid(locale, displayLocale)) {
+            model = new CountryModel(locale, displayLocale);
+            countryModel = model;
+        }
+        return model;
+    }
+
+    private static List<Country> createAllCountries() {
         final Set<Country> allCountries = new HashSet<>();
         for (final Locale locale : getAllCountryLocales()) {
             String regionCode = getRegionCode(locale.getCountry());
@@ -183,6 +255,29 @@ public class CountryUtil {
         return allCountriesList;
     }
 
+    private static BitSet getBitSet(String[] countryCodes) {
+        BitSet bitSet = new BitSet();
+        for (String countryCode : countryCodes)
+            bitSet.set(getBitIndex(countryCode));
+        return bitSet;
+    }
+
+    private static boolean isInBitSet(BitSet bitSet, String countryCode) {
+        final int index = getBitIndex(countryCode);
+        return index >= 0 && bitSet.get(index);
+    }
+
+    // -1 if it is not a code of 2 upper case letters
+    private static int getBitIndex(String countryCode) {
+        if (countryCode == null || countryCode.length() != 2)
+            return -1;
+        final int first = countryCode.charAt(0) - 'A';
+        final int second = countryCode.charAt(1) - 'A';
+        if (first < 0 || first >= 26 || second < 0 || second >= 26)
+            return -1;
+        return first * 26 + second;
+    }
+
     private static List<Locale> getAllCountryLocales() {
         List<Locale> allLocales = LocaleUtil.getAllLocales();
 
@@ -29,9 +29,12 @@ import bisq.common.app.DevEnv;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Comparator;
+import java.util.Collections;
 import java.util.Currency;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Locale;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
@@ -47,9 +50,15 @@ public class CurrencyUtil {
     private static String baseCurrencyCode = "BTC";
     private static List<FiatCurrency> allSortedFiatCurrencies;
     private static List<CryptoCurrency> allSortedCryptoCurrencies;
+    // Lookup by code. Built together with the sorted lists and never changed afterwards.
+    private static Map<String, FiatCurrency> fiatCurrencyByCode;
+    private static Map<String, CryptoCurrency> cryptoCurrencyByCode;
 
     public static void setBaseCurrencyCode(String baseCurrencyCode) {
         CurrencyUtil.baseCurrencyCode = baseCurrencyCode;
+        // The base currency is excluded from the crypto currencies, so we need to rebuild them
+        allSortedCryptoCurrencies = null;
+        cryptoCurrencyByCode = null;
     }
 
     public static List<FiatCurrency> getAllSortedFiatCurrencies() {
@@ -59,6 +68,12 @@ public class CurrencyUtil {
         return allSortedFiatCurrencies;
     }
 
+    private static Map<String, FiatCurrency> getFiatCurrencyByCode() {
+        if (fiatCurrencyByCode == null)
+            fiatCurrencyByCode = getMapByCode(getAllSortedFiatCurrencies());
+        return fiatCurrencyByCode;
+    }
+
     private static List<FiatCurrency> createAllSortedFiatCurrenciesList() {
         Set<FiatCurrency> set = CountryUtil.getAllCountries().stream()
                 .map(country -> getCurrencyByCountryCode(country.code))
@@ -98,6 +113,12 @@ public class CurrencyUtil {
         return allSortedCryptoCurrencies;
     }
 
+    private static Map<String, CryptoCurrency> getCryptoCurrencyByCode() {
+        if (cryptoCurrencyByCode == null)
+            cryptoCurrencyByCode = getMapByCode(getAllSortedCryptoCurrencies());
+        return cryptoCurrencyByCode;
+    }
+
     private static List<CryptoCurrency> createAllSortedCryptoCurrenciesList() {
         List<CryptoCurrency> result = assetRegistry.stream()
                 .filter(CurrencyUtil::assetIsNotBaseCurrency)
@@ -240,27 +261,33 @@ public class CurrencyUtil {
     }
 
     public static boolean isFiatCurrency(String currencyCode) {
+        if (currencyCode == null || currencyCode.isEmpty())
+            return false;
+
+        // Most codes are in one of our maps, only for other ISO codes we need to ask Currency
+        if (getFiatCurrencyByCode().containsKey(currencyCode))
+            return !isCryptoCurrency(currencyCode);
+        if (isCryptoCurrency(currencyCode))
+            return false;
+
         try {
-            return currencyCode != null
-                    && !currencyCode.isEmpty()
-                    && !isCryptoCurrency(currencyCode)
-                    && Currency.getInstance(currencyCode) != null;
+            return Currency.getInstance(currencyCode) != null;
         } catch (Throwable t) {
             return false;
         }
     }
 
     public static Optional<FiatCurrency> getFiatCurrency(String currencyCode) {
-        return getAllSortedFiatCurrencies().stream().filter(e -> e.getCode().equals(currencyCode)).findAny();
+        return currencyCode != null ? Optional.ofNullable(getFiatCurrencyByCode().get(currencyCode)) : Optional.empty();
     }
 
     @SuppressWarnings("WeakerAccess")
     public static boolean isCryptoCurrency(String currencyCode) {
-        return getCryptoCurrency(currencyCode).isPresent();
+        return currencyCode != null && getCryptoCurrencyByCode().containsKey(currencyCode);
     }
 
     public static Optional<CryptoCurrency> getCryptoCurrency(String currencyCode) {
-        return getAllSortedCryptoCurrencies().stream().filter(e -> e.getCode().equals(currencyCode)).findAny();
+        return currencyCode != null ? Optional.ofNullable(getCryptoCurrencyByCode().get(currencyCode)) : Optional.empty();
     }
 
     public static Optional<TradeCurrency> getTradeCurrency(String currencyCode) {
@@ -285,8 +312,9 @@ public class CurrencyUtil {
 
 
     public static String getNameByCode(String currencyCode) {
-        if (isCryptoCurrency(currencyCode))
-            return getCryptoCurrency(currencyCode).get().getName();
+        Optional<CryptoCurrency> cryptoCurrency = getCryptoCurrency(currencyCode);
+        if (cryptoCurrency.isPresent())
+            return cryptoCurrency.get().getName();
 
         try {
             return Currency.getInstance(currencyCode).getDisplayName();
@@ -304,6 +332,13 @@ public class CurrencyUtil {
         return GlobalSettings.getDefaultTradeCurrency();
     }
 
+    // If a code is used twice the first one wins, as it was with the stream lookup
+    private static <T extends TradeCurrency> Map<String, T> getMapByCode(List<T> tradeCurrencies) {
+        Map<String, T> map = new HashMap<>();
+        tradeCurrencies.forEach(tradeCurrency -> map.putIfAbsent(tradeCurrency.getCode(), tradeCurrency));
+        return Collections.unmodifiableMap(map);
+    }
+
     private static boolean assetIsNotBaseCurrency(Asset asset) {
         return !asset.getTickerSymbol().equals(baseCurrencyCode);
     }
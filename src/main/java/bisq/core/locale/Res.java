@@ -30,27 +30,44 @@ import java.io.IOException;
 import java.io.InputStream;
 import java.io.InputStreamReader;
 
+import java.util.HashMap;
 import java.util.Locale;
+import java.util.Map;
 import java.util.MissingResourceException;
 import java.util.PropertyResourceBundle;
 import java.util.ResourceBundle;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import org.jetbrains.annotations.NotNull;
 
+import javax.annotation.Nullable;
+
 public class Res {
     private static final Logger log = LoggerFactory.getLogger(Res.class);
 
     @SuppressWarnings("CanBeFinal")
-    private static ResourceBundle resourceBundle = ResourceBundle.getBundle("i18n.displayStrings", GlobalSettings.getLocale(), new UTF8Control());
+    private static volatile ResourceBundle resourceBundle = ResourceBundle.getBundle("i18n.displayStrings", GlobalSettings.getLocale(), new UTF8Control());
+
+    // Strings with the base currency replacements applied, filled at the first lookup of a key. A new map is used
+    // when the bundle or the base currency changes.
+    private static volatile Map<String, String> expandedStringByKey = new ConcurrentHashMap<>();
+    // Incremented when the cached strings get invalid, so the per thread message formats get dropped as well
+    private static volatile int cacheGeneration;
+    // MessageFormat is not thread safe, so each thread has its own cache
+    private static final ThreadLocal<MessageFormatCache> messageFormatCache = ThreadLocal.withInitial(MessageFormatCache::new);
+    private static final LongAdder numCacheHits = new LongAdder();
+    private static final LongAdder numCacheMisses = new LongAdder();
 
     static {
         GlobalSettings.localeProperty().addListener((observable, oldValue, newValue) -> {
             if ("en".equalsIgnoreCase(newValue.getLanguage()))
                 newValue = Locale.ROOT;
             resourceBundle = ResourceBundle.getBundle("i18n.displayStrings", newValue, new UTF8Control());
+            invalidateCache();
         });
     }
 
@@ -72,11 +89,13 @@ public class Res {
 
     public static void setBaseCurrencyCode(String baseCurrencyCode) {
         Res.baseCurrencyCode = baseCurrencyCode;
+        invalidateCache();
     }
 
     public static void setBaseCurrencyName(String baseCurrencyName) {
         Res.baseCurrencyName = baseCurrencyName;
         baseCurrencyNameLowerCase = baseCurrencyName.toLowerCase();
+        invalidateCache();
     }
 
     public static String getBaseCurrencyCode() {
@@ -97,21 +116,103 @@ public class Res {
     }
 
     public static String get(String key, Object... arguments) {
-        return MessageFormat.format(Res.get(key), arguments);
+        MessageFormatCache cache = messageFormatCache.get();
+        cache.validate(cacheGeneration, Locale.getDefault(Locale.Category.FORMAT));
+        MessageFormat messageFormat = cache.messageFormatByKey.get(key);
+        if (messageFormat != null) {
+            numCacheHits.increment();
+            return messageFormat.format(arguments);
+        }
+
+        numCacheMisses.increment();
+        // Counted as one lookup, so we don't count the expanded string lookup again
+        String pattern = expandString(key);
+        if (pattern == null) {
+            // Missing key, we don't cache it so it gets reported at each call
+            return MessageFormat.format(handleMissingKey(key), arguments);
+        }
+
+        messageFormat = new MessageFormat(pattern, cache.locale);
+        cache.messageFormatByKey.put(key, messageFormat);
+        return messageFormat.format(arguments);
     }
 
     public static String get(String key) {
+        String value = getExpandedString(key);
+        return value != null ? value : handleMissingKey(key);
+    }
+
+    public static long getNumCacheHits() {
+        return numCacheHits.sum();
+    }
+
+    public static long getNumCacheMisses() {
+        return numCacheMisses.sum();
+    }
+
+
+    ///////////////////////////////////////////////////////////////////////////////////////////
+    // Private
+    ///////////////////////////////////////////////////////////////////////////////////////////
+
+    // Counts the lookup as cache hit or miss. Returns null if the key is missing in the bundle.
+    @Nullable
+    private static String getExpandedString(String key) {
+        String value = expandedStringByKey.get(key);
+        if (value != null) {
+            numCacheHits.increment();
+            return value;
+        }
+
+        numCacheMisses.increment();
+        return expandString(key);
+    }
+
+    // Does not count the lookup. Returns null if the key is missing in the bundle.
+    @Nullable
+    private static String expandString(String key) {
+        Map<String, String> map = expandedStringByKey;
+        String value = map.get(key);
+        if (value != null)
+            return value;
+
         try {
-            return resourceBundle.getString(key)
+            value = resourceBundle.getString(key)
                     .replace("BTC", baseCurrencyCode)
                     .replace("Bitcoin", baseCurrencyName)
                     .replace("bitcoin", baseCurrencyNameLowerCase);
         } catch (MissingResourceException e) {
-            log.warn("Missing resource for key: " + key);
-            if (DevEnv.isDevMode())
-                throw new RuntimeException("Missing resource for key: " + key);
+            return null;
+        }
+        map.put(key, value);
+        return value;
+    }
 
-            return key;
+    private static String handleMissingKey(String key) {
+        log.warn("Missing resource for key: " + key);
+        if (DevEnv.isDevMode())
+            throw new RuntimeException("Missing resource for key: " + key);
+
+        return key;
+    }
+
+    private static synchronized void invalidateCache() {
+        expandedStringByKey = new ConcurrentHashMap<>();
+        cacheGeneration++;
+    }
+
+    private static class MessageFormatCache {
+        private final Map<String, MessageFormat> messageFormatByKey = new HashMap<>();
+        private int generation = -1;
+        private Locale locale;
+
+        // MessageFormat.format uses the default format locale, so we drop the cache if that changes as well
+        private void validate(int generation, Locale locale) {
+            if (this.generation != generation || !locale.equals(this.locale)) {
+                messageFormatByKey.clear();
+                this.generation = generation;
+                this.locale = locale;
+            }
         }
     }
 }
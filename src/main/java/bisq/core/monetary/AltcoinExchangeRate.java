@@ -60,13 +60,7 @@ public class AltcoinExchangeRate {
      * @throws ArithmeticException if the converted altcoin amount is too high or too low.
      */
     public Altcoin coinToAltcoin(Coin convertCoin) {
-        BigInteger converted = BigInteger.valueOf(coin.value)
-                .multiply(BigInteger.valueOf(convertCoin.value))
-                .divide(BigInteger.valueOf(altcoin.value));
-        if (converted.compareTo(BigInteger.valueOf(Long.MAX_VALUE)) > 0
-                || converted.compareTo(BigInteger.valueOf(Long.MIN_VALUE)) < 0)
-            throw new ArithmeticException("Overflow");
-        return Altcoin.valueOf(altcoin.currencyCode, converted.longValue());
+        return Altcoin.valueOf(altcoin.currencyCode, multiplyAndDivide(coin.value, convertCoin.value, altcoin.value));
     }
 
     /**
@@ -77,17 +71,36 @@ public class AltcoinExchangeRate {
     public Coin altcoinToCoin(Altcoin convertAltcoin) {
         checkArgument(convertAltcoin.currencyCode.equals(altcoin.currencyCode), "Currency mismatch: %s vs %s",
                 convertAltcoin.currencyCode, altcoin.currencyCode);
-        // Use BigInteger because it's much easier to maintain full precision without overflowing.
-        BigInteger converted = BigInteger.valueOf(altcoin.value)
-                .multiply(BigInteger.valueOf(convertAltcoin.value))
-                .divide(BigInteger.valueOf(coin.value));
-        if (converted.compareTo(BigInteger.valueOf(Long.MAX_VALUE)) > 0
-                || converted.compareTo(BigInteger.valueOf(Long.MIN_VALUE)) < 0)
-            throw new ArithmeticException("Overflow");
+        long converted = multiplyAndDivide(altcoin.value, convertAltcoin.value, coin.value);
         try {
-            return Coin.valueOf(converted.longValue());
+            return Coin.valueOf(converted);
         } catch (IllegalArgumentException x) {
             throw new ArithmeticException("Overflow: " + x.getMessage());
         }
     }
+
+    /**
+     * Returns a * b / divisor with full precision, rounded towards zero like BigInteger.divide.
+     * If the product fits into a long we don't need to allocate BigIntegers, which is the case for all realistic
+     * amounts and prices. Otherwise we fall back to BigInteger as the result might still fit into a long.
+     *
+     * @throws ArithmeticException if the result does not fit into a long.
+     */
+    static long multiplyAndDivide(long a, long b, long divisor) {
+        long product = a * b;
+        // Same overflow check as in Math.multiplyExact, but without throwing an exception
+        boolean isProductInRange = ((Math.abs(a) | Math.abs(b)) >>> 31 == 0) ||
+                ((b == 0 || product / b == a) && !(a == Long.MIN_VALUE && b == -1));
+        if (isProductInRange && divisor > 0)
+            return product / divisor;
+
+        // Use BigInteger because it's much easier to maintain full precision without overflowing.
+        BigInteger converted = BigInteger.valueOf(a)
+                .multiply(BigInteger.valueOf(b))
+                .divide(BigInteger.valueOf(divisor));
+        if (converted.compareTo(BigInteger.valueOf(Long.MAX_VALUE)) > 0
+                || converted.compareTo(BigInteger.valueOf(Long.MIN_VALUE)) < 0)
+            throw new ArithmeticException("Overflow");
+        return converted.longValue();
+    }
 }
@@ -21,7 +21,6 @@ import bisq.core.locale.CurrencyUtil;
 
 import org.bitcoinj.core.Coin;
 import org.bitcoinj.core.Monetary;
-import org.bitcoinj.utils.ExchangeRate;
 import org.bitcoinj.utils.Fiat;
 
 import org.slf4j.Logger;
@@ -29,6 +28,8 @@ import org.slf4j.LoggerFactory;
 
 import org.jetbrains.annotations.NotNull;
 
+import static com.google.common.base.Preconditions.checkArgument;
+
 /**
  * Wrapper for price values with variable precision. If monetary is Altcoin we use precision 8 otherwise Fiat with precision 4.
  * The inverted price notation in the offer will be refactored once in a bigger refactoring update.
@@ -57,9 +58,13 @@ public class Price extends MonetaryWrapper implements Comparable<Price> {
     }
 
     public Volume getVolumeByAmount(Coin amount) {
-        if (monetary instanceof Fiat)
-            return new Volume(new ExchangeRate((Fiat) monetary).coinToFiat(amount));
-        else if (monetary instanceof Altcoin)
+        if (monetary instanceof Fiat) {
+            // Same as ExchangeRate.coinToFiat but without BigInteger allocations if the product fits into a long
+            Fiat fiat = (Fiat) monetary;
+            checkArgument(fiat.isPositive());
+            long converted = AltcoinExchangeRate.multiplyAndDivide(amount.value, fiat.value, Coin.COIN.value);
+            return new Volume(Fiat.valueOf(fiat.currencyCode, converted));
+        } else if (monetary instanceof Altcoin)
             return new Volume(new AltcoinExchangeRate((Altcoin) monetary).coinToAltcoin(amount));
         else
             throw new IllegalStateException("Monetary must be either of type Fiat or Altcoin");
@@ -67,9 +72,20 @@ public class Price extends MonetaryWrapper implements Comparable<Price> {
 
     public Coin getAmountByVolume(Volume volume) {
         Monetary monetary = volume.getMonetary();
-        if (monetary instanceof Fiat && this.monetary instanceof Fiat)
-            return new ExchangeRate((Fiat) this.monetary).fiatToCoin((Fiat) monetary);
-        else if (monetary instanceof Altcoin && this.monetary instanceof Altcoin)
+        if (monetary instanceof Fiat && this.monetary instanceof Fiat) {
+            // Same as ExchangeRate.fiatToCoin but without BigInteger allocations if the product fits into a long
+            Fiat fiat = (Fiat) this.monetary;
+            Fiat convertFiat = (Fiat) monetary;
+            checkArgument(fiat.isPositive());
+            checkArgument(convertFiat.currencyCode.equals(fiat.currencyCode), "Currency mismatch: %s vs %s",
+                    convertFiat.currencyCode, fiat.currencyCode);
+            long converted = AltcoinExchangeRate.multiplyAndDivide(convertFiat.value, Coin.COIN.value, fiat.value);
+            try {
+                return Coin.valueOf(converted);
+            } catch (IllegalArgumentException x) {
+                throw new ArithmeticException("Overflow: " + x.getMessage());
+            }
+        } else if (monetary instanceof Altcoin && this.monetary instanceof Altcoin)
             return new AltcoinExchangeRate((Altcoin) this.monetary).altcoinToCoin((Altcoin) monetary);
         else
             return Coin.ZERO;
@@ -0,0 +1,170 @@
+/*
+ * This file is part of Bisq.
+ *
+ * Bisq is free software: you can redistribute it and/or modify it
+ * under the terms of the GNU Affero General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or (at
+ * your option) any later version.
+ *
+ * Bisq is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE. See the GNU Affero General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with Bisq. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package bisq.core.network.p2p;
+
+import bisq.network.p2p.P2PService;
+import bisq.network.p2p.storage.HashMapChangedListener;
+import bisq.network.p2p.storage.payload.PersistableNetworkPayload;
+import bisq.network.p2p.storage.payload.ProtectedStorageEntry;
+import bisq.network.p2p.storage.payload.ProtectedStoragePayload;
+
+import javax.inject.Inject;
+import javax.inject.Singleton;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Consumer;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Routes the add and remove events of the P2P data maps to the services which subscribed for a payload type.
+ * We register only one listener at the P2PService and at the P2PDataStorage. The subscribers for a concrete payload
+ * class are resolved once (a subscription for a super type or interface matches as well) and cached, so an event
+ * only causes a map lookup instead of calling each service for an instanceof check.
+ * <p>
+ * Subscriptions and events are handled on the UserThread. Only the event counters can be read from any thread.
+ */
+@Slf4j
+@Singleton
+public class P2PPayloadRouter {
+
+    public interface ProtectedStoragePayloadListener<T extends ProtectedStoragePayload> {
+        void onAdded(T payload);
+
+        void onRemoved(T payload);
+    }
+
+    private final Map<Class<?>, List<ProtectedStoragePayloadListener<?>>> protectedStorageListenersByType = new LinkedHashMap<>();
+    private final Map<Class<?>, List<Consumer<?>>> persistableNetworkPayloadListenersByType = new LinkedHashMap<>();
+    // Resolved subscribers per concrete payload class. Cleared at each new subscription.
+    private final Map<Class<?>, List<ProtectedStoragePayloadListener<?>>> protectedStorageListenersCache = new HashMap<>();
+    private final Map<Class<?>, List<Consumer<?>>> persistableNetworkPayloadListenersCache = new HashMap<>();
+    private final Map<Class<?>, LongAdder> numEventsByType = new ConcurrentHashMap<>();
+
+
+    ///////////////////////////////////////////////////////////////////////////////////////////
+    // Constructor
+    ///////////////////////////////////////////////////////////////////////////////////////////
+
+    @Inject
+    public P2PPayloadRouter(P2PService p2PService) {
+        p2PService.addHashSetChangedListener(new HashMapChangedListener() {
+            @Override
+            public void onAdded(ProtectedStorageEntry data) {
+                onProtectedStorageEntry(data, true);
+            }
+
+            @Override
+            public void onRemoved(ProtectedStorageEntry data) {
+                onProtectedStorageEntry(data, false);
+            }
+        });
+        p2PService.getP2PDataStorage().addPersistableNetworkPayloadMapListener(this::onPersistableNetworkPayload);
+    }
+
+
+    ///////////////////////////////////////////////////////////////////////////////////////////
+    // API
+    ///////////////////////////////////////////////////////////////////////////////////////////
+
+    public <T extends ProtectedStoragePayload> void addProtectedStoragePayloadListener(Class<T> payloadType,
+                                                                                      ProtectedStoragePayloadListener<T> listener) {
+        protectedStorageListenersByType.computeIfAbsent(payloadType, k -> new ArrayList<>()).add(listener);
+        protectedStorageListenersCache.clear();
+    }
+
+    public <T extends PersistableNetworkPayload> void addPersistableNetworkPayloadListener(Class<T> payloadType,
+                                                                                          Consumer<T> listener) {
+        persistableNetworkPayloadListenersByType.computeIfAbsent(payloadType, k -> new ArrayList<>()).add(listener);
+        persistableNetworkPayloadListenersCache.clear();
+    }
+
+    // Number of add and remove events per concrete payload class, including payloads without subscribers
+    public long getNumEvents(Class<?> payloadType) {
+        final LongAdder numEvents = numEventsByType.get(payloadType);
+        return numEvents != null ? numEvents.sum() : 0;
+    }
+
+    public Map<Class<?>, Long> getNumEventsByType() {
+        final Map<Class<?>, Long> map = new HashMap<>();
+        numEventsByType.forEach((type, numEvents) -> map.put(type, numEvents.sum()));
+        return map;
+    }
+
+
+    ///////////////////////////////////////////////////////////////////////////////////////////
+    // Private
+    ///////////////////////////////////////////////////////////////////////////////////////////
+
+    @SuppressWarnings("unchecked")
+    private void onProtectedStorageEntry(ProtectedStorageEntry data, boolean isAdded) {
+        final ProtectedStoragePayload payload = data.getProtectedStoragePayload();
+        if (payload == null)
+            return;
+
+        final Class<?> type = payload.getClass();
+        countEvent(type);
+        List<ProtectedStoragePayloadListener<?>> listeners = protectedStorageListenersCache.get(type);
+        if (listeners == null) {
+            listeners = resolveListeners(type, protectedStorageListenersByType);
+            protectedStorageListenersCache.put(type, listeners);
+        }
+        // The listeners might add a new subscription, which replaces the cached list but does not change this one
+        for (ProtectedStoragePayloadListener<?> listener : listeners) {
+            final ProtectedStoragePayloadListener<ProtectedStoragePayload> typedListener =
+                    (ProtectedStoragePayloadListener<ProtectedStoragePayload>) listener;
+            if (isAdded)
+                typedListener.onAdded(payload);
+            else
+                typedListener.onRemoved(payload);
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private void onPersistableNetworkPayload(PersistableNetworkPayload payload) {
+        final Class<?> type = payload.getClass();
+        countEvent(type);
+        List<Consumer<?>> listeners = persistableNetworkPayloadListenersCache.get(type);
+        if (listeners == null) {
+            listeners = resolveListeners(type, persistableNetworkPayloadListenersByType);
+            persistableNetworkPayloadListenersCache.put(type, listeners);
+        }
+        for (Consumer<?> listener : listeners)
+            ((Consumer<PersistableNetworkPayload>) listener).accept(payload);
+    }
+
+    private void countEvent(Class<?> type) {
+        numEventsByType.computeIfAbsent(type, k -> new LongAdder()).increment();
+    }
+
+    // Listeners subscribed for the type or any of its super types, in the order of subscription per type
+    private static <L> List<L> resolveListeners(Class<?> type, Map<Class<?>, List<L>> listenersByType) {
+        final List<L> result = new ArrayList<>();
+        listenersByType.forEach((subscribedType, listeners) -> {
+            if (subscribedType.isAssignableFrom(type))
+                result.addAll(listeners);
+        });
+        return result;
+    }
+}
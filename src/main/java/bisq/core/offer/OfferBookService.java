@@ -18,12 +18,11 @@
 package bisq.core.offer;
 
 import bisq.core.app.AppOptionKeys;
+import bisq.core.network.p2p.P2PPayloadRouter;
 import bisq.core.provider.price.PriceFeedService;
 
 import bisq.network.p2p.BootstrapListener;
 import bisq.network.p2p.P2PService;
-import bisq.network.p2p.storage.HashMapChangedListener;
-import bisq.network.p2p.storage.payload.ProtectedStorageEntry;
 
 import bisq.common.UserThread;
 import bisq.common.handlers.ErrorMessageHandler;
@@ -72,6 +71,7 @@ public class OfferBookService {
 
     @Inject
     public OfferBookService(P2PService p2PService,
+                            P2PPayloadRouter p2PPayloadRouter,
                             PriceFeedService priceFeedService,
                             @Named(Storage.STORAGE_DIR) File storageDir,
                             @Named(AppOptionKeys.DUMP_STATISTICS) boolean dumpStatistics) {
@@ -79,29 +79,24 @@ public class OfferBookService {
         this.priceFeedService = priceFeedService;
         jsonFileManager = new JsonFileManager(storageDir);
 
-        p2PService.addHashSetChangedListener(new HashMapChangedListener() {
+        // We create the Offer once per event and pass the same instance to all listeners
+        p2PPayloadRouter.addProtectedStoragePayloadListener(OfferPayload.class, new P2PPayloadRouter.ProtectedStoragePayloadListener<OfferPayload>() {
             @Override
-            public void onAdded(ProtectedStorageEntry data) {
-                offerBookChangedListeners.stream().forEach(listener -> {
-                    if (data.getProtectedStoragePayload() instanceof OfferPayload) {
-                        OfferPayload offerPayload = (OfferPayload) data.getProtectedStoragePayload();
-                        Offer offer = new Offer(offerPayload);
-                        offer.setPriceFeedService(priceFeedService);
-                        listener.onAdded(offer);
-                    }
-                });
+            public void onAdded(OfferPayload offerPayload) {
+                if (offerBookChangedListeners.isEmpty())
+                    return;
+                Offer offer = new Offer(offerPayload);
+                offer.setPriceFeedService(priceFeedService);
+                offerBookChangedListeners.forEach(listener -> listener.onAdded(offer));
             }
 
             @Override
-            public void onRemoved(ProtectedStorageEntry data) {
-                offerBookChangedListeners.stream().forEach(listener -> {
-                    if (data.getProtectedStoragePayload() instanceof OfferPayload) {
-                        OfferPayload offerPayload = (OfferPayload) data.getProtectedStoragePayload();
-                        Offer offer = new Offer(offerPayload);
-                        offer.setPriceFeedService(priceFeedService);
-                        listener.onRemoved(offer);
-                    }
-                });
+            public void onRemoved(OfferPayload offerPayload) {
+                if (offerBookChangedListeners.isEmpty())
+                    return;
+                Offer offer = new Offer(offerPayload);
+                offer.setPriceFeedService(priceFeedService);
+                offerBookChangedListeners.forEach(listener -> listener.onRemoved(offer));
             }
         });
 
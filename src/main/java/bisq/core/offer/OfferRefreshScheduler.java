@@ -0,0 +1,230 @@
+/*
+ * This file is part of Bisq.
+ *
+ * Bisq is free software: you can redistribute it and/or modify it
+ * under the terms of the GNU Affero General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or (at
+ * your option) any later version.
+ *
+ * Bisq is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE. See the GNU Affero General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with Bisq. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package bisq.core.offer;
+
+import bisq.common.Timer;
+import bisq.common.UserThread;
+import bisq.common.handlers.ErrorMessageHandler;
+import bisq.common.handlers.ResultHandler;
+
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongSupplier;
+
+import lombok.Value;
+import lombok.extern.slf4j.Slf4j;
+
+import javax.annotation.Nullable;
+
+/**
+ * Drives republishing and TTL refreshing of our open offers from a single timer instead of one timer per offer.
+ * Sending is limited by a token bucket to stay below the throttle limits of the P2P network. A republish sends the
+ * full offer so it costs more tokens than a refresh, which only sends hash, signature and sequence number.
+ * Pending offers are served by deadline, which is the time their TTL expires at the peers since our last successful
+ * publish or refresh.
+ * Must be used from the UserThread.
+ */
+@Slf4j
+public class OfferRefreshScheduler {
+    public enum Type {
+        REPUBLISH(2),
+        REFRESH(1);
+
+        private final int cost;
+
+        Type(int cost) {
+            this.cost = cost;
+        }
+    }
+
+    public interface Handler {
+        void handle(String offerId, Type type, ResultHandler resultHandler, ErrorMessageHandler errorMessageHandler);
+    }
+
+    @Value
+    public static class Metrics {
+        private final long numRepublished;
+        private final long numRefreshed;
+        private final long numFailures;
+        private final int numPending;
+        private final long lastLagMs;
+        private final long maxLagMs;
+        private final long averageLagMs;
+    }
+
+    @Value
+    private static class ScheduledOffer {
+        private final String offerId;
+        private final Type type;
+        private final long deadline;
+        private final long scheduledAt;
+    }
+
+    static final long TICK_INTERVAL_MS = 100;
+    // Roughly 4 refresh calls per second as it was before with one timer per offer
+    static final double TOKENS_PER_SEC = 4;
+    static final double MAX_TOKENS = 8;
+
+    private final Handler handler;
+    private final long ttlMs;
+    private final LongSupplier clock;
+    // Only false in tests where onTick is called directly
+    private final boolean useTimer;
+    private final PriorityQueue<ScheduledOffer> queue = new PriorityQueue<>(
+            Comparator.comparingLong(ScheduledOffer::getDeadline).thenComparingLong(ScheduledOffer::getScheduledAt));
+    private final Map<String, ScheduledOffer> scheduledById = new HashMap<>();
+    private final Map<String, Long> lastSuccessById = new HashMap<>();
+    @Nullable
+    private Timer timer;
+    private double tokens = MAX_TOKENS;
+    private long lastRefill;
+
+    private long numRepublished, numRefreshed, numFailures;
+    private long lastLagMs, maxLagMs, totalLagMs, numDispatched;
+
+
+    ///////////////////////////////////////////////////////////////////////////////////////////
+    // Constructor
+    ///////////////////////////////////////////////////////////////////////////////////////////
+
+    public OfferRefreshScheduler(Handler handler, long ttlMs) {
+        this(handler, ttlMs, System::currentTimeMillis, true);
+    }
+
+    OfferRefreshScheduler(Handler handler, long ttlMs, LongSupplier clock, boolean useTimer) {
+        this.handler = handler;
+        this.ttlMs = ttlMs;
+        this.clock = clock;
+        this.useTimer = useTimer;
+        this.lastRefill = clock.getAsLong();
+    }
+
+
+    ///////////////////////////////////////////////////////////////////////////////////////////
+    // API
+    ///////////////////////////////////////////////////////////////////////////////////////////
+
+    /**
+     * Adds the offer to the queue. If it is already pending a republish takes precedence over a refresh as it
+     * covers the refresh as well.
+     */
+    public void schedule(String offerId, Type type) {
+        long now = clock.getAsLong();
+        ScheduledOffer existing = scheduledById.get(offerId);
+        if (existing != null) {
+            if (existing.getType() == Type.REPUBLISH || type == Type.REFRESH)
+                return;
+            queue.remove(existing);
+        }
+
+        Long lastSuccess = lastSuccessById.get(offerId);
+        long deadline = lastSuccess != null ? lastSuccess + ttlMs : now;
+        ScheduledOffer scheduledOffer = new ScheduledOffer(offerId, type, deadline, now);
+        scheduledById.put(offerId, scheduledOffer);
+        queue.add(scheduledOffer);
+        startTimer();
+    }
+
+    public void remove(String offerId) {
+        ScheduledOffer scheduledOffer = scheduledById.remove(offerId);
+        if (scheduledOffer != null)
+            queue.remove(scheduledOffer);
+        lastSuccessById.remove(offerId);
+        if (queue.isEmpty())
+            stopTimer();
+    }
+
+    public void clear() {
+        queue.clear();
+        scheduledById.clear();
+        stopTimer();
+    }
+
+    public Metrics getMetrics() {
+        return new Metrics(numRepublished,
+                numRefreshed,
+                numFailures,
+                queue.size(),
+                lastLagMs,
+                maxLagMs,
+                numDispatched > 0 ? totalLagMs / numDispatched : 0);
+    }
+
+
+    ///////////////////////////////////////////////////////////////////////////////////////////
+    // Private
+    ///////////////////////////////////////////////////////////////////////////////////////////
+
+    void onTick() {
+        long now = clock.getAsLong();
+        tokens = Math.min(MAX_TOKENS, tokens + (now - lastRefill) * TOKENS_PER_SEC / 1000d);
+        lastRefill = now;
+
+        // All offers we can afford within this tick are dispatched together
+        while (!queue.isEmpty() && tokens >= queue.peek().getType().cost) {
+            ScheduledOffer scheduledOffer = queue.poll();
+            scheduledById.remove(scheduledOffer.getOfferId());
+            tokens -= scheduledOffer.getType().cost;
+            dispatch(scheduledOffer, now);
+        }
+
+        if (queue.isEmpty())
+            stopTimer();
+    }
+
+    private void dispatch(ScheduledOffer scheduledOffer, long now) {
+        lastLagMs = now - scheduledOffer.getScheduledAt();
+        maxLagMs = Math.max(maxLagMs, lastLagMs);
+        totalLagMs += lastLagMs;
+        numDispatched++;
+
+        String offerId = scheduledOffer.getOfferId();
+        Type type = scheduledOffer.getType();
+        handler.handle(offerId, type,
+                () -> {
+                    lastSuccessById.put(offerId, clock.getAsLong());
+                    if (type == Type.REPUBLISH)
+                        numRepublished++;
+                    else
+                        numRefreshed++;
+                },
+                errorMessage -> {
+                    numFailures++;
+                    log.warn("{} of offer {} failed. {}", type, offerId, errorMessage);
+                });
+    }
+
+    private void startTimer() {
+        if (timer == null && useTimer) {
+            // We dispatch what the bucket allows right away and only keep the timer running while offers are pending
+            onTick();
+            if (!queue.isEmpty())
+                timer = UserThread.runPeriodically(this::onTick, TICK_INTERVAL_MS, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    private void stopTimer() {
+        if (timer != null) {
+            timer.stop();
+            timer = null;
+        }
+    }
+}
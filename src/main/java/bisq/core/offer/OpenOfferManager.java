@@ -84,6 +84,8 @@ public class OpenOfferManager implements PeerManager.Listener, DecryptedDirectMe
     private static final long REPUBLISH_AGAIN_AT_STARTUP_DELAY_SEC = 30;
     private static final long REPUBLISH_INTERVAL_MS = TimeUnit.MINUTES.toMillis(30);
     private static final long REFRESH_INTERVAL_MS = TimeUnit.MINUTES.toMillis(5);
+    // Same as OfferPayload.getTTL
+    private static final long OFFER_TTL_MS = TimeUnit.MINUTES.toMillis(7);
 
     private final KeyRing keyRing;
     private final User user;
@@ -99,6 +101,7 @@ public class OpenOfferManager implements PeerManager.Listener, DecryptedDirectMe
     private boolean stopped;
     private Timer periodicRepublishOffersTimer, periodicRefreshOffersTimer, retryRepublishOffersTimer;
     private TradableList<OpenOffer> openOffers;
+    private final OfferRefreshScheduler offerRefreshScheduler;
 
 
     ///////////////////////////////////////////////////////////////////////////////////////////
@@ -131,6 +134,7 @@ public class OpenOfferManager implements PeerManager.Listener, DecryptedDirectMe
         this.preferences = preferences;
 
         openOfferTradableListStorage = new Storage<>(storageDir, persistenceProtoResolver);
+        offerRefreshScheduler = new OfferRefreshScheduler(this::handleScheduledOffer, OFFER_TTL_MS);
 
         // In case the app did get killed the shutDown from the modules is not called, so we use a shutdown hook
         Runtime.getRuntime().addShutdownHook(new Thread(() -> {
@@ -184,6 +188,7 @@ public class OpenOfferManager implements PeerManager.Listener, DecryptedDirectMe
         stopPeriodicRefreshOffersTimer();
         stopPeriodicRepublishOffersTimer();
         stopRetryRepublishOffersTimer();
+        offerRefreshScheduler.clear();
 
         log.debug("remove all open offers at shutDown");
         // we remove own offers from offerbook when we go offline
@@ -270,6 +275,7 @@ public class OpenOfferManager implements PeerManager.Listener, DecryptedDirectMe
         stopPeriodicRefreshOffersTimer();
         stopPeriodicRepublishOffersTimer();
         stopRetryRepublishOffersTimer();
+        offerRefreshScheduler.clear();
 
         restart();
     }
@@ -383,6 +389,7 @@ public class OpenOfferManager implements PeerManager.Listener, DecryptedDirectMe
         offer.setState(Offer.State.REMOVED);
         openOffer.setState(OpenOffer.State.CANCELED);
         openOffers.remove(openOffer);
+        offerRefreshScheduler.remove(openOffer.getId());
         closedTradableManager.add(openOffer);
         log.debug("removeOpenOffer, offerId={}", offer.getId());
         btcWalletService.resetAddressEntriesForOpenOffer(offer.getId());
@@ -393,6 +400,7 @@ public class OpenOfferManager implements PeerManager.Listener, DecryptedDirectMe
     public void closeOpenOffer(Offer offer) {
         findOpenOffer(offer.getId()).ifPresent(openOffer -> {
             openOffers.remove(openOffer);
+            offerRefreshScheduler.remove(openOffer.getId());
             openOffer.setState(OpenOffer.State.CLOSED);
             offerBookService.removeOffer(openOffer.getOffer().getOfferPayload(),
                     () -> log.trace("Successful removed offer"),
@@ -417,12 +425,16 @@ public class OpenOfferManager implements PeerManager.Listener, DecryptedDirectMe
         return openOffers.getList();
     }
 
+    public OfferRefreshScheduler.Metrics getOfferRefreshMetrics() {
+        return offerRefreshScheduler.getMetrics();
+    }
+
     public Optional<OpenOffer> findOpenOffer(String offerId) {
-        return openOffers.stream().filter(openOffer -> openOffer.getId().equals(offerId)).findAny();
+        return openOffers.getTradableById(offerId);
     }
 
     public Optional<OpenOffer> getOpenOfferById(String offerId) {
-        return openOffers.stream().filter(e -> e.getId().equals(offerId)).findFirst();
+        return openOffers.getTradableById(offerId);
     }
 
 
@@ -447,7 +459,7 @@ public class OpenOfferManager implements PeerManager.Listener, DecryptedDirectMe
                 if (openOfferOptional.isPresent()) {
                     if (openOfferOptional.get().getState() == OpenOffer.State.AVAILABLE) {
                         final Offer offer = openOfferOptional.get().getOffer();
-                        if (!preferences.getIgnoreTradersList().stream().filter(i -> i.equals(offer.getMakerNodeAddress().getHostNameWithoutPostFix())).findAny().isPresent()) {
+                        if (!preferences.isIgnoredTrader(offer.getMakerNodeAddress().getHostNameWithoutPostFix())) {
                             availabilityResult = AvailabilityResult.AVAILABLE;
 
                             // TODO mediators not impl yet
@@ -516,37 +528,37 @@ public class OpenOfferManager implements PeerManager.Listener, DecryptedDirectMe
 
     private void republishOffers() {
         int size = openOffers.size();
-        final ArrayList<OpenOffer> openOffersList = new ArrayList<>(openOffers.getList());
         Log.traceCall("Number of offer for republish: " + size);
         if (!stopped) {
             stopPeriodicRefreshOffersTimer();
-            for (int i = 0; i < size; i++) {
-                // we delay to avoid reaching throttle limits
-
-                long delay = 700;
-                final long minDelay = (i + 1) * delay;
-                final long maxDelay = (i + 2) * delay;
-                final OpenOffer openOffer = openOffersList.get(i);
-                UserThread.runAfterRandomDelay(() -> {
-                    if (openOffers.contains(openOffer)) {
-                        String id = openOffer.getId();
-                        if (id != null && !openOffer.isDeactivated())
-                            republishOffer(openOffer);
-                        else
-                            log.warn("You have an offer with an invalid offer ID: offerID=" + id);
-                    }
-
-
-                }, minDelay, maxDelay, TimeUnit.MILLISECONDS);
-            }
+            // The scheduler spreads the calls to avoid reaching throttle limits
+            openOffers.forEach(openOffer -> offerRefreshScheduler.schedule(openOffer.getId(),
+                    OfferRefreshScheduler.Type.REPUBLISH));
         } else {
             log.debug("We have stopped already. We ignore that republishOffers call.");
         }
     }
 
-    private void republishOffer(OpenOffer openOffer) {
+    private void handleScheduledOffer(String offerId,
+                                      OfferRefreshScheduler.Type type,
+                                      ResultHandler resultHandler,
+                                      ErrorMessageHandler errorMessageHandler) {
+        // We need to check if in the meantime the offer has been removed
+        Optional<OpenOffer> openOfferOptional = openOffers.getTradableById(offerId);
+        if (stopped || !openOfferOptional.isPresent() || openOfferOptional.get().isDeactivated())
+            return;
+
+        OpenOffer openOffer = openOfferOptional.get();
+        if (type == OfferRefreshScheduler.Type.REPUBLISH)
+            republishOffer(openOffer, resultHandler, errorMessageHandler);
+        else
+            refreshOffer(openOffer, resultHandler, errorMessageHandler);
+    }
+
+    private void republishOffer(OpenOffer openOffer, ResultHandler resultHandler, ErrorMessageHandler errorMessageHandler) {
         offerBookService.addOffer(openOffer.getOffer(),
                 () -> {
+                    resultHandler.handleResult();
                     if (!stopped) {
                         log.debug("Successful added offer to P2P network");
                         // Refresh means we send only the dat needed to refresh the TTL (hash, signature and sequence no.)
@@ -557,6 +569,7 @@ public class OpenOfferManager implements PeerManager.Listener, DecryptedDirectMe
                     }
                 },
                 errorMessage -> {
+                    errorMessageHandler.handleErrorMessage(errorMessage);
                     if (!stopped) {
                         log.error("Add offer to P2P network failed. " + errorMessage);
                         stopRetryRepublishOffersTimer();
@@ -593,25 +606,9 @@ public class OpenOfferManager implements PeerManager.Listener, DecryptedDirectMe
         if (periodicRefreshOffersTimer == null)
             periodicRefreshOffersTimer = UserThread.runPeriodically(() -> {
                         if (!stopped) {
-                            int size = openOffers.size();
-                            Log.traceCall("Number of offer for refresh: " + size);
-
-                            //we clone our list as openOffers might change during our delayed call
-                            final ArrayList<OpenOffer> openOffersList = new ArrayList<>(openOffers.getList());
-                            for (int i = 0; i < size; i++) {
-                                // we delay to avoid reaching throttle limits
-                                // roughly 4 offers per second
-
-                                long delay = 300;
-                                final long minDelay = (i + 1) * delay;
-                                final long maxDelay = (i + 2) * delay;
-                                final OpenOffer openOffer = openOffersList.get(i);
-                                UserThread.runAfterRandomDelay(() -> {
-                                    // we need to check if in the meantime the offer has been removed
-                                    if (openOffers.contains(openOffer) && !openOffer.isDeactivated())
-                                        refreshOffer(openOffer);
-                                }, minDelay, maxDelay, TimeUnit.MILLISECONDS);
-                            }
+                            Log.traceCall("Number of offer for refresh: " + openOffers.size());
+                            openOffers.forEach(openOffer -> offerRefreshScheduler.schedule(openOffer.getId(),
+                                    OfferRefreshScheduler.Type.REFRESH));
                         } else {
                             log.debug("We have stopped already. We ignore that periodicRefreshOffersTimer.run call.");
                         }
@@ -622,10 +619,16 @@ public class OpenOfferManager implements PeerManager.Listener, DecryptedDirectMe
             log.trace("periodicRefreshOffersTimer already stated");
     }
 
-    private void refreshOffer(OpenOffer openOffer) {
+    private void refreshOffer(OpenOffer openOffer, ResultHandler resultHandler, ErrorMessageHandler errorMessageHandler) {
         offerBookService.refreshTTL(openOffer.getOffer().getOfferPayload(),
-                () -> log.debug("Successful refreshed TTL for offer"),
-                log::warn);
+                () -> {
+                    log.debug("Successful refreshed TTL for offer");
+                    resultHandler.handleResult();
+                },
+                errorMessage -> {
+                    log.warn(errorMessage);
+                    errorMessageHandler.handleErrorMessage(errorMessage);
+                });
     }
 
     private void restart() {
@@ -18,6 +18,7 @@
 package bisq.core.payment;
 
 import bisq.core.locale.CurrencyUtil;
+import bisq.core.network.p2p.P2PPayloadRouter;
 import bisq.core.offer.Offer;
 import bisq.core.payment.payload.PaymentAccountPayload;
 import bisq.core.payment.payload.PaymentMethod;
@@ -44,10 +45,13 @@ import javax.inject.Inject;
 
 import java.security.PublicKey;
 
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collection;
 import java.util.Date;
 import java.util.GregorianCalendar;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Random;
@@ -72,6 +76,7 @@ public class AccountAgeWitnessService {
 
     private final KeyRing keyRing;
     private final P2PService p2PService;
+    private final P2PPayloadRouter p2PPayloadRouter;
     private final User user;
 
     private final Map<P2PDataStorage.ByteArray, AccountAgeWitness> accountAgeWitnessMap = new HashMap<>();
@@ -83,9 +88,10 @@ public class AccountAgeWitnessService {
 
 
     @Inject
-    public AccountAgeWitnessService(KeyRing keyRing, P2PService p2PService, User user) {
+    public AccountAgeWitnessService(KeyRing keyRing, P2PService p2PService, P2PPayloadRouter p2PPayloadRouter, User user) {
         this.keyRing = keyRing;
         this.p2PService = p2PService;
+        this.p2PPayloadRouter = p2PPayloadRouter;
         this.user = user;
     }
 
@@ -95,16 +101,21 @@ public class AccountAgeWitnessService {
     ///////////////////////////////////////////////////////////////////////////////////////////
 
     public void onAllServicesInitialized() {
-        p2PService.getP2PDataStorage().addPersistableNetworkPayloadMapListener(payload -> {
-            if (payload instanceof AccountAgeWitness)
-                addToMap((AccountAgeWitness) payload);
-        });
-
-        // At startup the P2PDataStorage initializes earlier, otherwise we ge the listener called.
+        List<AccountAgeWitness> persistedAccountAgeWitnesses = new ArrayList<>();
         p2PService.getP2PDataStorage().getPersistableNetworkPayloadList().getMap().values().forEach(e -> {
             if (e instanceof AccountAgeWitness)
-                addToMap((AccountAgeWitness) e);
+                persistedAccountAgeWitnesses.add((AccountAgeWitness) e);
         });
+        onAllServicesInitialized(persistedAccountAgeWitnesses);
+    }
+
+    // The persistedAccountAgeWitnesses are the AccountAgeWitness objects of the PersistableNetworkPayload map at
+    // startup, collected by the caller.
+    public void onAllServicesInitialized(Collection<AccountAgeWitness> persistedAccountAgeWitnesses) {
+        p2PPayloadRouter.addPersistableNetworkPayloadListener(AccountAgeWitness.class, this::addToMap);
+
+        // At startup the P2PDataStorage initializes earlier, otherwise we ge the listener called.
+        persistedAccountAgeWitnesses.forEach(this::addToMap);
 
         if (p2PService.isBootstrapped()) {
             republishAllFiatAccounts();
@@ -306,6 +317,17 @@ public class AccountAgeWitnessService {
                                            byte[] nonce,
                                            byte[] signature,
                                            ErrorMessageHandler errorMessageHandler) {
+        return verifyAccountAgeWitnessData(trade, peersPaymentAccountPayload, peersCurrentDate, peersPubKeyRing, errorMessageHandler) &&
+                verifyPeersSignature(peersPubKeyRing, nonce, signature, errorMessageHandler);
+    }
+
+    // All checks of verifyAccountAgeWitness except the signature check, which can be done with
+    // verifyPeersSignature off the UserThread.
+    public boolean verifyAccountAgeWitnessData(Trade trade,
+                                               PaymentAccountPayload peersPaymentAccountPayload,
+                                               Date peersCurrentDate,
+                                               PubKeyRing peersPubKeyRing,
+                                               ErrorMessageHandler errorMessageHandler) {
         final Optional<AccountAgeWitness> accountAgeWitnessOptional = findWitness(peersPaymentAccountPayload, peersPubKeyRing);
         // If we don't find a stored witness data we create a new dummy object which makes is easier to reuse the
         // below validation methods. This peersWitness object is not used beside for validation. Some of the
@@ -341,7 +363,14 @@ public class AccountAgeWitnessService {
             log.error("verifyPeersTradeLimit failed: peersPaymentAccountPayload " + peersPaymentAccountPayload);
             return false;
         }
-        // Check if the signature is correct
+        return true;
+    }
+
+    // Check if the signature is correct. Does not access any state so it is safe to call from any thread.
+    public boolean verifyPeersSignature(PubKeyRing peersPubKeyRing,
+                                        byte[] nonce,
+                                        byte[] signature,
+                                        ErrorMessageHandler errorMessageHandler) {
         return verifySignature(peersPubKeyRing.getSignaturePubKey(), nonce, signature, errorMessageHandler);
     }
 
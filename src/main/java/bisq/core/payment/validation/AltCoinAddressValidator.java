@@ -29,8 +29,13 @@ import bisq.asset.Coin;
 
 import com.google.inject.Inject;
 
+import java.util.HashMap;
+import java.util.Map;
+
 import lombok.extern.slf4j.Slf4j;
 
+import javax.annotation.Nullable;
+
 import static java.lang.String.format;
 
 @Slf4j
@@ -38,6 +43,8 @@ public final class AltCoinAddressValidator extends InputValidator {
 
     private final AssetRegistry assetRegistry;
     private String currencyCode;
+    @Nullable
+    private Map<String, Asset> assetByCode;
 
     @Inject
     public AltCoinAddressValidator(AssetRegistry assetRegistry) {
@@ -54,12 +61,9 @@ public final class AltCoinAddressValidator extends InputValidator {
         if (!validationResult.isValid || currencyCode == null)
             return validationResult;
 
-        Asset asset = assetRegistry.stream()
-                .filter(this::assetMatchesSelectedCurrencyCode)
-                .filter(this::assetIsNotBaseCurrencyForDifferentNetwork)
-                .findFirst()
-                .orElseThrow(() ->
-                        new IllegalArgumentException(format("'%s' is not a registered asset", currencyCode)));
+        Asset asset = getAssetByCode().get(currencyCode);
+        if (asset == null)
+            throw new IllegalArgumentException(format("'%s' is not a registered asset", currencyCode));
 
         AddressValidationResult result = asset.validateAddress(input);
         if (!result.isValid())
@@ -69,8 +73,16 @@ public final class AltCoinAddressValidator extends InputValidator {
         return new ValidationResult(true);
     }
 
-    private boolean assetMatchesSelectedCurrencyCode(Asset a) {
-        return currencyCode.equals(a.getTickerSymbol());
+    // We build the lookup map at the first validation instead of iterating all assets at each input change
+    private Map<String, Asset> getAssetByCode() {
+        if (assetByCode == null) {
+            Map<String, Asset> map = new HashMap<>();
+            assetRegistry.stream()
+                    .filter(this::assetIsNotBaseCurrencyForDifferentNetwork)
+                    .forEach(asset -> map.putIfAbsent(asset.getTickerSymbol(), asset));
+            assetByCode = map;
+        }
+        return assetByCode;
     }
 
     private boolean assetIsNotBaseCurrencyForDifferentNetwork(Asset asset) {
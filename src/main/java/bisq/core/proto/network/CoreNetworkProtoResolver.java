@@ -26,6 +26,7 @@ import bisq.core.arbitration.messages.DisputeResultMessage;
 import bisq.core.arbitration.messages.OpenNewDisputeMessage;
 import bisq.core.arbitration.messages.PeerOpenedDisputeMessage;
 import bisq.core.arbitration.messages.PeerPublishedDisputePayoutTxMessage;
+import bisq.core.dao.DaoOptionKeys;
 import bisq.core.dao.node.messages.GetBsqBlocksRequest;
 import bisq.core.dao.node.messages.GetBsqBlocksResponse;
 import bisq.core.dao.node.messages.NewBsqBlockBroadcastMessage;
@@ -69,14 +70,25 @@ import bisq.common.proto.network.NetworkProtoResolver;
 import io.bisq.generated.protobuffer.PB;
 
 import javax.inject.Inject;
+import javax.inject.Named;
 
+import lombok.Getter;
 import lombok.extern.slf4j.Slf4j;
 
 @Slf4j
 public class CoreNetworkProtoResolver extends CoreProtoResolver implements NetworkProtoResolver {
+    // If enabled the BSQ blocks of GetBsqBlocksResponse and NewBsqBlockBroadcastMessage are only converted from the
+    // proto message when they are read. Other messages are still converted at receipt.
+    @Getter
+    private final boolean lazyResolve;
 
     @Inject
+    public CoreNetworkProtoResolver(@Named(DaoOptionKeys.LAZY_RESOLVE_BSQ_BLOCKS) boolean lazyResolve) {
+        this.lazyResolve = lazyResolve;
+    }
+
     public CoreNetworkProtoResolver() {
+        this(false);
     }
 
     @Override
@@ -147,9 +159,9 @@ public class CoreNetworkProtoResolver extends CoreProtoResolver implements Netwo
                 case GET_BSQ_BLOCKS_REQUEST:
                     return GetBsqBlocksRequest.fromProto(proto.getGetBsqBlocksRequest(), messageVersion);
                 case GET_BSQ_BLOCKS_RESPONSE:
-                    return GetBsqBlocksResponse.fromProto(proto.getGetBsqBlocksResponse(), messageVersion);
+                    return GetBsqBlocksResponse.fromProto(proto.getGetBsqBlocksResponse(), messageVersion, lazyResolve);
                 case NEW_BSQ_BLOCK_BROADCAST_MESSAGE:
-                    return NewBsqBlockBroadcastMessage.fromProto(proto.getNewBsqBlockBroadcastMessage(), messageVersion);
+                    return NewBsqBlockBroadcastMessage.fromProto(proto.getNewBsqBlockBroadcastMessage(), messageVersion, lazyResolve);
 
                 case ADD_PERSISTABLE_NETWORK_PAYLOAD_MESSAGE:
                     return AddPersistableNetworkPayloadMessage.fromProto(proto.getAddPersistableNetworkPayloadMessage(), this, messageVersion);
@@ -0,0 +1,87 @@
+/*
+ * This file is part of Bisq.
+ *
+ * Bisq is free software: you can redistribute it and/or modify it
+ * under the terms of the GNU Affero General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or (at
+ * your option) any later version.
+ *
+ * Bisq is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE. See the GNU Affero General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with Bisq. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package bisq.core.proto.network;
+
+import com.google.protobuf.Message;
+
+import java.util.function.Function;
+
+import javax.annotation.Nullable;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+
+/**
+ * Holds the proto message of a value we received from the network and converts it to the Java object only at the
+ * first access. Messages which get dropped before their content is read never pay for the conversion, and a message
+ * which is sent on unread can reuse the proto without encoding it again.
+ * <p>
+ * After the conversion we don't keep the proto anymore.
+ */
+public final class LazyProtoValue<P extends Message, T> {
+    @Nullable
+    private P proto;
+    @Nullable
+    private Function<P, T> resolver;
+    @Nullable
+    private T value;
+
+    public static <P extends Message, T> LazyProtoValue<P, T> resolved(T value) {
+        return new LazyProtoValue<>(null, null, checkNotNull(value, "value must not be null"));
+    }
+
+    public static <P extends Message, T> LazyProtoValue<P, T> unresolved(P proto, Function<P, T> resolver) {
+        return new LazyProtoValue<>(checkNotNull(proto, "proto must not be null"), resolver, null);
+    }
+
+    private LazyProtoValue(@Nullable P proto, @Nullable Function<P, T> resolver, @Nullable T value) {
+        this.proto = proto;
+        this.resolver = resolver;
+        this.value = value;
+    }
+
+    public synchronized T get() {
+        if (value == null) {
+            value = checkNotNull(resolver).apply(proto);
+            proto = null;
+            resolver = null;
+        }
+        return value;
+    }
+
+    // Null once the value got resolved
+    @Nullable
+    public synchronized P getUnresolvedProto() {
+        return proto;
+    }
+
+    public synchronized boolean isResolved() {
+        return value != null;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (!(o instanceof LazyProtoValue)) return false;
+        return get().equals(((LazyProtoValue<?, ?>) o).get());
+    }
+
+    @Override
+    public int hashCode() {
+        return get().hashCode();
+    }
+}
@@ -17,6 +17,7 @@
 
 package bisq.core.proto.persistable;
 
+import bisq.core.arbitration.AttachmentStore;
 import bisq.core.arbitration.DisputeList;
 import bisq.core.btc.AddressEntryList;
 import bisq.core.btc.wallet.BtcWalletService;
@@ -57,14 +58,17 @@ import lombok.extern.slf4j.Slf4j;
 public class CorePersistenceProtoResolver extends CoreProtoResolver implements PersistenceProtoResolver {
     private final Provider<BtcWalletService> btcWalletService;
     private final NetworkProtoResolver networkProtoResolver;
+    private final AttachmentStore attachmentStore;
     private final File storageDir;
 
     @Inject
     public CorePersistenceProtoResolver(Provider<BtcWalletService> btcWalletService,
                                         NetworkProtoResolver networkProtoResolver,
+                                        AttachmentStore attachmentStore,
                                         @Named(Storage.STORAGE_DIR) File storageDir) {
         this.btcWalletService = btcWalletService;
         this.networkProtoResolver = networkProtoResolver;
+        this.attachmentStore = attachmentStore;
         this.storageDir = storageDir;
 
     }
@@ -92,7 +96,8 @@ public class CorePersistenceProtoResolver extends CoreProtoResolver implements P
                 case DISPUTE_LIST:
                     return DisputeList.fromProto(proto.getDisputeList(),
                             this,
-                            new Storage<>(storageDir, this));
+                            new Storage<>(storageDir, this),
+                            attachmentStore);
                 case PREFERENCES_PAYLOAD:
                     return PreferencesPayload.fromProto(proto.getPreferencesPayload(), this);
                 case USER_PAYLOAD:
@@ -31,10 +31,14 @@ import io.bisq.generated.protobuffer.PB;
 import com.google.protobuf.Message;
 
 import javafx.collections.FXCollections;
+import javafx.collections.ListChangeListener;
 import javafx.collections.ObservableList;
 
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
 import java.util.function.Consumer;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
@@ -49,6 +53,8 @@ public final class TradableList<T extends Tradable> implements PersistableEnvelo
     transient final private Storage<TradableList<T>> storage;
     @Getter
     private final ObservableList<T> list = FXCollections.observableArrayList();
+    // Index by tradable id. Kept in sync with list by a listener as the list is exposed to the UI.
+    transient final private Map<String, T> tradableById = new HashMap<>();
 
 
     ///////////////////////////////////////////////////////////////////////////////////////////
@@ -57,6 +63,7 @@ public final class TradableList<T extends Tradable> implements PersistableEnvelo
 
     public TradableList(Storage<TradableList<T>> storage, String fileName) {
         this.storage = storage;
+        list.addListener((ListChangeListener<T>) this::onListChanged);
 
         TradableList<T> persisted = storage.initAndGetPersisted(this, fileName, 50);
         if (persisted != null)
@@ -70,6 +77,7 @@ public final class TradableList<T extends Tradable> implements PersistableEnvelo
 
     private TradableList(Storage<TradableList<T>> storage, List<T> list) {
         this.storage = storage;
+        this.list.addListener((ListChangeListener<T>) this::onListChanged);
         this.list.addAll(list);
     }
 
@@ -146,4 +154,28 @@ public final class TradableList<T extends Tradable> implements PersistableEnvelo
     public boolean contains(T thing) {
         return list.contains(thing);
     }
+
+    public Optional<T> getTradableById(String id) {
+        return Optional.ofNullable(tradableById.get(id));
+    }
+
+
+    ///////////////////////////////////////////////////////////////////////////////////////////
+    // Private
+    ///////////////////////////////////////////////////////////////////////////////////////////
+
+    private void onListChanged(ListChangeListener.Change<? extends T> change) {
+        while (change.next()) {
+            change.getRemoved().forEach(tradable -> {
+                if (tradableById.remove(tradable.getId(), tradable)) {
+                    // In case there was another entry with the same id we want to keep the first one as lookup result
+                    list.stream()
+                            .filter(e -> e.getId().equals(tradable.getId()))
+                            .findFirst()
+                            .ifPresent(e -> tradableById.put(e.getId(), e));
+                }
+            });
+            change.getAddedSubList().forEach(tradable -> tradableById.putIfAbsent(tradable.getId(), tradable));
+        }
+    }
 }
@@ -22,6 +22,7 @@ import bisq.core.arbitration.Mediator;
 import bisq.core.btc.wallet.BsqWalletService;
 import bisq.core.btc.wallet.BtcWalletService;
 import bisq.core.btc.wallet.TradeWalletService;
+import bisq.core.crypto.SignatureVerificationService;
 import bisq.core.filter.FilterManager;
 import bisq.core.monetary.Price;
 import bisq.core.monetary.Volume;
@@ -489,6 +490,7 @@ public abstract class Trade implements Tradable, Model {
                      User user,
                      FilterManager filterManager,
                      AccountAgeWitnessService accountAgeWitnessService,
+                     SignatureVerificationService signatureVerificationService,
                      KeyRing keyRing,
                      boolean useSavingsWallet,
                      Coin fundsNeededForTrade) {
@@ -503,6 +505,7 @@ public abstract class Trade implements Tradable, Model {
                 user,
                 filterManager,
                 accountAgeWitnessService,
+                signatureVerificationService,
                 keyRing,
                 useSavingsWallet,
                 fundsNeededForTrade);
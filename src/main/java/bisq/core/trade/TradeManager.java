@@ -22,6 +22,7 @@ import bisq.core.btc.AddressEntryException;
 import bisq.core.btc.wallet.BsqWalletService;
 import bisq.core.btc.wallet.BtcWalletService;
 import bisq.core.btc.wallet.TradeWalletService;
+import bisq.core.crypto.SignatureVerificationService;
 import bisq.core.filter.FilterManager;
 import bisq.core.offer.Offer;
 import bisq.core.offer.OfferPayload;
@@ -111,6 +112,7 @@ public class TradeManager implements PersistedDataHost {
     private final FilterManager filterManager;
     private final TradeStatisticsManager tradeStatisticsManager;
     private final AccountAgeWitnessService accountAgeWitnessService;
+    private final SignatureVerificationService signatureVerificationService;
 
     private final Storage<TradableList<Trade>> tradableListStorage;
     private TradableList<Trade> tradableList;
@@ -140,6 +142,7 @@ public class TradeManager implements PersistedDataHost {
                         TradeStatisticsManager tradeStatisticsManager,
                         PersistenceProtoResolver persistenceProtoResolver,
                         AccountAgeWitnessService accountAgeWitnessService,
+                        SignatureVerificationService signatureVerificationService,
                         @Named(Storage.STORAGE_DIR) File storageDir) {
         this.user = user;
         this.keyRing = keyRing;
@@ -154,6 +157,7 @@ public class TradeManager implements PersistedDataHost {
         this.filterManager = filterManager;
         this.tradeStatisticsManager = tradeStatisticsManager;
         this.accountAgeWitnessService = accountAgeWitnessService;
+        this.signatureVerificationService = signatureVerificationService;
 
         tradableListStorage = new Storage<>(storageDir, persistenceProtoResolver);
 
@@ -180,7 +184,7 @@ public class TradeManager implements PersistedDataHost {
                 if (networkEnvelop instanceof TradeMessage) {
                     log.trace("Received TradeMessage: " + networkEnvelop);
                     String tradeId = ((TradeMessage) networkEnvelop).getTradeId();
-                    Optional<Trade> tradeOptional = tradableList.stream().filter(e -> e.getId().equals(tradeId)).findAny();
+                    Optional<Trade> tradeOptional = tradableList.getTradableById(tradeId);
                     // The mailbox message will be removed inside the tasks after they are processed successfully
                     if (tradeOptional.isPresent())
                         tradeOptional.get().addDecryptedMessageWithPubKey(decryptedMessageWithPubKey);
@@ -333,6 +337,7 @@ public class TradeManager implements PersistedDataHost {
                 user,
                 filterManager,
                 accountAgeWitnessService,
+                signatureVerificationService,
                 keyRing,
                 useSavingsWallet,
                 fundsNeededForTrade);
@@ -547,7 +552,7 @@ public class TradeManager implements PersistedDataHost {
     }
 
     public Optional<Trade> getTradeById(String tradeId) {
-        return tradableList.stream().filter(e -> e.getId().equals(tradeId)).findFirst();
+        return tradableList.getTradableById(tradeId);
     }
 
     public Stream<AddressEntry> getAddressEntriesForAvailableBalanceStream() {
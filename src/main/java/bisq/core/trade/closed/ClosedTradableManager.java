@@ -33,17 +33,24 @@ import com.google.inject.Inject;
 
 import javax.inject.Named;
 
+import com.google.common.annotations.VisibleForTesting;
 import com.google.common.collect.ImmutableList;
 
+import javafx.collections.ListChangeListener;
 import javafx.collections.ObservableList;
 
 import java.io.File;
 
+import java.util.Comparator;
 import java.util.List;
 import java.util.Optional;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
+import javax.annotation.Nullable;
+
+import static com.google.common.base.Preconditions.checkArgument;
+
 public class ClosedTradableManager implements PersistedDataHost {
     private final Storage<TradableList<Tradable>> tradableListStorage;
     private TradableList<Tradable> closedTradables;
@@ -51,6 +58,13 @@ public class ClosedTradableManager implements PersistedDataHost {
     private final PriceFeedService priceFeedService;
     private final BtcWalletService btcWalletService;
 
+    // Both are reset when closedTradables changes. Summaries are only created for the requested page, so we don't
+    // hold an additional object per tradable and a summary always shows the current state.
+    @Nullable
+    private List<Trade> closedTrades;
+    @Nullable
+    private List<Tradable> closedTradablesByDateDescending;
+
     @Inject
     public ClosedTradableManager(KeyRing keyRing, PriceFeedService priceFeedService,
                                  PersistenceProtoResolver persistenceProtoResolver,
@@ -62,7 +76,6 @@ public class ClosedTradableManager implements PersistedDataHost {
         tradableListStorage = new Storage<>(storageDir, persistenceProtoResolver);
         // The ClosedTrades object can become a few MB so we don't keep so many backups
         tradableListStorage.setNumMaxBackupFiles(3);
-
     }
 
     @Override
@@ -75,6 +88,7 @@ public class ClosedTradableManager implements PersistedDataHost {
                 trade.setTransientFields(tradableListStorage, btcWalletService);
             }
         });
+        closedTradables.getList().addListener((ListChangeListener<Tradable>) this::onClosedTradablesChanged);
     }
 
     public void add(Tradable tradable) {
@@ -90,18 +104,73 @@ public class ClosedTradableManager implements PersistedDataHost {
     }
 
     public List<Trade> getClosedTrades() {
-        return ImmutableList.copyOf(getClosedTradables().stream()
-                .filter(e -> e instanceof Trade)
-                .map(e -> (Trade) e)
-                .collect(Collectors.toList()));
+        if (closedTrades == null) {
+            closedTrades = ImmutableList.copyOf(getClosedTradables().stream()
+                    .filter(e -> e instanceof Trade)
+                    .map(e -> (Trade) e)
+                    .collect(Collectors.toList()));
+        }
+        return closedTrades;
     }
 
     public Optional<Tradable> getTradableById(String id) {
-        return closedTradables.stream().filter(e -> e.getId().equals(id)).findFirst();
+        return closedTradables.getTradableById(id);
+    }
+
+    public Optional<ClosedTradableSummary> getSummaryById(String id) {
+        return getTradableById(id).map(ClosedTradableSummary::from);
+    }
+
+    public int getNumSummaries() {
+        return getClosedTradables().size();
+    }
+
+    /**
+     * Returns a page of the closed tradables sorted by date, newest first. An offset beyond the last summary results
+     * in an empty list.
+     */
+    public List<ClosedTradableSummary> getSummaries(int offset, int limit) {
+        if (closedTradablesByDateDescending == null) {
+            closedTradablesByDateDescending = ImmutableList.copyOf(getClosedTradables().stream()
+                    .sorted(Comparator.comparing(Tradable::getDate).reversed())
+                    .collect(Collectors.toList()));
+        }
+        return getPage(closedTradablesByDateDescending, offset, limit).stream()
+                .map(ClosedTradableSummary::from)
+                .collect(Collectors.toList());
+    }
+
+    // Needs the summaries of all tradables for sorting, so prefer the default order for large histories
+    public List<ClosedTradableSummary> getSummaries(Comparator<ClosedTradableSummary> comparator, int offset, int limit) {
+        return getPage(getClosedTradables().stream()
+                .map(ClosedTradableSummary::from)
+                .sorted(comparator)
+                .collect(Collectors.toList()), offset, limit);
     }
 
     public Stream<Trade> getLockedTradesStream() {
         return getClosedTrades().stream()
                 .filter(Trade::isFundsLockedIn);
     }
+
+
+    ///////////////////////////////////////////////////////////////////////////////////////////
+    // Private
+    ///////////////////////////////////////////////////////////////////////////////////////////
+
+    private void onClosedTradablesChanged(ListChangeListener.Change<? extends Tradable> change) {
+        closedTrades = null;
+        closedTradablesByDateDescending = null;
+    }
+
+    @VisibleForTesting
+    static <T> List<T> getPage(List<T> list, int offset, int limit) {
+        checkArgument(offset >= 0, "offset must not be negative");
+        checkArgument(limit >= 0, "limit must not be negative");
+        if (offset >= list.size())
+            return ImmutableList.of();
+        // We use long as offset + limit overflows for a limit like Integer.MAX_VALUE
+        int end = (int) Math.min(list.size(), (long) offset + limit);
+        return ImmutableList.copyOf(list.subList(offset, end));
+    }
 }
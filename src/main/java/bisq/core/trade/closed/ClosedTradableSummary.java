@@ -0,0 +1,73 @@
+/*
+ * This file is part of Bisq.
+ *
+ * Bisq is free software: you can redistribute it and/or modify it
+ * under the terms of the GNU Affero General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or (at
+ * your option) any later version.
+ *
+ * Bisq is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE. See the GNU Affero General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with Bisq. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package bisq.core.trade.closed;
+
+import bisq.core.offer.OpenOffer;
+import bisq.core.trade.Tradable;
+import bisq.core.trade.Trade;
+
+import java.util.Comparator;
+import java.util.Date;
+
+import lombok.Value;
+
+/**
+ * Lightweight view on a closed tradable. Holds only the fields needed for listing closed trades so that callers
+ * which page or sort the history don't need to touch the contract, txs or process model of the trade.
+ */
+@Value
+public class ClosedTradableSummary {
+    public static final Comparator<ClosedTradableSummary> BY_DATE_DESCENDING =
+            Comparator.comparingLong(ClosedTradableSummary::getDate).reversed();
+
+    private final String id;
+    private final long date;
+    // Amount in satoshi
+    private final long amount;
+    // Price as long as used in Price.valueOf. 0 for closed offers with a market based price.
+    private final long price;
+    private final String currencyCode;
+    private final String state;
+    private final boolean isTrade;
+
+    public static ClosedTradableSummary from(Tradable tradable) {
+        if (tradable instanceof Trade) {
+            Trade trade = (Trade) tradable;
+            return new ClosedTradableSummary(trade.getId(),
+                    trade.getDate().getTime(),
+                    trade.getTradeAmountAsLong(),
+                    trade.getTradePrice().getValue(),
+                    trade.getOffer().getCurrencyCode(),
+                    trade.getState().name(),
+                    true);
+        } else {
+            String state = tradable instanceof OpenOffer ? ((OpenOffer) tradable).getState().name() : "";
+            return new ClosedTradableSummary(tradable.getId(),
+                    tradable.getDate().getTime(),
+                    tradable.getOffer().getAmount().value,
+                    tradable.getOffer().getOfferPayload().getPrice(),
+                    tradable.getOffer().getCurrencyCode(),
+                    state,
+                    false);
+        }
+    }
+
+    public Date getDateAsDate() {
+        return new Date(date);
+    }
+}
@@ -22,6 +22,7 @@ import bisq.core.btc.data.RawTransactionInput;
 import bisq.core.btc.wallet.BsqWalletService;
 import bisq.core.btc.wallet.BtcWalletService;
 import bisq.core.btc.wallet.TradeWalletService;
+import bisq.core.crypto.SignatureVerificationService;
 import bisq.core.filter.FilterManager;
 import bisq.core.offer.Offer;
 import bisq.core.offer.OpenOfferManager;
@@ -76,6 +77,7 @@ public class ProcessModel implements Model, PersistablePayload {
     transient private User user;
     transient private FilterManager filterManager;
     transient private AccountAgeWitnessService accountAgeWitnessService;
+    transient private SignatureVerificationService signatureVerificationService;
     transient private KeyRing keyRing;
     transient private P2PService p2PService;
 
@@ -212,6 +214,7 @@ public class ProcessModel implements Model, PersistablePayload {
                                          User user,
                                          FilterManager filterManager,
                                          AccountAgeWitnessService accountAgeWitnessService,
+                                         SignatureVerificationService signatureVerificationService,
                                          KeyRing keyRing,
                                          boolean useSavingsWallet,
                                          Coin fundsNeededForTrade) {
@@ -224,6 +227,7 @@ public class ProcessModel implements Model, PersistablePayload {
         this.user = user;
         this.filterManager = filterManager;
         this.accountAgeWitnessService = accountAgeWitnessService;
+        this.signatureVerificationService = signatureVerificationService;
         this.keyRing = keyRing;
         this.p2PService = p2PService;
         this.useSavingsWallet = useSavingsWallet;
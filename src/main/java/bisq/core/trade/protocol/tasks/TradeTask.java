@@ -25,26 +25,41 @@ import bisq.common.taskrunner.TaskRunner;
 
 import lombok.extern.slf4j.Slf4j;
 
+import javax.annotation.Nullable;
+
 @Slf4j
 public abstract class TradeTask extends Task<Trade> {
     protected final ProcessModel processModel;
     protected final Trade trade;
+    // Null if TradeTaskStats is not enabled
+    @Nullable
+    private final TradeTaskStats.Measurement measurement;
 
     protected TradeTask(TaskRunner taskHandler, Trade trade) {
         super(taskHandler, trade);
 
         this.trade = trade;
         processModel = trade.getProcessModel();
+        // The task runner creates the task right before it runs it
+        measurement = TradeTaskStats.start(trade, getClass());
+    }
+
+    @Override
+    protected void complete() {
+        stopMeasurement(true);
+        super.complete();
     }
 
     @Override
     protected void failed() {
+        stopMeasurement(false);
         trade.setErrorMessage(errorMessage);
         super.failed();
     }
 
     @Override
     protected void failed(String message) {
+        stopMeasurement(false);
         appendToErrorMessage(message);
         trade.setErrorMessage(errorMessage);
         super.failed();
@@ -52,9 +67,15 @@ public abstract class TradeTask extends Task<Trade> {
 
     @Override
     protected void failed(Throwable t) {
+        stopMeasurement(false);
         t.printStackTrace();
         appendExceptionToErrorMessage(t);
         trade.setErrorMessage(errorMessage);
         super.failed();
     }
+
+    private void stopMeasurement(boolean success) {
+        if (measurement != null)
+            measurement.stop(success);
+    }
 }
@@ -0,0 +1,246 @@
+/*
+ * This file is part of Bisq.
+ *
+ * Bisq is free software: you can redistribute it and/or modify it
+ * under the terms of the GNU Affero General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or (at
+ * your option) any later version.
+ *
+ * Bisq is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE. See the GNU Affero General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with Bisq. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package bisq.core.trade.protocol.tasks;
+
+import bisq.core.trade.BuyerTrade;
+import bisq.core.trade.MakerTrade;
+import bisq.core.trade.Trade;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+import lombok.Value;
+import lombok.extern.slf4j.Slf4j;
+
+import javax.annotation.Nullable;
+
+/**
+ * Optional timing and allocation accounting for the tasks of the trade protocols. Disabled by default.
+ * <p>
+ * If enabled each TradeTask records the wall clock time from its creation by the task runner until it completes or
+ * fails, and the bytes allocated by its thread in that time. The results are aggregated per protocol type
+ * (e.g. BuyerAsMaker) and task, with a histogram of the durations.
+ * Tasks which complete on another thread than the one they started on (e.g. after an async signature check) have no
+ * allocation sample, as the allocation counter of the JVM only covers a single thread.
+ */
+@Slf4j
+public class TradeTaskStats {
+    // Bucket i counts the durations from 2^i to 2^(i+1) micro sec. The last bucket takes all longer ones.
+    public static final int NUM_HISTOGRAM_BUCKETS = 32;
+
+    private static final Map<String, Accumulator> accumulatorByKey = new ConcurrentHashMap<>();
+    @Nullable
+    private static final com.sun.management.ThreadMXBean threadMXBean = getAllocationCountingThreadMXBean();
+    private static volatile boolean enabled;
+
+    @Value
+    public static class TaskStats {
+        private final String protocolType;
+        private final String taskName;
+        private final long numCompleted;
+        private final long numFailed;
+        private final long totalNanos;
+        private final long maxNanos;
+        private final long numAllocationSamples;
+        private final long totalAllocatedBytes;
+        private final long[] histogram;
+
+        public long getAverageMicros() {
+            long numRuns = numCompleted + numFailed;
+            return numRuns > 0 ? TimeUnit.NANOSECONDS.toMicros(totalNanos / numRuns) : 0;
+        }
+
+        public long getAverageAllocatedBytes() {
+            return numAllocationSamples > 0 ? totalAllocatedBytes / numAllocationSamples : 0;
+        }
+
+        // Upper bound of the histogram bucket which contains the given percentile
+        public long getPercentileMicros(double percentile) {
+            long numRuns = numCompleted + numFailed;
+            long threshold = (long) Math.ceil(numRuns * percentile / 100);
+            long count = 0;
+            for (int i = 0; i < histogram.length; i++) {
+                count += histogram[i];
+                if (count >= threshold && count > 0)
+                    return 1L << (i + 1);
+            }
+            return 0;
+        }
+    }
+
+    // Created by a TradeTask when it starts
+    static class Measurement {
+        private final String protocolType;
+        private final String taskName;
+        private final long startNanos;
+        private final Thread thread;
+        private final long startAllocatedBytes;
+        private boolean stopped;
+
+        private Measurement(String protocolType, String taskName) {
+            this.protocolType = protocolType;
+            this.taskName = taskName;
+            this.thread = Thread.currentThread();
+            this.startAllocatedBytes = getAllocatedBytes(thread);
+            this.startNanos = System.nanoTime();
+        }
+
+        // A task can call failed after complete or several times, we only count the first call
+        void stop(boolean success) {
+            if (stopped)
+                return;
+
+            stopped = true;
+            long durationNanos = System.nanoTime() - startNanos;
+            long allocatedBytes = -1;
+            if (thread == Thread.currentThread() && startAllocatedBytes >= 0)
+                allocatedBytes = getAllocatedBytes(thread) - startAllocatedBytes;
+
+            accumulatorByKey.computeIfAbsent(protocolType + "." + taskName,
+                    key -> new Accumulator(protocolType, taskName))
+                    .add(success, durationNanos, allocatedBytes);
+        }
+    }
+
+    private static class Accumulator {
+        private final String protocolType;
+        private final String taskName;
+        private long numCompleted;
+        private long numFailed;
+        private long totalNanos;
+        private long maxNanos;
+        private long numAllocationSamples;
+        private long totalAllocatedBytes;
+        private final long[] histogram = new long[NUM_HISTOGRAM_BUCKETS];
+
+        private Accumulator(String protocolType, String taskName) {
+            this.protocolType = protocolType;
+            this.taskName = taskName;
+        }
+
+        private synchronized void add(boolean success, long durationNanos, long allocatedBytes) {
+            if (success)
+                numCompleted++;
+            else
+                numFailed++;
+
+            totalNanos += durationNanos;
+            maxNanos = Math.max(maxNanos, durationNanos);
+            long micros = Math.max(1, TimeUnit.NANOSECONDS.toMicros(durationNanos));
+            histogram[Math.min(NUM_HISTOGRAM_BUCKETS - 1, 63 - Long.numberOfLeadingZeros(micros))]++;
+
+            if (allocatedBytes >= 0) {
+                numAllocationSamples++;
+                totalAllocatedBytes += allocatedBytes;
+            }
+        }
+
+        private synchronized TaskStats getTaskStats() {
+            return new TaskStats(protocolType, taskName, numCompleted, numFailed, totalNanos, maxNanos,
+                    numAllocationSamples, totalAllocatedBytes, histogram.clone());
+        }
+    }
+
+
+    ///////////////////////////////////////////////////////////////////////////////////////////
+    // API
+    ///////////////////////////////////////////////////////////////////////////////////////////
+
+    public static void setEnabled(boolean enabled) {
+        TradeTaskStats.enabled = enabled;
+        if (enabled && threadMXBean == null)
+            log.info("The JVM does not support counting the allocated bytes of a thread. We only record the timing.");
+    }
+
+    public static boolean isEnabled() {
+        return enabled;
+    }
+
+    // Sorted by protocol type and by the total time spent in a task, the most expensive first
+    public static List<TaskStats> getTaskStats() {
+        List<TaskStats> list = new ArrayList<>();
+        accumulatorByKey.values().forEach(accumulator -> list.add(accumulator.getTaskStats()));
+        list.sort(Comparator.comparing(TaskStats::getProtocolType)
+                .thenComparing(Comparator.comparingLong(TaskStats::getTotalNanos).reversed()));
+        return list;
+    }
+
+    public static String getSummary() {
+        StringBuilder sb = new StringBuilder("Trade task stats:");
+        getTaskStats().forEach(stats -> sb.append("\n    ")
+                .append(stats.getProtocolType()).append(".").append(stats.getTaskName())
+                .append(": runs=").append(stats.getNumCompleted() + stats.getNumFailed())
+                .append(", failed=").append(stats.getNumFailed())
+                .append(", avg=").append(stats.getAverageMicros()).append(" us")
+                .append(", p90<=").append(stats.getPercentileMicros(90)).append(" us")
+                .append(", max=").append(TimeUnit.NANOSECONDS.toMicros(stats.getMaxNanos())).append(" us")
+                .append(", avgAllocated=").append(stats.getAverageAllocatedBytes()).append(" bytes"));
+        return sb.toString();
+    }
+
+    public static void reset() {
+        accumulatorByKey.clear();
+    }
+
+    // BuyerAsMaker, BuyerAsTaker, SellerAsMaker or SellerAsTaker, like the protocol classes
+    public static String getProtocolType(Trade trade) {
+        return (trade instanceof BuyerTrade ? "Buyer" : "Seller") + (trade instanceof MakerTrade ? "AsMaker" : "AsTaker");
+    }
+
+
+    ///////////////////////////////////////////////////////////////////////////////////////////
+    // Package scope
+    ///////////////////////////////////////////////////////////////////////////////////////////
+
+    // Returns null if not enabled
+    @Nullable
+    static Measurement start(Trade trade, Class<?> taskClass) {
+        return enabled ? new Measurement(getProtocolType(trade), taskClass.getSimpleName()) : null;
+    }
+
+
+    ///////////////////////////////////////////////////////////////////////////////////////////
+    // Private
+    ///////////////////////////////////////////////////////////////////////////////////////////
+
+    private static long getAllocatedBytes(Thread thread) {
+        return threadMXBean != null ? threadMXBean.getThreadAllocatedBytes(thread.getId()) : -1;
+    }
+
+    @Nullable
+    private static com.sun.management.ThreadMXBean getAllocationCountingThreadMXBean() {
+        try {
+            ThreadMXBean threadMXBean = ManagementFactory.getThreadMXBean();
+            if (threadMXBean instanceof com.sun.management.ThreadMXBean) {
+                com.sun.management.ThreadMXBean sunThreadMXBean = (com.sun.management.ThreadMXBean) threadMXBean;
+                if (sunThreadMXBean.isThreadAllocatedMemorySupported() && sunThreadMXBean.isThreadAllocatedMemoryEnabled())
+                    return sunThreadMXBean;
+            }
+        } catch (Throwable t) {
+            log.warn("Could not get the ThreadMXBean. " + t.toString());
+        }
+        return null;
+    }
+}
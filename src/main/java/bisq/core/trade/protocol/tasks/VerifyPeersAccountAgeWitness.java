@@ -58,17 +58,29 @@ public class VerifyPeersAccountAgeWitness extends TradeTask {
                     long currentDateAsLong = tradingPeer.getCurrentDate();
                     // In case the peer has an older version we get 0, so we use our time instead
                     final Date peersCurrentDate = currentDateAsLong > 0 ? new Date(currentDateAsLong) : new Date();
-                    boolean result = accountAgeWitnessService.verifyAccountAgeWitness(trade,
+                    boolean result = accountAgeWitnessService.verifyAccountAgeWitnessData(trade,
                             peersPaymentAccountPayload,
                             peersCurrentDate,
                             peersPubKeyRing,
-                            nonce,
-                            signature,
                             errorMessage -> errorMsg[0] = errorMessage);
-                    if (result)
-                        complete();
-                    else
+                    if (result) {
+                        // The signature check is done on the verification worker pool and the result handlers are
+                        // called on the UserThread, so the task runner proceeds in the same order as before.
+                        processModel.getSignatureVerificationService().execute(
+                                () -> accountAgeWitnessService.verifyPeersSignature(peersPubKeyRing,
+                                        nonce,
+                                        signature,
+                                        errorMessage -> errorMsg[0] = errorMessage),
+                                isValid -> {
+                                    if (isValid)
+                                        complete();
+                                    else
+                                        failed(errorMsg[0]);
+                                },
+                                this::failed);
+                    } else {
                         failed(errorMsg[0]);
+                    }
                 } else {
                     String msg = "Seems that offer was created with an application before v0.6 which did not support the account age witness verification.";
                     msg += "\nTrade ID=" + trade.getId();
@@ -32,12 +32,16 @@ import bisq.common.taskrunner.TaskRunner;
 import org.bitcoinj.core.Address;
 import org.bitcoinj.core.Coin;
 
+import com.google.common.util.concurrent.FutureCallback;
+
 import java.util.Arrays;
 import java.util.List;
 import java.util.Optional;
 
 import lombok.extern.slf4j.Slf4j;
 
+import org.jetbrains.annotations.NotNull;
+
 import static com.google.common.base.Preconditions.checkArgument;
 import static com.google.common.base.Preconditions.checkNotNull;
 
@@ -93,7 +97,7 @@ public class SellerAsMakerCreatesAndSignsDepositTx extends TradeTask {
 
             final byte[] arbitratorBtcPubKey = trade.getArbitratorBtcPubKey();
 
-            PreparedDepositTxAndMakerInputs result = processModel.getTradeWalletService().makerCreatesAndSignsDepositTx(
+            processModel.getTradeWalletService().makerCreatesAndSignsDepositTx(
                     makerIsBuyer,
                     contractHash,
                     makerInputAmount,
@@ -105,12 +109,21 @@ public class SellerAsMakerCreatesAndSignsDepositTx extends TradeTask {
                     makerChangeAddress,
                     buyerPubKey,
                     sellerPubKey,
-                    arbitratorBtcPubKey);
-
-            processModel.setPreparedDepositTx(result.depositTransaction);
-            processModel.setRawTransactionInputs(result.rawMakerInputs);
-
-            complete();
+                    arbitratorBtcPubKey,
+                    new FutureCallback<PreparedDepositTxAndMakerInputs>() {
+                        @Override
+                        public void onSuccess(PreparedDepositTxAndMakerInputs result) {
+                            processModel.setPreparedDepositTx(result.depositTransaction);
+                            processModel.setRawTransactionInputs(result.rawMakerInputs);
+
+                            complete();
+                        }
+
+                        @Override
+                        public void onFailure(@NotNull Throwable t) {
+                            failed(t);
+                        }
+                    });
         } catch (Throwable t) {
             failed(t);
         }
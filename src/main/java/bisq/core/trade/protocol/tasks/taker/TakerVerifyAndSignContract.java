@@ -109,16 +109,13 @@ public class TakerVerifyAndSignContract extends TradeTask {
             trade.setContract(contract);
             trade.setContractAsJson(contractAsJson);
             trade.setTakerContractSignature(signature);
-            try {
-                checkNotNull(maker.getPubKeyRing(), "maker.getPubKeyRing() must nto be null");
-                Sig.verify(maker.getPubKeyRing().getSignaturePubKey(),
-                        contractAsJson,
-                        maker.getContractSignature());
-
-                complete();
-            } catch (Throwable t) {
-                failed("Signature verification failed. " + t.getMessage());
-            }
+            checkNotNull(maker.getPubKeyRing(), "maker.getPubKeyRing() must nto be null");
+            // An invalid signature of the maker fails the trade. Before only an exception at the verification did.
+            processModel.getSignatureVerificationService().verifySignature(maker.getPubKeyRing().getSignaturePubKey(),
+                    contractAsJson,
+                    maker.getContractSignature(),
+                    this::complete,
+                    errorMessage -> failed("Signature verification failed. " + errorMessage));
         } catch (Throwable t) {
             failed(t);
         }
@@ -21,13 +21,11 @@ import bisq.core.app.AppOptionKeys;
 import bisq.core.locale.CurrencyTuple;
 import bisq.core.locale.CurrencyUtil;
 import bisq.core.locale.Res;
+import bisq.core.network.p2p.P2PPayloadRouter;
 import bisq.core.provider.price.PriceFeedService;
 import bisq.core.trade.Trade;
 
 import bisq.network.p2p.P2PService;
-import bisq.network.p2p.storage.HashMapChangedListener;
-import bisq.network.p2p.storage.payload.ProtectedStorageEntry;
-import bisq.network.p2p.storage.payload.ProtectedStoragePayload;
 
 import bisq.common.UserThread;
 import bisq.common.storage.JsonFileManager;
@@ -43,6 +41,7 @@ import javafx.collections.ObservableSet;
 import java.io.File;
 
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Date;
 import java.util.HashMap;
 import java.util.HashSet;
@@ -78,23 +77,39 @@ public class TradeStatisticsManager {
 
     private final JsonFileManager jsonFileManager;
     private final P2PService p2PService;
+    private final P2PPayloadRouter p2PPayloadRouter;
     private final PriceFeedService priceFeedService;
     private final boolean dumpStatistics;
     private final ObservableSet<TradeStatistics2> observableTradeStatisticsSet = FXCollections.observableSet();
     private final HashSet<TradeStatistics2> tradeStatisticsSet = new HashSet<>();
+    // Offer IDs of the items in tradeStatisticsSet, so we don't need to iterate the set at each add
+    private final Set<String> offerIds = new HashSet<>();
 
     @Inject
     public TradeStatisticsManager(P2PService p2PService,
+                                  P2PPayloadRouter p2PPayloadRouter,
                                   PriceFeedService priceFeedService,
                                   @Named(Storage.STORAGE_DIR) File storageDir,
                                   @Named(AppOptionKeys.DUMP_STATISTICS) boolean dumpStatistics) {
         this.p2PService = p2PService;
+        this.p2PPayloadRouter = p2PPayloadRouter;
         this.priceFeedService = priceFeedService;
         this.dumpStatistics = dumpStatistics;
         jsonFileManager = new JsonFileManager(storageDir);
     }
 
     public void onAllServicesInitialized() {
+        List<TradeStatistics2> persistedTradeStatistics = new ArrayList<>();
+        p2PService.getP2PDataStorage().getPersistableNetworkPayloadList().getMap().values().forEach(e -> {
+            if (e instanceof TradeStatistics2)
+                persistedTradeStatistics.add((TradeStatistics2) e);
+        });
+        onAllServicesInitialized(persistedTradeStatistics);
+    }
+
+    // The persistedTradeStatistics are the TradeStatistics2 of the PersistableNetworkPayload map at startup. They
+    // are passed in so the caller can collect the data for all services in one iteration over the map.
+    public void onAllServicesInitialized(Collection<TradeStatistics2> persistedTradeStatistics) {
         if (dumpStatistics) {
             ArrayList<CurrencyTuple> fiatCurrencyList = new ArrayList<>(CurrencyUtil.getAllSortedFiatCurrencies().stream()
                     .map(e -> new CurrencyTuple(e.getCode(), e.getName(), 8))
@@ -108,29 +123,21 @@ public class TradeStatisticsManager {
             jsonFileManager.writeToDisc(Utilities.objectToJson(cryptoCurrencyList), "crypto_currency_list");
         }
 
-        p2PService.getP2PDataStorage().addPersistableNetworkPayloadMapListener(payload -> {
-            if (payload instanceof TradeStatistics2)
-                addToMap((TradeStatistics2) payload, true);
-        });
+        p2PPayloadRouter.addPersistableNetworkPayloadListener(TradeStatistics2.class, payload -> addToMap(payload, true));
 
-        p2PService.getP2PDataStorage().getPersistableNetworkPayloadList().getMap().values().forEach(e -> {
-            if (e instanceof TradeStatistics2)
-                addToMap((TradeStatistics2) e, false);
-        });
+        persistedTradeStatistics.forEach(e -> addToMap(e, false));
 
         //TODO can be removed after version older than v0.6.0 are not used anymore
         // We listen to TradeStatistics objects from old clients as well and convert them into TradeStatistics2 objects
-        p2PService.addHashSetChangedListener(new HashMapChangedListener() {
+        p2PPayloadRouter.addProtectedStoragePayloadListener(TradeStatistics.class, new P2PPayloadRouter.ProtectedStoragePayloadListener<TradeStatistics>() {
             @Override
-            public void onAdded(ProtectedStorageEntry data) {
-                final ProtectedStoragePayload protectedStoragePayload = data.getProtectedStoragePayload();
-                if (protectedStoragePayload instanceof TradeStatistics)
-                    p2PService.getP2PDataStorage().addPersistableNetworkPayload(ConvertToTradeStatistics2((TradeStatistics) protectedStoragePayload),
-                            p2PService.getNetworkNode().getNodeAddress(), true, false, false, false);
+            public void onAdded(TradeStatistics tradeStatistics) {
+                p2PService.getP2PDataStorage().addPersistableNetworkPayload(ConvertToTradeStatistics2(tradeStatistics),
+                        p2PService.getNetworkNode().getNodeAddress(), true, false, false, false);
             }
 
             @Override
-            public void onRemoved(ProtectedStorageEntry data) {
+            public void onRemoved(TradeStatistics tradeStatistics) {
                 // We don't remove items
             }
         });
@@ -166,9 +173,10 @@ public class TradeStatisticsManager {
 
     public void addToMap(TradeStatistics2 tradeStatistics, boolean storeLocally) {
         if (!tradeStatisticsSet.contains(tradeStatistics)) {
-            boolean itemAlreadyAdded = tradeStatisticsSet.stream().filter(e -> (e.getOfferId().equals(tradeStatistics.getOfferId()))).findAny().isPresent();
+            boolean itemAlreadyAdded = offerIds.contains(tradeStatistics.getOfferId());
             if (!itemAlreadyAdded) {
                 tradeStatisticsSet.add(tradeStatistics);
+                offerIds.add(tradeStatistics.getOfferId());
                 observableTradeStatisticsSet.add(tradeStatistics);
 
                 tradeStatistics.getTradePrice().getValue();
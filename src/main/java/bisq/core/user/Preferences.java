@@ -53,9 +53,11 @@ import javafx.collections.ObservableList;
 
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
+import java.util.Set;
 
 import lombok.Getter;
 import lombok.Setter;
@@ -123,6 +125,8 @@ public final class Preferences implements PersistedDataHost, BridgeAddressProvid
     @Delegate(excludes = ExcludesDelegateMethods.class)
     private PreferencesPayload prefPayload = new PreferencesPayload();
     private boolean initialReadDone = false;
+    // Hash set view of prefPayload.ignoreTradersList, rebuilt when the list gets read or set
+    private Set<String> ignoreTradersSet = new HashSet<>(prefPayload.getIgnoreTradersList());
 
     @Getter
     private final BooleanProperty useAnimationsProperty = new SimpleBooleanProperty(prefPayload.isUseAnimations());
@@ -272,6 +276,8 @@ public final class Preferences implements PersistedDataHost, BridgeAddressProvid
             setBitcoinNodesOptionOrdinal(BitcoinNodes.BitcoinNodesOption.CUSTOM.ordinal());
         }
 
+        ignoreTradersSet = new HashSet<>(prefPayload.getIgnoreTradersList());
+
         initialReadDone = true;
         persist();
     }
@@ -290,6 +296,10 @@ public final class Preferences implements PersistedDataHost, BridgeAddressProvid
         persist();
     }
 
+    public boolean isIgnoredTrader(String hostName) {
+        return ignoreTradersSet.contains(hostName);
+    }
+
 
     ///////////////////////////////////////////////////////////////////////////////////////////
     // Setter
@@ -426,6 +436,7 @@ public final class Preferences implements PersistedDataHost, BridgeAddressProvid
 
     public void setIgnoreTradersList(List<String> ignoreTradersList) {
         prefPayload.setIgnoreTradersList(ignoreTradersList);
+        ignoreTradersSet = new HashSet<>(ignoreTradersList);
         persist();
     }
 
@@ -20,6 +20,10 @@ package bisq.asset;
 import bisq.core.btc.BaseCurrencyNetwork;
 import bisq.core.locale.Res;
 
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.After;
 import org.junit.Before;
 import org.junit.Test;
 
@@ -48,6 +52,9 @@ public abstract class AbstractAssetTest {
     private final AssetRegistry assetRegistry = new AssetRegistry();
 
     protected final Asset asset;
+    // Addresses checked by the current test, validated again in bulk after the test
+    protected final List<String> validAddresses = new ArrayList<>();
+    protected final List<String> invalidAddresses = new ArrayList<>();
 
     public AbstractAssetTest(Asset asset) {
         this.asset = asset;
@@ -60,6 +67,17 @@ public abstract class AbstractAssetTest {
         Res.setBaseCurrencyName(baseCurrencyNetwork.getCurrencyName());
     }
 
+    @After
+    public void verifyValidateAll() {
+        List<AddressValidationResult> validResults = asset.validateAll(validAddresses);
+        for (int i = 0; i < validAddresses.size(); i++)
+            assertThat(validAddresses.get(i), validResults.get(i).isValid(), is(true));
+
+        List<AddressValidationResult> invalidResults = asset.validateAll(invalidAddresses);
+        for (int i = 0; i < invalidAddresses.size(); i++)
+            assertThat(invalidAddresses.get(i), invalidResults.get(i).isValid(), is(false));
+    }
+
     @Test
     public void testPresenceInAssetRegistry() {
         assertThat(asset + " is not registered in META-INF/services/" + Asset.class.getName(),
@@ -80,10 +98,12 @@ public abstract class AbstractAssetTest {
     protected void assertValidAddress(String address) {
         AddressValidationResult result = asset.validateAddress(address);
         assertThat(result.getMessage(), result.isValid(), is(true));
+        validAddresses.add(address);
     }
 
     protected void assertInvalidAddress(String address) {
         assertThat(asset.validateAddress(address).isValid(), is(false));
+        invalidAddresses.add(address);
     }
 
     private boolean hasSameTickerSymbol(Asset asset) {
@@ -0,0 +1,205 @@
+/*
+ * This file is part of Bisq.
+ *
+ * Bisq is free software: you can redistribute it and/or modify it
+ * under the terms of the GNU Affero General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or (at
+ * your option) any later version.
+ *
+ * Bisq is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE. See the GNU Affero General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with Bisq. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package bisq.core.arbitration;
+
+import bisq.core.filter.FilterManager;
+import bisq.core.user.Preferences;
+import bisq.core.user.User;
+
+import bisq.network.p2p.NodeAddress;
+import bisq.network.p2p.storage.HashMapChangedListener;
+import bisq.network.p2p.storage.payload.ProtectedStorageEntry;
+
+import bisq.common.app.DevEnv;
+import bisq.common.crypto.Encryption;
+import bisq.common.crypto.PubKeyRing;
+import bisq.common.crypto.Sig;
+import bisq.common.storage.Storage;
+
+import org.bitcoinj.core.ECKey;
+import org.bitcoinj.core.Utils;
+
+import com.google.common.collect.Lists;
+
+import javafx.beans.property.SimpleObjectProperty;
+
+import org.bouncycastle.jce.provider.BouncyCastleProvider;
+
+import java.security.Security;
+
+import java.math.BigInteger;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.powermock.core.classloader.annotations.PowerMockIgnore;
+import org.powermock.core.classloader.annotations.PrepareForTest;
+import org.powermock.modules.junit4.PowerMockRunner;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+
+import org.mockito.ArgumentCaptor;
+
+import static org.bitcoinj.core.Utils.HEX;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+// Checks that the incremental updates of the arbitrator map give the same map as a full rebuild
+@RunWith(PowerMockRunner.class)
+@PrepareForTest(Preferences.class)
+@PowerMockIgnore({"javax.crypto.*", "javax.management.*", "org.bouncycastle.*", "org.spongycastle.*"})
+public class ArbitratorManagerTest {
+    private static final NodeAddress NODE_ADDRESS = new NodeAddress("host", 1000);
+
+    private PubKeyRing pubKeyRing;
+    private String registrationSignature;
+    // The arbitrators in the P2P network in the order they were added
+    private List<Arbitrator> networkArbitrators;
+    private HashMapChangedListener listener;
+    private ArbitratorManager arbitratorManager;
+
+    @Before
+    public void setUp() throws Exception {
+        Security.addProvider(new BouncyCastleProvider());
+        pubKeyRing = new PubKeyRing(Sig.generateKeyPair().getPublic().getEncoded(),
+                Encryption.generateKeyPair().getPublic().getEncoded(),
+                "");
+        ECKey registrationKey = ECKey.fromPrivate(new BigInteger(1, HEX.decode(DevEnv.DEV_PRIVILEGE_PRIV_KEY)));
+        registrationSignature = registrationKey.signMessage(Utils.HEX.encode(pubKeyRing.getSignaturePubKey().getEncoded()));
+        networkArbitrators = new ArrayList<>();
+
+        ArbitratorService arbitratorService = mock(ArbitratorService.class);
+        // Like ArbitratorService.getArbitrators we keep one arbitrator per address
+        when(arbitratorService.getArbitrators()).thenAnswer(invocation -> {
+            Map<NodeAddress, Arbitrator> map = new HashMap<>();
+            networkArbitrators.forEach(arbitrator -> map.putIfAbsent(arbitrator.getNodeAddress(), arbitrator));
+            return map;
+        });
+        FilterManager filterManager = mock(FilterManager.class);
+        when(filterManager.filterProperty()).thenReturn(new SimpleObjectProperty<>());
+        Preferences preferences = mock(Preferences.class);
+        when(preferences.isAutoSelectArbitrators()).thenReturn(true);
+
+        arbitratorManager = new ArbitratorManager(null, arbitratorService, new User(mock(Storage.class), null), preferences, filterManager, true);
+        arbitratorManager.onAllServicesInitialized();
+
+        ArgumentCaptor<HashMapChangedListener> captor = ArgumentCaptor.forClass(HashMapChangedListener.class);
+        verify(arbitratorService).addHashSetChangedListener(captor.capture());
+        listener = captor.getValue();
+    }
+
+    @Test
+    public void testAdd() {
+        Arbitrator arbitrator = getArbitrator(NODE_ADDRESS, 1);
+        add(arbitrator);
+        assertEquals(arbitrator, arbitratorManager.getArbitratorsObservableMap().get(NODE_ADDRESS));
+        assertMatchesFullRebuild();
+
+        Arbitrator invalid = new Arbitrator(new NodeAddress("other", 1000), new byte[0], "btcAddress", pubKeyRing,
+                Lists.newArrayList(), 1, HEX.decode(DevEnv.DEV_PRIVILEGE_PUB_KEY), "invalid signature", null, null, null);
+        add(invalid);
+        assertEquals(1, arbitratorManager.getArbitratorsObservableMap().size());
+        assertMatchesFullRebuild();
+    }
+
+    @Test
+    public void testRemove() {
+        Arbitrator arbitrator = getArbitrator(NODE_ADDRESS, 1);
+        add(arbitrator);
+        add(getArbitrator(new NodeAddress("other", 1000), 1));
+        remove(arbitrator);
+        assertFalse(arbitratorManager.getArbitratorsObservableMap().containsKey(NODE_ADDRESS));
+        assertEquals(1, arbitratorManager.getArbitratorsObservableMap().size());
+        assertMatchesFullRebuild();
+    }
+
+    @Test
+    public void testReplace() {
+        // A republished arbitrator with changed data is added before the old entry gets removed
+        Arbitrator arbitrator = getArbitrator(NODE_ADDRESS, 1);
+        Arbitrator republished = getArbitrator(NODE_ADDRESS, 2);
+        add(arbitrator);
+        add(republished);
+        remove(arbitrator);
+        assertEquals(republished, arbitratorManager.getArbitratorsObservableMap().get(NODE_ADDRESS));
+        assertMatchesFullRebuild();
+    }
+
+    @Test
+    public void testRemoveWithOtherArbitratorAtSameAddress() {
+        Arbitrator first = getArbitrator(NODE_ADDRESS, 1);
+        Arbitrator second = getArbitrator(NODE_ADDRESS, 2);
+        add(first);
+        add(second);
+        assertEquals(second, arbitratorManager.getArbitratorsObservableMap().get(NODE_ADDRESS));
+
+        // The full rebuild still shows the first one, so we must not drop the address
+        remove(second);
+        assertEquals(first, arbitratorManager.getArbitratorsObservableMap().get(NODE_ADDRESS));
+        assertMatchesFullRebuild();
+
+        remove(first);
+        assertTrue(arbitratorManager.getArbitratorsObservableMap().isEmpty());
+        assertMatchesFullRebuild();
+    }
+
+    private Arbitrator getArbitrator(NodeAddress nodeAddress, long registrationDate) {
+        return new Arbitrator(nodeAddress,
+                new byte[0],
+                "btcAddress",
+                pubKeyRing,
+                Lists.newArrayList("en"),
+                registrationDate,
+                HEX.decode(DevEnv.DEV_PRIVILEGE_PUB_KEY),
+                registrationSignature,
+                null,
+                null,
+                null);
+    }
+
+    private void add(Arbitrator arbitrator) {
+        networkArbitrators.add(arbitrator);
+        listener.onAdded(getEntry(arbitrator));
+    }
+
+    // The P2P network removes the entry before it notifies the listeners
+    private void remove(Arbitrator arbitrator) {
+        networkArbitrators.remove(arbitrator);
+        listener.onRemoved(getEntry(arbitrator));
+    }
+
+    private ProtectedStorageEntry getEntry(Arbitrator arbitrator) {
+        ProtectedStorageEntry entry = mock(ProtectedStorageEntry.class);
+        when(entry.getProtectedStoragePayload()).thenReturn(arbitrator);
+        return entry;
+    }
+
+    private void assertMatchesFullRebuild() {
+        Map<NodeAddress, Arbitrator> incremental = new HashMap<>(arbitratorManager.getArbitratorsObservableMap());
+        arbitratorManager.updateArbitratorMap();
+        assertEquals(incremental, arbitratorManager.getArbitratorsObservableMap());
+    }
+}
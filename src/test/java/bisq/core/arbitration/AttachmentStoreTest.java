@@ -0,0 +1,169 @@
+/*
+ * This file is part of Bisq.
+ *
+ * Bisq is free software: you can redistribute it and/or modify it
+ * under the terms of the GNU Affero General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or (at
+ * your option) any later version.
+ *
+ * Bisq is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE. See the GNU Affero General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with Bisq. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package bisq.core.arbitration;
+
+import io.bisq.generated.protobuffer.PB;
+
+import org.apache.commons.lang3.RandomUtils;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+
+import java.io.File;
+import java.io.IOException;
+
+import java.util.Arrays;
+import java.util.Collections;
+
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+public class AttachmentStoreTest {
+    @Rule
+    public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+    private File storeDir;
+    private AttachmentStore attachmentStore;
+
+    @Before
+    public void setUp() throws IOException {
+        File storageDir = temporaryFolder.newFolder();
+        storeDir = new File(storageDir, "attachments");
+        attachmentStore = new AttachmentStore(storageDir);
+    }
+
+    @Test
+    public void testPutAndGet() {
+        byte[] bytes = RandomUtils.nextBytes(1000);
+        String hash = attachmentStore.put(bytes);
+        assertEquals(AttachmentStore.getHash(bytes), hash);
+        assertTrue(attachmentStore.contains(hash));
+        assertArrayEquals(bytes, attachmentStore.get(hash).get());
+
+        // Same content is stored only once under the same key
+        assertEquals(hash, attachmentStore.put(bytes.clone()));
+    }
+
+    @Test
+    public void testStoredAttachmentIsPersistedAsReference() {
+        byte[] bytes = RandomUtils.nextBytes(10000);
+        Attachment attachment = new Attachment("screenshot.png", bytes);
+        Attachment storedAttachment = attachment.toStoredAttachment(attachmentStore);
+        assertFalse(attachment.isInStore());
+        assertTrue(storedAttachment.isInStore());
+        assertEquals(attachment, storedAttachment);
+
+        PB.Attachment proto = storedAttachment.toPersistableProtoMessage();
+        assertTrue(proto.getBytes().size() < 100);
+        // Serialization does not change the attachment
+        assertEquals(proto, storedAttachment.toPersistableProtoMessage());
+
+        Attachment fromProto = Attachment.fromPersistableProto(proto, attachmentStore);
+        assertTrue(fromProto.isInStore());
+        assertEquals(attachment, fromProto);
+        assertArrayEquals(bytes, fromProto.getBytes());
+
+        // The network representation still carries the full content
+        assertArrayEquals(bytes, fromProto.toProtoMessage().getBytes().toByteArray());
+    }
+
+    @Test
+    public void testNetworkAttachmentIsNeverReadAsReference() {
+        byte[] bytes = RandomUtils.nextBytes(10000);
+        PB.Attachment reference = new Attachment("screenshot.png", bytes).toStoredAttachment(attachmentStore)
+                .toPersistableProtoMessage();
+
+        // A peer sends the reference to content in our store
+        Attachment fromProto = Attachment.fromProto(reference);
+        assertFalse(fromProto.isInStore());
+        assertArrayEquals(reference.getBytes().toByteArray(), fromProto.getBytes());
+        assertEquals(reference, fromProto.toProtoMessage());
+    }
+
+    @Test
+    public void testMissingContent() {
+        byte[] bytes = RandomUtils.nextBytes(10000);
+        PB.Attachment reference = new Attachment("screenshot.png", bytes).toStoredAttachment(attachmentStore)
+                .toPersistableProtoMessage();
+        attachmentStore.removeUnreferenced(Collections.emptySet());
+
+        Attachment fromProto = Attachment.fromPersistableProto(reference, attachmentStore);
+        assertTrue(fromProto.isMissing());
+        assertFalse(fromProto.isInStore());
+        assertEquals(0, fromProto.getBytes().length);
+        // We keep the reference and send an empty content
+        assertEquals(reference, fromProto.toPersistableProtoMessage());
+        assertEquals(0, fromProto.toProtoMessage().getBytes().size());
+    }
+
+    @Test
+    public void testUnreadableContent() throws IOException {
+        byte[] bytes = RandomUtils.nextBytes(10000);
+        Attachment storedAttachment = new Attachment("screenshot.png", bytes).toStoredAttachment(attachmentStore);
+        // The blob got corrupted after we have read the DisputeList
+        File[] files = storeDir.listFiles();
+        assertEquals(1, files.length);
+        Files.write(files[0].toPath(), RandomUtils.nextBytes(100));
+
+        assertFalse(attachmentStore.get(storedAttachment.getHash()).isPresent());
+        assertEquals(0, storedAttachment.getBytes().length);
+        assertEquals(0, storedAttachment.toProtoMessage().getBytes().size());
+    }
+
+    @Test
+    public void testRemoveUnreferenced() {
+        String hash1 = attachmentStore.put(RandomUtils.nextBytes(100));
+        String hash2 = attachmentStore.put(RandomUtils.nextBytes(100));
+
+        attachmentStore.removeUnreferenced(Collections.singleton(hash1));
+        assertTrue(attachmentStore.contains(hash1));
+        assertFalse(attachmentStore.contains(hash2));
+    }
+
+    @Test
+    public void testPersistedFileStartingWithPrefix() {
+        byte[] prefix = "bisq-attachment-ref:".getBytes(StandardCharsets.UTF_8);
+        // Same length as a reference, so it is read as reference to missing content
+        byte[] bytes = Arrays.copyOf(prefix, prefix.length + 32);
+        Attachment fromProto = Attachment.fromPersistableProto(new Attachment("file.txt", bytes).toPersistableProtoMessage(),
+                attachmentStore);
+        assertTrue(fromProto.isMissing());
+
+        byte[] longerBytes = Arrays.copyOf(prefix, prefix.length + 1000);
+        fromProto = Attachment.fromPersistableProto(new Attachment("file.txt", longerBytes).toPersistableProtoMessage(),
+                attachmentStore);
+        assertFalse(fromProto.isInStore());
+        assertArrayEquals(longerBytes, fromProto.getBytes());
+    }
+
+    @Test
+    public void testPersistedInlineAttachment() {
+        byte[] bytes = RandomUtils.nextBytes(100);
+        Attachment attachment = new Attachment("file.txt", bytes);
+        Attachment fromProto = Attachment.fromPersistableProto(attachment.toPersistableProtoMessage(), attachmentStore);
+        assertFalse(fromProto.isInStore());
+        assertArrayEquals(bytes, fromProto.getBytes());
+    }
+}
@@ -0,0 +1,147 @@
+/*
+ * This file is part of Bisq.
+ *
+ * Bisq is free software: you can redistribute it and/or modify it
+ * under the terms of the GNU Affero General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or (at
+ * your option) any later version.
+ *
+ * Bisq is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE. See the GNU Affero General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with Bisq. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package bisq.core.btc.blockchain;
+
+import bisq.core.btc.blockchain.providers.BlockTrailProvider;
+
+import bisq.network.http.HttpClient;
+
+import org.bitcoinj.core.Coin;
+
+import com.google.common.util.concurrent.ListenableFuture;
+import com.google.common.util.concurrent.ListeningExecutorService;
+import com.google.common.util.concurrent.MoreExecutors;
+
+import com.sun.net.httpserver.HttpServer;
+
+import java.net.InetSocketAddress;
+
+import java.nio.charset.StandardCharsets;
+
+import java.io.OutputStream;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.fail;
+
+public class TxFeeLookupCacheTest {
+    private static final String KNOWN_TX_ID = "a1";
+    private static final long LATENCY_MS = 200;
+
+    private HttpServer server;
+    private AtomicInteger numRequests;
+    private ListeningExecutorService executorService;
+    private AtomicLong now;
+    private TxFeeLookupCache cache;
+    private BlockTrailProvider provider;
+
+    @Before
+    public void setUp() throws Exception {
+        // Stands in for the block explorer. Counts the requests and answers after LATENCY_MS.
+        numRequests = new AtomicInteger();
+        server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+        server.createContext("/tx/", exchange -> {
+            numRequests.incrementAndGet();
+            try {
+                Thread.sleep(LATENCY_MS);
+            } catch (InterruptedException ignore) {
+            }
+            String txId = exchange.getRequestURI().getPath().substring("/tx/".length());
+            boolean isKnown = txId.equals(KNOWN_TX_ID);
+            byte[] body = (isKnown ? "{\"fee\": 1000}" : "{}").getBytes(StandardCharsets.UTF_8);
+            exchange.sendResponseHeaders(isKnown ? 200 : 404, body.length);
+            try (OutputStream outputStream = exchange.getResponseBody()) {
+                outputStream.write(body);
+            }
+        });
+        server.setExecutor(Executors.newCachedThreadPool());
+        server.start();
+
+        executorService = MoreExecutors.listeningDecorator(Executors.newFixedThreadPool(10));
+        now = new AtomicLong(1_000_000);
+        cache = new TxFeeLookupCache(executorService, now::get);
+
+        String baseUrl = "http://localhost:" + server.getAddress().getPort() + "/tx/";
+        HttpClient httpClient = new HttpClient(baseUrl);
+        provider = new BlockTrailProvider(httpClient);
+        // The provider sets its own base url
+        httpClient.setBaseUrl(baseUrl);
+        httpClient.setIgnoreSocks5Proxy(true);
+    }
+
+    @After
+    public void tearDown() {
+        server.stop(0);
+        executorService.shutdownNow();
+    }
+
+    @Test
+    public void testConcurrentRequestsShareOneLookup() throws Exception {
+        List<ListenableFuture<Coin>> futures = new ArrayList<>();
+        for (int i = 0; i < 20; i++)
+            futures.add(cache.getFee(KNOWN_TX_ID, provider));
+
+        for (ListenableFuture<Coin> future : futures)
+            assertEquals(Coin.valueOf(1000), future.get(10, TimeUnit.SECONDS));
+        assertEquals(1, numRequests.get());
+    }
+
+    @Test
+    public void testStaleEntriesAreLookedUpAgain() throws Exception {
+        assertEquals(Coin.valueOf(1000), cache.getFee(KNOWN_TX_ID, provider).get(10, TimeUnit.SECONDS));
+        now.addAndGet(TxFeeLookupCache.TTL_MS - 1);
+        assertEquals(Coin.valueOf(1000), cache.getFee(KNOWN_TX_ID, provider).get(10, TimeUnit.SECONDS));
+        assertEquals(1, numRequests.get());
+
+        now.addAndGet(1);
+        assertEquals(Coin.valueOf(1000), cache.getFee(KNOWN_TX_ID, provider).get(10, TimeUnit.SECONDS));
+        assertEquals(2, numRequests.get());
+    }
+
+    @Test
+    public void testFailuresAreNotCached() throws Exception {
+        for (int i = 1; i <= 2; i++) {
+            try {
+                cache.getFee("unknown", provider).get(10, TimeUnit.SECONDS);
+                fail("Expected ExecutionException");
+            } catch (ExecutionException ignore) {
+            }
+            assertEquals(i, numRequests.get());
+        }
+    }
+
+    @Test
+    public void testCancelDoesNotCancelSharedLookup() throws Exception {
+        ListenableFuture<Coin> first = cache.getFee(KNOWN_TX_ID, provider);
+        ListenableFuture<Coin> second = cache.getFee(KNOWN_TX_ID, provider);
+        first.cancel(true);
+        assertEquals(Coin.valueOf(1000), second.get(10, TimeUnit.SECONDS));
+        assertEquals(1, numRequests.get());
+    }
+}
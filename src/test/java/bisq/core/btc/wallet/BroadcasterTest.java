@@ -0,0 +1,206 @@
+/*
+ * This file is part of Bisq.
+ *
+ * Bisq is free software: you can redistribute it and/or modify it
+ * under the terms of the GNU Affero General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or (at
+ * your option) any later version.
+ *
+ * Bisq is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE. See the GNU Affero General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with Bisq. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package bisq.core.btc.wallet;
+
+import org.bitcoinj.core.Coin;
+import org.bitcoinj.core.Sha256Hash;
+import org.bitcoinj.core.Transaction;
+import org.bitcoinj.params.RegTestParams;
+import org.bitcoinj.script.ScriptBuilder;
+import org.bitcoinj.wallet.Wallet;
+
+import com.google.common.util.concurrent.FutureCallback;
+import com.google.common.util.concurrent.Futures;
+import com.google.common.util.concurrent.ListenableFuture;
+import com.google.common.util.concurrent.SettableFuture;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.jetbrains.annotations.NotNull;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import javax.annotation.Nullable;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.mock;
+
+public class BroadcasterTest {
+    private AtomicLong now;
+    private Broadcaster broadcaster;
+    private Wallet wallet;
+    private PeerGroupStub peerGroupStub;
+    private AtomicInteger numSuccess;
+    private AtomicInteger numFailure;
+    private FutureCallback<Transaction> callback;
+
+    @Before
+    public void setUp() {
+        now = new AtomicLong(1_000_000);
+        broadcaster = new Broadcaster(Runnable::run, now::get, false);
+        wallet = mock(Wallet.class);
+        peerGroupStub = new PeerGroupStub();
+        numSuccess = new AtomicInteger();
+        numFailure = new AtomicInteger();
+        callback = new FutureCallback<Transaction>() {
+            @Override
+            public void onSuccess(@Nullable Transaction result) {
+                numSuccess.incrementAndGet();
+            }
+
+            @Override
+            public void onFailure(@NotNull Throwable t) {
+                numFailure.incrementAndGet();
+            }
+        };
+    }
+
+    @Test
+    public void testPendingBroadcastsGetCoalesced() {
+        Transaction tx = getTx(0);
+        for (int i = 0; i < 3; i++)
+            broadcaster.broadcastTx(wallet, peerGroupStub, tx, callback, 8);
+
+        assertEquals(1, peerGroupStub.numPublished.get());
+        assertEquals(1, broadcaster.getNumInFlight());
+
+        peerGroupStub.complete(tx);
+        assertEquals(3, numSuccess.get());
+        assertEquals(0, broadcaster.getNumInFlight());
+
+        // Not pending anymore so we publish again
+        broadcaster.broadcastTx(wallet, peerGroupStub, tx, callback, 8);
+        assertEquals(2, peerGroupStub.numPublished.get());
+    }
+
+    @Test
+    public void testInFlightBroadcastsAreBounded() {
+        for (int i = 0; i < 60; i++)
+            broadcaster.broadcastTx(wallet, peerGroupStub, getTx(i), callback, 8);
+
+        assertEquals(50, peerGroupStub.numPublished.get());
+        assertEquals(50, broadcaster.getNumInFlight());
+        assertEquals(10, broadcaster.getNumWaiting());
+
+        peerGroupStub.complete(getTx(0));
+        peerGroupStub.fail(getTx(1));
+        assertEquals(52, peerGroupStub.numPublished.get());
+        assertEquals(8, broadcaster.getNumWaiting());
+        assertEquals(1, numSuccess.get());
+        assertEquals(1, numFailure.get());
+    }
+
+    @Test
+    public void testTimeout() {
+        Transaction tx = getTx(0);
+        broadcaster.broadcastTx(wallet, peerGroupStub, tx, callback, 8);
+        broadcaster.broadcastTx(wallet, peerGroupStub, getTx(1), callback, 20);
+
+        now.addAndGet(7_999);
+        broadcaster.onTick();
+        assertEquals(0, numSuccess.get());
+
+        now.addAndGet(1);
+        broadcaster.onTick();
+        assertEquals(1, numSuccess.get());
+        assertEquals(1, broadcaster.getNumInFlight());
+
+        // Late result of the timed out broadcast must not call the callback again
+        peerGroupStub.complete(tx);
+        assertEquals(1, numSuccess.get());
+
+        // We missed more ticks than the wheel has slots
+        now.addAndGet(60_000);
+        broadcaster.onTick();
+        assertEquals(2, numSuccess.get());
+        assertEquals(0, broadcaster.getNumInFlight());
+    }
+
+    @Test
+    public void testCompletionIsHandledOnUserThreadExecutor() {
+        List<Runnable> userThreadTasks = new ArrayList<>();
+        broadcaster = new Broadcaster(userThreadTasks::add, now::get, false);
+        Transaction tx = getTx(0);
+        broadcaster.broadcastTx(wallet, peerGroupStub, tx, callback, 8);
+
+        // Completed on a bitcoinj thread. Nothing changes before the UserThread handles it.
+        peerGroupStub.complete(tx);
+        assertEquals(1, broadcaster.getNumInFlight());
+        assertEquals(0, numSuccess.get());
+
+        assertEquals(1, userThreadTasks.size());
+        userThreadTasks.forEach(Runnable::run);
+        assertEquals(0, broadcaster.getNumInFlight());
+        assertEquals(1, numSuccess.get());
+    }
+
+    @Test
+    public void testThroughput() {
+        Broadcaster.Publisher immediatePublisher = tx -> {
+            peerGroupStub.numPublished.incrementAndGet();
+            return Futures.immediateFuture(tx);
+        };
+        int numTxs = 10_000;
+        long ts = System.currentTimeMillis();
+        for (int i = 0; i < numTxs; i++)
+            broadcaster.broadcastTx(wallet, immediatePublisher, getTx(i), callback, 8);
+        long duration = System.currentTimeMillis() - ts;
+
+        assertEquals(numTxs, peerGroupStub.numPublished.get());
+        assertEquals(numTxs, numSuccess.get());
+        assertEquals(0, broadcaster.getNumInFlight());
+        // Generous bound which only fails if the cost per broadcast grows with the number of broadcasts. See
+        // BroadcasterBenchmark for the measurement.
+        assertTrue("Broadcasting " + numTxs + " txs took " + duration + " ms", duration < 10_000);
+    }
+
+    private static Transaction getTx(int i) {
+        Transaction tx = new Transaction(RegTestParams.get());
+        tx.addOutput(Coin.valueOf(i + 1), ScriptBuilder.createOpReturnScript(new byte[]{1}));
+        return tx;
+    }
+
+    // Stands in for the PeerGroup. Broadcasts complete when the test completes or fails them.
+    private static class PeerGroupStub implements Broadcaster.Publisher {
+        private final AtomicInteger numPublished = new AtomicInteger();
+        private final Map<Sha256Hash, SettableFuture<Transaction>> futureByTxId = new HashMap<>();
+
+        @Override
+        public ListenableFuture<Transaction> publish(Transaction tx) {
+            numPublished.incrementAndGet();
+            SettableFuture<Transaction> future = SettableFuture.create();
+            futureByTxId.put(tx.getHash(), future);
+            return future;
+        }
+
+        private void complete(Transaction tx) {
+            futureByTxId.remove(tx.getHash()).set(tx);
+        }
+
+        private void fail(Transaction tx) {
+            futureByTxId.remove(tx.getHash()).setException(new Exception("Broadcast failed"));
+        }
+    }
+}
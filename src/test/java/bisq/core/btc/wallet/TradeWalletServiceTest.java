@@ -0,0 +1,116 @@
+/*
+ * This file is part of Bisq.
+ *
+ * Bisq is free software: you can redistribute it and/or modify it
+ * under the terms of the GNU Affero General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or (at
+ * your option) any later version.
+ *
+ * Bisq is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE. See the GNU Affero General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with Bisq. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package bisq.core.btc.wallet;
+
+import bisq.core.app.BisqEnvironment;
+import bisq.core.crypto.SignatureVerificationService;
+
+import org.bitcoinj.core.Address;
+import org.bitcoinj.core.Coin;
+import org.bitcoinj.core.ECKey;
+import org.bitcoinj.core.NetworkParameters;
+import org.bitcoinj.core.Sha256Hash;
+import org.bitcoinj.core.Transaction;
+import org.bitcoinj.crypto.DeterministicKey;
+import org.bitcoinj.crypto.HDKeyDerivation;
+import org.bitcoinj.script.Script;
+import org.bitcoinj.script.ScriptBuilder;
+
+import com.google.common.collect.ImmutableList;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.mock;
+
+public class TradeWalletServiceTest {
+    private NetworkParameters params;
+    private TradeWalletService tradeWalletService;
+    private DeterministicKey buyerKey;
+    private ECKey sellerKey;
+    private ECKey arbitratorKey;
+    private String buyerAddress;
+    private String sellerAddress;
+
+    @Before
+    public void setUp() {
+        params = BisqEnvironment.getParameters();
+        tradeWalletService = new TradeWalletService(mock(WalletsSetup.class),
+                mock(SignatureVerificationService.class),
+                mock(Broadcaster.class));
+        buyerKey = HDKeyDerivation.createMasterPrivateKey(new byte[32]);
+        sellerKey = new ECKey();
+        arbitratorKey = new ECKey();
+        buyerAddress = new ECKey().toAddress(params).toBase58();
+        sellerAddress = new ECKey().toAddress(params).toBase58();
+    }
+
+    @Test
+    public void testRedeemScriptIsCached() {
+        Script redeemScript = getRedeemScript();
+        assertSame(redeemScript, getRedeemScript());
+
+        // Order is arbitrator, seller, buyer. See comment at TradeWalletService.getMultiSigRedeemScript
+        Script expected = ScriptBuilder.createMultiSigOutputScript(2, ImmutableList.of(arbitratorKey, sellerKey, buyerKey));
+        assertArrayEquals(expected.getProgram(), redeemScript.getProgram());
+    }
+
+    @Test
+    public void testPayoutSignatureMatchesPayoutTx() throws Exception {
+        Transaction depositTx = getDepositTx();
+        for (int i = 0; i < 2; i++) {
+            // Both payouts use the cached redeem script
+            Coin buyerPayoutAmount = Coin.valueOf(50_000_000 + i);
+            Coin sellerPayoutAmount = Coin.valueOf(49_000_000 - i);
+            byte[] signature = tradeWalletService.buyerSignsPayoutTx(depositTx,
+                    buyerPayoutAmount,
+                    sellerPayoutAmount,
+                    buyerAddress,
+                    sellerAddress,
+                    buyerKey,
+                    buyerKey.getPubKey(),
+                    sellerKey.getPubKey(),
+                    arbitratorKey.getPubKey());
+
+            Sha256Hash sigHash = getPayoutTx(depositTx, buyerPayoutAmount, sellerPayoutAmount)
+                    .hashForSignature(0, getRedeemScript(), Transaction.SigHash.ALL, false);
+            assertTrue(ECKey.verify(sigHash.getBytes(), signature, buyerKey.getPubKey()));
+        }
+    }
+
+    private Script getRedeemScript() {
+        return tradeWalletService.getMultiSigRedeemScript(buyerKey.getPubKey(), sellerKey.getPubKey(), arbitratorKey.getPubKey());
+    }
+
+    private Transaction getDepositTx() {
+        Transaction depositTx = new Transaction(params);
+        depositTx.addOutput(Coin.COIN, ScriptBuilder.createP2SHOutputScript(getRedeemScript()));
+        return depositTx;
+    }
+
+    private Transaction getPayoutTx(Transaction depositTx, Coin buyerPayoutAmount, Coin sellerPayoutAmount) throws Exception {
+        Transaction payoutTx = new Transaction(params);
+        payoutTx.addInput(depositTx.getOutput(0));
+        payoutTx.addOutput(buyerPayoutAmount, Address.fromBase58(params, buyerAddress));
+        payoutTx.addOutput(sellerPayoutAmount, Address.fromBase58(params, sellerAddress));
+        return payoutTx;
+    }
+}
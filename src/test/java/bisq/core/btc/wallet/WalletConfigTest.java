@@ -0,0 +1,82 @@
+/*
+ * This file is part of Bisq.
+ *
+ * Bisq is free software: you can redistribute it and/or modify it
+ * under the terms of the GNU Affero General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or (at
+ * your option) any later version.
+ *
+ * Bisq is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE. See the GNU Affero General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with Bisq. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package bisq.core.btc.wallet;
+
+import bisq.common.storage.FileUtil;
+
+import org.bitcoinj.core.NetworkParameters;
+import org.bitcoinj.params.RegTestParams;
+import org.bitcoinj.store.SPVBlockStore;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+
+import java.io.File;
+import java.io.IOException;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+public class WalletConfigTest {
+    private static final String BTC_WALLET_FILE_NAME = "bisq_BTC.wallet";
+    private static final String BSQ_WALLET_FILE_NAME = "bisq_BSQ.wallet";
+    private static final String SPV_CHAIN_FILE_NAME = "bisq.spvchain";
+
+    private NetworkParameters params;
+    private File directory;
+
+    @Before
+    public void setUp() throws IOException {
+        params = RegTestParams.get();
+        directory = Files.createTempDirectory("WalletConfigTest").toFile();
+    }
+
+    @After
+    public void tearDown() throws IOException {
+        FileUtil.deleteDirectory(directory);
+    }
+
+    @Test
+    public void testBlockStoreIsClosedIfWalletFailsToLoad() throws Exception {
+        // The block store and the BSQ wallet get loaded in parallel with the BTC wallet
+        writeCorruptFile(BTC_WALLET_FILE_NAME);
+        writeCorruptFile(BSQ_WALLET_FILE_NAME);
+
+        WalletConfig walletConfig = new WalletConfig(params, null, directory, null, "test", 1,
+                BTC_WALLET_FILE_NAME, BSQ_WALLET_FILE_NAME, SPV_CHAIN_FILE_NAME);
+        walletConfig.setAutoStop(false);
+        try {
+            walletConfig.startUp();
+            fail("Expected the startup to fail with a corrupt wallet file");
+        } catch (Exception expected) {
+        }
+
+        File chainFile = new File(directory, SPV_CHAIN_FILE_NAME);
+        assertTrue(chainFile.exists());
+        // Fails with a BlockStoreException if the store from the failed startup still holds the file lock
+        new SPVBlockStore(params, chainFile).close();
+    }
+
+    private void writeCorruptFile(String fileName) throws IOException {
+        Files.write(new File(directory, fileName).toPath(), "not a wallet".getBytes(StandardCharsets.UTF_8));
+    }
+}
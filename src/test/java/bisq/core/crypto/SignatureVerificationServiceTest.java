@@ -0,0 +1,163 @@
+/*
+ * This file is part of Bisq.
+ *
+ * Bisq is free software: you can redistribute it and/or modify it
+ * under the terms of the GNU Affero General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or (at
+ * your option) any later version.
+ *
+ * Bisq is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE. See the GNU Affero General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with Bisq. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package bisq.core.crypto;
+
+import bisq.core.btc.exceptions.TransactionVerificationException;
+
+import bisq.common.crypto.Sig;
+
+import org.bitcoinj.core.Coin;
+import org.bitcoinj.core.ECKey;
+import org.bitcoinj.core.NetworkParameters;
+import org.bitcoinj.core.Sha256Hash;
+import org.bitcoinj.core.Transaction;
+import org.bitcoinj.core.TransactionInput;
+import org.bitcoinj.core.TransactionOutPoint;
+import org.bitcoinj.crypto.TransactionSignature;
+import org.bitcoinj.params.RegTestParams;
+import org.bitcoinj.script.Script;
+import org.bitcoinj.script.ScriptBuilder;
+
+import org.bouncycastle.jce.provider.BouncyCastleProvider;
+
+import java.security.KeyPair;
+import java.security.Security;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+public class SignatureVerificationServiceTest {
+    private static final long TIMEOUT_SEC = 10;
+
+    private NetworkParameters params;
+    private SignatureVerificationService service;
+    // Completed with null by the result handler and with the error by the fault handler
+    private CompletableFuture<Throwable> result;
+
+    @Before
+    public void setUp() {
+        Security.addProvider(new BouncyCastleProvider());
+        params = RegTestParams.get();
+        service = new SignatureVerificationService();
+        result = new CompletableFuture<>();
+    }
+
+    @After
+    public void tearDown() {
+        service.shutDown();
+    }
+
+    @Test
+    public void testValidScriptSignatures() throws Exception {
+        Transaction tx = getTx(3);
+        for (int i = 0; i < 3; i++)
+            signInput(tx, i, getKey(i));
+
+        service.checkScriptSignatures(tx, 0, tx.getInputs().size(), () -> result.complete(null), result::complete);
+        assertEquals(null, result.get(TIMEOUT_SEC, TimeUnit.SECONDS));
+    }
+
+    @Test
+    public void testInvalidScriptSignature() throws Exception {
+        Transaction tx = getTx(3);
+        signInput(tx, 0, getKey(0));
+        // Signed with a key which does not own the connected output
+        signInput(tx, 1, getKey(3));
+        signInput(tx, 2, getKey(2));
+
+        service.checkScriptSignatures(tx, 0, tx.getInputs().size(), () -> result.complete(null), result::complete);
+        assertTrue(result.get(TIMEOUT_SEC, TimeUnit.SECONDS) instanceof TransactionVerificationException);
+    }
+
+    @Test
+    public void testOnlyGivenInputsAreChecked() throws Exception {
+        Transaction tx = getTx(3);
+        // Input 0 is the one of the peer, which is not signed yet
+        signInput(tx, 1, getKey(1));
+        signInput(tx, 2, getKey(2));
+
+        service.checkScriptSignatures(tx, 1, 3, () -> result.complete(null), result::complete);
+        assertEquals(null, result.get(TIMEOUT_SEC, TimeUnit.SECONDS));
+    }
+
+    @Test
+    public void testExceptionIsPassedToFaultHandler() throws Exception {
+        Transaction tx = getTx(1);
+        // Input without connected output
+        tx.addInput(new TransactionInput(params, tx, new byte[]{}, new TransactionOutPoint(params, 0, Sha256Hash.ZERO_HASH)));
+        signInput(tx, 0, getKey(0));
+
+        service.checkScriptSignatures(tx, 0, tx.getInputs().size(), () -> result.complete(null), result::complete);
+        assertTrue(result.get(TIMEOUT_SEC, TimeUnit.SECONDS) instanceof TransactionVerificationException);
+
+        CompletableFuture<Throwable> taskResult = new CompletableFuture<>();
+        IllegalStateException exception = new IllegalStateException();
+        service.execute(() -> {
+            throw exception;
+        }, value -> taskResult.complete(null), taskResult::complete);
+        assertEquals(exception, taskResult.get(TIMEOUT_SEC, TimeUnit.SECONDS));
+    }
+
+    @Test
+    public void testVerifySignature() throws Exception {
+        KeyPair keyPair = Sig.generateKeyPair();
+        String message = "message";
+        String signature = Sig.sign(keyPair.getPrivate(), message);
+
+        service.verifySignature(keyPair.getPublic(), message, signature,
+                () -> result.complete(null), errorMessage -> result.complete(new Exception(errorMessage)));
+        assertEquals(null, result.get(TIMEOUT_SEC, TimeUnit.SECONDS));
+
+        CompletableFuture<Throwable> invalidResult = new CompletableFuture<>();
+        service.verifySignature(keyPair.getPublic(), "other message", signature,
+                () -> invalidResult.complete(null), errorMessage -> invalidResult.complete(new Exception(errorMessage)));
+        assertEquals("Signature is not valid", invalidResult.get(TIMEOUT_SEC, TimeUnit.SECONDS).getMessage());
+    }
+
+    // Creates a tx with unsigned inputs. Input i spends an output owned by getKey(i).
+    private Transaction getTx(int numInputs) {
+        Transaction tx = new Transaction(params);
+        for (int i = 0; i < numInputs; i++) {
+            Transaction fundingTx = new Transaction(params);
+            fundingTx.addOutput(Coin.COIN, getKey(i).toAddress(params));
+            tx.addInput(fundingTx.getOutput(0));
+        }
+        tx.addOutput(Coin.CENT, new ECKey().toAddress(params));
+        return tx;
+    }
+
+    // All inputs must be added before signing as the sighash covers them
+    private static void signInput(Transaction tx, int index, ECKey key) {
+        TransactionInput input = tx.getInput(index);
+        Script scriptPubKey = input.getConnectedOutput().getScriptPubKey();
+        TransactionSignature signature = tx.calculateSignature(index, key, scriptPubKey, Transaction.SigHash.ALL, false);
+        input.setScriptSig(ScriptBuilder.createInputScript(signature, key));
+    }
+
+    // Deterministic keys so a failing test can be reproduced
+    private static ECKey getKey(int index) {
+        return ECKey.fromPrivate(Sha256Hash.hash(new byte[]{(byte) index}));
+    }
+}
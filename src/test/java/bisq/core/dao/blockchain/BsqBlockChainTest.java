@@ -17,10 +17,26 @@
 
 package bisq.core.dao.blockchain;
 
+import bisq.core.dao.blockchain.vo.Tx;
+import bisq.core.dao.blockchain.vo.TxInput;
+import bisq.core.dao.blockchain.vo.TxOutput;
+import bisq.core.dao.blockchain.vo.TxOutputType;
+import bisq.core.dao.blockchain.vo.util.TxIdIndexTuple;
+
 import bisq.common.proto.persistable.PersistenceProtoResolver;
 
+import org.bitcoinj.core.Sha256Hash;
+
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableSet;
+
 import java.io.File;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicReference;
+
 import org.powermock.core.classloader.annotations.PrepareForTest;
 import org.powermock.modules.junit4.PowerMockRunner;
 
@@ -30,6 +46,7 @@ import org.junit.runner.RunWith;
 
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
 import static org.junit.Assert.assertTrue;
 import static org.mockito.Mockito.mock;
 
@@ -73,4 +90,81 @@ public class BsqBlockChainTest {
         assertFalse(snapshotManager.isSnapshotHeight(102, 201, 10));
         assertFalse(snapshotManager.isSnapshotHeight(102, 199, 10));
     }
+
+    @Test
+    public void testUnspentTxOutputFilterRebuildDuringLookups() throws InterruptedException {
+        BsqBlockChain bsqBlockChain = new BsqBlockChain("genesisTxId", 0);
+        List<TxOutput> txOutputs = new ArrayList<>();
+        for (int i = 0; i < 20_000; i++) {
+            TxOutput txOutput = new TxOutput(i % 4, 1000, Sha256Hash.of(Integer.toString(i / 4).getBytes()).toString(),
+                    null, null, null, 1);
+            txOutput.setUnspent(true);
+            txOutput.setVerified(true);
+            bsqBlockChain.addUnspentTxOutput(txOutput);
+            txOutputs.add(txOutput);
+        }
+        BsqBlockChain snapshot = bsqBlockChain.getClone();
+
+        // Like a reorg on the UserThread while the parser thread looks up outputs
+        AtomicReference<Throwable> writerException = new AtomicReference<>();
+        Thread writer = new Thread(() -> {
+            try {
+                for (int i = 0; i < 50; i++)
+                    bsqBlockChain.applySnapshot(snapshot);
+            } catch (Throwable t) {
+                writerException.set(t);
+            }
+        });
+        writer.start();
+        int numLookupRounds = 0;
+        while (writer.isAlive() || numLookupRounds == 0) {
+            txOutputs.forEach(txOutput ->
+                    assertTrue(bsqBlockChain.mightBeUnspentTxOutput(txOutput.getTxId(), txOutput.getIndex())));
+            numLookupRounds++;
+        }
+        writer.join();
+        assertNull(writerException.get());
+    }
+
+    @Test
+    public void testSpendingTxIndex() {
+        BsqBlockChain bsqBlockChain = new BsqBlockChain("genesisTxId", 0);
+        TxOutput txOutput = new TxOutput(0, 1000, "tx1", null, null, null, 1);
+        bsqBlockChain.addTxToMap(new Tx("tx1", 1, "hash1", 0, ImmutableList.of(), ImmutableList.of(txOutput)));
+        TxInput bsqInput = new TxInput("tx1", 0);
+        bsqInput.setConnectedTxOutput(txOutput);
+        // The parser only connects inputs spending a BSQ output
+        TxInput btcInput = new TxInput("btcTx", 0);
+        bsqBlockChain.addTxToMap(new Tx("tx2", 2, "hash2", 0, ImmutableList.of(bsqInput, btcInput), ImmutableList.of()));
+
+        assertEquals(Optional.of("tx2"), bsqBlockChain.getSpendingTxId(new TxIdIndexTuple("tx1", 0)));
+        assertFalse(bsqBlockChain.getSpendingTxId(new TxIdIndexTuple("tx1", 1)).isPresent());
+        assertFalse(bsqBlockChain.getSpendingTxId(new TxIdIndexTuple("btcTx", 0)).isPresent());
+
+        // The index is rebuilt when a snapshot gets applied
+        BsqBlockChain otherBsqBlockChain = new BsqBlockChain("genesisTxId", 0);
+        otherBsqBlockChain.applySnapshot(bsqBlockChain.getClone());
+        assertEquals(Optional.of("tx2"), otherBsqBlockChain.getSpendingTxId(new TxIdIndexTuple("tx1", 0)));
+        otherBsqBlockChain.applySnapshot(new BsqBlockChain("genesisTxId", 0));
+        assertFalse(otherBsqBlockChain.getSpendingTxId(new TxIdIndexTuple("tx1", 0)).isPresent());
+    }
+
+    @Test
+    public void testVoteRevealTxIndex() {
+        BsqBlockChain bsqBlockChain = new BsqBlockChain("genesisTxId", 0);
+        TxOutput stakeOutput = new TxOutput(0, 1000, "revealTx", null, null, null, 1);
+        TxOutput opReturnOutput = new TxOutput(1, 0, "revealTx", null, null, new byte[]{1}, 1);
+        opReturnOutput.setTxOutputType(TxOutputType.VOTE_REVEAL_OP_RETURN_OUTPUT);
+        bsqBlockChain.addTxToMap(new Tx("revealTx", 1, "hash1", 0, ImmutableList.of(),
+                ImmutableList.of(stakeOutput, opReturnOutput)));
+        bsqBlockChain.addTxToMap(new Tx("otherTx", 1, "hash1", 0, ImmutableList.of(),
+                ImmutableList.of(new TxOutput(0, 1000, "otherTx", null, null, null, 1))));
+
+        assertEquals(ImmutableSet.of(opReturnOutput), bsqBlockChain.getVoteRevealTxOutputs());
+
+        BsqBlockChain otherBsqBlockChain = new BsqBlockChain("genesisTxId", 0);
+        assertTrue(otherBsqBlockChain.getVoteRevealTxOutputs().isEmpty());
+        otherBsqBlockChain.applySnapshot(bsqBlockChain.getClone());
+        assertEquals(ImmutableSet.of(opReturnOutput), otherBsqBlockChain.getVoteRevealTxOutputs());
+    }
 }
@@ -0,0 +1,83 @@
+/*
+ * This file is part of Bisq.
+ *
+ * Bisq is free software: you can redistribute it and/or modify it
+ * under the terms of the GNU Affero General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or (at
+ * your option) any later version.
+ *
+ * Bisq is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE. See the GNU Affero General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with Bisq. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package bisq.core.dao.blockchain;
+
+import bisq.core.dao.blockchain.vo.util.TxIdIndexTuple;
+
+import org.bitcoinj.core.Sha256Hash;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+public class UnspentTxOutputFilterTest {
+
+    @Test
+    public void testNoFalseNegatives() {
+        UnspentTxOutputFilter filter = new UnspentTxOutputFilter();
+        List<TxIdIndexTuple> keys = getKeys(0, 50_000);
+        keys.forEach(key -> filter.add(key.getTxId(), key.getIndex()));
+        keys.forEach(key -> assertTrue(filter.mightContain(key.getTxId(), key.getIndex())));
+
+        UnspentTxOutputFilter rebuiltFilter = new UnspentTxOutputFilter(keys);
+        keys.forEach(key -> assertTrue(rebuiltFilter.mightContain(key.getTxId(), key.getIndex())));
+    }
+
+    @Test
+    public void testFalsePositiveRate() {
+        UnspentTxOutputFilter filter = new UnspentTxOutputFilter(getKeys(0, 50_000));
+
+        int numFalsePositives = 0;
+        List<TxIdIndexTuple> otherKeys = getKeys(1_000_000, 50_000);
+        for (TxIdIndexTuple key : otherKeys) {
+            if (filter.mightContain(key.getTxId(), key.getIndex()))
+                numFalsePositives++;
+        }
+        assertTrue("numFalsePositives=" + numFalsePositives, numFalsePositives < otherKeys.size() / 100);
+    }
+
+    @Test
+    public void testRebuildRequired() {
+        UnspentTxOutputFilter filter = new UnspentTxOutputFilter();
+        assertFalse(filter.isRebuildRequired());
+
+        // Filter gets too full
+        getKeys(0, 100_000).forEach(key -> filter.add(key.getTxId(), key.getIndex()));
+        assertTrue(filter.isRebuildRequired());
+
+        // Most keys got spent
+        UnspentTxOutputFilter rebuiltFilter = new UnspentTxOutputFilter(getKeys(0, 20_000));
+        assertFalse(rebuiltFilter.isRebuildRequired());
+        for (int i = 0; i < 15_000; i++)
+            rebuiltFilter.onRemoved();
+        assertTrue(rebuiltFilter.isRebuildRequired());
+    }
+
+    private static List<TxIdIndexTuple> getKeys(int start, int num) {
+        List<TxIdIndexTuple> keys = new ArrayList<>();
+        for (int i = start; i < start + num; i++) {
+            String txId = Sha256Hash.of(Integer.toString(i / 4).getBytes()).toString();
+            keys.add(new TxIdIndexTuple(txId, i % 4));
+        }
+        return keys;
+    }
+}
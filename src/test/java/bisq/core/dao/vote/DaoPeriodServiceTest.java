@@ -224,4 +224,20 @@ public class DaoPeriodServiceTest {
         assertTrue(service.isTxInCurrentCycle(gen + numBlocksOfCycle - 1, gen + numBlocksOfCycle - 1, gen, numBlocksOfCycle));
         assertFalse(service.isTxInCurrentCycle(gen + numBlocksOfCycle, gen + numBlocksOfCycle - 1, gen, numBlocksOfCycle));
     }
+
+    @Test
+    public void getPhaseForHeightTest() {
+        int numBlocksOfCycle = service.getNumBlocksOfCycle();
+        for (int cycle = 0; cycle < 3; cycle++) {
+            for (DaoPeriodService.Phase phase : DaoPeriodService.Phase.values()) {
+                if (phase.getDurationInBlocks() == 0)
+                    continue;
+
+                int start = service.getAbsoluteStartBlockOfPhase(cycle * numBlocksOfCycle, 0, phase, numBlocksOfCycle);
+                int end = service.getAbsoluteEndBlockOfPhase(cycle * numBlocksOfCycle, 0, phase, numBlocksOfCycle);
+                for (int height = start; height <= end; height++)
+                    assertEquals(phase, service.getPhaseForHeight(height));
+            }
+        }
+    }
 }
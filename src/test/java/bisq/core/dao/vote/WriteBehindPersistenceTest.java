@@ -0,0 +1,163 @@
+/*
+ * This file is part of Bisq.
+ *
+ * Bisq is free software: you can redistribute it and/or modify it
+ * under the terms of the GNU Affero General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or (at
+ * your option) any later version.
+ *
+ * Bisq is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE. See the GNU Affero General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with Bisq. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package bisq.core.dao.vote;
+
+import bisq.common.proto.persistable.PersistableEnvelope;
+import bisq.common.storage.Storage;
+
+import com.google.protobuf.Message;
+import com.google.protobuf.StringValue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import org.mockito.ArgumentCaptor;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+public class WriteBehindPersistenceTest {
+    private Storage<TestEnvelope> storage;
+    // Shared by all snapshots like the mutable elements of the DAO lists
+    private StringBuilder content;
+    private AtomicInteger numSnapshots;
+    private AtomicInteger numEncoded;
+    private TestEnvelope lastSnapshot;
+    private WriteBehindPersistence<TestEnvelope> persistence;
+
+    @SuppressWarnings("unchecked")
+    @Before
+    public void setUp() {
+        storage = mock(Storage.class);
+        content = new StringBuilder("a");
+        numSnapshots = new AtomicInteger();
+        numEncoded = new AtomicInteger();
+        persistence = createPersistence(Runnable::run);
+    }
+
+    @Test
+    public void testChangesGetCoalesced() {
+        for (int i = 0; i < 1000; i++)
+            persistence.requestPersist();
+        persistence.flush();
+
+        assertEquals(1, numSnapshots.get());
+        assertEquals(1, numEncoded.get());
+        verify(storage, times(1)).queueUpForSave(any(), anyLong());
+
+        // Nothing requested since the last flush
+        persistence.flush();
+        assertEquals(1, numSnapshots.get());
+    }
+
+    @Test
+    public void testUnchangedContentIsNotWritten() {
+        persistence.setPersisted(new TestEnvelope(new StringBuilder("a"), numEncoded));
+        persistence.requestPersist();
+        persistence.flush();
+        verify(storage, never()).queueUpForSave(any(), anyLong());
+
+        setContent("b");
+        persistence.requestPersist();
+        persistence.flush();
+        verify(storage, times(1)).queueUpForSave(any(), anyLong());
+
+        persistence.requestPersist();
+        persistence.flush();
+        verify(storage, times(1)).queueUpForSave(any(), anyLong());
+    }
+
+    @Test
+    public void testSnapshotIsEncodedAtFlush() {
+        final List<Runnable> tasks = new ArrayList<>();
+        persistence = createPersistence(tasks::add);
+
+        persistence.requestPersist();
+        persistence.flush();
+        // The UserThread changes the shared data before the executor got to the write
+        setContent("b");
+        tasks.forEach(Runnable::run);
+
+        final ArgumentCaptor<TestEnvelope> captor = ArgumentCaptor.forClass(TestEnvelope.class);
+        verify(storage, times(1)).queueUpForSave(captor.capture(), anyLong());
+        assertEquals("a", captor.getValue().getContent());
+        // The storage does not share any data with the live list
+        assertNotSame(lastSnapshot, captor.getValue());
+    }
+
+    @Test
+    public void testFlushAndWaitWaitsForPendingWrite() {
+        final ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            persistence = createPersistence(executor);
+            persistence.requestPersist();
+            persistence.flushAndWait();
+            verify(storage, times(1)).queueUpForSave(any(), eq(1L));
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private WriteBehindPersistence<TestEnvelope> createPersistence(Executor executor) {
+        return new WriteBehindPersistence<>(storage, () -> {
+            numSnapshots.incrementAndGet();
+            lastSnapshot = new TestEnvelope(content, numEncoded);
+            return lastSnapshot;
+        }, proto -> new TestEnvelope(new StringBuilder(((StringValue) proto).getValue()), new AtomicInteger()),
+                executor, false);
+    }
+
+    private void setContent(String value) {
+        content.setLength(0);
+        content.append(value);
+    }
+
+    private static class TestEnvelope implements PersistableEnvelope {
+        private final StringBuilder content;
+        private final AtomicInteger numEncoded;
+
+        TestEnvelope(StringBuilder content, AtomicInteger numEncoded) {
+            this.content = content;
+            this.numEncoded = numEncoded;
+        }
+
+        String getContent() {
+            return content.toString();
+        }
+
+        @Override
+        public Message toProtoMessage() {
+            numEncoded.incrementAndGet();
+            return StringValue.newBuilder().setValue(content.toString()).build();
+        }
+    }
+}
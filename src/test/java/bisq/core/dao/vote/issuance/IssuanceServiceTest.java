@@ -0,0 +1,146 @@
+/*
+ * This file is part of Bisq.
+ *
+ * Bisq is free software: you can redistribute it and/or modify it
+ * under the terms of the GNU Affero General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or (at
+ * your option) any later version.
+ *
+ * Bisq is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE. See the GNU Affero General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with Bisq. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package bisq.core.dao.vote.issuance;
+
+import bisq.core.dao.blockchain.ReadableBsqBlockChain;
+import bisq.core.dao.blockchain.WritableBsqBlockChain;
+import bisq.core.dao.blockchain.vo.BsqBlock;
+import bisq.core.dao.blockchain.vo.TxOutput;
+import bisq.core.dao.vote.DaoPeriodService;
+import bisq.core.dao.vote.blindvote.BlindVoteConsensus;
+import bisq.core.dao.vote.blindvote.BlindVoteList;
+import bisq.core.dao.vote.blindvote.BlindVoteService;
+import bisq.core.dao.vote.votereveal.consensus.VoteRevealConsensus;
+
+import com.google.common.collect.ImmutableList;
+
+import javafx.collections.FXCollections;
+
+import java.io.IOException;
+
+import java.util.Collections;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public class IssuanceServiceTest {
+    // Cycles start at multiples of 100 and the issuance phase covers the blocks 10 to 19 of a cycle
+    private static final int CYCLE_LENGTH = 100;
+
+    private ReadableBsqBlockChain readableBsqBlockChain;
+    private BlindVoteService blindVoteService;
+    private IssuanceService issuanceService;
+
+    @Before
+    public void setUp() {
+        readableBsqBlockChain = mock(ReadableBsqBlockChain.class);
+        // No votes, so the result gets applied on the calling thread
+        when(readableBsqBlockChain.getVoteRevealTxOutputs()).thenReturn(Collections.emptySet());
+        DaoPeriodService daoPeriodService = mock(DaoPeriodService.class);
+        when(daoPeriodService.getPhaseForHeight(anyInt())).thenAnswer(invocation -> {
+            int heightInCycle = (int) invocation.getArgument(0) % CYCLE_LENGTH;
+            return heightInCycle >= 10 && heightInCycle < 20 ?
+                    DaoPeriodService.Phase.ISSUANCE : DaoPeriodService.Phase.PROPOSAL;
+        });
+        when(daoPeriodService.getAbsoluteStartBlockOfPhase(anyInt(), eq(DaoPeriodService.Phase.PROPOSAL)))
+                .thenAnswer(invocation -> (int) invocation.getArgument(0) / CYCLE_LENGTH * CYCLE_LENGTH);
+        blindVoteService = mock(BlindVoteService.class);
+        issuanceService = new IssuanceService(blindVoteService,
+                readableBsqBlockChain,
+                mock(WritableBsqBlockChain.class),
+                daoPeriodService);
+    }
+
+    @After
+    public void tearDown() {
+        issuanceService.shutDown();
+    }
+
+    @Test
+    public void testVoteResultIsAppliedOncePerCycle() {
+        addBlocks(100, 130);
+        verify(readableBsqBlockChain, times(1)).getVoteRevealTxOutputs();
+
+        addBlocks(130, 220);
+        verify(readableBsqBlockChain, times(2)).getVoteRevealTxOutputs();
+    }
+
+    @Test
+    public void testReorgAfterIssuanceHeight() {
+        addBlocks(100, 115);
+        verify(readableBsqBlockChain, times(1)).getVoteRevealTxOutputs();
+
+        // The block with the issuance stays in the chain
+        addBlocks(112, 115);
+        verify(readableBsqBlockChain, times(1)).getVoteRevealTxOutputs();
+    }
+
+    @Test
+    public void testReorgOfIssuanceHeight() {
+        addBlocks(100, 115);
+        verify(readableBsqBlockChain, times(1)).getVoteRevealTxOutputs();
+
+        // The block with the issuance got replaced
+        addBlocks(110, 115);
+        verify(readableBsqBlockChain, times(2)).getVoteRevealTxOutputs();
+    }
+
+    @Test
+    public void testSnapshotBeforeIssuanceHeight() {
+        addBlocks(100, 130);
+        verify(readableBsqBlockChain, times(1)).getVoteRevealTxOutputs();
+
+        // A snapshot from before the issuance got applied and the blocks after it get parsed again
+        addBlocks(101, 130);
+        verify(readableBsqBlockChain, times(2)).getVoteRevealTxOutputs();
+    }
+
+    @Test
+    public void testVoteResultIsAppliedAtTriggeringBlock() throws IOException {
+        // One vote reveal of an empty blind vote list, which matches our empty list
+        byte[] hashOfBlindVoteList = VoteRevealConsensus.getHashOfBlindVoteList(new BlindVoteList(Collections.emptyList()));
+        byte[] opReturnData = VoteRevealConsensus.getOpReturnData(hashOfBlindVoteList, BlindVoteConsensus.getSecretKey());
+        TxOutput voteRevealTxOutput = new TxOutput(0, 0, "voteRevealTxId", null, null, opReturnData, 105);
+        when(readableBsqBlockChain.getVoteRevealTxOutputs()).thenReturn(Collections.singleton(voteRevealTxOutput));
+        when(blindVoteService.getBlindVoteList()).thenReturn(FXCollections.observableArrayList());
+        when(blindVoteService.getBlindVoteListForCurrentCycle()).thenReturn(Collections.emptyList());
+
+        addBlocks(100, 110);
+        verify(readableBsqBlockChain, times(0)).getCompReqIssuanceTxOutputs();
+
+        // The decryption is done when onBlockAdded returns, so the issuance is part of that block
+        addBlocks(110, 111);
+        verify(readableBsqBlockChain, times(1)).getCompReqIssuanceTxOutputs();
+
+        addBlocks(111, 130);
+        verify(readableBsqBlockChain, times(1)).getCompReqIssuanceTxOutputs();
+    }
+
+    private void addBlocks(int fromHeight, int toHeight) {
+        for (int height = fromHeight; height < toHeight; height++)
+            issuanceService.onBlockAdded(new BsqBlock(height, 0, "hash" + height, "hash" + (height - 1), ImmutableList.of()));
+    }
+}
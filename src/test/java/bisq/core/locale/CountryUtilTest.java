@@ -0,0 +1,103 @@
+/*
+ * This file is part of Bisq.
+ *
+ * Bisq is free software: you can redistribute it and/or modify it
+ * under the terms of the GNU Affero General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or (at
+ * your option) any later version.
+ *
+ * Bisq is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE. See the GNU Affero General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with Bisq. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package bisq.core.locale;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.stream.Collectors;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+public class CountryUtilTest {
+    private Locale defaultLocale;
+    private Locale globalSettingsLocale;
+
+    @Before
+    public void setup() {
+        // Other tests in the same JVM must not see the locales set here
+        defaultLocale = Locale.getDefault();
+        globalSettingsLocale = GlobalSettings.getLocale();
+        Locale.setDefault(new Locale("en", "US"));
+        GlobalSettings.setLocale(new Locale("en", "US"));
+    }
+
+    @After
+    public void tearDown() {
+        Locale.setDefault(defaultLocale);
+        GlobalSettings.setLocale(globalSettingsLocale);
+    }
+
+    @Test
+    public void testFindCountryByCode() {
+        assertEquals("Germany", CountryUtil.findCountryByCode("DE").get().name);
+        assertEquals("Republic of Kosovo", CountryUtil.findCountryByCode("XK").get().name);
+        assertFalse(CountryUtil.findCountryByCode("ZZ").isPresent());
+    }
+
+    @Test
+    public void testReturnedListsAreCopies() {
+        List<Country> countries = CountryUtil.getAllCountries();
+        int size = countries.size();
+        countries.clear();
+        assertEquals(size, CountryUtil.getAllCountries().size());
+    }
+
+    @Test
+    public void testGetAllCountriesForRegion() {
+        Region europe = new Region("EU", "Europe");
+        List<Country> countries = CountryUtil.getAllCountriesForRegion(europe);
+        assertTrue(countries.stream().allMatch(country -> country.region.equals(europe)));
+        assertEquals(CountryUtil.getAllCountries().stream().filter(country -> country.region.equals(europe)).count(),
+                countries.size());
+        assertTrue(CountryUtil.getAllCountriesForRegion(null).isEmpty());
+    }
+
+    @Test
+    public void testSepaCountries() {
+        assertTrue(CountryUtil.isSepaEuroCountry("DE"));
+        assertFalse(CountryUtil.isSepaEuroCountry("CH"));
+        assertTrue(CountryUtil.isSepaCountry("CH"));
+        assertFalse(CountryUtil.isSepaCountry("US"));
+        assertFalse(CountryUtil.isSepaCountry("de"));
+
+        List<String> codes = CountryUtil.getAllSepaEuroCountries().stream().map(c -> c.code).collect(Collectors.toList());
+        assertTrue(CountryUtil.containsAllSepaEuroCountries(new ArrayList<>(codes)));
+
+        List<String> missingOne = new ArrayList<>(codes.subList(1, codes.size()));
+        assertFalse(CountryUtil.containsAllSepaEuroCountries(missingOne));
+        missingOne.add("CH");
+        assertFalse(CountryUtil.containsAllSepaEuroCountries(missingOne));
+        assertFalse(CountryUtil.containsAllSepaEuroCountries(new ArrayList<>(Arrays.asList("DE", "DE"))));
+    }
+
+    @Test
+    public void testModelFollowsLocale() {
+        assertEquals("Germany", CountryUtil.findCountryByCode("DE").get().name);
+        Locale.setDefault(new Locale("de", "DE"));
+        GlobalSettings.setLocale(new Locale("de", "DE"));
+        assertEquals("Deutschland", CountryUtil.findCountryByCode("DE").get().name);
+    }
+}
@@ -44,4 +44,21 @@ public class CurrencyUtilTest {
         assertTrue(naira.isPresent());
         assertFalse("Fake currency shouldn't exist", fake.isPresent());
     }
+
+    @Test
+    public void testIsFiatAndIsCryptoCurrency() {
+        assertTrue(CurrencyUtil.isFiatCurrency("EUR"));
+        assertFalse(CurrencyUtil.isCryptoCurrency("EUR"));
+        assertTrue(CurrencyUtil.isCryptoCurrency("XMR"));
+        assertFalse(CurrencyUtil.isFiatCurrency("XMR"));
+        assertTrue(CurrencyUtil.getCryptoCurrency("XMR").isPresent());
+
+        // ISO code which is not used by any of our countries
+        assertTrue(CurrencyUtil.isFiatCurrency("XAU"));
+
+        assertFalse(CurrencyUtil.isFiatCurrency("FAK"));
+        assertFalse(CurrencyUtil.isFiatCurrency(""));
+        assertFalse(CurrencyUtil.isFiatCurrency(null));
+        assertFalse(CurrencyUtil.isCryptoCurrency(null));
+    }
 }
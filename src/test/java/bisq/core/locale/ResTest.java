@@ -0,0 +1,73 @@
+/*
+ * This file is part of Bisq.
+ *
+ * Bisq is free software: you can redistribute it and/or modify it
+ * under the terms of the GNU Affero General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or (at
+ * your option) any later version.
+ *
+ * Bisq is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE. See the GNU Affero General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with Bisq. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package bisq.core.locale;
+
+import java.util.Locale;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+
+public class ResTest {
+
+    @Before
+    public void setup() {
+        Locale.setDefault(new Locale("en", "US"));
+        Res.setBaseCurrencyCode("BTC");
+        Res.setBaseCurrencyName("Bitcoin");
+    }
+
+    @Test
+    public void testBaseCurrencyChange() {
+        assertEquals("buying BTC with EUR", Res.get("shared.buyingBTCWith", "EUR"));
+
+        Res.setBaseCurrencyCode("LTC");
+        Res.setBaseCurrencyName("Litecoin");
+        assertEquals("buying LTC with EUR", Res.get("shared.buyingBTCWith", "EUR"));
+        assertEquals("selling EUR (buying LTC)", Res.get("shared.sellingCurrency", "EUR"));
+    }
+
+    @Test
+    public void testCachedLookups() {
+        Res.get("shared.buyingBTCWith", "EUR");
+        long hits = Res.getNumCacheHits();
+        long misses = Res.getNumCacheMisses();
+
+        assertEquals("buying BTC with USD", Res.get("shared.buyingBTCWith", "USD"));
+        assertEquals(hits + 1, Res.getNumCacheHits());
+        assertEquals(misses, Res.getNumCacheMisses());
+    }
+
+    @Test
+    public void testEachLookupIsCountedOnce() {
+        // Drops the cached strings and message formats
+        Res.setBaseCurrencyCode("BTC");
+        long hits = Res.getNumCacheHits();
+        long misses = Res.getNumCacheMisses();
+
+        Res.get("shared.buyingBTCWith", "EUR");
+        assertEquals(hits, Res.getNumCacheHits());
+        assertEquals(misses + 1, Res.getNumCacheMisses());
+
+        // The expanded string is cached already by the lookup above
+        Res.get("shared.buyingBTCWith");
+        assertEquals(hits + 1, Res.getNumCacheHits());
+        assertEquals(misses + 1, Res.getNumCacheMisses());
+    }
+}
@@ -0,0 +1,112 @@
+/*
+ * This file is part of Bisq.
+ *
+ * Bisq is free software: you can redistribute it and/or modify it
+ * under the terms of the GNU Affero General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or (at
+ * your option) any later version.
+ *
+ * Bisq is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE. See the GNU Affero General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with Bisq. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package bisq.core.monetary;
+
+import org.bitcoinj.core.Coin;
+import org.bitcoinj.utils.ExchangeRate;
+import org.bitcoinj.utils.Fiat;
+
+import java.math.BigInteger;
+
+import java.util.Random;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.fail;
+
+public class AltcoinExchangeRateTest {
+    private static final int NUM_SAMPLES = 200_000;
+
+    @Test
+    public void testMultiplyAndDivideEqualsBigInteger() {
+        Random random = new Random(1);
+        for (int i = 0; i < NUM_SAMPLES; i++) {
+            long a = getRandomValue(random);
+            long b = getRandomValue(random);
+            long divisor = Math.max(1, Math.abs(getRandomValue(random)));
+            assertSameResult(a, b, divisor);
+        }
+
+        long[] edgeValues = {0, 1, -1, 2, Integer.MAX_VALUE, Integer.MIN_VALUE, 1L << 31, 1L << 32,
+                Long.MAX_VALUE, Long.MIN_VALUE, Long.MAX_VALUE - 1, Long.MIN_VALUE + 1};
+        for (long a : edgeValues) {
+            for (long b : edgeValues) {
+                for (long divisor : new long[]{1, 2, 3, Coin.COIN.value, Long.MAX_VALUE})
+                    assertSameResult(a, b, divisor);
+            }
+        }
+    }
+
+    @Test
+    public void testConversionsEqualExchangeRate() {
+        Random random = new Random(2);
+        for (int i = 0; i < NUM_SAMPLES; i++) {
+            long priceValue = 1 + (long) (random.nextDouble() * 10_000_000_000L);
+            long amountValue = 1 + (long) (random.nextDouble() * 100 * Coin.COIN.value);
+
+            Fiat fiat = Fiat.valueOf("EUR", priceValue);
+            Coin amount = Coin.valueOf(amountValue);
+            Price fiatPrice = new Price(fiat);
+            ExchangeRate exchangeRate = new ExchangeRate(fiat);
+            Fiat expectedVolume = exchangeRate.coinToFiat(amount);
+            assertEquals(expectedVolume, fiatPrice.getVolumeByAmount(amount).getMonetary());
+            assertEquals(exchangeRate.fiatToCoin(expectedVolume), fiatPrice.getAmountByVolume(new Volume(expectedVolume)));
+
+            Altcoin altcoin = Altcoin.valueOf("ETH", priceValue);
+            AltcoinExchangeRate altcoinExchangeRate = new AltcoinExchangeRate(altcoin);
+            Altcoin altcoinVolume = altcoinExchangeRate.coinToAltcoin(amount);
+            assertEquals(referenceMultiplyAndDivide(Coin.COIN.value, amountValue, priceValue), altcoinVolume.value);
+            assertEquals(referenceMultiplyAndDivide(priceValue, altcoinVolume.value, Coin.COIN.value),
+                    altcoinExchangeRate.altcoinToCoin(altcoinVolume).value);
+        }
+    }
+
+    private static void assertSameResult(long a, long b, long divisor) {
+        long expected;
+        try {
+            expected = referenceMultiplyAndDivide(a, b, divisor);
+        } catch (ArithmeticException e) {
+            try {
+                AltcoinExchangeRate.multiplyAndDivide(a, b, divisor);
+                fail("Expected overflow for " + a + " * " + b + " / " + divisor);
+            } catch (ArithmeticException ignore) {
+            }
+            return;
+        }
+        assertEquals(a + " * " + b + " / " + divisor, expected, AltcoinExchangeRate.multiplyAndDivide(a, b, divisor));
+    }
+
+    // The implementation before the long fast path was added
+    private static long referenceMultiplyAndDivide(long a, long b, long divisor) {
+        BigInteger converted = BigInteger.valueOf(a)
+                .multiply(BigInteger.valueOf(b))
+                .divide(BigInteger.valueOf(divisor));
+        if (converted.compareTo(BigInteger.valueOf(Long.MAX_VALUE)) > 0
+                || converted.compareTo(BigInteger.valueOf(Long.MIN_VALUE)) < 0)
+            throw new ArithmeticException("Overflow");
+        return converted.longValue();
+    }
+
+    // Values of all magnitudes so we hit the fast path, the fallback and the overflow
+    private static long getRandomValue(Random random) {
+        int numBits = random.nextInt(64);
+        long value = numBits == 0 ? 0 : random.nextLong() >>> (64 - numBits);
+        return random.nextBoolean() ? value : -value;
+    }
+}
@@ -0,0 +1,102 @@
+/*
+ * This file is part of Bisq.
+ *
+ * Bisq is free software: you can redistribute it and/or modify it
+ * under the terms of the GNU Affero General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or (at
+ * your option) any later version.
+ *
+ * Bisq is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE. See the GNU Affero General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with Bisq. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package bisq.core.network.p2p;
+
+import bisq.network.p2p.P2PService;
+import bisq.network.p2p.storage.HashMapChangedListener;
+import bisq.network.p2p.storage.P2PDataStorage;
+import bisq.network.p2p.storage.payload.ProtectedStorageEntry;
+import bisq.network.p2p.storage.payload.ProtectedStoragePayload;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.mockito.ArgumentCaptor;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public class P2PPayloadRouterTest {
+    private interface TestPayload extends ProtectedStoragePayload {
+    }
+
+    private interface OtherPayload extends ProtectedStoragePayload {
+    }
+
+    private P2PPayloadRouter router;
+    private HashMapChangedListener hashMapChangedListener;
+
+    @Before
+    public void setUp() {
+        P2PService p2PService = mock(P2PService.class);
+        when(p2PService.getP2PDataStorage()).thenReturn(mock(P2PDataStorage.class));
+        router = new P2PPayloadRouter(p2PService);
+
+        ArgumentCaptor<HashMapChangedListener> captor = ArgumentCaptor.forClass(HashMapChangedListener.class);
+        verify(p2PService).addHashSetChangedListener(captor.capture());
+        hashMapChangedListener = captor.getValue();
+    }
+
+    @Test
+    public void testRoutesByType() {
+        List<String> events = new ArrayList<>();
+        router.addProtectedStoragePayloadListener(TestPayload.class, new P2PPayloadRouter.ProtectedStoragePayloadListener<TestPayload>() {
+            @Override
+            public void onAdded(TestPayload payload) {
+                events.add("added");
+            }
+
+            @Override
+            public void onRemoved(TestPayload payload) {
+                events.add("removed");
+            }
+        });
+        // A subscription for a super type gets the events as well
+        router.addProtectedStoragePayloadListener(ProtectedStoragePayload.class, new P2PPayloadRouter.ProtectedStoragePayloadListener<ProtectedStoragePayload>() {
+            @Override
+            public void onAdded(ProtectedStoragePayload payload) {
+                events.add("any added");
+            }
+
+            @Override
+            public void onRemoved(ProtectedStoragePayload payload) {
+            }
+        });
+
+        TestPayload testPayload = mock(TestPayload.class);
+        OtherPayload otherPayload = mock(OtherPayload.class);
+        hashMapChangedListener.onAdded(getEntry(testPayload));
+        hashMapChangedListener.onAdded(getEntry(otherPayload));
+        hashMapChangedListener.onRemoved(getEntry(testPayload));
+
+        assertEquals("[added, any added, any added, removed]", events.toString());
+        assertEquals(2, router.getNumEvents(testPayload.getClass()));
+        assertEquals(1, router.getNumEvents(otherPayload.getClass()));
+    }
+
+    private static ProtectedStorageEntry getEntry(ProtectedStoragePayload payload) {
+        ProtectedStorageEntry entry = mock(ProtectedStorageEntry.class);
+        when(entry.getProtectedStoragePayload()).thenReturn(payload);
+        return entry;
+    }
+}
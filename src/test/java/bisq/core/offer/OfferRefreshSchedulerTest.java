@@ -0,0 +1,121 @@
+/*
+ * This file is part of Bisq.
+ *
+ * Bisq is free software: you can redistribute it and/or modify it
+ * under the terms of the GNU Affero General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or (at
+ * your option) any later version.
+ *
+ * Bisq is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE. See the GNU Affero General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with Bisq. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package bisq.core.offer;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+
+public class OfferRefreshSchedulerTest {
+    private static final long TTL = TimeUnit.MINUTES.toMillis(7);
+
+    private long now;
+    private final List<String> handled = new ArrayList<>();
+    private boolean fail;
+    private OfferRefreshScheduler scheduler;
+
+    @Before
+    public void setUp() {
+        now = 1000;
+        handled.clear();
+        fail = false;
+        scheduler = new OfferRefreshScheduler((offerId, type, resultHandler, errorMessageHandler) -> {
+            handled.add(offerId + ":" + type);
+            if (fail)
+                errorMessageHandler.handleErrorMessage("error");
+            else
+                resultHandler.handleResult();
+        }, TTL, () -> now, false);
+    }
+
+    @Test
+    public void testRateLimit() {
+        for (int i = 0; i < 100; i++)
+            scheduler.schedule("offer" + i, OfferRefreshScheduler.Type.REFRESH);
+
+        // Initially we can use the full bucket
+        scheduler.onTick();
+        assertEquals((int) OfferRefreshScheduler.MAX_TOKENS, handled.size());
+
+        // After one second we get TOKENS_PER_SEC new tokens
+        now += 1000;
+        scheduler.onTick();
+        assertEquals((int) (OfferRefreshScheduler.MAX_TOKENS + OfferRefreshScheduler.TOKENS_PER_SEC), handled.size());
+
+        // A republish costs more than a refresh
+        scheduler.clear();
+        handled.clear();
+        for (int i = 0; i < 100; i++)
+            scheduler.schedule("republish" + i, OfferRefreshScheduler.Type.REPUBLISH);
+        now += 10_000;
+        scheduler.onTick();
+        assertEquals((int) OfferRefreshScheduler.MAX_TOKENS / 2, handled.size());
+    }
+
+    @Test
+    public void testRepublishSupersedesRefresh() {
+        scheduler.schedule("offer", OfferRefreshScheduler.Type.REFRESH);
+        scheduler.schedule("offer", OfferRefreshScheduler.Type.REPUBLISH);
+        scheduler.schedule("offer", OfferRefreshScheduler.Type.REFRESH);
+        scheduler.onTick();
+        assertEquals(1, handled.size());
+        assertEquals("offer:REPUBLISH", handled.get(0));
+    }
+
+    @Test
+    public void testOfferClosestToExpiryFirst() {
+        scheduler.schedule("old", OfferRefreshScheduler.Type.REFRESH);
+        scheduler.onTick();
+        now += 1000;
+        scheduler.schedule("recent", OfferRefreshScheduler.Type.REFRESH);
+        scheduler.onTick();
+        handled.clear();
+
+        // "old" got refreshed earlier so its TTL expires first
+        now += 1000;
+        scheduler.schedule("recent", OfferRefreshScheduler.Type.REFRESH);
+        scheduler.schedule("old", OfferRefreshScheduler.Type.REFRESH);
+        scheduler.onTick();
+        assertEquals("old:REFRESH", handled.get(0));
+        assertEquals("recent:REFRESH", handled.get(1));
+    }
+
+    @Test
+    public void testMetrics() {
+        scheduler.schedule("offer1", OfferRefreshScheduler.Type.REPUBLISH);
+        scheduler.schedule("offer2", OfferRefreshScheduler.Type.REFRESH);
+        now += 500;
+        scheduler.onTick();
+        fail = true;
+        scheduler.schedule("offer3", OfferRefreshScheduler.Type.REFRESH);
+        scheduler.onTick();
+
+        OfferRefreshScheduler.Metrics metrics = scheduler.getMetrics();
+        assertEquals(1, metrics.getNumRepublished());
+        assertEquals(1, metrics.getNumRefreshed());
+        assertEquals(1, metrics.getNumFailures());
+        assertEquals(0, metrics.getNumPending());
+        assertEquals(500, metrics.getMaxLagMs());
+        assertEquals(0, metrics.getLastLagMs());
+    }
+}
@@ -49,7 +49,7 @@ public class AccountAgeWitnessServiceTest {
 
     @Before
     public void setup() throws CertificateException, NoSuchAlgorithmException, KeyStoreException, IOException, CryptoException {
-        service = new AccountAgeWitnessService(null, null, null);
+        service = new AccountAgeWitnessService(null, null, null, null);
         keypair = Sig.generateKeyPair();
         publicKey = keypair.getPublic();
     }
@@ -0,0 +1,72 @@
+/*
+ * This file is part of Bisq.
+ *
+ * Bisq is free software: you can redistribute it and/or modify it
+ * under the terms of the GNU Affero General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or (at
+ * your option) any later version.
+ *
+ * Bisq is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE. See the GNU Affero General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with Bisq. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package bisq.core.proto.network;
+
+import bisq.core.app.BisqEnvironment;
+import bisq.core.app.BisqExecutable;
+import bisq.core.dao.DaoModule;
+import bisq.core.dao.DaoOptionKeys;
+
+import com.google.inject.Binding;
+import com.google.inject.Guice;
+import com.google.inject.name.Names;
+import com.google.inject.spi.Element;
+import com.google.inject.spi.Elements;
+
+import joptsimple.OptionParser;
+import joptsimple.OptionSet;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+public class CoreNetworkProtoResolverTest {
+
+    @Test
+    public void testLazyResolveOption() {
+        assertFalse(getInjectedResolver().isLazyResolve());
+        assertFalse(getInjectedResolver("--" + DaoOptionKeys.LAZY_RESOLVE_BSQ_BLOCKS + "=false").isLazyResolve());
+        assertTrue(getInjectedResolver("--" + DaoOptionKeys.LAZY_RESOLVE_BSQ_BLOCKS + "=true").isLazyResolve());
+    }
+
+    // Parses the args as the app does and injects the resolver with the option as bound by the DaoModule. We only
+    // take over that binding as the DaoModule's other bindings need the rest of the app.
+    private static CoreNetworkProtoResolver getInjectedResolver(String... args) {
+        OptionParser parser = new OptionParser();
+        new BisqExecutable() {
+            {
+                customizeOptionParsing(parser);
+            }
+
+            @Override
+            protected void doExecute(OptionSet options) {
+            }
+        };
+        BisqEnvironment environment = BisqExecutable.getBisqEnvironment(parser.parse(args));
+
+        List<Element> lazyResolveBinding = Elements.getElements(new DaoModule(environment)).stream()
+                .filter(element -> element instanceof Binding &&
+                        Names.named(DaoOptionKeys.LAZY_RESOLVE_BSQ_BLOCKS).equals(((Binding<?>) element).getKey().getAnnotation()))
+                .collect(Collectors.toList());
+        return Guice.createInjector(Elements.getModule(lazyResolveBinding)).getInstance(CoreNetworkProtoResolver.class);
+    }
+}
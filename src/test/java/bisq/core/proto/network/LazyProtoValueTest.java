@@ -0,0 +1,86 @@
+/*
+ * This file is part of Bisq.
+ *
+ * Bisq is free software: you can redistribute it and/or modify it
+ * under the terms of the GNU Affero General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or (at
+ * your option) any later version.
+ *
+ * Bisq is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE. See the GNU Affero General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with Bisq. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package bisq.core.proto.network;
+
+import bisq.core.dao.blockchain.vo.BsqBlock;
+import bisq.core.dao.node.messages.GetBsqBlocksResponse;
+import bisq.core.dao.node.messages.NewBsqBlockBroadcastMessage;
+
+import io.bisq.generated.protobuffer.PB;
+
+import com.google.common.collect.ImmutableList;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+public class LazyProtoValueTest {
+
+    @Test
+    public void testResolvesOnlyOnce() {
+        AtomicInteger numResolved = new AtomicInteger();
+        PB.BsqBlock proto = getBsqBlock(1).toProtoMessage();
+        LazyProtoValue<PB.BsqBlock, BsqBlock> value = LazyProtoValue.unresolved(proto, p -> {
+            numResolved.incrementAndGet();
+            return BsqBlock.fromProto(p);
+        });
+        assertFalse(value.isResolved());
+        assertSame(proto, value.getUnresolvedProto());
+        assertEquals(0, numResolved.get());
+
+        assertEquals(getBsqBlock(1), value.get());
+        assertEquals(getBsqBlock(1), value.get());
+        assertEquals(1, numResolved.get());
+        assertTrue(value.isResolved());
+        assertNull(value.getUnresolvedProto());
+    }
+
+    @Test
+    public void testLazyResolveOfBsqBlockMessages() {
+        CoreNetworkProtoResolver resolver = new CoreNetworkProtoResolver(true);
+
+        List<BsqBlock> bsqBlocks = new ArrayList<>();
+        for (int i = 0; i < 10; i++)
+            bsqBlocks.add(getBsqBlock(i));
+        PB.NetworkEnvelope responseProto = new GetBsqBlocksResponse(bsqBlocks, 42).toProtoNetworkEnvelope();
+        GetBsqBlocksResponse response = (GetBsqBlocksResponse) resolver.fromProto(responseProto);
+        assertEquals(42, response.getRequestNonce());
+        // Not read yet so we send on the received proto
+        assertEquals(responseProto, response.toProtoNetworkEnvelope());
+        assertEquals(bsqBlocks, response.getBsqBlocks());
+        assertEquals(responseProto, response.toProtoNetworkEnvelope());
+
+        PB.NetworkEnvelope broadcastProto = new NewBsqBlockBroadcastMessage(getBsqBlock(11)).toProtoNetworkEnvelope();
+        NewBsqBlockBroadcastMessage broadcast = (NewBsqBlockBroadcastMessage) resolver.fromProto(broadcastProto);
+        assertEquals(broadcastProto, broadcast.toProtoNetworkEnvelope());
+        assertEquals(getBsqBlock(11), broadcast.getBsqBlock());
+        assertEquals(new NewBsqBlockBroadcastMessage(getBsqBlock(11)), broadcast);
+    }
+
+    private static BsqBlock getBsqBlock(int height) {
+        return new BsqBlock(height, 1_500_000_000L + height, "hash" + height, "hash" + (height - 1), ImmutableList.of());
+    }
+}
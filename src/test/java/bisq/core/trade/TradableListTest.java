@@ -25,6 +25,7 @@ import bisq.common.storage.Storage;
 
 import io.bisq.generated.protobuffer.PB;
 
+import mockit.Expectations;
 import mockit.Mocked;
 import mockit.integration.junit4.JMockit;
 
@@ -33,6 +34,8 @@ import org.junit.runner.RunWith;
 
 import static io.bisq.generated.protobuffer.PB.PersistableEnvelope.MessageCase.TRADABLE_LIST;
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
 import static org.junit.Assert.assertTrue;
 
 @RunWith(JMockit.class)
@@ -54,4 +57,24 @@ public class TradableListTest {
         assertTrue(message.getMessageCase().equals(TRADABLE_LIST));
         assertEquals(1, message.getTradableList().getTradableList().size());
     }
+
+    @Test
+    public void getTradableById(@Mocked OfferPayload offerPayload) {
+        new Expectations() {{
+            offerPayload.getId();
+            result = "offerId";
+        }};
+
+        Storage<TradableList<OpenOffer>> storage = new Storage<>(null, null);
+        TradableList<OpenOffer> openOfferTradableList = new TradableList<>(storage, "filename");
+        assertFalse(openOfferTradableList.getTradableById("offerId").isPresent());
+
+        OpenOffer openOffer = new OpenOffer(new Offer(offerPayload), storage);
+        openOfferTradableList.add(openOffer);
+        assertSame(openOffer, openOfferTradableList.getTradableById("offerId").get());
+
+        // Changes applied directly to the observable list must be reflected in the index as well
+        openOfferTradableList.getList().remove(openOffer);
+        assertFalse(openOfferTradableList.getTradableById("offerId").isPresent());
+    }
 }
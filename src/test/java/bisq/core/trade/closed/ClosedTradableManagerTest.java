@@ -0,0 +1,67 @@
+/*
+ * This file is part of Bisq.
+ *
+ * Bisq is free software: you can redistribute it and/or modify it
+ * under the terms of the GNU Affero General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or (at
+ * your option) any later version.
+ *
+ * Bisq is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE. See the GNU Affero General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with Bisq. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package bisq.core.trade.closed;
+
+import com.google.common.collect.ImmutableList;
+
+import java.util.List;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+public class ClosedTradableManagerTest {
+    private static final List<String> LIST = ImmutableList.of("d", "c", "b", "a");
+
+    @Test
+    public void testEmptyList() {
+        assertTrue(ClosedTradableManager.getPage(ImmutableList.of(), 0, 10).isEmpty());
+        assertTrue(ClosedTradableManager.getPage(ImmutableList.of(), 0, 0).isEmpty());
+        assertTrue(ClosedTradableManager.getPage(ImmutableList.of(), 5, 10).isEmpty());
+    }
+
+    @Test
+    public void testPages() {
+        assertEquals(ImmutableList.of("d", "c"), ClosedTradableManager.getPage(LIST, 0, 2));
+        assertEquals(ImmutableList.of("b", "a"), ClosedTradableManager.getPage(LIST, 2, 2));
+        // Last page is shorter than the limit
+        assertEquals(ImmutableList.of("a"), ClosedTradableManager.getPage(LIST, 3, 2));
+        // Offset at and after the last element
+        assertTrue(ClosedTradableManager.getPage(LIST, 4, 2).isEmpty());
+        assertTrue(ClosedTradableManager.getPage(LIST, 100, 2).isEmpty());
+        assertTrue(ClosedTradableManager.getPage(LIST, 0, 0).isEmpty());
+    }
+
+    @Test
+    public void testLimitDoesNotOverflow() {
+        assertEquals(LIST, ClosedTradableManager.getPage(LIST, 0, Integer.MAX_VALUE));
+        assertEquals(ImmutableList.of("a"), ClosedTradableManager.getPage(LIST, 3, Integer.MAX_VALUE));
+        assertTrue(ClosedTradableManager.getPage(LIST, Integer.MAX_VALUE, Integer.MAX_VALUE).isEmpty());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testNegativeOffset() {
+        ClosedTradableManager.getPage(LIST, -1, 10);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testNegativeLimit() {
+        ClosedTradableManager.getPage(LIST, 0, -1);
+    }
+}
@@ -0,0 +1,212 @@
+/*
+ * This file is part of Bisq.
+ *
+ * Bisq is free software: you can redistribute it and/or modify it
+ * under the terms of the GNU Affero General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or (at
+ * your option) any later version.
+ *
+ * Bisq is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE. See the GNU Affero General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with Bisq. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package bisq.core.trade.protocol.tasks;
+
+import bisq.core.filter.FilterManager;
+import bisq.core.offer.Offer;
+import bisq.core.payment.payload.PaymentAccountPayload;
+import bisq.core.trade.BuyerTrade;
+import bisq.core.trade.MakerTrade;
+import bisq.core.trade.SellerTrade;
+import bisq.core.trade.TakerTrade;
+import bisq.core.trade.Trade;
+import bisq.core.trade.protocol.ProcessModel;
+import bisq.core.trade.protocol.TradingPeer;
+
+import bisq.common.taskrunner.TaskRunner;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+import static org.mockito.Mockito.withSettings;
+
+// The stub tasks stand in for the wallet and network tasks of the protocols, which need real contracts, keys and txs.
+// Protocol tasks which only depend on services are run with stubbed services.
+public class TradeTaskStatsTest {
+    private static final int NUM_TRADES = 10;
+
+    // Keeps the allocation of the stub task from being optimized away
+    private static byte[] allocated;
+
+    private Trade buyerAsMakerTrade;
+    private Trade sellerAsTakerTrade;
+
+    @Before
+    public void setUp() {
+        TradeTaskStats.reset();
+        TradeTaskStats.setEnabled(true);
+        // Stubbed trades, the stub tasks don't use the wallet or network services
+        buyerAsMakerTrade = mock(BuyerTrade.class, withSettings().extraInterfaces(MakerTrade.class));
+        sellerAsTakerTrade = mock(SellerTrade.class, withSettings().extraInterfaces(TakerTrade.class));
+    }
+
+    @After
+    public void tearDown() {
+        TradeTaskStats.setEnabled(false);
+        TradeTaskStats.reset();
+    }
+
+    @Test
+    public void testStatsPerProtocolTypeAndTask() {
+        for (int i = 0; i < NUM_TRADES; i++) {
+            TaskRunner<Trade> buyerTaskRunner = getTaskRunner(buyerAsMakerTrade);
+            buyerTaskRunner.addTasks(StubCreateDepositTx.class, StubSignDepositTx.class, StubSendMessage.class);
+            buyerTaskRunner.run();
+
+            // The seller's protocol fails at the second task, so the third never runs
+            TaskRunner<Trade> sellerTaskRunner = getTaskRunner(sellerAsTakerTrade);
+            sellerTaskRunner.addTasks(StubSignDepositTx.class, StubFailingTask.class, StubSendMessage.class);
+            sellerTaskRunner.run();
+        }
+
+        List<TradeTaskStats.TaskStats> taskStats = TradeTaskStats.getTaskStats();
+        assertEquals(5, taskStats.size());
+        for (String taskName : Arrays.asList("StubCreateDepositTx", "StubSignDepositTx", "StubSendMessage"))
+            assertEquals(NUM_TRADES, getTaskStats(taskStats, "BuyerAsMaker", taskName).getNumCompleted());
+
+        assertEquals(NUM_TRADES, getTaskStats(taskStats, "SellerAsTaker", "StubSignDepositTx").getNumCompleted());
+        TradeTaskStats.TaskStats failingTaskStats = getTaskStats(taskStats, "SellerAsTaker", "StubFailingTask");
+        assertEquals(0, failingTaskStats.getNumCompleted());
+        assertEquals(NUM_TRADES, failingTaskStats.getNumFailed());
+        assertFalse(findTaskStats(taskStats, "SellerAsTaker", "StubSendMessage").isPresent());
+
+        TradeTaskStats.TaskStats signStats = getTaskStats(taskStats, "BuyerAsMaker", "StubSignDepositTx");
+        assertEquals(NUM_TRADES, Arrays.stream(signStats.getHistogram()).sum());
+        assertTrue(signStats.getAverageMicros() >= 1000);
+        assertTrue(signStats.getPercentileMicros(90) >= signStats.getAverageMicros() / 2);
+
+        TradeTaskStats.TaskStats createStats = getTaskStats(taskStats, "BuyerAsMaker", "StubCreateDepositTx");
+        if (createStats.getNumAllocationSamples() > 0)
+            assertTrue(createStats.getAverageAllocatedBytes() >= 100_000);
+
+        assertTrue(TradeTaskStats.getSummary().contains("BuyerAsMaker.StubSignDepositTx"));
+    }
+
+    // Runs a task of the protocols with stubbed services, once passing and once failing
+    @Test
+    public void testProtocolTaskIsMeasured() {
+        FilterManager filterManager = mock(FilterManager.class);
+        TradingPeer tradingPeer = new TradingPeer();
+        tradingPeer.setPaymentAccountPayload(mock(PaymentAccountPayload.class));
+        ProcessModel processModel = mock(ProcessModel.class);
+        when(processModel.getFilterManager()).thenReturn(filterManager);
+        when(processModel.getTradingPeer()).thenReturn(tradingPeer);
+        when(buyerAsMakerTrade.getProcessModel()).thenReturn(processModel);
+        when(buyerAsMakerTrade.getId()).thenReturn("tradeId");
+        when(buyerAsMakerTrade.getOffer()).thenReturn(mock(Offer.class));
+        // The offer ID gets banned before the second trade
+        when(filterManager.isOfferIdBanned("tradeId")).thenReturn(false, true);
+
+        for (int i = 0; i < 2; i++) {
+            TaskRunner<Trade> taskRunner = getTaskRunner(buyerAsMakerTrade);
+            taskRunner.addTasks(CheckIfPeerIsBanned.class, StubSendMessage.class);
+            taskRunner.run();
+        }
+
+        List<TradeTaskStats.TaskStats> taskStats = TradeTaskStats.getTaskStats();
+        TradeTaskStats.TaskStats checkStats = getTaskStats(taskStats, "BuyerAsMaker", "CheckIfPeerIsBanned");
+        assertEquals(1, checkStats.getNumCompleted());
+        assertEquals(1, checkStats.getNumFailed());
+        assertEquals(1, getTaskStats(taskStats, "BuyerAsMaker", "StubSendMessage").getNumCompleted());
+    }
+
+    @Test
+    public void testNothingRecordedIfDisabled() {
+        TradeTaskStats.setEnabled(false);
+        TaskRunner<Trade> taskRunner = getTaskRunner(buyerAsMakerTrade);
+        taskRunner.addTasks(StubCreateDepositTx.class, StubSendMessage.class);
+        taskRunner.run();
+        assertTrue(TradeTaskStats.getTaskStats().isEmpty());
+    }
+
+    private static TaskRunner<Trade> getTaskRunner(Trade trade) {
+        return new TaskRunner<>(trade, Trade.class, () -> {
+        }, errorMessage -> {
+        });
+    }
+
+    private static TradeTaskStats.TaskStats getTaskStats(List<TradeTaskStats.TaskStats> taskStats, String protocolType, String taskName) {
+        return findTaskStats(taskStats, protocolType, taskName).orElseThrow(() -> new AssertionError(protocolType + "." + taskName));
+    }
+
+    private static Optional<TradeTaskStats.TaskStats> findTaskStats(List<TradeTaskStats.TaskStats> taskStats, String protocolType, String taskName) {
+        return taskStats.stream()
+                .filter(e -> e.getProtocolType().equals(protocolType) && e.getTaskName().equals(taskName))
+                .findAny();
+    }
+
+    public static class StubCreateDepositTx extends TradeTask {
+        public StubCreateDepositTx(TaskRunner taskHandler, Trade trade) {
+            super(taskHandler, trade);
+        }
+
+        @Override
+        protected void run() {
+            allocated = new byte[100_000];
+            complete();
+        }
+    }
+
+    public static class StubSignDepositTx extends TradeTask {
+        public StubSignDepositTx(TaskRunner taskHandler, Trade trade) {
+            super(taskHandler, trade);
+        }
+
+        @Override
+        protected void run() {
+            try {
+                Thread.sleep(2);
+                complete();
+            } catch (InterruptedException e) {
+                failed(e);
+            }
+        }
+    }
+
+    public static class StubSendMessage extends TradeTask {
+        public StubSendMessage(TaskRunner taskHandler, Trade trade) {
+            super(taskHandler, trade);
+        }
+
+        @Override
+        protected void run() {
+            complete();
+        }
+    }
+
+    public static class StubFailingTask extends TradeTask {
+        public StubFailingTask(TaskRunner taskHandler, Trade trade) {
+            super(taskHandler, trade);
+        }
+
+        @Override
+        protected void run() {
+            failed("Peer rejected the message");
+        }
+    }
+}
@@ -0,0 +1,184 @@
+/*
+ * This file is part of Bisq.
+ *
+ * Bisq is free software: you can redistribute it and/or modify it
+ * under the terms of the GNU Affero General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or (at
+ * your option) any later version.
+ *
+ * Bisq is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE. See the GNU Affero General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with Bisq. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package bisq.core.trade.protocol.tasks.taker;
+
+import bisq.core.btc.AddressEntry;
+import bisq.core.btc.wallet.BtcWalletService;
+import bisq.core.crypto.SignatureVerificationService;
+import bisq.core.monetary.Price;
+import bisq.core.offer.Offer;
+import bisq.core.payment.payload.PaymentAccountPayload;
+import bisq.core.payment.payload.PerfectMoneyAccountPayload;
+import bisq.core.trade.Contract;
+import bisq.core.trade.SellerTrade;
+import bisq.core.trade.TakerTrade;
+import bisq.core.trade.Trade;
+import bisq.core.trade.protocol.ProcessModel;
+import bisq.core.trade.protocol.TradingPeer;
+
+import bisq.network.p2p.NodeAddress;
+
+import bisq.common.crypto.KeyRing;
+import bisq.common.crypto.KeyStorage;
+import bisq.common.crypto.Sig;
+import bisq.common.taskrunner.TaskRunner;
+import bisq.common.util.Utilities;
+
+import org.bitcoinj.core.Coin;
+import org.bitcoinj.crypto.DeterministicKey;
+import org.bitcoinj.crypto.HDKeyDerivation;
+
+import org.bouncycastle.jce.provider.BouncyCastleProvider;
+
+import java.security.Security;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+import static org.mockito.Mockito.withSettings;
+
+// The maker's contract signature is verified on the SignatureVerificationService. A signature which does not match
+// the contract fails the task.
+public class TakerVerifyAndSignContractTest {
+    private static final long TIMEOUT_SEC = 10;
+
+    @Rule
+    public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+    private KeyRing makerKeyRing;
+    private TradingPeer maker;
+    private Trade trade;
+    private SignatureVerificationService signatureVerificationService;
+    private String contractAsJson;
+
+    @Before
+    public void setUp() throws Exception {
+        Security.addProvider(new BouncyCastleProvider());
+        makerKeyRing = new KeyRing(new KeyStorage(temporaryFolder.newFolder()));
+        KeyRing takerKeyRing = new KeyRing(new KeyStorage(temporaryFolder.newFolder()));
+        signatureVerificationService = new SignatureVerificationService();
+
+        NodeAddress makerNodeAddress = new NodeAddress("maker", 9999);
+        NodeAddress takerNodeAddress = new NodeAddress("taker", 9999);
+        NodeAddress arbitratorNodeAddress = new NodeAddress("arbitrator", 9999);
+        PaymentAccountPayload makerPaymentAccountPayload = new PerfectMoneyAccountPayload("PERFECT_MONEY", "makerAccount");
+        PaymentAccountPayload takerPaymentAccountPayload = new PerfectMoneyAccountPayload("PERFECT_MONEY", "takerAccount");
+        DeterministicKey makerMultiSigKey = HDKeyDerivation.createMasterPrivateKey(new byte[]{1, 1, 1, 1, 1, 1, 1, 1, 1, 1, 1, 1, 1, 1, 1, 1});
+        DeterministicKey takerMultiSigKey = HDKeyDerivation.createMasterPrivateKey(new byte[]{2, 2, 2, 2, 2, 2, 2, 2, 2, 2, 2, 2, 2, 2, 2, 2});
+        DeterministicKey takerPayoutKey = HDKeyDerivation.createMasterPrivateKey(new byte[]{3, 3, 3, 3, 3, 3, 3, 3, 3, 3, 3, 3, 3, 3, 3, 3});
+        AddressEntry takerPayoutAddressEntry = new AddressEntry(takerPayoutKey, AddressEntry.Context.TRADE_PAYOUT, "offerId");
+        AddressEntry takerMultiSigAddressEntry = new AddressEntry(takerMultiSigKey, AddressEntry.Context.MULTI_SIG, "offerId");
+
+        // The same contract the task builds. The trade is not a SellerAsTakerTrade, so the taker is the buyer.
+        Contract contract = new Contract(null,
+                Coin.COIN.value,
+                Price.valueOf("EUR", 500_000_000).getValue(),
+                "takerFeeTxId",
+                takerNodeAddress,
+                makerNodeAddress,
+                arbitratorNodeAddress,
+                arbitratorNodeAddress,
+                false,
+                "makerAccountId",
+                "takerAccountId",
+                makerPaymentAccountPayload,
+                takerPaymentAccountPayload,
+                makerKeyRing.getPubKeyRing(),
+                takerKeyRing.getPubKeyRing(),
+                "makerPayoutAddress",
+                takerPayoutAddressEntry.getAddressString(),
+                makerMultiSigKey.getPubKey(),
+                takerMultiSigKey.getPubKey());
+        contractAsJson = Utilities.objectToJson(contract);
+
+        maker = new TradingPeer();
+        maker.setAccountId("makerAccountId");
+        maker.setPaymentAccountPayload(makerPaymentAccountPayload);
+        maker.setPubKeyRing(makerKeyRing.getPubKeyRing());
+        maker.setPayoutAddressString("makerPayoutAddress");
+        maker.setMultiSigPubKey(makerMultiSigKey.getPubKey());
+        maker.setContractAsJson(contractAsJson);
+
+        Offer offer = mock(Offer.class);
+        when(offer.getId()).thenReturn("offerId");
+        BtcWalletService btcWalletService = mock(BtcWalletService.class);
+        when(btcWalletService.getOrCreateAddressEntry("offerId", AddressEntry.Context.TRADE_PAYOUT)).thenReturn(takerPayoutAddressEntry);
+        when(btcWalletService.getOrCreateAddressEntry("offerId", AddressEntry.Context.MULTI_SIG)).thenReturn(takerMultiSigAddressEntry);
+
+        trade = mock(SellerTrade.class, withSettings().extraInterfaces(TakerTrade.class));
+        ProcessModel processModel = mock(ProcessModel.class);
+        when(processModel.getTradingPeer()).thenReturn(maker);
+        when(processModel.getPaymentAccountPayload(trade)).thenReturn(takerPaymentAccountPayload);
+        when(processModel.getTempTradingPeerNodeAddress()).thenReturn(makerNodeAddress);
+        when(processModel.getMyNodeAddress()).thenReturn(takerNodeAddress);
+        when(processModel.getBtcWalletService()).thenReturn(btcWalletService);
+        when(processModel.getOffer()).thenReturn(offer);
+        when(processModel.getMyMultiSigPubKey()).thenReturn(takerMultiSigKey.getPubKey());
+        when(processModel.getAccountId()).thenReturn("takerAccountId");
+        when(processModel.getPubKeyRing()).thenReturn(takerKeyRing.getPubKeyRing());
+        when(processModel.getKeyRing()).thenReturn(takerKeyRing);
+        when(processModel.getSignatureVerificationService()).thenReturn(signatureVerificationService);
+
+        when(trade.getProcessModel()).thenReturn(processModel);
+        when(trade.getTakerFeeTxId()).thenReturn("takerFeeTxId");
+        when(trade.getTradeAmount()).thenReturn(Coin.COIN);
+        when(trade.getTradePrice()).thenReturn(Price.valueOf("EUR", 500_000_000));
+        when(trade.getArbitratorNodeAddress()).thenReturn(arbitratorNodeAddress);
+        when(trade.getMediatorNodeAddress()).thenReturn(arbitratorNodeAddress);
+    }
+
+    @After
+    public void tearDown() {
+        signatureVerificationService.shutDown();
+    }
+
+    @Test
+    public void testValidMakerSignature() throws Exception {
+        maker.setContractSignature(Sig.sign(makerKeyRing.getSignatureKeyPair().getPrivate(), contractAsJson));
+        assertNull(run());
+    }
+
+    @Test
+    public void testInvalidMakerSignatureFailsTheTrade() throws Exception {
+        // A valid signature of the maker, but not of this contract
+        maker.setContractSignature(Sig.sign(makerKeyRing.getSignatureKeyPair().getPrivate(), "other contract"));
+        String errorMessage = run();
+        assertNotNull(errorMessage);
+        assertTrue(errorMessage.contains("Signature verification failed. Signature is not valid"));
+    }
+
+    // Returns null if the task completed, otherwise the error message
+    private String run() throws Exception {
+        CompletableFuture<String> result = new CompletableFuture<>();
+        TaskRunner<Trade> taskRunner = new TaskRunner<>(trade, Trade.class, () -> result.complete(null), result::complete);
+        taskRunner.addTasks(TakerVerifyAndSignContract.class);
+        taskRunner.run();
+        return result.get(TIMEOUT_SEC, TimeUnit.SECONDS);
+    }
+}
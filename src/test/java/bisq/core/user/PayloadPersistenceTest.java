@@ -0,0 +1,129 @@
+/*
+ * This file is part of Bisq.
+ *
+ * Bisq is free software: you can redistribute it and/or modify it
+ * under the terms of the GNU Affero General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or (at
+ * your option) any later version.
+ *
+ * Bisq is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE. See the GNU Affero General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with Bisq. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package bisq.core.user;
+
+import bisq.common.proto.persistable.PersistableEnvelope;
+import bisq.common.proto.persistable.PersistenceProtoResolver;
+import bisq.common.storage.Storage;
+
+import io.bisq.generated.protobuffer.PB;
+
+import com.google.protobuf.Message;
+
+import java.io.File;
+import java.io.IOException;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+// Preferences and User persist on each setter call. The Storage coalesces those saves, so a burst of setter calls
+// gets serialized once when the FileManager writes the file.
+public class PayloadPersistenceTest {
+    private static final String FILE_NAME = "TestPayload";
+
+    @Rule
+    public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+    private File storageDir;
+    private PersistenceProtoResolver persistenceProtoResolver;
+    private AtomicInteger numSerialized;
+    private TestPayload payload;
+    private Storage<TestPayload> storage;
+
+    @Before
+    public void setUp() throws IOException {
+        storageDir = temporaryFolder.newFolder();
+        persistenceProtoResolver = mock(PersistenceProtoResolver.class);
+        when(persistenceProtoResolver.fromProto(any())).thenAnswer(invocation -> {
+            TestPayload persisted = new TestPayload();
+            persisted.value = ((PB.PersistableEnvelope) invocation.getArgument(0)).getPreferencesPayload().getUserLanguage();
+            return persisted;
+        });
+
+        numSerialized = new AtomicInteger();
+        payload = new TestPayload();
+        storage = new Storage<>(storageDir, persistenceProtoResolver);
+        // Same delay as used by Preferences and User
+        storage.initAndGetPersistedWithFileName(FILE_NAME, 100);
+    }
+
+    @Test
+    public void testBurstOfSetterCallsGetsSerializedOnce() throws InterruptedException {
+        for (int i = 0; i < 1000; i++)
+            setValue("value" + i);
+
+        awaitWrites(1);
+        assertEquals(1, numSerialized.get());
+        assertEquals("value999", readPersistedValue());
+    }
+
+    @Test
+    public void testSaveWithShortDelay() throws InterruptedException {
+        setValue("a");
+        payload.value = "b";
+        // As Preferences.setResyncSpvRequested does before shutdown
+        storage.queueUpForSave(payload, 1);
+        awaitWrites(1);
+        assertEquals(1, numSerialized.get());
+        assertEquals("b", readPersistedValue());
+    }
+
+    // Like a setter in Preferences: change the payload in place and queue it up for saving
+    private void setValue(String value) {
+        payload.value = value;
+        storage.queueUpForSave(payload);
+    }
+
+    // The FileManager writes on its own thread. We wait for the expected writes and then a bit longer than its delay,
+    // so an additional write would be counted as well.
+    private void awaitWrites(int expected) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 5000;
+        while (numSerialized.get() < expected && System.currentTimeMillis() < deadline)
+            Thread.sleep(10);
+        Thread.sleep(300);
+    }
+
+    private String readPersistedValue() {
+        assertTrue(new File(storageDir, FILE_NAME).exists());
+        TestPayload persisted = new Storage<TestPayload>(storageDir, persistenceProtoResolver)
+                .initAndGetPersistedWithFileName(FILE_NAME, 100);
+        return persisted.value;
+    }
+
+    private class TestPayload implements PersistableEnvelope {
+        private String value = "";
+
+        @Override
+        public Message toProtoMessage() {
+            numSerialized.incrementAndGet();
+            return PB.PersistableEnvelope.newBuilder()
+                    .setPreferencesPayload(PB.PreferencesPayload.newBuilder().setUserLanguage(value))
+                    .build();
+        }
+    }
+}